@@ -0,0 +1,148 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.benchmark;
+
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.api.PeopleApi;
+import com.amilesend.tvmaze.client.api.ShowsApi;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import okio.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@link ShowsApi} and {@link PeopleApi} round trips (URL construction, HTTP call, gzip decoding and parsing)
+ * against a local {@link MockWebServer} that serves the test fixtures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiRoundTripBenchmark {
+    private MockWebServer mockWebServer;
+    private ShowsApi showsApi;
+    private PeopleApi peopleApi;
+
+    @Setup
+    public void setUp() throws IOException {
+        final Map<String, byte[]> responses = Map.of(
+                "/shows/1", BenchmarkSupport.readGzipCompressedResource("/Show/AllEmbeddedTypes.json"),
+                "/shows/1/cast", BenchmarkSupport.readGzipCompressedResource("/People/CastMemberList.json"),
+                "/shows", BenchmarkSupport.readGzipCompressedResource("/Show/List.json"),
+                "/people/1", BenchmarkSupport.readGzipCompressedResource("/People/PersonEmbeddedCastCredits.json"),
+                "/people", BenchmarkSupport.readGzipCompressedResource("/People/PersonList.json"));
+
+        mockWebServer = new MockWebServer();
+        mockWebServer.setDispatcher(new FixtureDispatcher(responses));
+        mockWebServer.start();
+
+        final TvMaze client = new TvMaze(BenchmarkSupport.newConnection(
+                String.format("http://%s:%d", mockWebServer.getHostName(), mockWebServer.getPort())));
+        showsApi = client.getShowsApi();
+        peopleApi = client.getPeopleApi();
+    }
+
+    @TearDown(Level.Iteration)
+    public void drainRecordedRequests() throws InterruptedException {
+        // MockWebServer retains every recorded request which would otherwise skew the allocation profile
+        while (mockWebServer.takeRequest(0L, TimeUnit.MILLISECONDS) != null) {
+            // Discard
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        mockWebServer.close();
+    }
+
+    @Benchmark
+    public Show getShow() {
+        return showsApi.getShow(
+                1,
+                Show.EmbeddedType.EPISODES,
+                Show.EmbeddedType.PREVIOUS_EPISODE,
+                Show.EmbeddedType.NEXT_EPISODE,
+                Show.EmbeddedType.CAST);
+    }
+
+    @Benchmark
+    public List<CastMember> getCast() {
+        return showsApi.getCast(1);
+    }
+
+    @Benchmark
+    public List<Show> getShowIndex() {
+        return showsApi.getIndex(1);
+    }
+
+    @Benchmark
+    public Person getPerson() {
+        return peopleApi.getPerson(1, true);
+    }
+
+    @Benchmark
+    public List<Person> getPeopleIndex() {
+        return peopleApi.getIndex(1);
+    }
+
+    private static class FixtureDispatcher extends Dispatcher {
+        private final Map<String, byte[]> responses;
+
+        FixtureDispatcher(final Map<String, byte[]> responses) {
+            this.responses = responses;
+        }
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            final byte[] body = responses.get(request.getUrl().encodedPath());
+            if (body == null) {
+                return new MockResponse.Builder().code(404).build();
+            }
+
+            return new MockResponse.Builder()
+                    .code(200)
+                    .addHeader("Content-Type", "application/json; charset=utf-8")
+                    .addHeader("Content-Encoding", "gzip")
+                    .body(new Buffer().write(body))
+                    .build();
+        }
+    }
+}
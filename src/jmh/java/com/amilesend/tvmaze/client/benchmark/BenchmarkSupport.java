@@ -0,0 +1,92 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.benchmark;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.connection.DefaultConnectionBuilder;
+import com.amilesend.client.connection.auth.NoOpAuthManager;
+import com.amilesend.client.connection.retry.NoRetryStrategy;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.parse.GsonFactory;
+import lombok.experimental.UtilityClass;
+import okhttp3.OkHttpClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/** Shared helpers for the JMH benchmarks. */
+@UtilityClass
+class BenchmarkSupport {
+    /**
+     * Creates a new connection configured the same way as {@link TvMaze#TvMaze()} for the given base URL.
+     *
+     * @param baseUrl the base URL
+     * @return the connection
+     */
+    static Connection<GsonFactory> newConnection(final String baseUrl) {
+        return new DefaultConnectionBuilder()
+                .httpClient(new OkHttpClient())
+                .baseUrl(baseUrl)
+                .userAgent(TvMaze.USER_AGENT)
+                .authManager(new NoOpAuthManager())
+                .gsonFactory(new GsonFactory())
+                .isGzipContentEncodingEnabled(true)
+                .retryStrategy(new NoRetryStrategy())
+                .build();
+    }
+
+    /**
+     * Reads the given test resource (e.g., {@code /Show/Show.json}) as a string.
+     *
+     * @param resourcePath the classpath resource path
+     * @return the resource contents
+     * @throws IOException if the resource could not be read
+     */
+    static String readResource(final String resourcePath) throws IOException {
+        return new String(readResourceBytes(resourcePath), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads and gzip-compresses the given test resource.
+     *
+     * @param resourcePath the classpath resource path
+     * @return the compressed resource contents
+     * @throws IOException if the resource could not be read
+     */
+    static byte[] readGzipCompressedResource(final String resourcePath) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gos = new GZIPOutputStream(baos)) {
+            gos.write(readResourceBytes(resourcePath));
+        }
+
+        return baos.toByteArray();
+    }
+
+    private static byte[] readResourceBytes(final String resourcePath) throws IOException {
+        try (final InputStream is = BenchmarkSupport.class.getResourceAsStream(resourcePath)) {
+            if (is == null) {
+                throw new IOException("Resource not found: " + resourcePath);
+            }
+
+            return is.readAllBytes();
+        }
+    }
+}
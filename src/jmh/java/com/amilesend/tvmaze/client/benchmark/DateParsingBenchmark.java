@@ -0,0 +1,116 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.benchmark;
+
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.parse.adapters.LocalDateTimeTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.LocalDateTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.LocalTimeTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.ModelTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming {@link LocalDateTypeAdapter}, {@link LocalTimeTypeAdapter} and
+ * {@link LocalDateTimeTypeAdapter} against the previous {@link JsonDeserializer}-based implementations that parse
+ * through a {@code JsonElement} tree and {@link DateTimeFormatter}. The payload is a synthetic schedule of
+ * {@value #EPISODE_COUNT} episodes that share the same dates, and results are normalized per episode so that
+ * {@code -prof gc} reports {@code gc.alloc.rate.norm} in bytes per {@link Episode}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParsingBenchmark {
+    private static final int EPISODE_COUNT = 1000;
+    private static final Type EPISODE_LIST_TYPE = TypeToken.getParameterized(List.class, Episode.class).getType();
+
+    private Gson legacyGson;
+    private Gson streamingGson;
+    private String scheduleJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        legacyGson = new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, (JsonDeserializer<LocalDate>) (json, type, ctx) ->
+                        LocalDate.parse(json.getAsString(), DateTimeFormatter.ofPattern("yyyy-MM-dd")))
+                .registerTypeAdapter(LocalTime.class, (JsonDeserializer<LocalTime>) (json, type, ctx) ->
+                        LocalTime.parse(json.getAsString(), DateTimeFormatter.ofPattern("HH:mm")))
+                .registerTypeAdapter(LocalDateTime.class, (JsonDeserializer<LocalDateTime>) (json, type, ctx) ->
+                        LocalDateTime.parse(json.getAsString(), DateTimeFormatter.ISO_DATE_TIME))
+                .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+                .create();
+        streamingGson = new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+                .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter())
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
+                .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+                .create();
+        scheduleJson = newScheduleJson(BenchmarkSupport.readResource("/Episode/Episode.json"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EPISODE_COUNT)
+    public List<Episode> legacyDateTimeAdapters() {
+        return legacyGson.fromJson(new StringReader(scheduleJson), EPISODE_LIST_TYPE);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EPISODE_COUNT)
+    public List<Episode> streamingDateTimeAdapters() {
+        return streamingGson.fromJson(new StringReader(scheduleJson), EPISODE_LIST_TYPE);
+    }
+
+    private static String newScheduleJson(final String episodeJson) {
+        final StringBuilder sb = new StringBuilder(episodeJson.length() * EPISODE_COUNT + EPISODE_COUNT + 2)
+                .append('[');
+        for (int i = 0; i < EPISODE_COUNT; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(episodeJson);
+        }
+
+        return sb.append(']').toString();
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.benchmark;
+
+import com.amilesend.tvmaze.client.model.AlternateEpisode;
+import com.amilesend.tvmaze.client.model.AlternateList;
+import com.amilesend.tvmaze.client.model.CastCredit;
+import com.amilesend.tvmaze.client.model.CrewCredit;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Image;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.Alias;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.model.type.CrewMember;
+import com.amilesend.tvmaze.client.model.type.PersonResult;
+import com.amilesend.tvmaze.client.model.type.ShowResult;
+import com.amilesend.tvmaze.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Map.entry;
+
+/** Deserializes each fixture under {@code src/test/resources} through the {@link GsonFactory} configured Gson. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FixtureDeserializationBenchmark {
+    private static final Map<String, Type> FIXTURE_TYPES = Map.ofEntries(
+            entry("/ImageList.json", listOf(Image.class)),
+            entry("/Updates.json", TypeToken.getParameterized(Map.class, Integer.class, Long.class).getType()),
+            entry("/Show/AliasList.json", listOf(Alias.class)),
+            entry("/Show/AllEmbeddedTypes.json", Show.class),
+            entry("/Show/EmbeddedEpisodes.json", Show.class),
+            entry("/Show/List.json", listOf(Show.class)),
+            entry("/Show/ResultList.json", listOf(ShowResult.class)),
+            entry("/Show/SeasonList.json", listOf(Season.class)),
+            entry("/Show/Show.json", Show.class),
+            entry("/Episode/AlternateEpisodesList.json", listOf(AlternateEpisode.class)),
+            entry("/Episode/AlternateListEmbeddedAlternateEpisodes.json", AlternateList.class),
+            entry("/Episode/AlternateListList.json", listOf(AlternateList.class)),
+            entry("/Episode/EmbeddedShow.json", Episode.class),
+            entry("/Episode/Episode.json", Episode.class),
+            entry("/Episode/List.json", listOf(Episode.class)),
+            entry("/Episode/ListEmbeddedGuestCast.json", listOf(Episode.class)),
+            entry("/People/CastCreditListEmbeddedEpisode.json", listOf(CastCredit.class)),
+            entry("/People/CastCreditListEmbeddedShow.json", listOf(CastCredit.class)),
+            entry("/People/CastMemberList.json", listOf(CastMember.class)),
+            entry("/People/CrewCreditListEmbeddedShow.json", listOf(CrewCredit.class)),
+            entry("/People/CrewMemberList.json", listOf(CrewMember.class)),
+            entry("/People/PersonEmbeddedCastCredits.json", Person.class),
+            entry("/People/PersonList.json", listOf(Person.class)),
+            entry("/People/PersonResultList.json", listOf(PersonResult.class)));
+
+    @Param({
+            "/ImageList.json",
+            "/Updates.json",
+            "/Show/AliasList.json",
+            "/Show/AllEmbeddedTypes.json",
+            "/Show/EmbeddedEpisodes.json",
+            "/Show/List.json",
+            "/Show/ResultList.json",
+            "/Show/SeasonList.json",
+            "/Show/Show.json",
+            "/Episode/AlternateEpisodesList.json",
+            "/Episode/AlternateListEmbeddedAlternateEpisodes.json",
+            "/Episode/AlternateListList.json",
+            "/Episode/EmbeddedShow.json",
+            "/Episode/Episode.json",
+            "/Episode/List.json",
+            "/Episode/ListEmbeddedGuestCast.json",
+            "/People/CastCreditListEmbeddedEpisode.json",
+            "/People/CastCreditListEmbeddedShow.json",
+            "/People/CastMemberList.json",
+            "/People/CrewCreditListEmbeddedShow.json",
+            "/People/CrewMemberList.json",
+            "/People/PersonEmbeddedCastCredits.json",
+            "/People/PersonList.json",
+            "/People/PersonResultList.json"
+    })
+    private String fixture;
+
+    private Gson gson;
+    private Type type;
+    private String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        gson = new GsonFactory().getInstance(BenchmarkSupport.newConnection("http://localhost"));
+        type = FIXTURE_TYPES.get(fixture);
+        json = BenchmarkSupport.readResource(fixture);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return gson.fromJson(new StringReader(json), type);
+    }
+
+    private static Type listOf(final Class<?> clazz) {
+        return TypeToken.getParameterized(List.class, clazz).getType();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.benchmark;
+
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.parse.adapters.LocalDateTimeTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.LocalDateTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.LocalTimeTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.ModelTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the hand-written streaming model adapters ({@link ModelTypeAdapterFactory}) against Gson's reflective
+ * adapters using the {@code src/test/resources/Show} fixtures.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelDeserializationBenchmark {
+    private static final Type SHOW_LIST_TYPE = TypeToken.getParameterized(List.class, Show.class).getType();
+
+    @Param({"/Show/Show.json", "/Show/EmbeddedEpisodes.json", "/Show/AllEmbeddedTypes.json"})
+    private String showResource;
+
+    private Gson reflectiveGson;
+    private Gson streamingGson;
+    private String showJson;
+    private String showListJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        reflectiveGson = newGsonBuilder().create();
+        streamingGson = newGsonBuilder().registerTypeAdapterFactory(new ModelTypeAdapterFactory()).create();
+        showJson = BenchmarkSupport.readResource(showResource);
+        showListJson = BenchmarkSupport.readResource("/Show/List.json");
+    }
+
+    @Benchmark
+    public Show reflectiveShow() {
+        return reflectiveGson.fromJson(new StringReader(showJson), Show.class);
+    }
+
+    @Benchmark
+    public Show streamingShow() {
+        return streamingGson.fromJson(new StringReader(showJson), Show.class);
+    }
+
+    @Benchmark
+    public List<Show> reflectiveShowIndexPage() {
+        return reflectiveGson.fromJson(new StringReader(showListJson), SHOW_LIST_TYPE);
+    }
+
+    @Benchmark
+    public List<Show> streamingShowIndexPage() {
+        return streamingGson.fromJson(new StringReader(showListJson), SHOW_LIST_TYPE);
+    }
+
+    private static GsonBuilder newGsonBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
+                .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter());
+    }
+}
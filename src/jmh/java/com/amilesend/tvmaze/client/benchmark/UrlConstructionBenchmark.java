@@ -0,0 +1,141 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.benchmark;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.tvmaze.client.api.ApiBase;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.parse.GsonFactory;
+import okhttp3.HttpUrl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the URL construction helpers in {@link ApiBase}, which fill in pre-parsed URL templates, against the
+ * {@code parse*} baselines that concatenate and parse the full URL string for each request. Compare the
+ * {@code gc.alloc.rate.norm} results of each pair for the allocation per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlConstructionBenchmark {
+    // Non-constant state so that the baselines concatenate at runtime like the API methods did
+    private String baseUrl = "https://api.tvmaze.com";
+    private int showId = 82;
+    private int pageNum = 12;
+    private UrlBuilderApi api;
+
+    @Setup
+    public void setUp() {
+        api = new UrlBuilderApi(BenchmarkSupport.newConnection(baseUrl));
+    }
+
+    @Benchmark
+    public HttpUrl formatUrl() {
+        return api.formatUrl("/shows/", showId, StringUtils.EMPTY);
+    }
+
+    @Benchmark
+    public HttpUrl formatUrlWithSubPath() {
+        return api.formatUrl("/shows/", showId, "/episodes");
+    }
+
+    @Benchmark
+    public HttpUrl formatUrlWithSingleEmbeddedType() {
+        return api.formatUrl("/shows/", showId, StringUtils.EMPTY, Show.EmbeddedType.CAST);
+    }
+
+    @Benchmark
+    public HttpUrl formatUrlWithAllEmbeddedTypes() {
+        return api.formatUrl(
+                "/shows/",
+                showId,
+                StringUtils.EMPTY,
+                Show.EmbeddedType.CAST,
+                Show.EmbeddedType.EPISODES,
+                Show.EmbeddedType.NEXT_EPISODE,
+                Show.EmbeddedType.PREVIOUS_EPISODE);
+    }
+
+    @Benchmark
+    public HttpUrl formatIndexUrl() {
+        return api.formatIndexUrl("/shows", pageNum);
+    }
+
+    @Benchmark
+    public HttpUrl parseUrl() {
+        return HttpUrl.parse(baseUrl + "/shows/" + showId + StringUtils.EMPTY).newBuilder().build();
+    }
+
+    @Benchmark
+    public HttpUrl parseUrlWithSubPath() {
+        return HttpUrl.parse(baseUrl + "/shows/" + showId + "/episodes").newBuilder().build();
+    }
+
+    @Benchmark
+    public HttpUrl parseUrlWithAllEmbeddedTypes() {
+        return HttpUrl.parse(baseUrl + "/shows/" + showId + StringUtils.EMPTY)
+                .newBuilder()
+                .addQueryParameter("embed[]", Show.EmbeddedType.CAST.getQueryParameterValue())
+                .addQueryParameter("embed[]", Show.EmbeddedType.EPISODES.getQueryParameterValue())
+                .addQueryParameter("embed[]", Show.EmbeddedType.NEXT_EPISODE.getQueryParameterValue())
+                .addQueryParameter("embed[]", Show.EmbeddedType.PREVIOUS_EPISODE.getQueryParameterValue())
+                .build();
+    }
+
+    @Benchmark
+    public HttpUrl parseIndexUrl() {
+        return HttpUrl.parse(baseUrl + "/shows")
+                .newBuilder()
+                .addQueryParameter("page", String.valueOf(pageNum))
+                .build();
+    }
+
+    /** Exposes the protected {@link ApiBase} URL helpers to the benchmark. */
+    static class UrlBuilderApi extends ApiBase {
+        UrlBuilderApi(final Connection<GsonFactory> connection) {
+            super(connection);
+        }
+
+        HttpUrl formatUrl(
+                final String apiPath,
+                final int id,
+                final String subApiPath,
+                final Show.EmbeddedType... embeddedTypes) {
+            return validateAndFormatUrl(apiPath, id, subApiPath, embeddedTypes);
+        }
+
+        HttpUrl formatIndexUrl(final String apiPath, final int pageNum) {
+            return validateAndFormatIndexUrl(apiPath, pageNum);
+        }
+    }
+}
@@ -22,38 +22,117 @@ import com.amilesend.client.connection.DefaultConnectionBuilder;
 import com.amilesend.client.connection.auth.NoOpAuthManager;
 import com.amilesend.client.connection.retry.NoRetryStrategy;
 import com.amilesend.tvmaze.client.api.EpisodesApi;
+import com.amilesend.tvmaze.client.api.ExchangeListener;
 import com.amilesend.tvmaze.client.api.PeopleApi;
 import com.amilesend.tvmaze.client.api.ScheduleApi;
 import com.amilesend.tvmaze.client.api.SearchApi;
 import com.amilesend.tvmaze.client.api.ShowsApi;
 import com.amilesend.tvmaze.client.api.UpdatesApi;
+import com.amilesend.tvmaze.client.concurrent.BulkExecutor;
+import com.amilesend.tvmaze.client.concurrent.CallExecutors;
+import com.amilesend.tvmaze.client.concurrent.RateLimiter;
+import com.amilesend.tvmaze.client.metrics.ApiCallListener;
 import com.amilesend.tvmaze.client.parse.GsonFactory;
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
 import okhttp3.OkHttpClient;
 
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+
 /**
  * A helper class to vend API classes that are associated with a {@link Connection} to the TVMaze service.
  *
  * @see Connection
  */
-@RequiredArgsConstructor
-public class TvMaze {
+@Slf4j
+public class TvMaze implements AutoCloseable {
     public static final String USER_AGENT = "TvMazeJavaClient/2.2";
     public static final String API_URL = "https://api.tvmaze.com";
 
     private final Connection<GsonFactory> connection;
+    /** The optional client features shared by the vended API objects. */
+    @Getter
+    private final TvMazeConfig config;
+    /** The instance that owns the call executor shared by instances derived via {@link #withPriority} and others. */
+    private final TvMaze executorOwner;
+    /** The lazily created executor used to fan out blocking calls, if not provided by the config. */
+    private ExecutorService ownedCallExecutor;
+    private BulkExecutor bulkExecutor;
+    /** The config passed to the vended API objects, with the call executor as the default async executor. */
+    private TvMazeConfig apiConfig;
+    private boolean isClosed;
 
     /** Creates a new {@code TvMaze} object that is configured with the default settings. */
     public TvMaze() {
-        this(new DefaultConnectionBuilder()
-                .httpClient(new OkHttpClient())
+        this(TvMazeConfig.DEFAULT);
+    }
+
+    /**
+     * Creates a new {@code TvMaze} object that is configured with the default connection settings and the given
+     * optional client features. The connection uses the {@link TvMazeConfig#getHttpCache() HTTP cache}, if
+     * configured, and reports each exchange to the {@link ExchangeListener}.
+     *
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public TvMaze(final TvMazeConfig config) {
+        this(newDefaultConnection(config), config);
+    }
+
+    /**
+     * Creates a new {@code TvMaze} object for the given connection with all optional client features disabled. A
+     * warning is logged if the connection's HTTP client is not configured with the {@link ExchangeListener}.
+     *
+     * @param connection the connection
+     * @see #TvMaze(Connection, TvMazeConfig)
+     */
+    public TvMaze(final Connection<GsonFactory> connection) {
+        this(connection, TvMazeConfig.DEFAULT);
+    }
+
+    /**
+     * Creates a new {@code TvMaze} object for the given connection and optional client features. A warning is logged
+     * if the connection's HTTP client is not configured with the {@link ExchangeListener}, as blocking calls then
+     * cannot report a missing resource (HTTP 404) as a
+     * {@link com.amilesend.tvmaze.client.api.ResourceNotFoundException} or record response status codes.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public TvMaze(@NonNull final Connection<GsonFactory> connection, @NonNull final TvMazeConfig config) {
+        this(connection, config, null);
+        if (!ExchangeListener.isConfigured(connection.getHttpClient())) {
+            log.warn("The connection's HTTP client is not configured with the ExchangeListener, so blocking calls "
+                    + "report a missing resource as a RequestException; use ExchangeListener.configure(builder)");
+        }
+    }
+
+    private TvMaze(
+            final Connection<GsonFactory> connection,
+            final TvMazeConfig config,
+            final TvMaze executorOwner) {
+        this.connection = connection;
+        this.config = config;
+        this.executorOwner = Objects.isNull(executorOwner) ? this : executorOwner;
+    }
+
+    private static Connection<GsonFactory> newDefaultConnection(@NonNull final TvMazeConfig config) {
+        final OkHttpClient.Builder httpClientBuilder = ExchangeListener.configure(new OkHttpClient.Builder());
+        Optional.ofNullable(config.getHttpCache()).ifPresent(httpCache -> httpCache.configure(httpClientBuilder));
+
+        return new DefaultConnectionBuilder()
+                .httpClient(httpClientBuilder.build())
                 .baseUrl(API_URL)
                 .userAgent(USER_AGENT)
                 .authManager(new NoOpAuthManager())
                 .gsonFactory(new GsonFactory())
                 .isGzipContentEncodingEnabled(true)
                 .retryStrategy(new NoRetryStrategy())
-                .build());
+                .build();
     }
 
     /**
@@ -61,10 +140,11 @@ public class TvMaze {
      * <a href="https://www.tvmaze.com/api#search">https://www.tvmaze.com/api#search</a> for more information.
      *
      * @return the search API
+     * @throws IllegalStateException if this instance, or the instance that it was derived from, is closed
      * @see SearchApi
      */
     public SearchApi getSearchApi() {
-        return new SearchApi(connection);
+        return new SearchApi(connection, getApiConfig());
     }
 
     /**
@@ -72,10 +152,11 @@ public class TvMaze {
      * a href="https://www.tvmaze.com/api#schedule">https://www.tvmaze.com/api#schedule</a> for more information.
      *
      * @return the schedule API
+     * @throws IllegalStateException if this instance, or the instance that it was derived from, is closed
      * @see ScheduleApi
      */
     public ScheduleApi getScheduleApi() {
-        return new ScheduleApi(connection);
+        return new ScheduleApi(connection, getApiConfig());
     }
 
     /**
@@ -83,10 +164,11 @@ public class TvMaze {
      * a href="https://www.tvmaze.com/api#shows">https://www.tvmaze.com/api#shows</a> for more information.
      *
      * @return the schedule API
+     * @throws IllegalStateException if this instance, or the instance that it was derived from, is closed
      * @see ShowsApi
      */
     public ShowsApi getShowsApi() {
-        return new ShowsApi(connection);
+        return new ShowsApi(connection, getApiConfig());
     }
 
     /**
@@ -94,10 +176,11 @@ public class TvMaze {
      * a href="https://www.tvmaze.com/api#episodes">https://www.tvmaze.com/api#episodes</a> for more information.
      *
      * @return the episodes API
+     * @throws IllegalStateException if this instance, or the instance that it was derived from, is closed
      * @see EpisodesApi
      */
     public EpisodesApi getEpisodesApi() {
-        return new EpisodesApi(connection);
+        return new EpisodesApi(connection, getApiConfig());
     }
 
     /**
@@ -105,10 +188,11 @@ public class TvMaze {
      * a href="https://www.tvmaze.com/api#people">https://www.tvmaze.com/api#people</a> for more information.
      *
      * @return the people API
+     * @throws IllegalStateException if this instance, or the instance that it was derived from, is closed
      * @see PeopleApi
      */
     public PeopleApi getPeopleApi() {
-        return new PeopleApi(connection);
+        return new PeopleApi(connection, getApiConfig());
     }
 
     /**
@@ -116,9 +200,126 @@ public class TvMaze {
      * a href="https://www.tvmaze.com/api#updates">https://www.tvmaze.com/api#updates</a> for more information.
      *
      * @return the updates API
+     * @throws IllegalStateException if this instance, or the instance that it was derived from, is closed
      * @see UpdatesApi
      */
     public UpdatesApi getUpdatesApi() {
-        return new UpdatesApi(connection);
+        return new UpdatesApi(connection, getApiConfig());
+    }
+
+    /**
+     * Gets a new {@code TvMaze} object that shares this instance's connection, call executor and optional client
+     * features (e.g., the {@link TvMazeConfig#getRateLimiter() rate limiter} and caches), but acquires rate limit
+     * permits in the given priority lane. For example, a background crawl can use
+     * {@link RateLimiter.Priority#BACKGROUND} so that interactive lookups are served first. The returned instance
+     * becomes unusable once this instance (or the instance that it was derived from) is {@link #close() closed}.
+     *
+     * @param priority the priority lane
+     * @return the client for the given priority
+     * @see RateLimiter
+     */
+    public TvMaze withPriority(@NonNull final RateLimiter.Priority priority) {
+        return new TvMaze(connection, config.toBuilder().requestPriority(priority).build(), executorOwner);
+    }
+
+    /**
+     * Gets a new {@code TvMaze} object that shares this instance's connection, call executor and optional client
+     * features, but notifies the given listener at each stage of every request. The returned instance becomes
+     * unusable once this instance (or the instance that it was derived from) is {@link #close() closed}.
+     *
+     * @param callListener the listener, or {@code null} to disable notifications
+     * @return the client for the given listener
+     * @see ApiCallListener
+     */
+    public TvMaze withCallListener(final ApiCallListener callListener) {
+        return new TvMaze(connection, config.toBuilder().callListener(callListener).build(), executorOwner);
+    }
+
+    /**
+     * Gets the {@link BulkExecutor} used to fan out blocking calls across threads. Calls run on the
+     * {@link TvMazeConfig#getCallExecutor() configured executor}, or on an executor that is created on first use and
+     * uses virtual threads when {@link TvMazeConfig#isVirtualThreadsPreferred() preferred} and supported. When virtual
+     * threads are preferred, the same executor also parses the responses of the {@code *Async} API methods unless an
+     * {@link TvMazeConfig#getAsyncExecutor() async executor} is configured.
+     *
+     * @return the bulk executor
+     * @throws IllegalStateException if this instance, or the instance that it was derived from, is closed
+     * @see BulkExecutor
+     */
+    public synchronized BulkExecutor getBulkExecutor() {
+        checkNotClosed();
+        if (Objects.isNull(bulkExecutor)) {
+            bulkExecutor = new BulkExecutor(executorOwner.getCallExecutor());
+        }
+
+        return bulkExecutor;
+    }
+
+    /**
+     * Releases the resources created by this instance (e.g., the executor used by {@link #getBulkExecutor()} and, if
+     * virtual threads are preferred, by the {@code *Async} API methods). Resources provided via the
+     * {@link TvMazeConfig} are not closed, nor are the resources shared with the instance that this one was derived
+     * from.
+     * <p>
+     * Once closed, this instance and every instance derived from it via {@link #withPriority} or
+     * {@link #withCallListener} throw an {@link IllegalStateException} when vending API objects or the bulk executor.
+     * API objects that were vended before closing may reject asynchronous calls as their executor is shut down.
+     */
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+        bulkExecutor = null;
+        apiConfig = null;
+        if (Objects.nonNull(ownedCallExecutor)) {
+            ownedCallExecutor.shutdown();
+            ownedCallExecutor = null;
+        }
+    }
+
+    private synchronized boolean isClosed() {
+        return isClosed;
+    }
+
+    private void checkNotClosed() {
+        if (isClosed() || executorOwner.isClosed()) {
+            throw new IllegalStateException("TvMaze client is closed");
+        }
+    }
+
+    private synchronized ExecutorService getCallExecutor() {
+        // Not resurrected after close so that a closed owner does not leak a new executor
+        if (isClosed) {
+            throw new IllegalStateException("TvMaze client is closed");
+        }
+
+        if (Objects.nonNull(config.getCallExecutor())) {
+            return config.getCallExecutor();
+        }
+
+        if (Objects.isNull(ownedCallExecutor)) {
+            final int maxPlatformThreads = config.getMaxPlatformThreads() > 0
+                    ? config.getMaxPlatformThreads()
+                    : CallExecutors.DEFAULT_MAX_PLATFORM_THREADS;
+            ownedCallExecutor = config.isVirtualThreadsPreferred()
+                    ? CallExecutors.newVirtualThreadOrBoundedExecutor(maxPlatformThreads)
+                    : CallExecutors.newBoundedExecutor(maxPlatformThreads);
+        }
+
+        return ownedCallExecutor;
+    }
+
+    private synchronized TvMazeConfig getApiConfig() {
+        checkNotClosed();
+        if (!config.isVirtualThreadsPreferred() || Objects.nonNull(config.getAsyncExecutor())) {
+            return config;
+        }
+
+        if (Objects.isNull(apiConfig)) {
+            apiConfig = config.toBuilder()
+                    .asyncExecutor(executorOwner.getCallExecutor())
+                    .build();
+        }
+
+        return apiConfig;
     }
 }
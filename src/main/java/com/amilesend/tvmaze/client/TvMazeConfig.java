@@ -0,0 +1,156 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client;
+
+import com.amilesend.tvmaze.client.cache.CacheKey;
+import com.amilesend.tvmaze.client.cache.HttpResponseCache;
+import com.amilesend.tvmaze.client.cache.ResourceCache;
+import com.amilesend.tvmaze.client.concurrent.RateLimiter;
+import com.amilesend.tvmaze.client.concurrent.RequestCoalescer;
+import com.amilesend.tvmaze.client.concurrent.RetryPolicy;
+import com.amilesend.tvmaze.client.metrics.ApiCallListener;
+import com.amilesend.tvmaze.client.metrics.ApiMetrics;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Optional client features that are shared by all API objects vended by a {@link TvMaze} instance. All features are
+ * disabled by default.
+ *
+ * @see TvMaze
+ */
+@Builder(toBuilder = true)
+@Getter
+public class TvMazeConfig {
+    /** The configuration with all optional features disabled. */
+    public static final TvMazeConfig DEFAULT = TvMazeConfig.builder().build();
+    /** The default maximum number of concurrent requests issued by the bulk API methods. */
+    public static final int DEFAULT_BULK_PARALLELISM = 8;
+
+    /**
+     * The optional cache for {@link com.amilesend.tvmaze.client.api.ShowsApi#getShow(int, Show.EmbeddedType...)}
+     * responses. Note: can be {@code null} to disable caching.
+     */
+    private final ResourceCache<CacheKey, Show> showCache;
+
+    /**
+     * The optional cache for {@link com.amilesend.tvmaze.client.api.PeopleApi#getPerson(int, boolean)} responses.
+     * Note: can be {@code null} to disable caching.
+     */
+    private final ResourceCache<CacheKey, Person> personCache;
+
+    /**
+     * The optional executor used to parse the responses of the asynchronous {@code *Async} API methods. Note: can be
+     * {@code null} to use the call executor of the {@link TvMaze} instance when {@link #isVirtualThreadsPreferred} is
+     * {@code true}, or else {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     */
+    private final Executor asyncExecutor;
+
+    /**
+     * The optional executor used by {@link TvMaze#getBulkExecutor()} to run blocking calls concurrently, and by the
+     * {@code *Async} API methods to parse responses if {@link #isVirtualThreadsPreferred} is {@code true} and no
+     * {@link #asyncExecutor} is configured. Note: can be {@code null} to have the {@link TvMaze} instance create (and
+     * {@link TvMaze#close() close}) its own executor as specified by {@link #isVirtualThreadsPreferred} and
+     * {@link #maxPlatformThreads}.
+     */
+    private final ExecutorService callExecutor;
+
+    /**
+     * If {@code true}, blocking calls fanned out by {@link TvMaze#getBulkExecutor()} and, unless an
+     * {@link #asyncExecutor} is configured, the responses of the {@code *Async} API methods run on a virtual thread
+     * per task when supported by the JVM (Java 21+), falling back to a bounded platform thread pool; else,
+     * {@code false} to always use a bounded platform thread pool for blocking calls and the {@link #asyncExecutor}
+     * for responses.
+     */
+    private final boolean isVirtualThreadsPreferred;
+
+    /**
+     * The maximum number of platform threads used to run blocking calls concurrently. Note: a value {@code <= 0} uses
+     * {@link com.amilesend.tvmaze.client.concurrent.CallExecutors#DEFAULT_MAX_PLATFORM_THREADS}.
+     */
+    private final int maxPlatformThreads;
+
+    /**
+     * The optional rate limiter that is shared by all API objects vended by a {@link TvMaze} instance so that the
+     * combined request rate stays within the TVMaze request budget. Note: can be {@code null} to disable rate limiting.
+     */
+    private final RateLimiter rateLimiter;
+
+    /**
+     * The priority lane used to acquire {@link #rateLimiter} permits. Note: can be {@code null} to use
+     * {@link RateLimiter.Priority#INTERACTIVE}.
+     *
+     * @see TvMaze#withPriority(RateLimiter.Priority)
+     */
+    private final RateLimiter.Priority requestPriority;
+
+    /**
+     * The optional policy used to retry transiently failed requests, which is applied in the same way to blocking and
+     * asynchronous calls. For blocking calls, retries based on the status code require the HTTP client to be
+     * configured with the {@link com.amilesend.tvmaze.client.api.ExchangeListener}.
+     * <p>
+     * Asynchronous calls are sent directly on the connection's HTTP client, so a retry strategy configured on the
+     * connection only applies to blocking calls, where it retries within each attempt made by this policy (i.e., the
+     * attempts of both multiply). When setting a retry policy on a connection provided by the caller, build the
+     * connection with a {@link com.amilesend.client.connection.retry.NoRetryStrategy}, as is the connection created by
+     * {@link TvMaze#TvMaze(TvMazeConfig)}. Note: can be {@code null} to disable retries.
+     */
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * The optional request coalescer that collapses concurrent identical requests (i.e., the same URL and response
+     * type) into a single call. Note: can be {@code null} to disable coalescing.
+     */
+    private final RequestCoalescer requestCoalescer;
+
+    /**
+     * The maximum number of concurrent requests issued by the bulk API methods (e.g.,
+     * {@link com.amilesend.tvmaze.client.api.ShowsApi#getShows(java.util.Collection, Show.EmbeddedType...)}). Note: a
+     * value {@code <= 0} uses {@link #DEFAULT_BULK_PARALLELISM}.
+     */
+    private final int bulkParallelism;
+
+    /**
+     * The optional metrics that record the request count, errors by status, network and parse latency, and response
+     * bytes of each API operation. Note: can be {@code null} to disable metrics.
+     *
+     * @see com.amilesend.tvmaze.client.metrics.DefaultApiMetrics
+     */
+    private final ApiMetrics metrics;
+
+    /**
+     * The optional listener that is notified at each stage of every request (e.g., to attribute latency in traces).
+     * Note: can be {@code null} to disable notifications.
+     *
+     * @see TvMaze#withCallListener(ApiCallListener)
+     */
+    private final ApiCallListener callListener;
+
+    /**
+     * The optional on-disk cache of HTTP responses used by the connection that is created by
+     * {@link TvMaze#TvMaze(TvMazeConfig)}. It is not applied to connections provided by the caller; instead, use
+     * {@link HttpResponseCache#configure(okhttp3.OkHttpClient.Builder)} when building the HTTP client. Note: can be
+     * {@code null} to disable HTTP caching.
+     */
+    private final HttpResponseCache httpCache;
+}
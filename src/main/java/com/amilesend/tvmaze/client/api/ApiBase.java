@@ -18,27 +18,394 @@
 package com.amilesend.tvmaze.client.api;
 
 import com.amilesend.client.connection.Connection;
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.parse.parser.GsonParser;
 import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.concurrent.BoundedFanOut;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
+import com.amilesend.tvmaze.client.concurrent.RateLimiter;
+import com.amilesend.tvmaze.client.concurrent.RequestCoalescer;
+import com.amilesend.tvmaze.client.concurrent.RetryPolicy;
+import com.amilesend.tvmaze.client.metrics.ApiCall;
+import com.amilesend.tvmaze.client.metrics.ApiMetrics;
 import com.amilesend.tvmaze.client.model.EmbeddedQueryParameter;
 import com.amilesend.tvmaze.client.parse.GsonFactory;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
+import okhttp3.Request;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
 
 /**
  * The API Base class used to simplify the construction of API URLs for the {@link Connection}.
  * @see Connection
  */
-@RequiredArgsConstructor
 public abstract class ApiBase {
     private static final int MAX_ID_LENGTH = 32;
+    /** The status code assumed for responses parsed by the blocking connection. */
+    static final int SUCCESS_STATUS_CODE = 200;
 
     /** The connection that wraps the underlying HTTP client. */
-    @NonNull
     protected final Connection<GsonFactory> connection;
+    /** The optional client features. */
+    protected final TvMazeConfig config;
+    /** Sends the asynchronous calls. */
+    private final AsyncTransport asyncTransport;
+    /** Whether the HTTP client reports exchanges, without which a blocking call cannot observe the status code. */
+    private final boolean isExchangeListenerConfigured;
+    /** Lazily parsed base URL of the connection. */
+    private volatile HttpUrl baseUrl;
+    /** The parsed URL templates, keyed by path template. */
+    private final ConcurrentMap<String, UrlTemplate> urlTemplates = new ConcurrentHashMap<>();
+    /** The parsed URL templates for {@link #validateAndFormatUrl}, keyed by API path and then sub-API path. */
+    private final ConcurrentMap<String, ConcurrentMap<String, UrlTemplate>> resourceUrlTemplates =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code ApiBase} with all optional client features disabled.
+     *
+     * @param connection the connection
+     */
+    protected ApiBase(final Connection<GsonFactory> connection) {
+        this(connection, TvMazeConfig.DEFAULT);
+    }
+
+    /**
+     * Creates a new {@code ApiBase}.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     */
+    protected ApiBase(@NonNull final Connection<GsonFactory> connection, @NonNull final TvMazeConfig config) {
+        this.connection = connection;
+        this.config = config;
+        this.asyncTransport = new AsyncTransport(connection, config);
+        this.isExchangeListenerConfigured = ExchangeListener.isConfigured(connection.getHttpClient());
+    }
+
+    /**
+     * Executes the request for the given URL and parses the response.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the parsed response
+     * @param <T> the response type
+     * @see #execute(String, int, HttpUrl, GsonParser)
+     */
+    protected <T> T execute(
+            @NonNull final String operation,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        return execute(operation, ApiCall.NO_RESOURCE_ID, url, parser);
+    }
+
+    /**
+     * Executes the request for the given URL and parses the response. If a
+     * {@link TvMazeConfig#getRequestCoalescer() request coalescer} is configured, then concurrent identical requests
+     * share a single call. If a {@link TvMazeConfig#getRateLimiter() rate limiter} is configured, then this blocks
+     * until a permit is acquired for the {@link TvMazeConfig#getRequestPriority() configured priority}.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param resourceId the identifier of the targeted show, episode or person, or {@link ApiCall#NO_RESOURCE_ID}
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the parsed response
+     * @param <T> the response type
+     */
+    protected <T> T execute(
+            @NonNull final String operation,
+            final int resourceId,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        final RequestCoalescer coalescer = config.getRequestCoalescer();
+        if (Objects.isNull(coalescer)) {
+            return executeUncoalesced(operation, resourceId, url, parser);
+        }
+
+        return coalescer.execute(
+                url,
+                parser.getClass(),
+                () -> executeUncoalesced(operation, resourceId, url, parser));
+    }
+
+    /**
+     * Executes the request for the given URL without sharing the call with concurrent identical requests.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the parsed response
+     * @param <T> the response type
+     * @see #executeUncoalesced(String, int, HttpUrl, GsonParser)
+     */
+    protected <T> T executeUncoalesced(
+            @NonNull final String operation,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        return executeUncoalesced(operation, ApiCall.NO_RESOURCE_ID, url, parser);
+    }
+
+    /**
+     * Executes the request for the given URL without sharing the call with concurrent identical requests. This must
+     * be used for parsers with per-call side effects (e.g., streaming each item to a caller-provided consumer). A
+     * response with HTTP 404 is reported as a {@link ResourceNotFoundException} if the status code was observed by
+     * the {@link ExchangeListener}.
+     * <p>
+     * Failed attempts are retried as specified by the {@link TvMazeConfig#getRetryPolicy() configured retry policy},
+     * except once the parser was invoked (i.e., a successful response was received), so that streamed items are not
+     * passed to the parser more than once. A retry strategy configured on the connection retries within each of
+     * these attempts, so connections used with a retry policy should be built with a {@code NoRetryStrategy}.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param resourceId the identifier of the targeted show, episode or person, or {@link ApiCall#NO_RESOURCE_ID}
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the parsed response
+     * @param <T> the response type
+     * @see #execute(String, int, HttpUrl, GsonParser)
+     */
+    protected <T> T executeUncoalesced(
+            @NonNull final String operation,
+            final int resourceId,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        // The exchange is only observed if it is reported (e.g., for 404 mapping and metrics) or retries need it
+        final RetryPolicy retryPolicy = config.getRetryPolicy();
+        final Exchange exchange = isExchangeListenerConfigured || Objects.nonNull(retryPolicy) ? new Exchange() : null;
+        final InstrumentedCall<T> instrumentedCall =
+                InstrumentedCall.of(config, operation, resourceId, url, parser, exchange, false);
+        final GsonParser<T> callParser = Objects.isNull(instrumentedCall) ? parser : instrumentedCall;
+        final GsonParser<T> attemptParser = Objects.isNull(retryPolicy) ? callParser : exchange.observe(callParser);
+        for (int attempt = 1; ; ++attempt) {
+            if (Objects.nonNull(exchange)) {
+                exchange.reset();
+            }
+            RuntimeException failure;
+            try {
+                acquireRateLimitPermit();
+                if (attempt == 1 && Objects.nonNull(instrumentedCall)) {
+                    instrumentedCall.requestSent();
+                }
+
+                final T result = connection.execute(newRequest(url, exchange), attemptParser);
+                if (Objects.nonNull(instrumentedCall)) {
+                    // The connection only parses successful responses
+                    instrumentedCall.succeeded(Objects.nonNull(exchange) && exchange.isReported()
+                            ? exchange.getStatusCode()
+                            : SUCCESS_STATUS_CODE);
+                }
+                return result;
+            } catch (final RuntimeException ex) {
+                failure = ex;
+            }
+
+            // The status code is unknown unless the exchange was reported by the ExchangeListener
+            final int statusCode = Objects.isNull(exchange) ? ApiMetrics.UNKNOWN_STATUS_CODE : exchange.getStatusCode();
+            if (isRetried(retryPolicy, attempt, statusCode, exchange, failure)) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(retryPolicy.getDelayNanos(attempt));
+                    continue;
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    failure = new RequestException("Interrupted while waiting to retry request: " + url, ex);
+                }
+            } else if (failure instanceof ConnectionException && statusCode == AsyncTransport.NOT_FOUND_STATUS_CODE) {
+                failure = new ResourceNotFoundException(
+                        AsyncTransport.newUnsuccessfulResponseMessage(AsyncTransport.NOT_FOUND_STATUS_CODE, url),
+                        failure);
+            }
+
+            if (Objects.nonNull(instrumentedCall)) {
+                instrumentedCall.failed(statusCode, failure);
+            }
+            throw failure;
+        }
+    }
+
+    private static boolean isRetried(
+            final RetryPolicy retryPolicy,
+            final int attempt,
+            final int statusCode,
+            final Exchange exchange,
+            final RuntimeException failure) {
+        return Objects.nonNull(retryPolicy)
+                && failure instanceof ConnectionException
+                && !exchange.isParserInvoked()
+                && retryPolicy.isRetried(attempt, statusCode, failure);
+    }
+
+    /**
+     * Executes the request for the given URL asynchronously.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the future that completes with the parsed response
+     * @param <T> the response type
+     * @see #executeAsync(String, int, HttpUrl, GsonParser)
+     */
+    protected <T> CompletableFuture<T> executeAsync(
+            @NonNull final String operation,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        return executeAsync(operation, ApiCall.NO_RESOURCE_ID, url, parser);
+    }
+
+    /**
+     * Executes the request for the given URL asynchronously via {@link okhttp3.Call#enqueue(Callback)} so that no
+     * thread is blocked while the request is in flight or while waiting for a
+     * {@link RateLimiter#acquireAsync(RateLimiter.Priority, Executor) rate limit permit}. The response is parsed on the
+     * {@link TvMazeConfig#getAsyncExecutor() configured executor}. Cancelling the returned future cancels the
+     * underlying call.
+     * <p>
+     * The future completes exceptionally with a {@link ResourceNotFoundException} if the service responded with
+     * HTTP 404, with a {@link RequestException} if the request could not be sent or the service responded with
+     * another client error (4xx), or with a {@link ResponseException} if the service responded with a server error
+     * (5xx) or the response could not be read. Failed attempts are first retried as specified by the
+     * {@link TvMazeConfig#getRetryPolicy() configured retry policy}, without holding a thread between attempts.
+     * <p>
+     * Unlike blocking calls, asynchronous calls are sent directly on the connection's HTTP client rather than through
+     * {@link Connection#execute(Request, GsonParser)}: any retry strategy or response handling configured on the
+     * connection is not applied, and gzip-encoded responses are decoded here. As such, configure the retry policy on
+     * the {@link TvMazeConfig} rather than on the connection so that both kinds of calls are retried alike.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param resourceId the identifier of the targeted show, episode or person, or {@link ApiCall#NO_RESOURCE_ID}
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the future that completes with the parsed response
+     * @param <T> the response type
+     */
+    protected <T> CompletableFuture<T> executeAsync(
+            @NonNull final String operation,
+            final int resourceId,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        final RequestCoalescer coalescer = config.getRequestCoalescer();
+        if (Objects.isNull(coalescer)) {
+            return executeUncoalescedAsync(operation, resourceId, url, parser);
+        }
+
+        return coalescer.executeAsync(
+                url,
+                parser.getClass(),
+                () -> executeUncoalescedAsync(operation, resourceId, url, parser));
+    }
+
+    /**
+     * Asynchronous variant of {@link #executeUncoalesced(String, HttpUrl, GsonParser)}.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the future that completes with the parsed response
+     * @param <T> the response type
+     * @see #executeUncoalescedAsync(String, int, HttpUrl, GsonParser)
+     */
+    protected <T> CompletableFuture<T> executeUncoalescedAsync(
+            @NonNull final String operation,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        return executeUncoalescedAsync(operation, ApiCall.NO_RESOURCE_ID, url, parser);
+    }
+
+    /**
+     * Asynchronous variant of {@link #executeUncoalesced(String, int, HttpUrl, GsonParser)}.
+     *
+     * @param operation the name of the API operation (e.g., {@code ShowsApi.getShow}) that the request is attributed to
+     * @param resourceId the identifier of the targeted show, episode or person, or {@link ApiCall#NO_RESOURCE_ID}
+     * @param url the request URL
+     * @param parser the response body parser
+     * @return the future that completes with the parsed response
+     * @param <T> the response type
+     * @see #executeAsync(String, int, HttpUrl, GsonParser)
+     */
+    protected <T> CompletableFuture<T> executeUncoalescedAsync(
+            @NonNull final String operation,
+            final int resourceId,
+            @NonNull final HttpUrl url,
+            @NonNull final GsonParser<T> parser) {
+        final InstrumentedCall<T> instrumentedCall =
+                InstrumentedCall.of(config, operation, resourceId, url, parser, null, true);
+        return asyncTransport.execute(url, parser, instrumentedCall);
+    }
+
+    /**
+     * Fetches a resource for each distinct identifier with at most {@link TvMazeConfig#getBulkParallelism()} requests
+     * in flight, and waits for all requests to complete. A failure for one identifier is recorded in the result and
+     * does not fail the other identifiers. If the calling thread is interrupted, then the outstanding requests are
+     * cancelled and recorded as failures.
+     *
+     * @param ids the resource identifiers
+     * @param asyncCall the asynchronous call that fetches the resource for an identifier
+     * @return the resources and failures by identifier
+     * @param <T> the resource type
+     * @see BulkResult
+     */
+    protected <T> BulkResult<Integer, T> executeBulk(
+            @NonNull final Collection<Integer> ids,
+            @NonNull final IntFunction<CompletableFuture<T>> asyncCall) {
+        final int parallelism = config.getBulkParallelism() > 0
+                ? config.getBulkParallelism()
+                : TvMazeConfig.DEFAULT_BULK_PARALLELISM;
+        final BoundedFanOut<T> fanOut = BoundedFanOut.start(new LinkedHashSet<>(ids), parallelism, asyncCall);
+        final Map<Integer, T> results = new LinkedHashMap<>();
+        final Map<Integer, Throwable> failures = new LinkedHashMap<>();
+        for (final Map.Entry<Integer, CompletableFuture<T>> entry : fanOut.getCompletions().entrySet()) {
+            final CompletableFuture<T> completion = entry.getValue();
+            if (Thread.currentThread().isInterrupted()) {
+                completion.cancel(true);
+            }
+
+            try {
+                results.put(entry.getKey(), completion.join());
+            } catch (final CompletionException ex) {
+                failures.put(entry.getKey(), Objects.nonNull(ex.getCause()) ? ex.getCause() : ex);
+            } catch (final RuntimeException ex) {
+                failures.put(entry.getKey(), ex);
+            }
+        }
+        fanOut.getUnstartedIds()
+                .forEach(id -> failures.put(id, new InterruptedException("Bulk request was interrupted")));
+
+        return new BulkResult<>(results, failures);
+    }
+
+    private Request newRequest(final HttpUrl url, final Exchange exchange) {
+        final Request.Builder requestBuilder = connection.newRequestBuilder().url(url);
+        return Objects.isNull(exchange) ? requestBuilder.build() : requestBuilder.tag(Exchange.class, exchange).build();
+    }
+
+    private void acquireRateLimitPermit() {
+        final RateLimiter rateLimiter = config.getRateLimiter();
+        if (Objects.isNull(rateLimiter)) {
+            return;
+        }
+
+        try {
+            rateLimiter.acquire(AsyncTransport.getRequestPriority(config));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RequestException("Interrupted while waiting for a rate limit permit", ex);
+        }
+    }
 
     /**
      * Validates input parameters and constructs a new {@link HttpUrl} used for fetching resource-index-based requests.
@@ -50,7 +417,7 @@ public abstract class ApiBase {
      */
     protected HttpUrl validateAndFormatIndexUrl(final String apiPath, final int pageNum) {
         final String formattedPageNum = validateId(pageNum);
-        return HttpUrl.parse(connection.getBaseUrl() + apiPath)
+        return getUrlTemplate(apiPath)
                 .newBuilder()
                 .addQueryParameter("page", formattedPageNum)
                 .build();
@@ -73,13 +440,62 @@ public abstract class ApiBase {
             final EmbeddedQueryParameter... includedEmbeddedTypes) {
         Validate.notBlank(apiPath, "apiPath must not be blank");
 
-        return formatEmbeddedTypes(
-                HttpUrl.parse(
-                        connection.getBaseUrl() + apiPath + validateId(id) + subApiPath).newBuilder(),
-                        includedEmbeddedTypes)
+        final String formattedId = validateId(id);
+        return formatEmbeddedTypes(getUrlTemplate(apiPath, subApiPath).newBuilder(formattedId), includedEmbeddedTypes)
                 .build();
     }
 
+    /**
+     * Gets the URL template for the given path, which is parsed on first use by this instance.
+     *
+     * @param pathTemplate the absolute path template (e.g., {@code /schedule/full})
+     * @return the URL template
+     * @see UrlTemplate
+     */
+    UrlTemplate getUrlTemplate(final String pathTemplate) {
+        final UrlTemplate urlTemplate = urlTemplates.get(pathTemplate);
+        if (Objects.nonNull(urlTemplate)) {
+            return urlTemplate;
+        }
+
+        return urlTemplates.computeIfAbsent(pathTemplate, key -> UrlTemplate.parse(getBaseUrl(), key));
+    }
+
+    /**
+     * Gets the URL template for a resource's sub-API path (e.g., {@code /shows/{}/episodes}), which is parsed on
+     * first use by this instance. The lookup avoids concatenating the paths once the template is parsed.
+     *
+     * @param apiPath the primary API path that ends with a {@code /} (e.g., {@code /shows/})
+     * @param subApiPath the sub-API path that is specific to the resource (e.g., {@code /episodes}), or empty
+     * @return the URL template with a single placeholder for the resource identifier
+     * @see UrlTemplate
+     */
+    UrlTemplate getUrlTemplate(final String apiPath, final String subApiPath) {
+        ConcurrentMap<String, UrlTemplate> subApiTemplates = resourceUrlTemplates.get(apiPath);
+        if (Objects.isNull(subApiTemplates)) {
+            subApiTemplates = resourceUrlTemplates.computeIfAbsent(apiPath, key -> new ConcurrentHashMap<>());
+        }
+
+        final UrlTemplate urlTemplate = subApiTemplates.get(subApiPath);
+        if (Objects.nonNull(urlTemplate)) {
+            return urlTemplate;
+        }
+
+        return subApiTemplates.computeIfAbsent(
+                subApiPath,
+                key -> UrlTemplate.parse(getBaseUrl(), apiPath + UrlTemplate.PLACEHOLDER + key));
+    }
+
+    private HttpUrl getBaseUrl() {
+        HttpUrl url = baseUrl;
+        if (Objects.isNull(url)) {
+            url = HttpUrl.get(connection.getBaseUrl());
+            baseUrl = url;
+        }
+
+        return url;
+    }
+
     /**
      * Used to parse and included {@link EmbeddedQueryParameter}s with the request URL as query parameters.
      *
@@ -0,0 +1,74 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event that spans a single API request, from when the request is sent until the result is returned
+ * or the request fails.
+ *
+ * @see FlightRecording
+ */
+@Name(ApiCallEvent.NAME)
+@Label("TVMaze API Call")
+@Description("A request issued by the TVMaze client")
+@Category({"TVMaze", "API"})
+@StackTrace(false)
+final class ApiCallEvent extends Event {
+    /** The event name. */
+    static final String NAME = "com.amilesend.tvmaze.ApiCall";
+
+    @Label("Operation")
+    @Description("The API operation (e.g., ShowsApi.getShow)")
+    String operation;
+
+    @Label("Endpoint")
+    @Description("The request URL path")
+    String endpoint;
+
+    @Label("Asynchronous")
+    boolean asynchronous;
+
+    @Label("Status Code")
+    @Description("The response status code, or 0 if unknown")
+    int statusCode;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Parse Duration")
+    @Timespan
+    long parseDuration;
+
+    @Label("Object Count")
+    @Description("The number of top-level objects parsed from the response")
+    int objectCount;
+
+    @Label("Failure")
+    @Description("The class name of the failure, if the request failed")
+    String failure;
+}
@@ -0,0 +1,263 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.concurrent.RateLimiter;
+import com.amilesend.tvmaze.client.concurrent.RetryPolicy;
+import com.amilesend.tvmaze.client.metrics.ApiMetrics;
+import com.amilesend.tvmaze.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import lombok.RequiredArgsConstructor;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static com.amilesend.client.connection.Connection.Headers.CONTENT_ENCODING;
+
+/**
+ * Sends the asynchronous calls of an {@link ApiBase} via {@link Call#enqueue(Callback)}, waits for
+ * {@link RateLimiter} permits and {@link RetryPolicy} delays without holding a thread, and parses the responses on
+ * the {@link TvMazeConfig#getAsyncExecutor() configured executor}.
+ * <p>
+ * Calls are sent directly on the connection's HTTP client rather than through
+ * {@link Connection#execute(Request, GsonParser)}, so the connection's retry strategy does not apply. Unsuccessful
+ * responses are mapped here: HTTP 404 to a {@link ResourceNotFoundException}, other client errors to a
+ * {@link RequestException}, and server errors to a {@link ResponseException}. Gzip-encoded responses are decoded
+ * here as well.
+ */
+@RequiredArgsConstructor
+final class AsyncTransport {
+    static final int NOT_FOUND_STATUS_CODE = 404;
+    private static final int MIN_SERVER_ERROR_CODE = 500;
+
+    private final Connection<GsonFactory> connection;
+    private final TvMazeConfig config;
+    /** Lazily initialized Gson instance used to parse the responses. */
+    private volatile Gson gson;
+
+    /**
+     * Sends the request for the given URL and parses the response.
+     *
+     * @param url the request URL
+     * @param parser the response body parser
+     * @param instrumentedCall the instrumentation of the call, or {@code null}
+     * @return the future that completes with the parsed response; cancelling it cancels the underlying call
+     * @param <T> the response type
+     */
+    <T> CompletableFuture<T> execute(
+            final HttpUrl url,
+            final GsonParser<T> parser,
+            final InstrumentedCall<T> instrumentedCall) {
+        final AsyncCall<T> call = new AsyncCall<>(url, parser, instrumentedCall);
+        call.send(1);
+        return call.future;
+    }
+
+    /**
+     * Formats the message of the exception that reports an unsuccessful response.
+     *
+     * @param code the response status code
+     * @param url the request URL
+     * @return the message
+     */
+    static String newUnsuccessfulResponseMessage(final int code, final HttpUrl url) {
+        return "Unsuccessful response code [" + code + "] for " + url;
+    }
+
+    /**
+     * Gets the priority lane used to acquire rate limit permits.
+     *
+     * @param config the client configuration
+     * @return the configured priority, or {@link RateLimiter.Priority#INTERACTIVE}
+     */
+    static RateLimiter.Priority getRequestPriority(final TvMazeConfig config) {
+        return Optional.ofNullable(config.getRequestPriority()).orElse(RateLimiter.Priority.INTERACTIVE);
+    }
+
+    private Executor getAsyncExecutor() {
+        return Optional.ofNullable(config.getAsyncExecutor()).orElseGet(ForkJoinPool::commonPool);
+    }
+
+    private Gson getGson() {
+        Gson instance = gson;
+        if (Objects.isNull(instance)) {
+            instance = connection.getGsonFactory().getInstance(connection);
+            gson = instance;
+        }
+
+        return instance;
+    }
+
+    private static InputStream getBodyStream(final Response response) throws IOException {
+        final InputStream bodyStream = response.body().byteStream();
+        return "gzip".equalsIgnoreCase(response.header(CONTENT_ENCODING))
+                ? new GZIPInputStream(bodyStream)
+                : bodyStream;
+    }
+
+    /** The state of a single asynchronous call across its attempts. */
+    @RequiredArgsConstructor
+    private final class AsyncCall<T> {
+        private final HttpUrl url;
+        private final GsonParser<T> parser;
+        private final InstrumentedCall<T> instrumentedCall;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        void send(final int attempt) {
+            final RateLimiter rateLimiter = config.getRateLimiter();
+            if (Objects.isNull(rateLimiter) || rateLimiter.tryAcquire(getRequestPriority(config))) {
+                enqueue(attempt);
+                return;
+            }
+
+            // Waits for the permit without holding a thread
+            final CompletableFuture<Void> permit =
+                    rateLimiter.acquireAsync(getRequestPriority(config), getAsyncExecutor());
+            future.whenComplete((result, ex) -> {
+                if (future.isCancelled()) {
+                    permit.cancel(false);
+                }
+            });
+            permit.whenComplete((ignored, ex) -> {
+                if (Objects.nonNull(ex)) {
+                    fail(ApiMetrics.UNKNOWN_STATUS_CODE, ex);
+                } else if (!future.isDone()) {
+                    enqueue(attempt);
+                }
+            });
+        }
+
+        private void enqueue(final int attempt) {
+            // The response headers are reported to the instrumented call directly, so no exchange is attached
+            final Call call = connection.getHttpClient().newCall(connection.newRequestBuilder().url(url).build());
+            future.whenComplete((result, ex) -> {
+                if (future.isCancelled()) {
+                    call.cancel();
+                }
+            });
+
+            if (attempt == 1 && Objects.nonNull(instrumentedCall)) {
+                instrumentedCall.requestSent();
+            }
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(final Call failedCall, final IOException ex) {
+                    final int statusCode = ApiMetrics.UNKNOWN_STATUS_CODE;
+                    final RequestException failure = new RequestException("Unable to execute request: " + url, ex);
+                    if (!retry(attempt, statusCode, failure)) {
+                        fail(statusCode, failure);
+                    }
+                }
+
+                @Override
+                public void onResponse(final Call completedCall, final Response response) {
+                    final int statusCode = response.code();
+                    if (!response.isSuccessful() && retry(attempt, statusCode, null)) {
+                        response.close();
+                        return;
+                    }
+
+                    if (Objects.nonNull(instrumentedCall)) {
+                        instrumentedCall.headersReceived(statusCode);
+                    }
+
+                    try {
+                        getAsyncExecutor().execute(() -> parse(response));
+                    } catch (final RejectedExecutionException ex) {
+                        response.close();
+                        fail(ApiMetrics.UNKNOWN_STATUS_CODE, ex);
+                    }
+                }
+            });
+        }
+
+        private boolean retry(final int attempt, final int statusCode, final Throwable failure) {
+            final RetryPolicy retryPolicy = config.getRetryPolicy();
+            if (Objects.isNull(retryPolicy)
+                    || future.isDone()
+                    || !retryPolicy.isRetried(attempt, statusCode, failure)) {
+                return false;
+            }
+
+            // Waits for the retry delay without holding a thread
+            CompletableFuture.delayedExecutor(
+                            retryPolicy.getDelayNanos(attempt),
+                            TimeUnit.NANOSECONDS,
+                            getAsyncExecutor())
+                    .execute(() -> {
+                        if (!future.isDone()) {
+                            send(attempt + 1);
+                        }
+                    });
+            return true;
+        }
+
+        private void parse(final Response response) {
+            int failureStatusCode = ApiMetrics.UNKNOWN_STATUS_CODE;
+            try (response) {
+                final int code = response.code();
+                if (!response.isSuccessful()) {
+                    failureStatusCode = code;
+                    final String message = newUnsuccessfulResponseMessage(code, response.request().url());
+                    if (code == NOT_FOUND_STATUS_CODE) {
+                        throw new ResourceNotFoundException(message);
+                    }
+                    throw code >= MIN_SERVER_ERROR_CODE
+                            ? new ResponseException(message)
+                            : new RequestException(message);
+                }
+
+                final T result = (Objects.isNull(instrumentedCall) ? parser : instrumentedCall)
+                        .parse(getGson(), getBodyStream(response));
+                if (Objects.nonNull(instrumentedCall)) {
+                    instrumentedCall.succeeded(code);
+                }
+                future.complete(result);
+            } catch (final IOException ex) {
+                fail(failureStatusCode, new ResponseException("Unable to read response body", ex));
+            } catch (final RuntimeException ex) {
+                fail(failureStatusCode, ex);
+            }
+        }
+
+        private void fail(final int statusCode, final Throwable error) {
+            if (Objects.nonNull(instrumentedCall)) {
+                instrumentedCall.failed(statusCode, error);
+            }
+            future.completeExceptionally(error);
+        }
+    }
+}
@@ -21,12 +21,17 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.client.parse.parser.BasicParser;
 import com.amilesend.client.parse.parser.ListParser;
 import com.amilesend.client.util.StringUtils;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
 import com.amilesend.tvmaze.client.model.Episode;
 import com.amilesend.tvmaze.client.model.type.CastMember;
 import com.amilesend.tvmaze.client.model.type.CrewMember;
+import lombok.NonNull;
 import okhttp3.HttpUrl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -49,6 +54,17 @@ public class EpisodesApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code EpisodesApi} object.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public EpisodesApi(final Connection connection, final TvMazeConfig config) {
+        super(connection, config);
+    }
+
     ///////////////
     // getEpisode
     ///////////////
@@ -65,11 +81,21 @@ public class EpisodesApi extends ApiBase {
      */
     public Episode getEpisode(final int episodeId, final boolean isShowIncluded) {
         final HttpUrl url = validateAndFormatEpisodeUrl(episodeId, isShowIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(Episode.class));
+        return execute("EpisodesApi.getEpisode", episodeId, url, new BasicParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEpisode(int, boolean)}.
+     *
+     * @param episodeId the episode identifier
+     * @param isShowIncluded if {@code true}, includes the embedded show information in the response; else,
+     *                       {@code false}
+     * @return the future that completes with the episode
+     * @see #getEpisode(int, boolean)
+     */
+    public CompletableFuture<Episode> getEpisodeAsync(final int episodeId, final boolean isShowIncluded) {
+        final HttpUrl url = validateAndFormatEpisodeUrl(episodeId, isShowIncluded);
+        return executeAsync("EpisodesApi.getEpisode", episodeId, url, new BasicParser<>(Episode.class));
     }
 
     private HttpUrl validateAndFormatEpisodeUrl(final int episodeId, final boolean isShowIncluded) {
@@ -78,6 +104,24 @@ public class EpisodesApi extends ApiBase {
                 : validateAndFormatUrl(EPISODES_API_PATH, episodeId, StringUtils.EMPTY);
     }
 
+    ////////////////
+    // getEpisodes
+    ////////////////
+
+    /**
+     * Retrieves the episodes for the given {@code episodeIds}. Episodes are fetched concurrently with at most
+     * {@link TvMazeConfig#getBulkParallelism()} requests in flight, and are subject to the configured rate limiter. A
+     * failure to fetch one episode is recorded in the result and does not fail the other episodes.
+     *
+     * @param episodeIds the episode identifiers
+     * @return the episodes and failures by episode identifier
+     * @see BulkResult
+     * @see Episode
+     */
+    public BulkResult<Integer, Episode> getEpisodes(@NonNull final Collection<Integer> episodeIds) {
+        return executeBulk(episodeIds, episodeId -> getEpisodeAsync(episodeId, false));
+    }
+
     /////////////////
     // getGuestCast
     /////////////////
@@ -91,11 +135,19 @@ public class EpisodesApi extends ApiBase {
      */
     public List<CastMember> getGuestCast(final int episodeId) {
         final HttpUrl url = validateAndFormatUrl(EPISODES_API_PATH, episodeId, GUEST_CAST_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(CastMember.class));
+        return execute("EpisodesApi.getGuestCast", episodeId, url, new ListParser<>(CastMember.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getGuestCast(int)}.
+     *
+     * @param episodeId the episode identifier
+     * @return the future that completes with the list of guest cast members
+     * @see #getGuestCast(int)
+     */
+    public CompletableFuture<List<CastMember>> getGuestCastAsync(final int episodeId) {
+        final HttpUrl url = validateAndFormatUrl(EPISODES_API_PATH, episodeId, GUEST_CAST_SUB_API_PATH);
+        return executeAsync("EpisodesApi.getGuestCast", episodeId, url, new ListParser<>(CastMember.class));
     }
 
     /////////////////
@@ -111,10 +163,18 @@ public class EpisodesApi extends ApiBase {
      */
     public List<CrewMember> getGuestCrew(final int episodeId) {
         final HttpUrl url = validateAndFormatUrl(EPISODES_API_PATH, episodeId, GUEST_CREW_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(CrewMember.class));
+        return execute("EpisodesApi.getGuestCrew", episodeId, url, new ListParser<>(CrewMember.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getGuestCrew(int)}.
+     *
+     * @param episodeId the episode identifier
+     * @return the future that completes with the list of guest crew members
+     * @see #getGuestCrew(int)
+     */
+    public CompletableFuture<List<CrewMember>> getGuestCrewAsync(final int episodeId) {
+        final HttpUrl url = validateAndFormatUrl(EPISODES_API_PATH, episodeId, GUEST_CREW_SUB_API_PATH);
+        return executeAsync("EpisodesApi.getGuestCrew", episodeId, url, new ListParser<>(CrewMember.class));
     }
 }
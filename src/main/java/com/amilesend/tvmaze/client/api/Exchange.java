@@ -0,0 +1,105 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.tvmaze.client.metrics.ApiMetrics;
+
+/**
+ * The status code and response headers time of the HTTP exchange for a single request attempt. Instances are attached
+ * to the request as a {@link okhttp3.Request#tag(Class) tag} and are updated by the {@link ExchangeListener}, which
+ * lets the blocking path observe the status code of unsuccessful responses that the connection does not expose.
+ * <p>
+ * If the HTTP client is not configured with the {@link ExchangeListener}, then the exchange is never reported.
+ */
+final class Exchange {
+    private volatile int statusCode = ApiMetrics.UNKNOWN_STATUS_CODE;
+    private volatile long headersNanos;
+    private volatile boolean isReported;
+    private volatile boolean isParserInvoked;
+
+    /** Clears the state of a previous attempt before the request is retried. */
+    void reset() {
+        isReported = false;
+        isParserInvoked = false;
+        statusCode = ApiMetrics.UNKNOWN_STATUS_CODE;
+        headersNanos = 0L;
+    }
+
+    /**
+     * Wraps the given parser to record when it is invoked, which indicates that a successful response was received.
+     *
+     * @param parser the response parser
+     * @param <T> the response type
+     * @return the wrapped parser
+     */
+    <T> GsonParser<T> observe(final GsonParser<T> parser) {
+        return (gson, jsonStream) -> {
+            isParserInvoked = true;
+            return parser.parse(gson, jsonStream);
+        };
+    }
+
+    /**
+     * Records the response headers. Redirects and conditional cache hits report more than once; the last report
+     * describes the response that is returned.
+     *
+     * @param code the response status code
+     */
+    void headersReceived(final int code) {
+        statusCode = code;
+        headersNanos = System.nanoTime();
+        isReported = true;
+    }
+
+    /**
+     * Gets the status code of the response.
+     *
+     * @return the status code, or {@link ApiMetrics#UNKNOWN_STATUS_CODE} if the exchange was not reported
+     */
+    int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Gets the {@link System#nanoTime()} at which the response headers were received.
+     *
+     * @return the time, or {@code 0} if the exchange was not reported
+     */
+    long getHeadersNanos() {
+        return headersNanos;
+    }
+
+    /**
+     * Indicates if the response headers were reported by the {@link ExchangeListener}.
+     *
+     * @return {@code true} if the exchange was reported
+     */
+    boolean isReported() {
+        return isReported;
+    }
+
+    /**
+     * Indicates if the parser returned by {@link #observe(GsonParser)} was invoked.
+     *
+     * @return {@code true} if the parser was invoked
+     */
+    boolean isParserInvoked() {
+        return isParserInvoked;
+    }
+}
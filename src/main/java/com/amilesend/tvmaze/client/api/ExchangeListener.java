@@ -0,0 +1,85 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import lombok.NonNull;
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+import java.util.Objects;
+
+/**
+ * Reports the status code and response headers time of each blocking request made by the API classes (asynchronous
+ * calls observe the response directly). Without it, the blocking path cannot observe the status code of unsuccessful responses, so failures are recorded with
+ * {@link com.amilesend.tvmaze.client.metrics.ApiMetrics#UNKNOWN_STATUS_CODE}, a missing resource (HTTP 404) is not
+ * reported as a {@link ResourceNotFoundException}, and the network time of a successful response is measured from
+ * when the connection invokes the parser.
+ * <p>
+ * The connection created by {@link com.amilesend.tvmaze.client.TvMaze} is configured with it. Apply it to your own
+ * client with {@link #configure(OkHttpClient.Builder)}.
+ */
+public final class ExchangeListener extends EventListener {
+    private static final ExchangeListener INSTANCE = new ExchangeListener();
+    /** Only creates listeners for the requests made by the API classes, which carry an {@link Exchange} tag. */
+    private static final EventListener.Factory FACTORY =
+            call -> Objects.isNull(call.request().tag(Exchange.class)) ? EventListener.NONE : INSTANCE;
+
+    private ExchangeListener() {
+    }
+
+    /**
+     * Configures the given HTTP client builder to report the exchanges of requests made by the API classes. This
+     * replaces any {@link EventListener.Factory} that is already configured.
+     *
+     * @param httpClientBuilder the HTTP client builder
+     * @return the HTTP client builder
+     */
+    public static OkHttpClient.Builder configure(@NonNull final OkHttpClient.Builder httpClientBuilder) {
+        return httpClientBuilder.eventListenerFactory(FACTORY);
+    }
+
+    /**
+     * Indicates if the given HTTP client was configured with {@link #configure(OkHttpClient.Builder)}.
+     *
+     * @param httpClient the HTTP client
+     * @return {@code true} if the client reports the exchanges of requests made by the API classes
+     */
+    public static boolean isConfigured(@NonNull final OkHttpClient httpClient) {
+        return httpClient.eventListenerFactory() == FACTORY;
+    }
+
+    @Override
+    public void responseHeadersEnd(@NonNull final Call call, @NonNull final Response response) {
+        report(call, response);
+    }
+
+    @Override
+    public void cacheHit(@NonNull final Call call, @NonNull final Response response) {
+        // Also reported after a conditional request that is answered with 304 Not Modified
+        report(call, response);
+    }
+
+    private static void report(final Call call, final Response response) {
+        final Exchange exchange = call.request().tag(Exchange.class);
+        if (Objects.nonNull(exchange)) {
+            exchange.headersReceived(response.code());
+        }
+    }
+}
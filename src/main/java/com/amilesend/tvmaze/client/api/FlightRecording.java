@@ -0,0 +1,189 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+
+import java.util.Objects;
+
+/**
+ * Emits the JDK Flight Recorder {@link ApiCallEvent} and {@link ParseEvent} for a single request. Instances are only
+ * created while a recording has at least one of the events enabled, so requests are not instrumented when Flight
+ * Recorder is unavailable (e.g., in runtime images without the {@code jdk.jfr} module) or not recording.
+ */
+@Slf4j
+final class FlightRecording {
+    private static final boolean IS_AVAILABLE = isFlightRecorderAvailable();
+
+    private final ApiCallEvent callEvent;
+    private final ParseEvent parseEvent;
+
+    private FlightRecording(
+            final String operation,
+            final String endpoint,
+            final boolean isAsync,
+            final boolean isCallEnabled,
+            final boolean isParseEnabled) {
+        if (isCallEnabled) {
+            callEvent = new ApiCallEvent();
+            callEvent.operation = operation;
+            callEvent.endpoint = endpoint;
+            callEvent.asynchronous = isAsync;
+        } else {
+            callEvent = null;
+        }
+
+        if (isParseEnabled) {
+            parseEvent = new ParseEvent();
+            parseEvent.operation = operation;
+            parseEvent.endpoint = endpoint;
+        } else {
+            parseEvent = null;
+        }
+    }
+
+    /**
+     * Determines if Flight Recorder is available in the running JVM.
+     *
+     * @return {@code true} if available; else, {@code false}
+     */
+    static boolean isAvailable() {
+        return IS_AVAILABLE;
+    }
+
+    /**
+     * Creates a recording for a request if any of the events are enabled.
+     *
+     * @param operation the operation name
+     * @param url the request URL
+     * @param isAsync {@code true} if the request is asynchronous
+     * @return the recording, or {@code null} if Flight Recorder is unavailable or the events are disabled
+     */
+    static FlightRecording of(final String operation, final HttpUrl url, final boolean isAsync) {
+        if (!IS_AVAILABLE) {
+            return null;
+        }
+
+        final boolean isCallEnabled = EventTypes.API_CALL.isEnabled();
+        final boolean isParseEnabled = EventTypes.PARSE.isEnabled();
+        if (!isCallEnabled && !isParseEnabled) {
+            return null;
+        }
+
+        return new FlightRecording(operation, url.encodedPath(), isAsync, isCallEnabled, isParseEnabled);
+    }
+
+    /** Begins the call event. */
+    void requestSent() {
+        if (Objects.nonNull(callEvent)) {
+            callEvent.begin();
+        }
+    }
+
+    /** Begins the parse event. */
+    void parseStarted() {
+        if (Objects.nonNull(parseEvent)) {
+            parseEvent.begin();
+        }
+    }
+
+    /**
+     * Ends and commits the parse event.
+     *
+     * @param parser the parser
+     * @param responseBytes the number of bytes read from the response body
+     * @param objectCount the number of top-level objects parsed
+     */
+    void parseCompleted(final Object parser, final long responseBytes, final int objectCount) {
+        if (Objects.isNull(parseEvent)) {
+            return;
+        }
+
+        parseEvent.end();
+        if (parseEvent.shouldCommit()) {
+            parseEvent.parser = parser.getClass().getSimpleName();
+            parseEvent.responseBytes = responseBytes;
+            parseEvent.objectCount = objectCount;
+            parseEvent.commit();
+        }
+    }
+
+    /**
+     * Ends and commits the call event for a successful request.
+     *
+     * @param statusCode the response status code
+     * @param responseBytes the number of bytes read from the response body
+     * @param parseNanos the time spent parsing the response body
+     * @param objectCount the number of top-level objects parsed
+     */
+    void succeeded(final int statusCode, final long responseBytes, final long parseNanos, final int objectCount) {
+        if (Objects.isNull(callEvent)) {
+            return;
+        }
+
+        callEvent.end();
+        if (callEvent.shouldCommit()) {
+            callEvent.statusCode = statusCode;
+            callEvent.responseBytes = responseBytes;
+            callEvent.parseDuration = parseNanos;
+            callEvent.objectCount = objectCount;
+            callEvent.commit();
+        }
+    }
+
+    /**
+     * Ends and commits the call event for a failed request.
+     *
+     * @param statusCode the response status code, or {@code 0} if unknown
+     * @param responseBytes the number of bytes read from the response body
+     * @param error the failure
+     */
+    void failed(final int statusCode, final long responseBytes, final Throwable error) {
+        if (Objects.isNull(callEvent)) {
+            return;
+        }
+
+        callEvent.end();
+        if (callEvent.shouldCommit()) {
+            callEvent.statusCode = statusCode;
+            callEvent.responseBytes = responseBytes;
+            callEvent.failure = error.getClass().getName();
+            callEvent.commit();
+        }
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            // The jdk.jfr module may be excluded from custom runtime images
+            Class.forName("jdk.jfr.FlightRecorder");
+            return FlightRecorder.isAvailable();
+        } catch (final ClassNotFoundException | LinkageError ex) {
+            log.debug("Flight Recorder is not available", ex);
+            return false;
+        }
+    }
+
+    /** Defers loading the event types until Flight Recorder is known to be available. */
+    private static class EventTypes {
+        static final EventType API_CALL = EventType.getEventType(ApiCallEvent.class);
+        static final EventType PARSE = EventType.getEventType(ParseEvent.class);
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link Spliterator} over the items of a paginated resource index (e.g., {@code /shows?page=N}). While the items
+ * of page {@code N} are consumed, page {@code N + 1} is fetched in the background. The index ends at the first page
+ * that results in a {@link ResourceNotFoundException} (i.e., HTTP 404); any other failure is thrown to the consumer.
+ * <p>
+ * For parallel streams, the spliterator splits on page ranges. As the number of pages is not known upfront, splitting
+ * off a range starts fetching the first page after it, which serves as both a probe for whether the index continues
+ * and the prefetch of the remaining range. Splitting never waits for the probe: at most
+ * {@link #MAX_UNCONFIRMED_SPLIT_COUNT} ranges are split off ahead of the last probe that confirmed a page exists, and
+ * splitting stops once a probe reports the end of the index. Ranges that are split off past the end of the index
+ * are empty.
+ * <p>
+ * {@link #cancel() Cancelling} the spliterator (e.g., by closing its stream) cancels the page fetches that are in
+ * flight for it and for the ranges split off from it.
+ *
+ * @param <T> the item type
+ */
+class IndexSpliterator<T> implements Spliterator<T> {
+    /** The maximum number of items per index page. */
+    static final int PAGE_SIZE = 250;
+    /** The number of pages split off from an index of unknown size. */
+    static final int SPLIT_PAGE_COUNT = 4;
+    /** The maximum number of ranges split off ahead of the last confirmed page of an index of unknown size. */
+    static final int MAX_UNCONFIRMED_SPLIT_COUNT = 8;
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final IntFunction<CompletableFuture<List<T>>> pageFetcher;
+    /** This spliterator and the ranges split off from it, which are cancelled together. */
+    private final Queue<IndexSpliterator<T>> splits;
+    /** The next page to fetch. */
+    private int nextPageNum;
+    /** The page number (exclusive) at which this spliterator ends, or {@link #UNBOUNDED}. */
+    private final int endPageNum;
+    /** The fetch of {@link #nextPageNum} that is in flight, if any. */
+    private volatile CompletableFuture<List<T>> nextPage;
+    private Iterator<T> items = Collections.emptyIterator();
+    private volatile boolean isExhausted;
+    /** The number of ranges split off since the last probe that confirmed a page exists. */
+    private int unconfirmedSplitCount;
+
+    /**
+     * Creates a new {@code IndexSpliterator} that starts at the given page and ends at the end of the index.
+     *
+     * @param pageFetcher the function that fetches a page by page number
+     * @param startPageNum the first page number
+     */
+    IndexSpliterator(@NonNull final IntFunction<CompletableFuture<List<T>>> pageFetcher, final int startPageNum) {
+        this(pageFetcher, new ConcurrentLinkedQueue<>(), startPageNum, UNBOUNDED, null);
+    }
+
+    private IndexSpliterator(
+            final IntFunction<CompletableFuture<List<T>>> pageFetcher,
+            final Queue<IndexSpliterator<T>> splits,
+            final int startPageNum,
+            final int endPageNum,
+            final CompletableFuture<List<T>> nextPage) {
+        this.pageFetcher = pageFetcher;
+        this.splits = splits;
+        this.nextPageNum = startPageNum;
+        this.endPageNum = endPageNum;
+        this.nextPage = nextPage;
+        splits.add(this);
+    }
+
+    /**
+     * Stops this spliterator and the ranges split off from it, and cancels their page fetches that are in flight.
+     * Intended to be registered as the {@link java.util.stream.Stream#onClose(Runnable) close handler} of the stream
+     * so that abandoning the stream does not leave prefetched pages in flight.
+     */
+    void cancel() {
+        splits.forEach(IndexSpliterator::cancelNextPage);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        while (!items.hasNext()) {
+            if (isExhausted || nextPageNum >= endPageNum) {
+                return false;
+            }
+
+            final List<T> page;
+            try {
+                page = awaitNextPage();
+            } catch (final RuntimeException ex) {
+                cancel();
+                throw ex;
+            }
+            if (Objects.isNull(page)) {
+                isExhausted = true;
+                return false;
+            }
+
+            items = page.iterator();
+            prefetchNextPage();
+        }
+
+        action.accept(items.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (isExhausted) {
+            return null;
+        }
+
+        final int remainingPageCount = endPageNum - nextPageNum;
+        final int splitPageCount = endPageNum == UNBOUNDED ? SPLIT_PAGE_COUNT : remainingPageCount / 2;
+        if (splitPageCount < 1 || remainingPageCount <= 1) {
+            return null;
+        }
+
+        final int splitEndPageNum = nextPageNum + splitPageCount;
+        CompletableFuture<List<T>> suffixFirstPage = null;
+        if (endPageNum == UNBOUNDED) {
+            final CompletableFuture<List<T>> probe = nextPage;
+            if (Objects.nonNull(probe) && probe.isDone()) {
+                if (probe.isCompletedExceptionally()) {
+                    // The index ends at (or failed before) this range, which is left to tryAdvance to report
+                    return null;
+                }
+                unconfirmedSplitCount = 0;
+            } else if (unconfirmedSplitCount >= MAX_UNCONFIRMED_SPLIT_COUNT) {
+                return null;
+            }
+
+            // Probes whether the index continues past the split-off range without waiting for the response
+            suffixFirstPage = pageFetcher.apply(splitEndPageNum);
+            ++unconfirmedSplitCount;
+        }
+
+        final IndexSpliterator<T> prefix =
+                new IndexSpliterator<>(pageFetcher, splits, nextPageNum, splitEndPageNum, nextPage);
+        prefix.items = items;
+        items = Collections.emptyIterator();
+        nextPageNum = splitEndPageNum;
+        nextPage = suffixFirstPage;
+
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endPageNum == UNBOUNDED ? Long.MAX_VALUE : (long) (endPageNum - nextPageNum) * PAGE_SIZE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private void cancelNextPage() {
+        isExhausted = true;
+        final CompletableFuture<List<T>> page = nextPage;
+        if (Objects.nonNull(page)) {
+            page.cancel(true);
+        }
+    }
+
+    private List<T> awaitNextPage() {
+        final CompletableFuture<List<T>> page = Objects.nonNull(nextPage) ? nextPage : pageFetcher.apply(nextPageNum);
+        nextPage = null;
+        ++nextPageNum;
+        return join(page);
+    }
+
+    private void prefetchNextPage() {
+        if (nextPageNum < endPageNum) {
+            nextPage = pageFetcher.apply(nextPageNum);
+        }
+    }
+
+    /** Waits for the page, returning {@code null} if the page does not exist and throwing any other failure. */
+    private static <T> List<T> join(final CompletableFuture<List<T>> page) {
+        try {
+            return Objects.requireNonNullElse(page.join(), Collections.emptyList());
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof ResourceNotFoundException) {
+                return null;
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.metrics.ApiCall;
+import com.amilesend.tvmaze.client.metrics.ApiCallListener;
+import com.amilesend.tvmaze.client.metrics.ApiMetrics;
+import com.amilesend.tvmaze.client.parse.StreamingListParser;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Instruments a single request for the configured {@link ApiMetrics} and {@link ApiCallListener}, and for
+ * {@link FlightRecording Flight Recorder} events. The instance wraps the response parser to observe when the body was
+ * read and how long parsing took. The time spent waiting to read the streamed body is counted as network time rather
+ * than parse time. For blocking calls, the response headers time and status code are taken from the
+ * {@link Exchange} reported by the {@link ExchangeListener}, or else from when the connection invoked the parser.
+ * Asynchronous calls report the response headers directly via {@link #headersReceived(int)}.
+ * <p>
+ * Instances are only created when metrics or a listener are configured, or when a Flight Recorder recording has the
+ * client events enabled; see
+ * {@link #of(TvMazeConfig, String, int, HttpUrl, GsonParser, Exchange, boolean)}.
+ *
+ * @param <T> the response type
+ */
+@Slf4j
+class InstrumentedCall<T> implements GsonParser<T> {
+    private final GsonParser<T> delegate;
+    private final ApiMetrics metrics;
+    private final ApiCallListener listener;
+    private final ApiCall call;
+    private final FlightRecording recording;
+    private final String operation;
+    private final Exchange exchange;
+    private long startNanos;
+    private long headersNanos;
+    private long parseStartNanos;
+    private long parseEndNanos;
+    private long readNanos;
+    private long byteCount;
+    private int objectCount;
+    private boolean isHeadersReceived;
+    private boolean isBodyRead;
+    private volatile boolean isCompleted;
+
+    private InstrumentedCall(
+            final GsonParser<T> delegate,
+            final ApiMetrics metrics,
+            final ApiCallListener listener,
+            final ApiCall call,
+            final FlightRecording recording,
+            final String operation,
+            final Exchange exchange) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.listener = listener;
+        this.call = call;
+        this.recording = recording;
+        this.operation = operation;
+        this.exchange = exchange;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates an instrumented call and notifies the listener that the URL was built.
+     *
+     * @param config the client features
+     * @param operation the operation name
+     * @param resourceId the targeted resource identifier, or {@link ApiCall#NO_RESOURCE_ID}
+     * @param url the request URL
+     * @param parser the response parser
+     * @param exchange the exchange of the request, or {@code null} if it is not observed
+     * @param isAsync {@code true} if the request is asynchronous
+     * @param <T> the response type
+     * @return the instrumented call, or {@code null} if no metrics, listener or Flight Recorder events are enabled
+     */
+    static <T> InstrumentedCall<T> of(
+            final TvMazeConfig config,
+            final String operation,
+            final int resourceId,
+            final HttpUrl url,
+            final GsonParser<T> parser,
+            final Exchange exchange,
+            final boolean isAsync) {
+        final ApiMetrics metrics = config.getMetrics();
+        final ApiCallListener listener = config.getCallListener();
+        final FlightRecording recording = FlightRecording.of(operation, url, isAsync);
+        if (Objects.isNull(metrics) && Objects.isNull(listener) && Objects.isNull(recording)) {
+            return null;
+        }
+
+        final ApiCall call = Objects.isNull(listener) ? null : new ApiCall(operation, resourceId, url, isAsync);
+        final InstrumentedCall<T> instrumentedCall =
+                new InstrumentedCall<>(parser, metrics, listener, call, recording, operation, exchange);
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onUrlBuilt(call);
+            } catch (final RuntimeException ex) {
+                logListenerFailure(ex);
+            }
+        }
+
+        return instrumentedCall;
+    }
+
+    /** Marks the request as sent, which starts the request timer. */
+    void requestSent() {
+        startNanos = System.nanoTime();
+        if (Objects.nonNull(recording)) {
+            recording.requestSent();
+        }
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onRequestSent(call);
+            } catch (final RuntimeException ex) {
+                logListenerFailure(ex);
+            }
+        }
+    }
+
+    /**
+     * Marks the response headers as received.
+     *
+     * @param statusCode the response status code
+     */
+    void headersReceived(final int statusCode) {
+        headersReceived(statusCode, System.nanoTime());
+    }
+
+    private void headersReceived(final int statusCode, final long receivedNanos) {
+        if (isHeadersReceived) {
+            return;
+        }
+
+        isHeadersReceived = true;
+        headersNanos = receivedNanos;
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onHeadersReceived(call, statusCode);
+            } catch (final RuntimeException ex) {
+                logListenerFailure(ex);
+            }
+        }
+    }
+
+    @Override
+    public T parse(final Gson gson, final InputStream jsonStream) {
+        if (Objects.nonNull(exchange) && exchange.isReported()) {
+            headersReceived(exchange.getStatusCode(), exchange.getHeadersNanos());
+        } else {
+            // The blocking connection only invokes the parser for successful responses
+            headersReceived(ApiBase.SUCCESS_STATUS_CODE);
+        }
+        parseStartNanos = System.nanoTime();
+        if (Objects.nonNull(recording)) {
+            recording.parseStarted();
+        }
+        final T result = delegate.parse(gson, new CountingInputStream(jsonStream));
+        bodyRead();
+        parseEndNanos = System.nanoTime();
+        if (Objects.nonNull(recording)) {
+            objectCount = countObjects(result);
+            recording.parseCompleted(delegate, byteCount, objectCount);
+        }
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onParseCompleted(call);
+            } catch (final RuntimeException ex) {
+                logListenerFailure(ex);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Records the request as successful. Invoked just before the result is returned. Has no effect if the request
+     * was already recorded as completed.
+     *
+     * @param statusCode the response status code
+     */
+    void succeeded(final int statusCode) {
+        if (isCompleted) {
+            return;
+        }
+
+        isCompleted = true;
+        final long parseNanos = parseEndNanos - parseStartNanos - readNanos;
+        if (Objects.nonNull(metrics)) {
+            metrics.recordSuccess(operation, statusCode, headersNanos - startNanos + readNanos, parseNanos, byteCount);
+        }
+        if (Objects.nonNull(recording)) {
+            recording.succeeded(statusCode, byteCount, parseNanos, objectCount);
+        }
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onResultReturned(call);
+            } catch (final RuntimeException ex) {
+                logListenerFailure(ex);
+            }
+        }
+    }
+
+    /**
+     * Records the request as failed. Has no effect if the request was already recorded as completed.
+     *
+     * @param statusCode the response status code, or {@link ApiMetrics#UNKNOWN_STATUS_CODE}
+     * @param error the failure
+     */
+    void failed(final int statusCode, final Throwable error) {
+        if (isCompleted) {
+            return;
+        }
+
+        isCompleted = true;
+        if (Objects.nonNull(metrics)) {
+            metrics.recordFailure(operation, statusCode, System.nanoTime() - startNanos);
+        }
+        if (Objects.nonNull(recording)) {
+            recording.failed(statusCode, byteCount, error);
+        }
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onFailed(call, error);
+            } catch (final RuntimeException ex) {
+                logListenerFailure(ex);
+            }
+        }
+    }
+
+    private void bodyRead() {
+        if (isBodyRead) {
+            return;
+        }
+
+        isBodyRead = true;
+        if (Objects.nonNull(listener)) {
+            try {
+                listener.onBodyRead(call, byteCount);
+            } catch (final RuntimeException ex) {
+                logListenerFailure(ex);
+            }
+        }
+    }
+
+    private int countObjects(final T result) {
+        if (Objects.isNull(result)) {
+            return 0;
+        } else if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        } else if (result instanceof Map) {
+            return ((Map<?, ?>) result).size();
+        } else if (result instanceof IntLongMap) {
+            return ((IntLongMap) result).size();
+        } else if (delegate instanceof StreamingListParser) {
+            // Streaming parsers return the number of items passed to the consumer
+            return (Integer) result;
+        }
+
+        return 1;
+    }
+
+    private static void logListenerFailure(final RuntimeException ex) {
+        log.warn("ApiCallListener callback failed", ex);
+    }
+
+    /**
+     * Counts the bytes read from the response body, times how long reads wait for the body to be received and
+     * decompressed, and reports when its end is reached.
+     */
+    private class CountingInputStream extends FilterInputStream {
+        CountingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final long readStartNanos = System.nanoTime();
+            final int value = super.read();
+            readNanos += System.nanoTime() - readStartNanos;
+            if (value >= 0) {
+                ++byteCount;
+            } else {
+                bodyRead();
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final long readStartNanos = System.nanoTime();
+            final int readCount = super.read(b, off, len);
+            readNanos += System.nanoTime() - readStartNanos;
+            if (readCount > 0) {
+                byteCount += readCount;
+            } else if (readCount < 0) {
+                bodyRead();
+            }
+            return readCount;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long readStartNanos = System.nanoTime();
+            final long skipCount = super.skip(n);
+            readNanos += System.nanoTime() - readStartNanos;
+            byteCount += skipCount;
+            return skipCount;
+        }
+    }
+}
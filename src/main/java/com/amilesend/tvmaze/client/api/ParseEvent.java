@@ -0,0 +1,61 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event that spans the parsing of a single response body.
+ *
+ * @see FlightRecording
+ */
+@Name(ParseEvent.NAME)
+@Label("TVMaze Response Parse")
+@Description("The parsing of a response body by the TVMaze client")
+@Category({"TVMaze", "Parse"})
+@StackTrace(false)
+final class ParseEvent extends Event {
+    /** The event name. */
+    static final String NAME = "com.amilesend.tvmaze.Parse";
+
+    @Label("Operation")
+    @Description("The API operation (e.g., ShowsApi.getShow)")
+    String operation;
+
+    @Label("Endpoint")
+    @Description("The request URL path")
+    String endpoint;
+
+    @Label("Parser")
+    @Description("The parser class name (e.g., ListParser)")
+    String parser;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Object Count")
+    @Description("The number of top-level objects parsed from the response")
+    int objectCount;
+}
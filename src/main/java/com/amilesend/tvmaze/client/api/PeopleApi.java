@@ -18,16 +18,25 @@
 package com.amilesend.tvmaze.client.api;
 
 import com.amilesend.client.connection.Connection;
-import com.amilesend.client.connection.RequestException;
 import com.amilesend.client.parse.parser.BasicParser;
 import com.amilesend.client.parse.parser.ListParser;
 import com.amilesend.client.util.StringUtils;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.cache.CacheKey;
+import com.amilesend.tvmaze.client.cache.ResourceCache;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
 import com.amilesend.tvmaze.client.model.CastCredit;
 import com.amilesend.tvmaze.client.model.CrewCredit;
 import com.amilesend.tvmaze.client.model.Person;
+import lombok.NonNull;
 import okhttp3.HttpUrl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -52,13 +61,26 @@ public class PeopleApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code PeopleApi} object.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public PeopleApi(final Connection connection, final TvMazeConfig config) {
+        super(connection, config);
+    }
+
 
     //////////////
     // getPerson
     //////////////
 
     /**
-     * Retrieves information for a specific person.
+     * Retrieves information for a specific person. If a {@link TvMazeConfig#getPersonCache() person cache} is
+     * configured, then the person is served from the cache when present for the same {@code personId} and
+     * {@code isCastCreditsIncluded} value.
      *
      * @param personId the person identifier
      * @param isCastCreditsIncluded if {@code true}, include cast credits in the response; else, {@code false}
@@ -68,11 +90,44 @@ public class PeopleApi extends ApiBase {
      */
     public Person getPerson(final int personId, final boolean isCastCreditsIncluded) {
         final HttpUrl url = validateAndFormatPeopleUrl(personId, isCastCreditsIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(Person.class));
+        final ResourceCache<CacheKey, Person> personCache = config.getPersonCache();
+        if (Objects.isNull(personCache)) {
+            return fetchPerson(personId, url);
+        }
+
+        final CacheKey cacheKey = isCastCreditsIncluded
+                ? CacheKey.of(personId, Person.EmbeddedType.CAST_CREDITS)
+                : CacheKey.of(personId);
+        return personCache.get(cacheKey, key -> fetchPerson(personId, url));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPerson(int, boolean)}. If a
+     * {@link TvMazeConfig#getPersonCache() person cache} is configured, then a cached person is returned as a
+     * completed future.
+     *
+     * @param personId the person identifier
+     * @param isCastCreditsIncluded if {@code true}, include cast credits in the response; else, {@code false}
+     * @return the future that completes with the person
+     * @see #getPerson(int, boolean)
+     */
+    public CompletableFuture<Person> getPersonAsync(final int personId, final boolean isCastCreditsIncluded) {
+        final HttpUrl url = validateAndFormatPeopleUrl(personId, isCastCreditsIncluded);
+        final ResourceCache<CacheKey, Person> personCache = config.getPersonCache();
+        if (Objects.isNull(personCache)) {
+            return executeAsync("PeopleApi.getPerson", personId, url, new BasicParser<>(Person.class));
+        }
+
+        final CacheKey cacheKey = isCastCreditsIncluded
+                ? CacheKey.of(personId, Person.EmbeddedType.CAST_CREDITS)
+                : CacheKey.of(personId);
+        return personCache.getAsync(
+                cacheKey,
+                key -> executeAsync("PeopleApi.getPerson", personId, url, new BasicParser<>(Person.class)));
+    }
+
+    private Person fetchPerson(final int personId, final HttpUrl url) {
+        return execute("PeopleApi.getPerson", personId, url, new BasicParser<>(Person.class));
     }
 
     private HttpUrl validateAndFormatPeopleUrl(final int personId, final boolean isCastCreditsIncluded) {
@@ -81,6 +136,24 @@ public class PeopleApi extends ApiBase {
                 : validateAndFormatUrl(PEOPLE_API_PATH, personId, StringUtils.EMPTY);
     }
 
+    //////////////
+    // getPeople
+    //////////////
+
+    /**
+     * Retrieves information for the given {@code personIds}. Persons are fetched concurrently with at most
+     * {@link TvMazeConfig#getBulkParallelism()} requests in flight, and are subject to the configured rate limiter
+     * and person cache. A failure to fetch one person is recorded in the result and does not fail the other persons.
+     *
+     * @param personIds the person identifiers
+     * @return the persons and failures by person identifier
+     * @see BulkResult
+     * @see Person
+     */
+    public BulkResult<Integer, Person> getPeople(@NonNull final Collection<Integer> personIds) {
+        return executeBulk(personIds, personId -> getPersonAsync(personId, false));
+    }
+
     ///////////////////
     // getCastCredits
     ///////////////////
@@ -96,11 +169,20 @@ public class PeopleApi extends ApiBase {
      */
     public List<CastCredit> getCastCredits(final int personId, final boolean isShowIncluded) {
         final HttpUrl url = validateAndFormatCastCreditsUrl(personId, isShowIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(CastCredit.class));
+        return execute("PeopleApi.getCastCredits", personId, url, new ListParser<>(CastCredit.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCastCredits(int, boolean)}.
+     *
+     * @param personId the person identifier
+     * @param isShowIncluded if {@code true}, include show information in the response; else, {@code false}
+     * @return the future that completes with the list of cast credits
+     * @see #getCastCredits(int, boolean)
+     */
+    public CompletableFuture<List<CastCredit>> getCastCreditsAsync(final int personId, final boolean isShowIncluded) {
+        final HttpUrl url = validateAndFormatCastCreditsUrl(personId, isShowIncluded);
+        return executeAsync("PeopleApi.getCastCredits", personId, url, new ListParser<>(CastCredit.class));
     }
 
     private HttpUrl validateAndFormatCastCreditsUrl(final int personId, final boolean isShowIncluded) {
@@ -128,11 +210,20 @@ public class PeopleApi extends ApiBase {
      */
     public List<CrewCredit> getCrewCredits(final int personId, final boolean isShowIncluded) {
         final HttpUrl url = validateAndFormatCrewCreditsUrl(personId, isShowIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(CrewCredit.class));
+        return execute("PeopleApi.getCrewCredits", personId, url, new ListParser<>(CrewCredit.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCrewCredits(int, boolean)}.
+     *
+     * @param personId the person identifier
+     * @param isShowIncluded if {@code true}, include show information in the response; else, {@code false}
+     * @return the future that completes with the list of crew credits
+     * @see #getCrewCredits(int, boolean)
+     */
+    public CompletableFuture<List<CrewCredit>> getCrewCreditsAsync(final int personId, final boolean isShowIncluded) {
+        final HttpUrl url = validateAndFormatCrewCreditsUrl(personId, isShowIncluded);
+        return executeAsync("PeopleApi.getCrewCredits", personId, url, new ListParser<>(CrewCredit.class));
     }
 
     private HttpUrl validateAndFormatCrewCreditsUrl(final int personId, final boolean isShowIncluded) {
@@ -160,11 +251,22 @@ public class PeopleApi extends ApiBase {
      */
     public List<CastCredit> getGuestCastCredits(final int personId, final boolean isEpisodeIncluded) {
         final HttpUrl url = validateAndFormatGuestCastCreditsUrl(personId, isEpisodeIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(CastCredit.class));
+        return execute("PeopleApi.getGuestCastCredits", personId, url, new ListParser<>(CastCredit.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getGuestCastCredits(int, boolean)}.
+     *
+     * @param personId the person identifier
+     * @param isEpisodeIncluded if {@code true}, include episode information in the response; else, {@code false}
+     * @return the future that completes with the list of guest cast credits
+     * @see #getGuestCastCredits(int, boolean)
+     */
+    public CompletableFuture<List<CastCredit>> getGuestCastCreditsAsync(
+            final int personId,
+            final boolean isEpisodeIncluded) {
+        final HttpUrl url = validateAndFormatGuestCastCreditsUrl(personId, isEpisodeIncluded);
+        return executeAsync("PeopleApi.getGuestCastCredits", personId, url, new ListParser<>(CastCredit.class));
     }
 
     private HttpUrl validateAndFormatGuestCastCreditsUrl(final int personId, final boolean isEpisodeIncluded) {
@@ -183,20 +285,60 @@ public class PeopleApi extends ApiBase {
 
     /**
      * Gets the list of all persons in the TVMaze database. Note: This is paginated and requires manual specification
-     * of the page number with a maximum of 250 shows per response. This operation will throw a {@link RequestException}
-     * when no more pages exist.
+     * of the page number with a maximum of 250 shows per response. This operation will throw a
+     * {@link ResourceNotFoundException} when no more pages exist.
      *
      * @param pageNum the page number
      * @return the list of persons
-     * @throws RequestException if there are no more persons to return
+     * @throws ResourceNotFoundException if there are no more persons to return
      * @see Person
      */
     public List<Person> getIndex(final int pageNum) {
         final HttpUrl url = validateAndFormatIndexUrl(PEOPLE_INDEX_PATH, pageNum);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Person.class));
+        return execute("PeopleApi.getIndex", url, new ListParser<>(Person.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getIndex(int)}. The future completes exceptionally with a
+     * {@link ResourceNotFoundException} if there are no more persons to return.
+     *
+     * @param pageNum the page number
+     * @return the future that completes with the list of persons
+     * @see #getIndex(int)
+     */
+    public CompletableFuture<List<Person>> getIndexAsync(final int pageNum) {
+        final HttpUrl url = validateAndFormatIndexUrl(PEOPLE_INDEX_PATH, pageNum);
+        return executeAsync("PeopleApi.getIndex", url, new ListParser<>(Person.class));
+    }
+
+    ////////////////
+    // streamIndex
+    ////////////////
+
+    /**
+     * Gets a lazy stream of all persons in the TVMaze database, starting at the first page. Pages are fetched on demand
+     * via {@link #getIndexAsync(int)}, with the next page prefetched while the current page is consumed, and the
+     * stream ends at the first page that does not exist. The stream supports {@link Stream#parallel()} by splitting
+     * on page ranges. Closing the stream cancels the page fetches that are in flight, so a stream that is abandoned
+     * before its end (e.g., by a short-circuiting operation) should be closed.
+     *
+     * @return the stream of persons
+     * @see #getIndex(int)
+     */
+    public Stream<Person> streamIndex() {
+        return streamIndex(0);
+    }
+
+    /**
+     * Gets a lazy stream of all persons in the TVMaze database, starting at the given page.
+     *
+     * @param startPageNum the first page number
+     * @return the stream of persons
+     * @see #streamIndex()
+     */
+    public Stream<Person> streamIndex(final int startPageNum) {
+        validateId(startPageNum);
+        final IndexSpliterator<Person> spliterator = new IndexSpliterator<>(this::getIndexAsync, startPageNum);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
     }
  }
@@ -0,0 +1,52 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.connection.RequestException;
+
+/**
+ * Thrown when the service responds with HTTP 404 (Not Found), e.g., for an unknown identifier or a page number past
+ * the end of a resource index. Other client errors are reported as a plain {@link RequestException}.
+ * <p>
+ * Asynchronous calls always report a missing resource with this exception. Blocking calls rely on the
+ * {@link ExchangeListener} to observe the status code; if the connection's HTTP client is not configured with it,
+ * then a missing resource is reported as the connection's {@link RequestException}, and
+ * {@link com.amilesend.tvmaze.client.TvMaze} logs a warning when it is created for such a connection. The client's own
+ * components that treat a 404 as an expected outcome (e.g., the end of an index or a deleted resource) use
+ * asynchronous calls, so they do not depend on the listener.
+ */
+public class ResourceNotFoundException extends RequestException {
+    /**
+     * Creates a new {@code ResourceNotFoundException}.
+     *
+     * @param message the detail message
+     */
+    public ResourceNotFoundException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Creates a new {@code ResourceNotFoundException}.
+     *
+     * @param message the detail message
+     * @param cause the exception thrown by the connection
+     */
+    public ResourceNotFoundException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
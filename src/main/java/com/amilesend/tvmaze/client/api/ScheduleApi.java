@@ -21,8 +21,11 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.client.parse.parser.ListParser;
 import com.amilesend.client.util.StringUtils;
 import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.TvMazeConfig;
 import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.parse.StreamingListParser;
 import com.amilesend.tvmaze.client.parse.adapters.LocalDateTypeAdapter;
+import lombok.NonNull;
 import okhttp3.HttpUrl;
 
 import java.net.URLEncoder;
@@ -32,6 +35,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * TVMaze API to retrieve schedule information.
@@ -42,6 +47,7 @@ import java.util.Set;
 public class ScheduleApi extends ApiBase {
     private static final String SCHEDULE_API_PATH = "/schedule";
     private static final String WEB_SCHEDULE_API_PATH = SCHEDULE_API_PATH + "/web";
+    private static final String FULL_SCHEDULE_API_PATH = SCHEDULE_API_PATH + "/full";
     private static final int MAX_COUNTRY_CODE_LENGTH = 3;
     private static final Set<String> ISO_COUNTRY_CODES = Set.of(Locale.getISOCountries());
 
@@ -54,6 +60,17 @@ public class ScheduleApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code ScheduleApi} object.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public ScheduleApi(final Connection connection, final TvMazeConfig config) {
+        super(connection, config);
+    }
+
     ////////////////
     // getSchedule
     ////////////////
@@ -67,11 +84,20 @@ public class ScheduleApi extends ApiBase {
      */
     public List<Episode> getSchedule(final String countryCode, final LocalDate date) {
         final HttpUrl url = formatScheduleUrl(SCHEDULE_API_PATH, countryCode, date);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Episode.class));
+        return execute("ScheduleApi.getSchedule", url, new ListParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSchedule(String, LocalDate)}.
+     *
+     * @param countryCode the ISO 3166-1 country code (e.g., "US"), or {@code null}
+     * @param date the date, or {@code null} for the current date
+     * @return the future that completes with the list of airing episodes
+     * @see #getSchedule(String, LocalDate)
+     */
+    public CompletableFuture<List<Episode>> getScheduleAsync(final String countryCode, final LocalDate date) {
+        final HttpUrl url = formatScheduleUrl(SCHEDULE_API_PATH, countryCode, date);
+        return executeAsync("ScheduleApi.getSchedule", url, new ListParser<>(Episode.class));
     }
 
     ////////////////////////////
@@ -87,11 +113,22 @@ public class ScheduleApi extends ApiBase {
      */
     public List<Episode> getWebStreamingSchedule(final String countryCode, final LocalDate date) {
         final HttpUrl url = formatScheduleUrl(WEB_SCHEDULE_API_PATH, countryCode, date);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Episode.class));
+        return execute("ScheduleApi.getWebStreamingSchedule", url, new ListParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getWebStreamingSchedule(String, LocalDate)}.
+     *
+     * @param countryCode the ISO 3166-1 country code (e.g., "US"), or {@code null}
+     * @param date the date, or {@code null} for the current date
+     * @return the future that completes with the list of airing episodes
+     * @see #getWebStreamingSchedule(String, LocalDate)
+     */
+    public CompletableFuture<List<Episode>> getWebStreamingScheduleAsync(
+            final String countryCode,
+            final LocalDate date) {
+        final HttpUrl url = formatScheduleUrl(WEB_SCHEDULE_API_PATH, countryCode, date);
+        return executeAsync("ScheduleApi.getWebStreamingSchedule", url, new ListParser<>(Episode.class));
     }
 
     ////////////////////
@@ -104,21 +141,61 @@ public class ScheduleApi extends ApiBase {
      * @return the list of future episodes
      */
     public List<Episode> getFullSchedule() {
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(getFullScheduleUrl())
-                        .build(),
-                new ListParser<>(Episode.class));
+        return execute("ScheduleApi.getFullSchedule", getFullScheduleUrl(), new ListParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getFullSchedule()}.
+     *
+     * @return the future that completes with the list of future episodes
+     * @see #getFullSchedule()
+     */
+    public CompletableFuture<List<Episode>> getFullScheduleAsync() {
+        return executeAsync("ScheduleApi.getFullSchedule", getFullScheduleUrl(), new ListParser<>(Episode.class));
+    }
+
+    ///////////////////////
+    // streamFullSchedule
+    ///////////////////////
+
+    /**
+     * Streams all future episodes to the given {@code consumer} as they are read from the response. Unlike
+     * {@link #getFullSchedule()}, the episodes are not collected into a list so that memory usage stays bounded
+     * regardless of the response size, and the first episode is available before the download completes.
+     *
+     * @param consumer the consumer that is invoked for each episode
+     * @return the number of episodes passed to the consumer
+     */
+    public int streamFullSchedule(@NonNull final Consumer<Episode> consumer) {
+        return executeUncoalesced(
+                "ScheduleApi.streamFullSchedule",
+                getFullScheduleUrl(),
+                new StreamingListParser<>(Episode.class, consumer));
+    }
+
+    /**
+     * Asynchronous variant of {@link #streamFullSchedule(Consumer)}. The consumer is invoked on the
+     * {@link com.amilesend.tvmaze.client.TvMazeConfig#getAsyncExecutor() configured executor}.
+     *
+     * @param consumer the consumer that is invoked for each episode
+     * @return the future that completes with the number of episodes passed to the consumer
+     * @see #streamFullSchedule(Consumer)
+     */
+    public CompletableFuture<Integer> streamFullScheduleAsync(@NonNull final Consumer<Episode> consumer) {
+        return executeUncoalescedAsync(
+                "ScheduleApi.streamFullSchedule",
+                getFullScheduleUrl(),
+                new StreamingListParser<>(Episode.class, consumer));
     }
 
     private HttpUrl getFullScheduleUrl() {
-        return HttpUrl.parse(connection.getBaseUrl() + "/schedule/full");
+        return getUrlTemplate(FULL_SCHEDULE_API_PATH).newBuilder().build();
     }
 
     private HttpUrl formatScheduleUrl(final String apiPath, final String countryCode, final LocalDate date) {
         Validate.notBlank(apiPath, "apiPath must not be blank");
 
-        final HttpUrl.Builder urlBuilder = HttpUrl.parse(connection.getBaseUrl() + apiPath).newBuilder();
+        final HttpUrl.Builder urlBuilder = getUrlTemplate(apiPath).newBuilder();
         if (StringUtils.isNotBlank(countryCode)) {
             urlBuilder.addQueryParameter("country", validateAndFormatCountryCode(countryCode));
         }
@@ -21,6 +21,7 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.client.parse.parser.BasicParser;
 import com.amilesend.client.parse.parser.ListParser;
 import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.TvMazeConfig;
 import com.amilesend.tvmaze.client.model.Person;
 import com.amilesend.tvmaze.client.model.Show;
 import com.amilesend.tvmaze.client.model.type.PersonResult;
@@ -32,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 import okhttp3.HttpUrl;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -57,6 +59,17 @@ public class SearchApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code SearchApi} object.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public SearchApi(final Connection connection, final TvMazeConfig config) {
+        super(connection, config);
+    }
+
     ////////////////
     // searchShows
     ////////////////
@@ -70,11 +83,19 @@ public class SearchApi extends ApiBase {
      */
     public List<ShowResult> searchShows(final String query) {
         final HttpUrl url = validateAndFormatSearchUrl(SEARCH_SHOWS_API_PATH, query);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(ShowResult.class));
+        return execute("SearchApi.searchShows", url, new ListParser<>(ShowResult.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #searchShows(String)}.
+     *
+     * @param query the search query
+     * @return the future that completes with the list of shows for the associated query
+     * @see #searchShows(String)
+     */
+    public CompletableFuture<List<ShowResult>> searchShowsAsync(final String query) {
+        final HttpUrl url = validateAndFormatSearchUrl(SEARCH_SHOWS_API_PATH, query);
+        return executeAsync("SearchApi.searchShows", url, new ListParser<>(ShowResult.class));
     }
 
     /////////////////////
@@ -91,11 +112,22 @@ public class SearchApi extends ApiBase {
      */
     public Show singleSearchShow(final String query, final Show.EmbeddedType... includeEmbeddedTypes) {
         final HttpUrl url = validateAndFormatSearchUrl(SINGLE_SEARCH_SHOWS_API_PATH, query, includeEmbeddedTypes);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(Show.class));
+        return execute("SearchApi.singleSearchShow", url, new BasicParser<>(Show.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #singleSearchShow(String, Show.EmbeddedType...)}.
+     *
+     * @param query the search query
+     * @param includeEmbeddedTypes the optional embedded types to include in the show
+     * @return the future that completes with the tv show
+     * @see #singleSearchShow(String, Show.EmbeddedType...)
+     */
+    public CompletableFuture<Show> singleSearchShowAsync(
+            final String query,
+            final Show.EmbeddedType... includeEmbeddedTypes) {
+        final HttpUrl url = validateAndFormatSearchUrl(SINGLE_SEARCH_SHOWS_API_PATH, query, includeEmbeddedTypes);
+        return executeAsync("SearchApi.singleSearchShow", url, new BasicParser<>(Show.class));
     }
 
     ///////////////
@@ -113,16 +145,25 @@ public class SearchApi extends ApiBase {
      */
     public Show lookupShow(final ShowLookupIdType type, final String externalId) {
         final HttpUrl url = validateAndFormatLookupShowUrl(type, externalId);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(Show.class));
+        return execute("SearchApi.lookupShow", url, new BasicParser<>(Show.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #lookupShow(ShowLookupIdType, String)}.
+     *
+     * @param type the id type identifier
+     * @param externalId the external identifier
+     * @return the future that completes with the tv show
+     * @see #lookupShow(ShowLookupIdType, String)
+     */
+    public CompletableFuture<Show> lookupShowAsync(final ShowLookupIdType type, final String externalId) {
+        final HttpUrl url = validateAndFormatLookupShowUrl(type, externalId);
+        return executeAsync("SearchApi.lookupShow", url, new BasicParser<>(Show.class));
     }
 
     private HttpUrl validateAndFormatLookupShowUrl(@NonNull final ShowLookupIdType type, final String externalId) {
         final String formattedId = validateId(externalId);
-        return HttpUrl.parse(connection.getBaseUrl() + LOOKUP_SHOWS_API_PATH)
+        return getUrlTemplate(LOOKUP_SHOWS_API_PATH)
                 .newBuilder()
                 .addQueryParameter(type.getQueryParameter(), formattedId)
                 .build();
@@ -142,11 +183,19 @@ public class SearchApi extends ApiBase {
      */
     public List<PersonResult> searchPeople(final String query) {
         final HttpUrl url = validateAndFormatSearchUrl(SEARCH_PEOPLE_API_PATH, query);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(PersonResult.class));
+        return execute("SearchApi.searchPeople", url, new ListParser<>(PersonResult.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #searchPeople(String)}.
+     *
+     * @param query the search query
+     * @return the future that completes with the list of persons associated with the query
+     * @see #searchPeople(String)
+     */
+    public CompletableFuture<List<PersonResult>> searchPeopleAsync(final String query) {
+        final HttpUrl url = validateAndFormatSearchUrl(SEARCH_PEOPLE_API_PATH, query);
+        return executeAsync("SearchApi.searchPeople", url, new ListParser<>(PersonResult.class));
     }
 
     private HttpUrl validateAndFormatSearchUrl(
@@ -156,7 +205,7 @@ public class SearchApi extends ApiBase {
         Validate.notBlank(apiPath, "apiPath must not be blank");
 
         final String formattedQuery = validateQuery(query);
-        final HttpUrl.Builder urlBuilder = HttpUrl.parse(connection.getBaseUrl() + apiPath)
+        final HttpUrl.Builder urlBuilder = getUrlTemplate(apiPath)
                 .newBuilder()
                 .addQueryParameter("q", formattedQuery);
         final HttpUrl url = formatEmbeddedTypes(urlBuilder, includeEmbeddedTypes).build();
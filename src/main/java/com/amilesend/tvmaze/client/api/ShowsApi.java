@@ -18,10 +18,13 @@
 package com.amilesend.tvmaze.client.api;
 
 import com.amilesend.client.connection.Connection;
-import com.amilesend.client.connection.RequestException;
 import com.amilesend.client.parse.parser.BasicParser;
 import com.amilesend.client.parse.parser.ListParser;
 import com.amilesend.client.util.StringUtils;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.cache.CacheKey;
+import com.amilesend.tvmaze.client.cache.ResourceCache;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
 import com.amilesend.tvmaze.client.model.AlternateEpisode;
 import com.amilesend.tvmaze.client.model.AlternateList;
 import com.amilesend.tvmaze.client.model.Episode;
@@ -38,7 +41,12 @@ import okhttp3.HttpUrl;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 
 /**
@@ -55,6 +63,8 @@ public class ShowsApi extends ApiBase {
     private static final String ALTERNATE_LISTS_SUB_API_PATH = "/alternatelists";
     private static final String SEASONS_SUB_API_PATH = "/seasons";
     private static final String EPISODES_SUB_API_PATH = "/episodes";
+    private static final String EPISODE_BY_NUMBER_SUB_API_PATH = "/episodebynumber";
+    private static final String EPISODES_BY_DATE_SUB_API_PATH = "/episodesbydate";
     private static final String CAST_SUB_API_PATH = "/cast";
     private static final String CREW_SUB_API_PATH = "/crew";
     private static final String ALIASES_SUB_API_PATH = "/akas";
@@ -69,12 +79,24 @@ public class ShowsApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code ShowsApi} object.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public ShowsApi(final Connection connection, final TvMazeConfig config) {
+        super(connection, config);
+    }
+
     ////////////
     // getShow
     ////////////
 
     /**
-     * Gets the show for the given {@code showId}.
+     * Gets the show for the given {@code showId}. If a {@link TvMazeConfig#getShowCache() show cache} is configured,
+     * then the show is served from the cache when present for the same {@code showId} and embedded types.
      *
      * @param showId the show identifier
      * @param includeEmbeddedTypes the optional embedded types to include in the show
@@ -83,11 +105,59 @@ public class ShowsApi extends ApiBase {
      */
     public Show getShow(final int showId, final Show.EmbeddedType... includeEmbeddedTypes) {
         final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, StringUtils.EMPTY, includeEmbeddedTypes);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(Show.class));
+        final ResourceCache<CacheKey, Show> showCache = config.getShowCache();
+        if (Objects.isNull(showCache)) {
+            return fetchShow(showId, url);
+        }
+
+        return showCache.get(CacheKey.of(showId, includeEmbeddedTypes), key -> fetchShow(showId, url));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getShow(int, Show.EmbeddedType...)}. If a
+     * {@link TvMazeConfig#getShowCache() show cache} is configured, then a cached show is returned as a completed
+     * future.
+     *
+     * @param showId the show identifier
+     * @param includeEmbeddedTypes the optional embedded types to include in the show
+     * @return the future that completes with the show
+     * @see #getShow(int, Show.EmbeddedType...)
+     */
+    public CompletableFuture<Show> getShowAsync(final int showId, final Show.EmbeddedType... includeEmbeddedTypes) {
+        final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, StringUtils.EMPTY, includeEmbeddedTypes);
+        final ResourceCache<CacheKey, Show> showCache = config.getShowCache();
+        if (Objects.isNull(showCache)) {
+            return executeAsync("ShowsApi.getShow", showId, url, new BasicParser<>(Show.class));
+        }
+
+        return showCache.getAsync(
+                CacheKey.of(showId, includeEmbeddedTypes),
+                key -> executeAsync("ShowsApi.getShow", showId, url, new BasicParser<>(Show.class)));
+    }
+
+    private Show fetchShow(final int showId, final HttpUrl url) {
+        return execute("ShowsApi.getShow", showId, url, new BasicParser<>(Show.class));
+    }
+
+    /////////////
+    // getShows
+    /////////////
+
+    /**
+     * Gets the shows for the given {@code showIds}. Shows are fetched concurrently with at most
+     * {@link TvMazeConfig#getBulkParallelism()} requests in flight, and are subject to the configured rate limiter and
+     * show cache. A failure to fetch one show is recorded in the result and does not fail the other shows.
+     *
+     * @param showIds the show identifiers
+     * @param includeEmbeddedTypes the optional embedded types to include in each show
+     * @return the shows and failures by show identifier
+     * @see BulkResult
+     * @see Show
+     */
+    public BulkResult<Integer, Show> getShows(
+            @NonNull final Collection<Integer> showIds,
+            final Show.EmbeddedType... includeEmbeddedTypes) {
+        return executeBulk(showIds, showId -> getShowAsync(showId, includeEmbeddedTypes));
     }
 
     ////////////////
@@ -103,18 +173,26 @@ public class ShowsApi extends ApiBase {
      */
     public List<Episode> getEpisodes(final int showId, final boolean isSpecialsIncluded) {
         final HttpUrl url = validateAndFormatEpisodesUrl(showId, isSpecialsIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Episode.class));
+        return execute("ShowsApi.getEpisodes", showId, url, new ListParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEpisodes(int, boolean)}.
+     *
+     * @param showId the show identifier
+     * @param isSpecialsIncluded if {@code true}, include specials in the list; else {@code false}
+     * @return the future that completes with the list of episodes
+     * @see #getEpisodes(int, boolean)
+     */
+    public CompletableFuture<List<Episode>> getEpisodesAsync(final int showId, final boolean isSpecialsIncluded) {
+        final HttpUrl url = validateAndFormatEpisodesUrl(showId, isSpecialsIncluded);
+        return executeAsync("ShowsApi.getEpisodes", showId, url, new ListParser<>(Episode.class));
     }
 
     private HttpUrl validateAndFormatEpisodesUrl(final int showId, final boolean isSpecialsIncluded) {
         final String formattedId = validateId(showId);
         final HttpUrl.Builder urlBuilder =
-                HttpUrl.parse(connection.getBaseUrl() + SHOWS_API_PATH + formattedId + "/episodes")
-                        .newBuilder();
+                getUrlTemplate(SHOWS_API_PATH, EPISODES_SUB_API_PATH).newBuilder(formattedId);
         if (isSpecialsIncluded) {
             urlBuilder.addQueryParameter("specials", "1");
         }
@@ -135,11 +213,19 @@ public class ShowsApi extends ApiBase {
      */
     public List<AlternateList> getAlternateLists(final int showId) {
         final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, ALTERNATE_LISTS_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(AlternateList.class));
+        return execute("ShowsApi.getAlternateLists", showId, url, new ListParser<>(AlternateList.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAlternateLists(int)}.
+     *
+     * @param showId the show identifier
+     * @return the future that completes with the list of alternate episodes lists
+     * @see #getAlternateLists(int)
+     */
+    public CompletableFuture<List<AlternateList>> getAlternateListsAsync(final int showId) {
+        final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, ALTERNATE_LISTS_SUB_API_PATH);
+        return executeAsync("ShowsApi.getAlternateLists", showId, url, new ListParser<>(AlternateList.class));
     }
 
     /////////////////////
@@ -157,11 +243,23 @@ public class ShowsApi extends ApiBase {
      */
     public AlternateList getAlternateList(final int alternateListId, final boolean isAlternateEpisodesIncluded) {
         final HttpUrl url = validateAndFormatAlternateListsUrl(alternateListId, isAlternateEpisodesIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(AlternateList.class));
+        return execute("ShowsApi.getAlternateList", url, new BasicParser<>(AlternateList.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAlternateList(int, boolean)}.
+     *
+     * @param alternateListId the alternate episode list
+     * @param isAlternateEpisodesIncluded if {@code true}, includes the list of embedded alternate episodes; else,
+     *                                    {@code false}
+     * @return the future that completes with the alternate episode list
+     * @see #getAlternateList(int, boolean)
+     */
+    public CompletableFuture<AlternateList> getAlternateListAsync(
+            final int alternateListId,
+            final boolean isAlternateEpisodesIncluded) {
+        final HttpUrl url = validateAndFormatAlternateListsUrl(alternateListId, isAlternateEpisodesIncluded);
+        return executeAsync("ShowsApi.getAlternateList", url, new BasicParser<>(AlternateList.class));
     }
 
     private HttpUrl validateAndFormatAlternateListsUrl(
@@ -190,11 +288,22 @@ public class ShowsApi extends ApiBase {
      */
     public List<AlternateEpisode> getAlternateEpisodes(final int alternateListId, final boolean isEpisodesIncluded) {
         final HttpUrl url = validateAndFormatAlternateEpisodesUrl(alternateListId, isEpisodesIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(AlternateEpisode.class));
+        return execute("ShowsApi.getAlternateEpisodes", url, new ListParser<>(AlternateEpisode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAlternateEpisodes(int, boolean)}.
+     *
+     * @param alternateListId the alternate list identifier
+     * @param isEpisodesIncluded if {@code true}, includes the associated {@link Episode}; else, {@code false}
+     * @return the future that completes with the list of alternate episodes
+     * @see #getAlternateEpisodes(int, boolean)
+     */
+    public CompletableFuture<List<AlternateEpisode>> getAlternateEpisodesAsync(
+            final int alternateListId,
+            final boolean isEpisodesIncluded) {
+        final HttpUrl url = validateAndFormatAlternateEpisodesUrl(alternateListId, isEpisodesIncluded);
+        return executeAsync("ShowsApi.getAlternateEpisodes", url, new ListParser<>(AlternateEpisode.class));
     }
 
     private HttpUrl validateAndFormatAlternateEpisodesUrl(
@@ -224,11 +333,21 @@ public class ShowsApi extends ApiBase {
      */
     public Episode getEpisode(final int showId, final int seasonNum, final int episodeNum) {
         final HttpUrl url = validateAndFormatEpisodeUrl(showId, seasonNum, episodeNum);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new BasicParser<>(Episode.class));
+        return execute("ShowsApi.getEpisode", showId, url, new BasicParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEpisode(int, int, int)}.
+     *
+     * @param showId the show identifier
+     * @param seasonNum the season number
+     * @param episodeNum the associated episode number for the season
+     * @return the future that completes with the episode
+     * @see #getEpisode(int, int, int)
+     */
+    public CompletableFuture<Episode> getEpisodeAsync(final int showId, final int seasonNum, final int episodeNum) {
+        final HttpUrl url = validateAndFormatEpisodeUrl(showId, seasonNum, episodeNum);
+        return executeAsync("ShowsApi.getEpisode", showId, url, new BasicParser<>(Episode.class));
     }
 
     private HttpUrl validateAndFormatEpisodeUrl(
@@ -238,8 +357,8 @@ public class ShowsApi extends ApiBase {
         final String formattedShowId = validateId(showId);
         final String formattedSeasonNum = validateId(seasonNum);
         final String formattedEpisodeNum = validateId(episodeNum);
-        return HttpUrl.parse(connection.getBaseUrl() + SHOWS_API_PATH + formattedShowId + "/episodebynumber")
-                .newBuilder()
+        return getUrlTemplate(SHOWS_API_PATH, EPISODE_BY_NUMBER_SUB_API_PATH)
+                .newBuilder(formattedShowId)
                 .addQueryParameter("season", formattedSeasonNum)
                 .addQueryParameter("number", formattedEpisodeNum)
                 .build();
@@ -259,18 +378,27 @@ public class ShowsApi extends ApiBase {
      */
     public List<Episode> getEpisodes(final int showId, final LocalDate date) {
         final HttpUrl url = validateAndFormatEpisodesUrl(showId, date);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Episode.class));
+        return execute("ShowsApi.getEpisodesByDate", showId, url, new ListParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getEpisodes(int, LocalDate)}.
+     *
+     * @param showId the show identifier
+     * @param date the date of airing
+     * @return the future that completes with the list of episodes
+     * @see #getEpisodes(int, LocalDate)
+     */
+    public CompletableFuture<List<Episode>> getEpisodesAsync(final int showId, final LocalDate date) {
+        final HttpUrl url = validateAndFormatEpisodesUrl(showId, date);
+        return executeAsync("ShowsApi.getEpisodesByDate", showId, url, new ListParser<>(Episode.class));
     }
 
     private HttpUrl validateAndFormatEpisodesUrl(final int showId, final LocalDate date) {
         final String formattedShowId = validateId(showId);
         final String formattedDate = validateAndFormatDate(date);
-        return HttpUrl.parse(connection.getBaseUrl() + "/shows/" + formattedShowId + "/episodesbydate")
-                .newBuilder()
+        return getUrlTemplate(SHOWS_API_PATH, EPISODES_BY_DATE_SUB_API_PATH)
+                .newBuilder(formattedShowId)
                 .addQueryParameter("date", formattedDate)
                 .build();
     }
@@ -288,11 +416,19 @@ public class ShowsApi extends ApiBase {
      */
     public List<Season> getSeasons(final int showId) {
         final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, SEASONS_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Season.class));
+        return execute("ShowsApi.getSeasons", showId, url, new ListParser<>(Season.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSeasons(int)}.
+     *
+     * @param showId the show identifier
+     * @return the future that completes with the list of seasons
+     * @see #getSeasons(int)
+     */
+    public CompletableFuture<List<Season>> getSeasonsAsync(final int showId) {
+        final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, SEASONS_SUB_API_PATH);
+        return executeAsync("ShowsApi.getSeasons", showId, url, new ListParser<>(Season.class));
     }
 
     //////////////////////
@@ -309,11 +445,22 @@ public class ShowsApi extends ApiBase {
      */
     public List<Episode> getSeasonEpisodes(final int seasonId, final boolean isGuestCastIncluded) {
         final HttpUrl url = validateAndFormatSeasonEpisodesUrl(seasonId, isGuestCastIncluded);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Episode.class));
+        return execute("ShowsApi.getSeasonEpisodes", url, new ListParser<>(Episode.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getSeasonEpisodes(int, boolean)}.
+     *
+     * @param seasonId the season identifier
+     * @param isGuestCastIncluded if {@code true}, returns the list of guest cast members; else {@code false}
+     * @return the future that completes with the list of episodes
+     * @see #getSeasonEpisodes(int, boolean)
+     */
+    public CompletableFuture<List<Episode>> getSeasonEpisodesAsync(
+            final int seasonId,
+            final boolean isGuestCastIncluded) {
+        final HttpUrl url = validateAndFormatSeasonEpisodesUrl(seasonId, isGuestCastIncluded);
+        return executeAsync("ShowsApi.getSeasonEpisodes", url, new ListParser<>(Episode.class));
     }
 
     private HttpUrl validateAndFormatSeasonEpisodesUrl(final int seasonId, final boolean isGuestCastIncluded) {
@@ -339,11 +486,19 @@ public class ShowsApi extends ApiBase {
      */
     public List<CastMember> getCast(final int showId) {
         final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, CAST_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(CastMember.class));
+        return execute("ShowsApi.getCast", showId, url, new ListParser<>(CastMember.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCast(int)}.
+     *
+     * @param showId the show identifier
+     * @return the future that completes with the list of cast members
+     * @see #getCast(int)
+     */
+    public CompletableFuture<List<CastMember>> getCastAsync(final int showId) {
+        final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, CAST_SUB_API_PATH);
+        return executeAsync("ShowsApi.getCast", showId, url, new ListParser<>(CastMember.class));
     }
 
     ////////////
@@ -359,11 +514,19 @@ public class ShowsApi extends ApiBase {
      */
     public List<CrewMember> getCrew(final int showId) {
         final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, CREW_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(CrewMember.class));
+        return execute("ShowsApi.getCrew", showId, url, new ListParser<>(CrewMember.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getCrew(int)}.
+     *
+     * @param showId the show identifier
+     * @return the future that completes with the list of crew members
+     * @see #getCrew(int)
+     */
+    public CompletableFuture<List<CrewMember>> getCrewAsync(final int showId) {
+        final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, CREW_SUB_API_PATH);
+        return executeAsync("ShowsApi.getCrew", showId, url, new ListParser<>(CrewMember.class));
     }
 
     ///////////////
@@ -379,11 +542,19 @@ public class ShowsApi extends ApiBase {
      */
     public List<Alias> getAliases(final int showId) {
         final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, ALIASES_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Alias.class));
+        return execute("ShowsApi.getAliases", showId, url, new ListParser<>(Alias.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getAliases(int)}.
+     *
+     * @param showId the show identifier
+     * @return the future that completes with the list of aliases
+     * @see #getAliases(int)
+     */
+    public CompletableFuture<List<Alias>> getAliasesAsync(final int showId) {
+        final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, ALIASES_SUB_API_PATH);
+        return executeAsync("ShowsApi.getAliases", showId, url, new ListParser<>(Alias.class));
     }
 
     //////////////
@@ -399,11 +570,19 @@ public class ShowsApi extends ApiBase {
      */
     public List<Image> getImages(final int showId) {
         final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, IMAGES_SUB_API_PATH);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Image.class));
+        return execute("ShowsApi.getImages", showId, url, new ListParser<>(Image.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getImages(int)}.
+     *
+     * @param showId the show identifier
+     * @return the future that completes with the list of images
+     * @see #getImages(int)
+     */
+    public CompletableFuture<List<Image>> getImagesAsync(final int showId) {
+        final HttpUrl url = validateAndFormatUrl(SHOWS_API_PATH, showId, IMAGES_SUB_API_PATH);
+        return executeAsync("ShowsApi.getImages", showId, url, new ListParser<>(Image.class));
     }
 
     /////////////
@@ -412,20 +591,60 @@ public class ShowsApi extends ApiBase {
 
     /**
      * Gets the list of all shows in the TVMaze database. Note: This is paginated and requires manual specification
-     * of the page number with a maximum of 250 shows per response. This operation will throw a {@link RequestException}
-     * when no more pages exist.
+     * of the page number with a maximum of 250 shows per response. This operation will throw a
+     * {@link ResourceNotFoundException} when no more pages exist.
      *
      * @param pageNum the page number
      * @return the list of shows
-     * @throws RequestException if there are no more shows to return
+     * @throws ResourceNotFoundException if there are no more shows to return
      */
     public List<Show> getIndex(final int pageNum) {
         final HttpUrl url = validateAndFormatIndexUrl(SHOWS_INDEX_API_PATH, pageNum);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new ListParser<>(Show.class));
+        return execute("ShowsApi.getIndex", url, new ListParser<>(Show.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getIndex(int)}. The future completes exceptionally with a
+     * {@link ResourceNotFoundException} if there are no more shows to return.
+     *
+     * @param pageNum the page number
+     * @return the future that completes with the list of shows
+     * @see #getIndex(int)
+     */
+    public CompletableFuture<List<Show>> getIndexAsync(final int pageNum) {
+        final HttpUrl url = validateAndFormatIndexUrl(SHOWS_INDEX_API_PATH, pageNum);
+        return executeAsync("ShowsApi.getIndex", url, new ListParser<>(Show.class));
+    }
+
+    ////////////////
+    // streamIndex
+    ////////////////
+
+    /**
+     * Gets a lazy stream of all shows in the TVMaze database, starting at the first page. Pages are fetched on demand
+     * via {@link #getIndexAsync(int)}, with the next page prefetched while the current page is consumed, and the
+     * stream ends at the first page that does not exist. The stream supports {@link Stream#parallel()} by splitting
+     * on page ranges. Closing the stream cancels the page fetches that are in flight, so a stream that is abandoned
+     * before its end (e.g., by a short-circuiting operation) should be closed.
+     *
+     * @return the stream of shows
+     * @see #getIndex(int)
+     */
+    public Stream<Show> streamIndex() {
+        return streamIndex(0);
+    }
+
+    /**
+     * Gets a lazy stream of all shows in the TVMaze database, starting at the given page.
+     *
+     * @param startPageNum the first page number
+     * @return the stream of shows
+     * @see #streamIndex()
+     */
+    public Stream<Show> streamIndex(final int startPageNum) {
+        validateId(startPageNum);
+        final IndexSpliterator<Show> spliterator = new IndexSpliterator<>(this::getIndexAsync, startPageNum);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
     }
 
     private static String validateAndFormatDate(@NonNull final LocalDate date) {
@@ -20,12 +20,16 @@ package com.amilesend.tvmaze.client.api;
 import com.amilesend.client.connection.Connection;
 import com.amilesend.client.parse.parser.MapParser;
 import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.parse.IntLongMapParser;
+import com.amilesend.tvmaze.client.util.IntLongMap;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import okhttp3.HttpUrl;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 
 /**
@@ -47,6 +51,17 @@ public class UpdatesApi extends ApiBase {
         super(connection);
     }
 
+    /**
+     * Creates a new {@code UpdateApi} object.
+     *
+     * @param connection the connection
+     * @param config the optional client features
+     * @see TvMazeConfig
+     */
+    public UpdatesApi(final Connection connection, final TvMazeConfig config) {
+        super(connection, config);
+    }
+
     ///////////////////
     // getShowUpdates
     ///////////////////
@@ -59,11 +74,51 @@ public class UpdatesApi extends ApiBase {
      */
     public Map<Integer, Long> getShowUpdates(final Since since) {
         final HttpUrl url = validateAndFormatUpdatesUrl(SHOW_UPDATES_API_PATH, since);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new MapParser<>(Integer.class, Long.class));
+        return execute("UpdatesApi.getShowUpdates", url, new MapParser<>(Integer.class, Long.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getShowUpdates(Since)}.
+     *
+     * @param since specifies the time range limit to apply to the query. Note: can be {@code null} for all tv shows
+     * @return the future that completes with a map of updates with the key as the show identifier and the value as
+     *         the last updated timestamp
+     * @see #getShowUpdates(Since)
+     */
+    public CompletableFuture<Map<Integer, Long>> getShowUpdatesAsync(final Since since) {
+        final HttpUrl url = validateAndFormatUpdatesUrl(SHOW_UPDATES_API_PATH, since);
+        return executeAsync("UpdatesApi.getShowUpdates", url, new MapParser<>(Integer.class, Long.class));
+    }
+
+    //////////////////////
+    // getShowUpdatesMap
+    //////////////////////
+
+    /**
+     * Retrieves the shows in the TVMaze database and the corresponding last updated timestamp as a primitive map.
+     * Prefer this over {@link #getShowUpdates(Since)} for large result sets (e.g., {@code since} is {@code null}) as
+     * keys and values are not boxed.
+     *
+     * @param since specifies the time range limit to apply to the query. Note: can be {@code null} for all tv shows
+     * @return a map of updates with the key as the show identifier and the value as the last updated timestamp
+     * @see IntLongMap
+     */
+    public IntLongMap getShowUpdatesMap(final Since since) {
+        final HttpUrl url = validateAndFormatUpdatesUrl(SHOW_UPDATES_API_PATH, since);
+        return execute("UpdatesApi.getShowUpdatesMap", url, new IntLongMapParser());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getShowUpdatesMap(Since)}.
+     *
+     * @param since specifies the time range limit to apply to the query. Note: can be {@code null} for all tv shows
+     * @return the future that completes with a map of updates with the key as the show identifier and the value as
+     *         the last updated timestamp
+     * @see #getShowUpdatesMap(Since)
+     */
+    public CompletableFuture<IntLongMap> getShowUpdatesMapAsync(final Since since) {
+        final HttpUrl url = validateAndFormatUpdatesUrl(SHOW_UPDATES_API_PATH, since);
+        return executeAsync("UpdatesApi.getShowUpdatesMap", url, new IntLongMapParser());
     }
 
     /////////////////////
@@ -78,17 +133,57 @@ public class UpdatesApi extends ApiBase {
      */
     public Map<Integer, Long> getPersonUpdates(final Since since) {
         final HttpUrl url = validateAndFormatUpdatesUrl(PERSON_UPDATES_API_PATH, since);
-        return connection.execute(
-                connection.newRequestBuilder()
-                        .url(url)
-                        .build(),
-                new MapParser<>(Integer.class, Long.class));
+        return execute("UpdatesApi.getPersonUpdates", url, new MapParser<>(Integer.class, Long.class));
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPersonUpdates(Since)}.
+     *
+     * @param since specifies the time range limit to apply to the query. Note: can be {@code null} for all people
+     * @return the future that completes with a map of updates with the key as the person identifier and the value as
+     *         the last updated timestamp
+     * @see #getPersonUpdates(Since)
+     */
+    public CompletableFuture<Map<Integer, Long>> getPersonUpdatesAsync(final Since since) {
+        final HttpUrl url = validateAndFormatUpdatesUrl(PERSON_UPDATES_API_PATH, since);
+        return executeAsync("UpdatesApi.getPersonUpdates", url, new MapParser<>(Integer.class, Long.class));
+    }
+
+    ////////////////////////
+    // getPersonUpdatesMap
+    ////////////////////////
+
+    /**
+     * Retrieves the persons in the TVMaze database and the corresponding last updated timestamp as a primitive map.
+     * Prefer this over {@link #getPersonUpdates(Since)} for large result sets (e.g., {@code since} is {@code null})
+     * as keys and values are not boxed.
+     *
+     * @param since specifies the time range limit to apply to the query. Note: can be {@code null} for all people
+     * @return a map of updates with the key as the person identifier and the value as the last updated timestamp
+     * @see IntLongMap
+     */
+    public IntLongMap getPersonUpdatesMap(final Since since) {
+        final HttpUrl url = validateAndFormatUpdatesUrl(PERSON_UPDATES_API_PATH, since);
+        return execute("UpdatesApi.getPersonUpdatesMap", url, new IntLongMapParser());
+    }
+
+    /**
+     * Asynchronous variant of {@link #getPersonUpdatesMap(Since)}.
+     *
+     * @param since specifies the time range limit to apply to the query. Note: can be {@code null} for all people
+     * @return the future that completes with a map of updates with the key as the person identifier and the value as
+     *         the last updated timestamp
+     * @see #getPersonUpdatesMap(Since)
+     */
+    public CompletableFuture<IntLongMap> getPersonUpdatesMapAsync(final Since since) {
+        final HttpUrl url = validateAndFormatUpdatesUrl(PERSON_UPDATES_API_PATH, since);
+        return executeAsync("UpdatesApi.getPersonUpdatesMap", url, new IntLongMapParser());
     }
 
     private HttpUrl validateAndFormatUpdatesUrl(final String apiPath, final Since since) {
         Validate.notBlank(apiPath, "apiPath must not be blank");
 
-        final HttpUrl.Builder urlBuilder = HttpUrl.parse(connection.getBaseUrl() + apiPath).newBuilder();
+        final HttpUrl.Builder urlBuilder = getUrlTemplate(apiPath).newBuilder();
         if (Objects.nonNull(since)) {
             urlBuilder.addQueryParameter("since", since.getQueryParameter());
         }
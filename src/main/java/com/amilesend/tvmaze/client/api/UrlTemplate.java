@@ -0,0 +1,112 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.util.Validate;
+import lombok.NonNull;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A request URL whose base URL and literal path segments are parsed once, so that building a URL for a request only
+ * appends the placeholder values (e.g., resource identifiers) and query parameters instead of concatenating and
+ * re-parsing the full URL string.
+ * <p>
+ * Path templates are absolute paths (e.g., {@code /shows/{}/episodes}) where each {@value #PLACEHOLDER} segment is
+ * replaced by a value. Values are encoded as a single path segment. Only templates with at most one placeholder are
+ * currently supported, as no API path has more.
+ */
+final class UrlTemplate {
+    /** The path segment that is replaced by a value. */
+    static final String PLACEHOLDER = "{}";
+
+    /** The base URL and the literal path segments that precede the first placeholder. */
+    private final HttpUrl prefix;
+    /** The path segments that follow the first placeholder, with {@code null} elements for placeholders. */
+    private final String[] segments;
+    private final int placeholderCount;
+
+    private UrlTemplate(final HttpUrl prefix, final String[] segments, final int placeholderCount) {
+        this.prefix = prefix;
+        this.segments = segments;
+        this.placeholderCount = placeholderCount;
+    }
+
+    /**
+     * Parses the given path template relative to the base URL.
+     *
+     * @param baseUrl the base URL
+     * @param pathTemplate the absolute path template (e.g., {@code /shows/{}/episodes})
+     * @return the template
+     */
+    static UrlTemplate parse(@NonNull final HttpUrl baseUrl, @NonNull final String pathTemplate) {
+        Validate.isTrue(pathTemplate.startsWith("/"), "pathTemplate must start with /");
+
+        final HttpUrl.Builder prefixBuilder = baseUrl.newBuilder();
+        final List<String> segments = new ArrayList<>();
+        int placeholderCount = 0;
+        for (final String segment : pathTemplate.substring(1).split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+
+            if (PLACEHOLDER.equals(segment)) {
+                segments.add(null);
+                ++placeholderCount;
+            } else if (placeholderCount == 0) {
+                prefixBuilder.addPathSegment(segment);
+            } else {
+                segments.add(segment);
+            }
+        }
+        Validate.isTrue(placeholderCount <= 1, "pathTemplate must have at most one placeholder");
+
+        return new UrlTemplate(prefixBuilder.build(), segments.toArray(new String[0]), placeholderCount);
+    }
+
+    /**
+     * Gets a new builder for a template without placeholders.
+     *
+     * @return the URL builder
+     */
+    HttpUrl.Builder newBuilder() {
+        Validate.isTrue(placeholderCount == 0, "pathTemplate must not have placeholders");
+
+        return prefix.newBuilder();
+    }
+
+    /**
+     * Gets a new builder for a template with a single placeholder.
+     *
+     * @param value the placeholder value
+     * @return the URL builder
+     */
+    HttpUrl.Builder newBuilder(@NonNull final String value) {
+        Validate.isTrue(placeholderCount == 1, "pathTemplate must have a single placeholder");
+
+        final HttpUrl.Builder builder = prefix.newBuilder();
+        for (final String segment : segments) {
+            builder.addPathSegment(Objects.isNull(segment) ? value : segment);
+        }
+
+        return builder;
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.api.ResourceNotFoundException;
+import com.amilesend.tvmaze.client.api.UpdatesApi;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keeps the {@link TvMazeConfig#getShowCache() show} and {@link TvMazeConfig#getPersonCache() person} caches of a
+ * {@link TvMaze} client consistent with the TVMaze database by periodically polling the {@link UpdatesApi}. Only
+ * cached entries whose {@code updated} timestamp is older than the timestamp reported by the updates endpoint are
+ * evicted (or refreshed), which allows the caches to be configured with a long time-to-live.
+ * <p>
+ * The first poll requests all updates since the caches may hold entries that were cached before the invalidator was
+ * created. Each subsequent poll requests the updates for the smallest {@link UpdatesApi.Since} window that covers
+ * the time since the start of the last successful poll, so changes are not lost when polls are missed or fail for
+ * more than a day.
+ * <p>
+ * Example:
+ * <pre>
+ * TvMaze client = new TvMaze(TvMazeConfig.builder()
+ *         .showCache(ResourceCache.&lt;CacheKey, Show&gt;builder().ttl(Duration.ofDays(7L)).build())
+ *         .build());
+ * CacheInvalidator invalidator = CacheInvalidator.builder()
+ *         .client(client)
+ *         .pollInterval(Duration.ofMinutes(30L))
+ *         .build();
+ * invalidator.start();
+ * </pre>
+ */
+@Slf4j
+public class CacheInvalidator implements AutoCloseable {
+    /** The default interval between polls of the updates endpoints. */
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofHours(1L);
+
+    private static final long DAY_NANOS = Duration.ofDays(1L).toNanos();
+    private static final long WEEK_NANOS = Duration.ofDays(7L).toNanos();
+    /** TVMaze reports a month of updates as the past 30 days. */
+    private static final long MONTH_NANOS = Duration.ofDays(30L).toNanos();
+
+    private final TvMaze client;
+    private final UpdatesApi updatesApi;
+    @Getter
+    private final Strategy strategy;
+    @Getter
+    private final Duration pollInterval;
+    private final ScheduledExecutorService executor;
+    private final boolean isExecutorOwned;
+    private final LongSupplier ticker;
+    /** The ticker value at the start of the last successful poll, or {@code null} if none has succeeded yet. */
+    private volatile Long lastPolledAtNanos;
+    private ScheduledFuture<?> scheduledPoll;
+
+    /**
+     * Creates a new {@code CacheInvalidator}.
+     *
+     * @param client the client whose caches are invalidated
+     * @param strategy how changed entries are handled (default: {@link Strategy#EVICT})
+     * @param pollInterval the interval between polls; must be less than one day so that a poll on schedule only
+     *                     requests the updates for the past day (default: {@link #DEFAULT_POLL_INTERVAL})
+     * @param executor the optional executor used to schedule polls. If {@code null}, then a single daemon thread is
+     *                 created and shut down when this invalidator is closed
+     * @param ticker the nanosecond time source (default: {@link System#nanoTime()})
+     */
+    @Builder
+    private CacheInvalidator(
+            @NonNull final TvMaze client,
+            final Strategy strategy,
+            final Duration pollInterval,
+            final ScheduledExecutorService executor,
+            final LongSupplier ticker) {
+        this.client = client;
+        this.updatesApi = client.getUpdatesApi();
+        this.strategy = Optional.ofNullable(strategy).orElse(Strategy.EVICT);
+        this.pollInterval = Optional.ofNullable(pollInterval).orElse(DEFAULT_POLL_INTERVAL);
+        Validate.isTrue(!this.pollInterval.isNegative() && !this.pollInterval.isZero(),
+                "pollInterval must be positive");
+        Validate.isTrue(this.pollInterval.compareTo(Duration.ofDays(1L)) < 0,
+                "pollInterval must be less than one day");
+        this.isExecutorOwned = Objects.isNull(executor);
+        this.executor = isExecutorOwned ? newDefaultExecutor() : executor;
+        this.ticker = Optional.ofNullable(ticker).orElse(System::nanoTime);
+    }
+
+    /** Schedules polling at the configured {@link #getPollInterval() interval}. Has no effect if already started. */
+    public synchronized void start() {
+        if (Objects.nonNull(scheduledPoll)) {
+            return;
+        }
+
+        final long intervalMillis = pollInterval.toMillis();
+        scheduledPoll = executor.scheduleWithFixedDelay(
+                this::pollSafely,
+                intervalMillis,
+                intervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** Stops polling and, if the executor was created by this invalidator, shuts it down. */
+    @Override
+    public synchronized void close() {
+        if (Objects.nonNull(scheduledPoll)) {
+            scheduledPoll.cancel(false);
+            scheduledPoll = null;
+        }
+
+        if (isExecutorOwned) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Polls the updates endpoints once and invalidates the changed cache entries. Endpoints are only queried for
+     * caches that are configured and non-empty. With {@link Strategy#REFRESH}, the changed entries of both caches are
+     * invalidated before any is refreshed, and a failed refresh leaves its entry evicted without affecting the others.
+     *
+     * @return the number of cache entries that were evicted or refreshed
+     */
+    public int poll() {
+        final TvMazeConfig config = client.getConfig();
+        final long startedAtNanos = ticker.getAsLong();
+        final Long previousPolledAtNanos = lastPolledAtNanos;
+        // The first poll cannot tell how long the cached entries have been cached, so it requests all updates
+        final UpdatesApi.Since since = Objects.isNull(previousPolledAtNanos)
+                ? null
+                : toSince(startedAtNanos - previousPolledAtNanos);
+
+        final ResourceCache<CacheKey, Show> showCache = config.getShowCache();
+        final List<CacheKey> changedShowKeys = invalidateChanged(
+                showCache,
+                () -> updatesApi.getShowUpdatesMap(since),
+                Show::getUpdated);
+        final ResourceCache<CacheKey, Person> personCache = config.getPersonCache();
+        final List<CacheKey> changedPersonKeys = invalidateChanged(
+                personCache,
+                () -> updatesApi.getPersonUpdatesMap(since),
+                Person::getUpdated);
+        lastPolledAtNanos = startedAtNanos;
+
+        if (strategy == Strategy.REFRESH) {
+            refresh(changedShowKeys,
+                    key -> client.getShowsApi().getShowAsync(key.getId(), toShowEmbeddedTypes(key)));
+            refresh(changedPersonKeys,
+                    key -> client.getPeopleApi().getPersonAsync(key.getId(), !key.getEmbeddedTypes().isEmpty()));
+        }
+
+        return changedShowKeys.size() + changedPersonKeys.size();
+    }
+
+    private void pollSafely() {
+        try {
+            final int changedCount = poll();
+            if (log.isDebugEnabled()) {
+                log.debug("Invalidated {} cache entries", changedCount);
+            }
+        } catch (final RuntimeException ex) {
+            // Swallowed so that subsequent polls remain scheduled
+            log.warn("Unable to poll for updates", ex);
+        }
+    }
+
+    private static <V> List<CacheKey> invalidateChanged(
+            final ResourceCache<CacheKey, V> cache,
+            final Supplier<IntLongMap> updatesSupplier,
+            final ToLongFunction<V> updatedFn) {
+        if (Objects.isNull(cache) || cache.size() == 0) {
+            return List.of();
+        }
+
+        return cache.invalidateStale(updatesSupplier.get(), CacheKey::getId, updatedFn);
+    }
+
+    private static void refresh(final List<CacheKey> keys, final Function<CacheKey, CompletableFuture<?>> fetcher) {
+        for (final CacheKey key : keys) {
+            try {
+                // The asynchronous call reports a 404 as a ResourceNotFoundException regardless of the connection
+                fetcher.apply(key).join();
+            } catch (final RuntimeException ex) {
+                final Throwable cause = ex instanceof CompletionException && Objects.nonNull(ex.getCause())
+                        ? ex.getCause()
+                        : ex;
+                if (cause instanceof ResourceNotFoundException) {
+                    // The resource was deleted upstream, so it stays evicted
+                    log.debug("Resource {} no longer exists", key.getId());
+                } else {
+                    // Left evicted so that it is fetched on the next request
+                    log.warn("Unable to refresh resource {}", key.getId(), cause);
+                }
+            }
+        }
+    }
+
+    /** Gets the smallest updates window that covers the given elapsed time, or {@code null} for all updates. */
+    private static UpdatesApi.Since toSince(final long elapsedNanos) {
+        if (elapsedNanos < DAY_NANOS) {
+            return UpdatesApi.Since.DAY;
+        } else if (elapsedNanos < WEEK_NANOS) {
+            return UpdatesApi.Since.WEEK;
+        } else if (elapsedNanos < MONTH_NANOS) {
+            return UpdatesApi.Since.MONTH;
+        }
+
+        return null;
+    }
+
+    private static Show.EmbeddedType[] toShowEmbeddedTypes(final CacheKey key) {
+        return key.getEmbeddedTypes().stream()
+                .map(Show.EmbeddedType.class::cast)
+                .toArray(Show.EmbeddedType[]::new);
+    }
+
+    private static ScheduledExecutorService newDefaultExecutor() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "tvmaze-cache-invalidator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** Describes how changed cache entries are handled. */
+    public enum Strategy {
+        /** Remove the changed entry so that it is fetched on the next request. */
+        EVICT,
+        /** Remove the changed entry and eagerly fetch its latest version. */
+        REFRESH
+    }
+}
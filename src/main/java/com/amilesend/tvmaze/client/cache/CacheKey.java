@@ -0,0 +1,64 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import com.amilesend.tvmaze.client.model.EmbeddedQueryParameter;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Identifies a cached resource by its identifier and the set of embedded types that were requested with it, as the
+ * same resource fetched with different embedded types results in different payloads.
+ */
+@EqualsAndHashCode
+@Getter
+@ToString
+public class CacheKey {
+    /** The resource identifier. */
+    private final int id;
+    /** The requested embedded types. */
+    private final Set<EmbeddedQueryParameter> embeddedTypes;
+
+    private CacheKey(final int id, final Set<EmbeddedQueryParameter> embeddedTypes) {
+        this.id = id;
+        this.embeddedTypes = embeddedTypes;
+    }
+
+    /**
+     * Creates a new {@code CacheKey}. The order of the embedded types is not significant.
+     *
+     * @param id the resource identifier
+     * @param embeddedTypes the optional embedded types
+     * @return the cache key
+     */
+    public static CacheKey of(final int id, final EmbeddedQueryParameter... embeddedTypes) {
+        if (Objects.isNull(embeddedTypes) || embeddedTypes.length == 0) {
+            return new CacheKey(id, Set.of());
+        }
+
+        return new CacheKey(id, Arrays.stream(embeddedTypes)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+}
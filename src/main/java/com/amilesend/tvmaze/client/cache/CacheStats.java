@@ -0,0 +1,45 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import lombok.Builder;
+import lombok.Data;
+
+/** A point-in-time snapshot of the counters for a {@link ResourceCache}. */
+@Builder
+@Data
+public class CacheStats {
+    /** The number of lookups that returned a cached value. */
+    private final long hitCount;
+    /** The number of lookups that did not find a cached (or unexpired) value. */
+    private final long missCount;
+    /** The number of entries removed because the cache exceeded its maximum size. */
+    private final long evictionCount;
+    /** The number of entries removed because their time-to-live elapsed. */
+    private final long expirationCount;
+
+    /**
+     * Gets the ratio of lookups that were hits.
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}
+     */
+    public double getHitRatio() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0L ? 1.0D : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import lombok.Builder;
+import lombok.Data;
+
+/** A point-in-time snapshot of the counters for an {@link HttpResponseCache}. */
+@Builder
+@Data
+public class HttpCacheStats {
+    /** The number of HTTP requests that were eligible for caching. */
+    private final long requestCount;
+    /** The number of requests that were sent to the network, including conditional revalidation requests. */
+    private final long networkCount;
+    /** The number of requests served from the cache, including responses revalidated by the service. */
+    private final long hitCount;
+    /**
+     * The number of stale cached responses that were revalidated by the service (i.e., a conditional request with
+     * {@code If-None-Match} or {@code If-Modified-Since} returned {@code 304 Not Modified}).
+     */
+    private final long revalidatedHitCount;
+    /** The number of bytes currently stored in the cache. */
+    private final long sizeBytes;
+    /** The maximum number of bytes stored in the cache. */
+    private final long maxSizeBytes;
+
+    /**
+     * Gets the number of requests served from the cache without contacting the service.
+     *
+     * @return the number of requests served from the cache without a network request
+     */
+    public long getOfflineHitCount() {
+        return hitCount - revalidatedHitCount;
+    }
+
+    /**
+     * Gets the ratio of requests that were served from the cache (with or without revalidation).
+     *
+     * @return the hit ratio between {@code 0.0} and {@code 1.0}
+     */
+    public double getHitRatio() {
+        return requestCount == 0L ? 1.0D : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * An on-disk cache of HTTP responses that persists across restarts. Responses are cached and revalidated as directed
+ * by the service's {@code Cache-Control}, {@code ETag} and {@code Last-Modified} response headers: fresh responses
+ * are served without a network request, and stale responses are revalidated with a conditional request so that an
+ * unchanged response is not downloaded again.
+ * <p>
+ * Configure it with {@link com.amilesend.tvmaze.client.TvMazeConfig#getHttpCache()} to have it used by the connection
+ * created by {@link com.amilesend.tvmaze.client.TvMaze}, or apply it to your own client with
+ * {@link #configure(OkHttpClient.Builder)}. Only one instance may use a given directory at a time, so share the
+ * instance across clients rather than creating one per client. The cache must be {@link #close() closed} by its
+ * owner.
+ * <p>
+ * Example:
+ * <pre>
+ * HttpResponseCache httpCache = HttpResponseCache.builder()
+ *         .directory(Path.of("/var/cache/tvmaze"))
+ *         .maxSizeBytes(100L * 1024L * 1024L)
+ *         .build();
+ * TvMaze client = new TvMaze(TvMazeConfig.builder().httpCache(httpCache).build());
+ * </pre>
+ */
+public class HttpResponseCache implements Closeable {
+    /** The default maximum size of the cache (50 MiB). */
+    public static final long DEFAULT_MAX_SIZE_BYTES = 50L * 1024L * 1024L;
+
+    /** The directory where responses are stored. */
+    @Getter
+    private final Path directory;
+    private final Cache cache;
+
+    /**
+     * Creates a new {@code HttpResponseCache}.
+     *
+     * @param directory the directory where responses are stored; created if it does not exist
+     * @param maxSizeBytes the maximum size of the cache in bytes. Default is {@link #DEFAULT_MAX_SIZE_BYTES}.
+     */
+    @Builder
+    private HttpResponseCache(@NonNull final Path directory, final Long maxSizeBytes) {
+        final long maxSize = Optional.ofNullable(maxSizeBytes).orElse(DEFAULT_MAX_SIZE_BYTES);
+        Validate.isTrue(maxSize > 0L, "maxSizeBytes must be > 0");
+
+        this.directory = directory;
+        this.cache = new Cache(directory.toFile(), maxSize);
+    }
+
+    /**
+     * Configures the given HTTP client builder to use this cache.
+     *
+     * @param httpClientBuilder the HTTP client builder
+     * @return the HTTP client builder
+     */
+    public OkHttpClient.Builder configure(@NonNull final OkHttpClient.Builder httpClientBuilder) {
+        return httpClientBuilder.cache(cache);
+    }
+
+    /**
+     * Gets the maximum size of the cache.
+     *
+     * @return the maximum size in bytes
+     */
+    public long getMaxSizeBytes() {
+        return cache.maxSize();
+    }
+
+    /**
+     * Gets a snapshot of the cache counters. Counters are tracked since this instance was created.
+     *
+     * @return the cache statistics
+     * @see HttpCacheStats
+     */
+    public HttpCacheStats getStats() {
+        final long requestCount;
+        final long networkCount;
+        final long hitCount;
+        // The counters are guarded by the cache's monitor, so this reads a consistent snapshot
+        synchronized (cache) {
+            requestCount = cache.requestCount();
+            networkCount = cache.networkCount();
+            hitCount = cache.hitCount();
+        }
+
+        return HttpCacheStats.builder()
+                .requestCount(requestCount)
+                .networkCount(networkCount)
+                .hitCount(hitCount)
+                // Revalidated hits are counted as both a network request and a hit
+                .revalidatedHitCount(hitCount + networkCount - requestCount)
+                .sizeBytes(getSizeBytes())
+                .maxSizeBytes(cache.maxSize())
+                .build();
+    }
+
+    /** Removes all responses from the cache. */
+    public void evictAll() {
+        try {
+            cache.evictAll();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to evict cached responses", ex);
+        }
+    }
+
+    /**
+     * Closes the cache. Clients configured with this cache must no longer be used.
+     *
+     * @throws IOException if an error occurred while closing the cache
+     */
+    @Override
+    public void close() throws IOException {
+        cache.close();
+    }
+
+    private long getSizeBytes() {
+        try {
+            return cache.size();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException("Unable to determine the cache size", ex);
+        }
+    }
+}
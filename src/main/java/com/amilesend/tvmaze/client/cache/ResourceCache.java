@@ -0,0 +1,441 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A size-bounded, in-memory cache with a time-to-live for each entry.
+ * <p>
+ * Entries are spread across a number of segments, each of which evicts its own least-recently-used entry once it
+ * exceeds its share of the maximum size. Each segment keeps its entries in access order, so eviction takes constant
+ * time. Lookups do not acquire a lock: a hit is recorded in a small, lossy buffer of the segment that is applied to the
+ * access order on the next write. When the buffer is full, further hits are not recorded until it is drained, so
+ * eviction order is an approximation of LRU that favors frequently read entries.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class ResourceCache<K, V> {
+    /** The default maximum number of entries. */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+    /** The default time-to-live for an entry. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10L);
+    /** The default number of segments. */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+    private final LongSupplier ticker;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expirationCount = new LongAdder();
+
+    /**
+     * Creates a new {@code ResourceCache}.
+     *
+     * @param maxSize the maximum number of entries (default: {@link #DEFAULT_MAX_SIZE}). It is rounded up to a multiple
+     *                of the number of segments so that each segment holds an equal share.
+     * @param ttl the time-to-live for each entry after it is written (default: {@link #DEFAULT_TTL})
+     * @param concurrencyLevel the number of segments
+     *                         (default: {@link #DEFAULT_CONCURRENCY_LEVEL})
+     * @param ticker the nanosecond time source (default: {@link System#nanoTime()})
+     */
+    @Builder
+    @SuppressWarnings("unchecked")
+    private ResourceCache(
+            final Integer maxSize,
+            final Duration ttl,
+            final Integer concurrencyLevel,
+            final LongSupplier ticker) {
+        final int resolvedMaxSize = Optional.ofNullable(maxSize).orElse(DEFAULT_MAX_SIZE);
+        final Duration resolvedTtl = Optional.ofNullable(ttl).orElse(DEFAULT_TTL);
+        final int resolvedConcurrencyLevel = Optional.ofNullable(concurrencyLevel).orElse(DEFAULT_CONCURRENCY_LEVEL);
+        Validate.isTrue(resolvedMaxSize > 0, "maxSize must be > 0");
+        Validate.isTrue(!resolvedTtl.isNegative() && !resolvedTtl.isZero(), "ttl must be positive");
+        Validate.isTrue(resolvedConcurrencyLevel > 0, "concurrencyLevel must be > 0");
+
+        final int segmentCount = Math.min(resolvedConcurrencyLevel, resolvedMaxSize);
+        // Rounds up so that the cache holds at least maxSize entries
+        final int segmentMaxSize = (resolvedMaxSize + segmentCount - 1) / segmentCount;
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; ++i) {
+            segments[i] = new Segment<>(segmentMaxSize, evictionCount);
+        }
+        ttlNanos = resolvedTtl.toNanos();
+        this.ticker = Optional.ofNullable(ticker).orElse(System::nanoTime);
+    }
+
+    /**
+     * Gets the cached value for the given key.
+     *
+     * @param key the key
+     * @return the cached value, or {@code null} if absent or expired
+     */
+    public V get(@NonNull final K key) {
+        final Segment<K, V> segment = segmentFor(key);
+        final CacheEntry<V> entry = segment.entries.get(key);
+        if (Objects.isNull(entry)) {
+            missCount.increment();
+            return null;
+        }
+
+        if (entry.isExpired(ticker.getAsLong())) {
+            if (segment.remove(key, entry)) {
+                expirationCount.increment();
+            }
+            missCount.increment();
+            return null;
+        }
+
+        segment.recordAccess(key);
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * Gets the cached value for the given key, or invokes the {@code loader} and caches its result on a miss. The
+     * loader is invoked outside of any lock, so concurrent misses for the same key may each invoke the loader. If the
+     * key is invalidated while the loader runs, then the loaded value is returned but not cached since it may be
+     * stale.
+     *
+     * @param key the key
+     * @param loader the function to load the value on a miss
+     * @return the value
+     */
+    public V get(@NonNull final K key, @NonNull final Function<K, V> loader) {
+        final V cached = get(key);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        final Segment<K, V> segment = segmentFor(key);
+        final long generation = segment.beginLoad(key);
+        V loaded = null;
+        try {
+            loaded = loader.apply(key);
+        } finally {
+            segment.endLoad(key, generation, newEntry(loaded));
+        }
+
+        return loaded;
+    }
+
+    /**
+     * Asynchronous variant of {@link #get(Object, Function)}. A cached value is returned as a completed future. If
+     * the key is invalidated before the loaded future completes, then its value is not cached.
+     *
+     * @param key the key
+     * @param loader the function to asynchronously load the value on a miss
+     * @return the future that completes with the value
+     */
+    public CompletableFuture<V> getAsync(
+            @NonNull final K key,
+            @NonNull final Function<K, CompletableFuture<V>> loader) {
+        final V cached = get(key);
+        if (Objects.nonNull(cached)) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final Segment<K, V> segment = segmentFor(key);
+        final long generation = segment.beginLoad(key);
+        final CompletableFuture<V> loading;
+        try {
+            loading = loader.apply(key);
+        } catch (final RuntimeException ex) {
+            segment.endLoad(key, generation, null);
+            throw ex;
+        }
+
+        return loading.whenComplete((loaded, ex) -> segment.endLoad(key, generation, newEntry(loaded)));
+    }
+
+    /**
+     * Caches the value for the given key, replacing any existing value.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(@NonNull final K key, @NonNull final V value) {
+        segmentFor(key).put(key, newEntry(value));
+    }
+
+    /**
+     * Removes the cached value for the given key, if present.
+     *
+     * @param key the key
+     */
+    public void invalidate(@NonNull final K key) {
+        segmentFor(key).invalidate(key, null);
+    }
+
+    /**
+     * Removes the unexpired entries whose value is older than the timestamp reported for its identifier (e.g., by
+     * the {@link com.amilesend.tvmaze.client.api.UpdatesApi}). An entry is only removed if it has not been replaced
+     * since it was visited, so a value that is concurrently refreshed is retained. Entries without a reported
+     * timestamp are retained.
+     *
+     * @param updatedTimestamps the latest updated timestamps by identifier
+     * @param idFn the function that gets the identifier of a key
+     * @param updatedFn the function that gets the updated timestamp of a cached value
+     * @return the list of removed keys
+     */
+    public List<K> invalidateStale(
+            @NonNull final IntLongMap updatedTimestamps,
+            @NonNull final ToIntFunction<? super K> idFn,
+            @NonNull final ToLongFunction<? super V> updatedFn) {
+        final long now = ticker.getAsLong();
+        final List<K> staleKeys = new ArrayList<>();
+        for (final Segment<K, V> segment : segments) {
+            segment.entries.forEach((key, entry) -> {
+                if (!entry.isExpired(now)
+                        && updatedTimestamps.get(idFn.applyAsInt(key)) > updatedFn.applyAsLong(entry.value)
+                        && segment.invalidate(key, entry)) {
+                    staleKeys.add(key);
+                }
+            });
+        }
+
+        return staleKeys;
+    }
+
+    /** Removes all cached values. */
+    public void invalidateAll() {
+        for (final Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached entries, including entries that have expired but have not been removed yet.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment<K, V> segment : segments) {
+            size += segment.entries.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Gets a snapshot of the cache counters.
+     *
+     * @return the cache statistics
+     */
+    public CacheStats getStats() {
+        return CacheStats.builder()
+                .hitCount(hitCount.sum())
+                .missCount(missCount.sum())
+                .evictionCount(evictionCount.sum())
+                .expirationCount(expirationCount.sum())
+                .build();
+    }
+
+    private CacheEntry<V> newEntry(final V value) {
+        return Objects.isNull(value) ? null : new CacheEntry<>(value, ticker.getAsLong() + ttlNanos);
+    }
+
+    private Segment<K, V> segmentFor(final K key) {
+        final int hash = key.hashCode();
+        return segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+    }
+
+    private static class CacheEntry<V> {
+        private final V value;
+        private final long expiresAtNanos;
+
+        CacheEntry(final V value, final long expiresAtNanos) {
+            this.value = value;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(final long now) {
+            return now - expiresAtNanos >= 0L;
+        }
+    }
+
+    /**
+     * A map that evicts its least-recently-used entry once it exceeds its maximum size. Reads use the concurrent
+     * {@code entries} map without locking, while writes update both maps under the segment lock.
+     */
+    private static class Segment<K, V> {
+        /** The number of slots of the read buffer. */
+        private static final int READ_BUFFER_SIZE = 32;
+
+        private final ConcurrentHashMap<K, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+        /** The entries in access order, from least to most recently used. Guarded by this segment. */
+        private final LinkedHashMap<K, CacheEntry<V>> accessOrder = new LinkedHashMap<>(16, 0.75F, true);
+        /** The keys of recent hits that have not been applied to the access order yet. */
+        private final AtomicReferenceArray<K> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        /** The loads that are in flight by key. Guarded by this segment. */
+        private final Map<K, PendingLoad> pendingLoads = new HashMap<>();
+        private final int maxSize;
+        private final LongAdder evictionCount;
+
+        Segment(final int maxSize, final LongAdder evictionCount) {
+            this.maxSize = maxSize;
+            this.evictionCount = evictionCount;
+        }
+
+        /** Records a hit in a random slot of the read buffer. The hit is dropped if the slot is taken. */
+        void recordAccess(final K key) {
+            final int index = ThreadLocalRandom.current().nextInt(READ_BUFFER_SIZE);
+            // Reads before writing so that a full buffer does not contend on its slots
+            if (Objects.isNull(readBuffer.get(index))) {
+                readBuffer.compareAndSet(index, null, key);
+            }
+        }
+
+        synchronized void put(final K key, final CacheEntry<V> entry) {
+            drainReadBuffer();
+            entries.put(key, entry);
+            accessOrder.put(key, entry);
+            evict();
+        }
+
+        /**
+         * Removes the entry for the given key.
+         *
+         * @param key the key
+         * @param entry the entry that must be mapped to the key, or {@code null} to remove any entry
+         * @return {@code true} if an entry was removed; else, {@code false}
+         */
+        synchronized boolean remove(final K key, final CacheEntry<V> entry) {
+            final boolean isRemoved = Objects.isNull(entry)
+                    ? Objects.nonNull(entries.remove(key))
+                    : entries.remove(key, entry);
+            if (isRemoved) {
+                accessOrder.remove(key);
+            }
+
+            return isRemoved;
+        }
+
+        /**
+         * Registers a load for the given key.
+         *
+         * @param key the key
+         * @return the generation of the key that the loaded value must match to be cached
+         */
+        synchronized long beginLoad(final K key) {
+            final PendingLoad pendingLoad = pendingLoads.computeIfAbsent(key, k -> new PendingLoad());
+            ++pendingLoad.count;
+            return pendingLoad.generation;
+        }
+
+        /**
+         * Completes a load for the given key and caches the loaded entry unless the key was invalidated since the
+         * load began.
+         *
+         * @param key the key
+         * @param generation the generation returned by {@link #beginLoad(Object)}
+         * @param entry the loaded entry, or {@code null} if the load failed or returned no value
+         */
+        synchronized void endLoad(final K key, final long generation, final CacheEntry<V> entry) {
+            final PendingLoad pendingLoad = pendingLoads.get(key);
+            if (--pendingLoad.count == 0) {
+                pendingLoads.remove(key);
+            }
+            if (Objects.nonNull(entry) && pendingLoad.generation == generation) {
+                put(key, entry);
+            }
+        }
+
+        /**
+         * Removes the entry for the given key and prevents the loads that are in flight for the key from caching
+         * their value.
+         *
+         * @param key the key
+         * @param entry the entry that must be mapped to the key, or {@code null} to remove any entry
+         * @return {@code true} if an entry was removed; else, {@code false}
+         */
+        synchronized boolean invalidate(final K key, final CacheEntry<V> entry) {
+            final PendingLoad pendingLoad = pendingLoads.get(key);
+            if (Objects.nonNull(pendingLoad)) {
+                ++pendingLoad.generation;
+            }
+
+            return remove(key, entry);
+        }
+
+        synchronized void clear() {
+            pendingLoads.values().forEach(pendingLoad -> ++pendingLoad.generation);
+            entries.clear();
+            accessOrder.clear();
+            for (int i = 0; i < READ_BUFFER_SIZE; ++i) {
+                readBuffer.set(i, null);
+            }
+        }
+
+        /** Moves the buffered hits to the most-recently-used end of the access order. */
+        private void drainReadBuffer() {
+            for (int i = 0; i < READ_BUFFER_SIZE; ++i) {
+                final K key = readBuffer.getAndSet(i, null);
+                if (Objects.nonNull(key)) {
+                    // An access-ordered get moves the entry, if still present, to the end
+                    accessOrder.get(key);
+                }
+            }
+        }
+
+        /** Removes the least-recently-used entries until the segment is within its maximum size. */
+        private void evict() {
+            final Iterator<Map.Entry<K, CacheEntry<V>>> iterator = accessOrder.entrySet().iterator();
+            while (accessOrder.size() > maxSize && iterator.hasNext()) {
+                final Map.Entry<K, CacheEntry<V>> eldest = iterator.next();
+                iterator.remove();
+                if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                    evictionCount.increment();
+                }
+            }
+        }
+    }
+
+    /** The loads of a key that are in flight. */
+    private static class PendingLoad {
+        /** Incremented when the key is invalidated so that the in-flight loads do not cache a stale value. */
+        private long generation;
+        private int count;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import com.amilesend.client.util.Validate;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+/**
+ * Starts an asynchronous call for each identifier with at most a fixed number of calls in flight. The permit of a call
+ * is released once its {@link CompletionHandler} has run, so a slow handler (e.g., a sink that writes to disk) also
+ * bounds the number of calls in flight.
+ * <p>
+ * Calls are started on the calling thread, which blocks while all permits are taken. Once the calling thread is
+ * interrupted, no further calls are started and the remaining identifiers are reported as
+ * {@link #getUnstartedIds() unstarted}. Cancelling a completion cancels its underlying call.
+ * <p>
+ * Example:
+ * <pre>
+ * BoundedFanOut&lt;Show&gt; fanOut = BoundedFanOut.start(showIds, 8, id -&gt; showsApi.getShowAsync(id));
+ * fanOut.getCompletions().forEach((id, show) -&gt; ...);
+ * </pre>
+ *
+ * @param <R> the completion result type
+ */
+@Getter
+public final class BoundedFanOut<R> {
+    /** The completion of each started call by identifier, in the order the calls were started. */
+    private final Map<Integer, CompletableFuture<R>> completions;
+    /** The identifiers whose call was not started because the calling thread was interrupted. */
+    private final List<Integer> unstartedIds;
+
+    private BoundedFanOut(final Map<Integer, CompletableFuture<R>> completions, final List<Integer> unstartedIds) {
+        this.completions = Collections.unmodifiableMap(completions);
+        this.unstartedIds = Collections.unmodifiableList(unstartedIds);
+    }
+
+    /**
+     * Starts the asynchronous call for each identifier with at most {@code parallelism} calls in flight. Each
+     * completion has the outcome of its call.
+     *
+     * @param ids the identifiers
+     * @param parallelism the maximum number of calls in flight
+     * @param asyncCall the asynchronous call for an identifier
+     * @return the started calls
+     * @param <T> the call result type
+     */
+    public static <T> BoundedFanOut<T> start(
+            @NonNull final Collection<Integer> ids,
+            final int parallelism,
+            @NonNull final IntFunction<CompletableFuture<T>> asyncCall) {
+        return start(ids, parallelism, asyncCall, (id, result, error) -> {
+            if (Objects.nonNull(error)) {
+                throw error instanceof CompletionException
+                        ? (CompletionException) error
+                        : new CompletionException(error);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Starts the asynchronous call for each identifier with at most {@code parallelism} calls in flight. Each
+     * completion has the outcome of the handler. A call that throws instead of returning a future is passed to the
+     * handler as a failure.
+     *
+     * @param ids the identifiers
+     * @param parallelism the maximum number of calls in flight
+     * @param asyncCall the asynchronous call for an identifier
+     * @param handler the handler that is invoked with the result or failure of each call
+     * @return the started calls
+     * @param <T> the call result type
+     * @param <R> the completion result type
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     */
+    public static <T, R> BoundedFanOut<R> start(
+            @NonNull final Collection<Integer> ids,
+            final int parallelism,
+            @NonNull final IntFunction<CompletableFuture<T>> asyncCall,
+            @NonNull final CompletionHandler<? super T, ? extends R> handler) {
+        Validate.isTrue(parallelism > 0, "parallelism must be > 0");
+
+        final Semaphore inFlightPermits = new Semaphore(parallelism);
+        final Map<Integer, CompletableFuture<R>> completions = new LinkedHashMap<>();
+        final List<Integer> unstartedIds = new ArrayList<>();
+        for (final Integer id : ids) {
+            if (!unstartedIds.isEmpty() || Thread.currentThread().isInterrupted()) {
+                unstartedIds.add(id);
+                continue;
+            }
+
+            try {
+                inFlightPermits.acquire();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                unstartedIds.add(id);
+                continue;
+            }
+
+            CompletableFuture<T> call;
+            try {
+                call = asyncCall.apply(id);
+            } catch (final RuntimeException ex) {
+                call = CompletableFuture.failedFuture(ex);
+            }
+
+            final CompletableFuture<T> startedCall = call;
+            final CompletableFuture<R> completion =
+                    startedCall.handle((result, error) -> handler.handle(id, result, error));
+            // Runs once the handler is done or the completion is cancelled (in which case the handler never runs)
+            completion.whenComplete((result, error) -> {
+                inFlightPermits.release();
+                if (completion.isCancelled()) {
+                    startedCall.cancel(true);
+                }
+            });
+            completions.put(id, completion);
+        }
+
+        return new BoundedFanOut<>(completions, unstartedIds);
+    }
+
+    /**
+     * Indicates if the calling thread was interrupted before all calls were started.
+     *
+     * @return {@code true} if any call was not started
+     */
+    public boolean isInterrupted() {
+        return !unstartedIds.isEmpty();
+    }
+
+    /** Cancels the completions that are not done, which cancels their underlying calls. */
+    public void cancel() {
+        completions.values().forEach(completion -> completion.cancel(true));
+    }
+
+    /**
+     * Handles the outcome of a single call.
+     *
+     * @param <T> the call result type
+     * @param <R> the completion result type
+     */
+    @FunctionalInterface
+    public interface CompletionHandler<T, R> {
+        /**
+         * Handles the outcome of the call for the given identifier.
+         *
+         * @param id the identifier
+         * @param result the call result, or {@code null} if the call failed
+         * @param error the failure, or {@code null} if the call succeeded
+         * @return the completion result
+         */
+        R handle(int id, T result, Throwable error);
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Fans out a blocking operation (e.g., {@code id -> showsApi.getShow(id)}) across the threads of an
+ * {@link ExecutorService} and collects the results per key.
+ * <p>
+ * Example:
+ * <pre>
+ * TvMaze client = new TvMaze(TvMazeConfig.builder().isVirtualThreadsPreferred(true).build());
+ * BulkResult&lt;Integer, Show&gt; shows = client.getBulkExecutor()
+ *         .execute(showIds, id -&gt; client.getShowsApi().getShow(id));
+ * </pre>
+ *
+ * @see CallExecutors
+ */
+@RequiredArgsConstructor
+public class BulkExecutor {
+    /** The executor used to run each operation. */
+    @NonNull
+    private final ExecutorService executor;
+
+    /**
+     * Applies the operation to each distinct key concurrently and waits for all operations to complete. If the
+     * calling thread is interrupted, the outstanding operations are cancelled and recorded as failures.
+     *
+     * @param keys the keys
+     * @param operation the operation to apply to each key
+     * @return the results and failures by key
+     * @param <K> the key type
+     * @param <V> the result type
+     */
+    public <K, V> BulkResult<K, V> execute(
+            @NonNull final Iterable<K> keys,
+            @NonNull final Function<? super K, ? extends V> operation) {
+        final Map<K, Future<V>> futures = new LinkedHashMap<>();
+        for (final K key : toDistinctKeys(keys)) {
+            futures.put(key, executor.submit(() -> operation.apply(key)));
+        }
+
+        final Map<K, V> results = new LinkedHashMap<>();
+        final Map<K, Throwable> failures = new LinkedHashMap<>();
+        boolean isInterrupted = false;
+        for (final Map.Entry<K, Future<V>> entry : futures.entrySet()) {
+            final Future<V> future = entry.getValue();
+            if (isInterrupted) {
+                future.cancel(true);
+                failures.put(entry.getKey(), new InterruptedException("Bulk operation was interrupted"));
+                continue;
+            }
+
+            try {
+                results.put(entry.getKey(), future.get());
+            } catch (final ExecutionException ex) {
+                failures.put(entry.getKey(), ex.getCause());
+            } catch (final InterruptedException ex) {
+                isInterrupted = true;
+                future.cancel(true);
+                failures.put(entry.getKey(), ex);
+            }
+        }
+
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+
+        return new BulkResult<>(results, failures);
+    }
+
+    private static <K> LinkedHashSet<K> toDistinctKeys(final Iterable<K> keys) {
+        final LinkedHashSet<K> distinctKeys = new LinkedHashSet<>();
+        keys.forEach(distinctKeys::add);
+        return distinctKeys;
+    }
+}
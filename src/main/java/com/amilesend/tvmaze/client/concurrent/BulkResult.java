@@ -0,0 +1,61 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The outcome of a bulk operation where each key is processed independently. A failure for one key does not affect
+ * the results of the other keys.
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ */
+@Getter
+@ToString
+public class BulkResult<K, V> {
+    /** The successful results by key, in the order the keys were submitted. */
+    private final Map<K, V> results;
+    /** The cause of each failure by key, in the order the keys were submitted. */
+    private final Map<K, Throwable> failures;
+
+    /**
+     * Creates a new {@code BulkResult}.
+     *
+     * @param results the successful results by key
+     * @param failures the failures by key
+     */
+    public BulkResult(@NonNull final Map<K, V> results, @NonNull final Map<K, Throwable> failures) {
+        this.results = Collections.unmodifiableMap(results);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * Determines if every key was processed successfully.
+     *
+     * @return {@code true} if there are no failures; else, {@code false}
+     */
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+}
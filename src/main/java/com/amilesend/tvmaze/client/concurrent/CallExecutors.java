@@ -0,0 +1,121 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import com.amilesend.client.util.Validate;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Vends {@link ExecutorService}s used to run blocking API calls concurrently. Virtual threads are used when supported
+ * by the running JVM (Java 21+); otherwise, a bounded pool of platform threads is used.
+ */
+@Slf4j
+@UtilityClass
+public class CallExecutors {
+    /** The default maximum number of platform threads used when virtual threads are unavailable. */
+    public static final int DEFAULT_MAX_PLATFORM_THREADS = 32;
+
+    private static final String VIRTUAL_THREAD_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    private static final Method VIRTUAL_THREAD_FACTORY = findVirtualThreadFactory();
+
+    /**
+     * Determines if the running JVM supports virtual threads.
+     *
+     * @return {@code true} if supported; else, {@code false}
+     */
+    public static boolean isVirtualThreadSupported() {
+        return Objects.nonNull(VIRTUAL_THREAD_FACTORY);
+    }
+
+    /**
+     * Creates a new executor that starts a virtual thread per task when supported. Otherwise, a bounded pool of
+     * daemon platform threads is created.
+     *
+     * @param maxPlatformThreads the maximum number of platform threads used if virtual threads are unavailable
+     * @return the executor
+     */
+    public static ExecutorService newVirtualThreadOrBoundedExecutor(final int maxPlatformThreads) {
+        Validate.isTrue(maxPlatformThreads > 0, "maxPlatformThreads must be > 0");
+
+        if (isVirtualThreadSupported()) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_FACTORY.invoke(null);
+            } catch (final IllegalAccessException | InvocationTargetException ex) {
+                log.warn("Unable to create virtual thread executor; falling back to platform threads", ex);
+            }
+        }
+
+        return newBoundedExecutor(maxPlatformThreads);
+    }
+
+    /**
+     * Creates a new bounded pool of daemon platform threads. Idle threads are released after a minute.
+     *
+     * @param maxThreads the maximum number of threads
+     * @return the executor
+     */
+    public static ExecutorService newBoundedExecutor(final int maxThreads) {
+        Validate.isTrue(maxThreads > 0, "maxThreads must be > 0");
+
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxThreads,
+                maxThreads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                newDaemonThreadFactory("tvmaze-call-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static ThreadFactory newDaemonThreadFactory(final String namePrefix) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualThreadFactory() {
+        try {
+            final Method method = Executors.class.getMethod(VIRTUAL_THREAD_FACTORY_METHOD);
+            // Java 19 and 20 expose the method as a preview feature that throws unless enabled
+            ((ExecutorService) method.invoke(null)).shutdown();
+            return method;
+        } catch (final NoSuchMethodException ex) {
+            return null;
+        } catch (final ReflectiveOperationException | RuntimeException ex) {
+            log.debug("Virtual threads are not available", ex);
+            return null;
+        }
+    }
+}
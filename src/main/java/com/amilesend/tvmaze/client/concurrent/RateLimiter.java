@@ -0,0 +1,265 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A sliding window rate limiter used to keep requests within the TVMaze request budget (by default, 20 requests per
+ * 10 seconds) rather than reacting to HTTP 429 responses after being throttled. At most {@link #getPermits()} permits
+ * are granted in any window of {@link #getPeriod()}, including the first period after creation: a permit becomes
+ * available again one period after it was granted.
+ * <p>
+ * Callers acquire permits in a {@link Priority} lane: while an {@link Priority#INTERACTIVE} caller is waiting, no
+ * {@link Priority#BACKGROUND} caller is granted a permit, so interactive lookups are not starved by background crawls.
+ */
+public class RateLimiter {
+    /** The default number of permits per period. */
+    public static final int DEFAULT_PERMITS = 20;
+    /** The default period in which at most {@link #DEFAULT_PERMITS} are granted. */
+    public static final Duration DEFAULT_PERIOD = Duration.ofSeconds(10L);
+
+    /** The maximum number of permits granted in any window of {@link #getPeriod()}. */
+    @Getter
+    private final int permits;
+    /** The length of the sliding window. */
+    @Getter
+    private final Duration period;
+    private final long periodNanos;
+    private final LongSupplier ticker;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    private final int[] waiterCounts = new int[Priority.values().length];
+    /** The times of the most recent grants, used as a ring buffer. */
+    private final long[] grantNanos;
+    /** The index of the oldest grant in {@link #grantNanos}, which is replaced by the next grant. */
+    private int oldestGrantIndex;
+
+    /**
+     * Creates a new {@code RateLimiter}. All permits are available upon creation.
+     *
+     * @param permits the number of permits per period (default: {@link #DEFAULT_PERMITS})
+     * @param period the length of the sliding window (default: {@link #DEFAULT_PERIOD})
+     * @param ticker the nanosecond time source (default: {@link System#nanoTime()})
+     */
+    @Builder
+    private RateLimiter(final Integer permits, final Duration period, final LongSupplier ticker) {
+        this.permits = Optional.ofNullable(permits).orElse(DEFAULT_PERMITS);
+        this.period = Optional.ofNullable(period).orElse(DEFAULT_PERIOD);
+        Validate.isTrue(this.permits > 0, "permits must be > 0");
+        Validate.isTrue(!this.period.isNegative() && !this.period.isZero(), "period must be positive");
+
+        this.periodNanos = this.period.toNanos();
+        this.ticker = Optional.ofNullable(ticker).orElse(System::nanoTime);
+        this.grantNanos = new long[this.permits];
+        // Treat every slot as granted one period ago so that all permits are available
+        Arrays.fill(this.grantNanos, this.ticker.getAsLong() - periodNanos);
+    }
+
+    /**
+     * Acquires a permit, blocking until one is available.
+     *
+     * @param priority the priority lane
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void acquire(@NonNull final Priority priority) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            ++waiterCounts[priority.ordinal()];
+            try {
+                while (!tryGrant(priority)) {
+                    permitAvailable.awaitNanos(nanosToWait(priority));
+                }
+            } finally {
+                --waiterCounts[priority.ordinal()];
+                permitAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit without blocking a thread while waiting. Until the permit is granted, the caller counts as
+     * waiting in its priority lane, and availability is rechecked on the given executor at least once per permit
+     * interval (i.e., {@code period / permits}). Cancelling the returned future abandons the wait.
+     *
+     * @param priority the priority lane
+     * @param executor the executor that completes the returned future once a permit is granted after waiting
+     * @return the future that completes once the permit is granted
+     */
+    public CompletableFuture<Void> acquireAsync(@NonNull final Priority priority, @NonNull final Executor executor) {
+        final CompletableFuture<Void> permit = new CompletableFuture<>();
+        tryGrantAsync(priority, executor, permit, false);
+        return permit;
+    }
+
+    /**
+     * Acquires a permit if one is immediately available.
+     *
+     * @param priority the priority lane
+     * @return {@code true} if acquired; else, {@code false}
+     */
+    public boolean tryAcquire(@NonNull final Priority priority) {
+        lock.lock();
+        try {
+            return tryGrant(priority);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquires a permit, blocking up to the given timeout until one is available.
+     *
+     * @param priority the priority lane
+     * @param timeout the maximum time to wait
+     * @return {@code true} if acquired; else, {@code false} if the timeout elapsed
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public boolean tryAcquire(@NonNull final Priority priority, @NonNull final Duration timeout)
+            throws InterruptedException {
+        long remainingNanos = timeout.toNanos();
+        lock.lockInterruptibly();
+        try {
+            ++waiterCounts[priority.ordinal()];
+            try {
+                while (!tryGrant(priority)) {
+                    if (remainingNanos <= 0L) {
+                        return false;
+                    }
+                    final long waitNanos = Math.min(remainingNanos, nanosToWait(priority));
+                    remainingNanos -= waitNanos - permitAvailable.awaitNanos(waitNanos);
+                }
+                return true;
+            } finally {
+                --waiterCounts[priority.ordinal()];
+                permitAvailable.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of permits that are currently available.
+     *
+     * @return the number of available permits
+     */
+    public int getAvailablePermits() {
+        lock.lock();
+        try {
+            final long now = ticker.getAsLong();
+            int availableCount = 0;
+            for (final long grantedNanos : grantNanos) {
+                if (now - grantedNanos >= periodNanos) {
+                    ++availableCount;
+                }
+            }
+            return availableCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void tryGrantAsync(
+            final Priority priority,
+            final Executor executor,
+            final CompletableFuture<Void> permit,
+            final boolean isWaiting) {
+        final boolean isGranted;
+        final long waitNanos;
+        lock.lock();
+        try {
+            isGranted = !permit.isDone() && tryGrant(priority);
+            if (isGranted || permit.isDone()) {
+                if (isWaiting) {
+                    --waiterCounts[priority.ordinal()];
+                    permitAvailable.signalAll();
+                }
+                waitNanos = 0L;
+            } else {
+                if (!isWaiting) {
+                    ++waiterCounts[priority.ordinal()];
+                }
+                waitNanos = nanosToWait(priority);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (isGranted) {
+            permit.complete(null);
+        } else if (!permit.isDone()) {
+            CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, executor)
+                    .execute(() -> tryGrantAsync(priority, executor, permit, true));
+        }
+    }
+
+    private boolean tryGrant(final Priority priority) {
+        if (isYielding(priority)) {
+            return false;
+        }
+
+        final long now = ticker.getAsLong();
+        if (now - grantNanos[oldestGrantIndex] < periodNanos) {
+            return false;
+        }
+
+        grantNanos[oldestGrantIndex] = now;
+        oldestGrantIndex = (oldestGrantIndex + 1) % permits;
+        return true;
+    }
+
+    private boolean isYielding(final Priority priority) {
+        return priority == Priority.BACKGROUND && waiterCounts[Priority.INTERACTIVE.ordinal()] > 0;
+    }
+
+    private long nanosToWait(final Priority priority) {
+        // A yielding caller is signalled once the interactive waiters are granted their permits. Waits are capped at
+        // the permit interval so that waiters recheck availability regularly.
+        final long permitIntervalNanos = Math.max(1L, periodNanos / permits);
+        if (isYielding(priority)) {
+            return permitIntervalNanos;
+        }
+
+        final long untilAvailableNanos = grantNanos[oldestGrantIndex] + periodNanos - ticker.getAsLong();
+        return Math.max(1L, Math.min(permitIntervalNanos, untilAvailableNanos));
+    }
+
+    /** The priority lane used when acquiring permits. */
+    public enum Priority {
+        /** User-facing lookups that are granted permits ahead of background requests. */
+        INTERACTIVE,
+        /** Bulk or background requests (e.g., crawls) that yield to interactive requests. */
+        BACKGROUND
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import okhttp3.HttpUrl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical requests into a single call (i.e., "single-flight"). Requests are identical when
+ * they have the same {@link HttpUrl} and are parsed into the same type. While a call is in flight, subsequent
+ * identical requests wait for, and share, the result of that call instead of issuing their own.
+ * <p>
+ * Each caller of {@link #executeAsync(HttpUrl, Class, Supplier)} receives its own future: cancelling it does not
+ * affect the other callers, and the shared call is only cancelled once every caller waiting for it has cancelled.
+ * <p>
+ * Callers whose request was collapsed receive a shallow copy of a {@link List}, {@link Map} or {@link IntLongMap}
+ * result. Other results, and the elements of copied results, are the same instances for all callers. The model
+ * objects are immutable, but the lists they hold (e.g., {@link com.amilesend.tvmaze.client.model.Show#getGenres()})
+ * are shared and must not be mutated.
+ */
+public class RequestCoalescer {
+    private final ConcurrentMap<Key, InFlightCall> inFlightCalls = new ConcurrentHashMap<>();
+    private final LongAdder executedCount = new LongAdder();
+    private final LongAdder collapsedCount = new LongAdder();
+
+    /**
+     * Executes the call, or waits for the result of an identical call that is already in flight.
+     *
+     * @param url the request URL
+     * @param resultType the type that distinguishes requests for the same URL (e.g., the parser type)
+     * @param call the call to execute
+     * @return the result
+     * @param <T> the result type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(
+            @NonNull final HttpUrl url,
+            @NonNull final Class<?> resultType,
+            @NonNull final Supplier<T> call) {
+        final Key key = new Key(url, resultType);
+        final InFlightCall pending = new InFlightCall();
+        // The blocking leader and waiters cannot cancel, so the call is never abandoned while they wait
+        pending.addWaiter();
+        final InFlightCall inFlight = join(key, pending);
+        if (Objects.nonNull(inFlight)) {
+            collapsedCount.increment();
+            return (T) copyOf(join(inFlight.result));
+        }
+
+        executedCount.increment();
+        try {
+            final T result = call.get();
+            inFlightCalls.remove(key, pending);
+            pending.result.complete(result);
+            return result;
+        } catch (final RuntimeException | Error ex) {
+            inFlightCalls.remove(key, pending);
+            pending.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Executes the asynchronous call, or shares the result of an identical call that is already in flight. The
+     * returned future is distinct for each caller.
+     *
+     * @param url the request URL
+     * @param resultType the type that distinguishes requests for the same URL (e.g., the parser type)
+     * @param call the call to execute
+     * @return the future that completes with the result
+     * @param <T> the result type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(
+            @NonNull final HttpUrl url,
+            @NonNull final Class<?> resultType,
+            @NonNull final Supplier<CompletableFuture<T>> call) {
+        final Key key = new Key(url, resultType);
+        final InFlightCall pending = new InFlightCall();
+        pending.addWaiter();
+        final InFlightCall inFlight = join(key, pending);
+        if (Objects.nonNull(inFlight)) {
+            collapsedCount.increment();
+            return (CompletableFuture<T>) newWaiter(key, inFlight, true);
+        }
+
+        executedCount.increment();
+        final CompletableFuture<Object> waiter = newWaiter(key, pending, false);
+        try {
+            final CompletableFuture<T> callFuture = call.get();
+            pending.setCall(callFuture);
+            callFuture.whenComplete((result, ex) -> {
+                inFlightCalls.remove(key, pending);
+                if (Objects.nonNull(ex)) {
+                    pending.result.completeExceptionally(unwrap(ex));
+                } else {
+                    pending.result.complete(result);
+                }
+            });
+        } catch (final RuntimeException ex) {
+            inFlightCalls.remove(key, pending);
+            pending.result.completeExceptionally(ex);
+        }
+
+        return (CompletableFuture<T>) waiter;
+    }
+
+    /**
+     * Gets the number of calls that were executed.
+     *
+     * @return the number of executed calls
+     */
+    public long getExecutedCount() {
+        return executedCount.sum();
+    }
+
+    /**
+     * Gets the number of requests that were collapsed into an in-flight call rather than executed.
+     *
+     * @return the number of collapsed requests
+     */
+    public long getCollapsedCount() {
+        return collapsedCount.sum();
+    }
+
+    /**
+     * Gets the number of calls that are currently in flight.
+     *
+     * @return the number of in-flight calls
+     */
+    public int getInFlightCount() {
+        return inFlightCalls.size();
+    }
+
+    /**
+     * Registers the pending call as in flight, or joins the identical call that is already in flight.
+     *
+     * @return the joined in-flight call, or {@code null} if the pending call was registered
+     */
+    private InFlightCall join(final Key key, final InFlightCall pending) {
+        while (true) {
+            final InFlightCall inFlight = inFlightCalls.putIfAbsent(key, pending);
+            if (Objects.isNull(inFlight)) {
+                return null;
+            }
+            if (inFlight.addWaiter()) {
+                return inFlight;
+            }
+
+            // Every waiter of the in-flight call cancelled, so it is being abandoned
+            inFlightCalls.remove(key, inFlight);
+        }
+    }
+
+    private CompletableFuture<Object> newWaiter(final Key key, final InFlightCall inFlight, final boolean isCollapsed) {
+        final CompletableFuture<Object> waiter = isCollapsed
+                ? inFlight.result.thenApply(RequestCoalescer::copyOf)
+                : inFlight.result.thenApply(Function.identity());
+        waiter.whenComplete((result, ex) -> {
+            if (waiter.isCancelled() && inFlight.removeWaiter()) {
+                inFlightCalls.remove(key, inFlight);
+            }
+        });
+
+        return waiter;
+    }
+
+    private static Object copyOf(final Object result) {
+        if (result instanceof List) {
+            return new ArrayList<>((List<?>) result);
+        } else if (result instanceof Map) {
+            return new LinkedHashMap<>((Map<?, ?>) result);
+        } else if (result instanceof IntLongMap) {
+            final IntLongMap source = (IntLongMap) result;
+            final IntLongMap copy = new IntLongMap(source.size());
+            source.forEach(copy::put);
+            return copy;
+        }
+
+        return result;
+    }
+
+    private static Object join(final CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (final CompletionException ex) {
+            final Throwable cause = unwrap(ex);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static Throwable unwrap(final Throwable ex) {
+        return ex instanceof CompletionException && Objects.nonNull(ex.getCause()) ? ex.getCause() : ex;
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class Key {
+        private final HttpUrl url;
+        private final Class<?> resultType;
+    }
+
+    /** A call that is in flight, and the number of callers that are waiting for its result. */
+    private static class InFlightCall {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private CompletableFuture<?> call;
+        private int waiterCount;
+        private boolean isAbandoned;
+
+        /**
+         * Adds a waiter for the result.
+         *
+         * @return {@code true} if added; else, {@code false} if the call was abandoned
+         */
+        synchronized boolean addWaiter() {
+            if (isAbandoned) {
+                return false;
+            }
+
+            ++waiterCount;
+            return true;
+        }
+
+        /**
+         * Removes a waiter that cancelled, and cancels the call if it was the last waiter.
+         *
+         * @return {@code true} if the call was abandoned; else, {@code false}
+         */
+        synchronized boolean removeWaiter() {
+            if (--waiterCount > 0 || result.isDone()) {
+                return false;
+            }
+
+            isAbandoned = true;
+            if (Objects.nonNull(call)) {
+                call.cancel(true);
+            }
+            return true;
+        }
+
+        synchronized void setCall(final CompletableFuture<?> call) {
+            this.call = call;
+            if (isAbandoned) {
+                call.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.metrics.ApiMetrics;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Retries requests that failed transiently with an exponentially increasing delay. A request is retried if the
+ * service responded with HTTP 429 (Too Many Requests) or a server error (5xx), or if the request failed with an
+ * {@link IOException} before a response was received. Other failures, including failures while reading a successful
+ * response, are not retried.
+ * <p>
+ * The policy is applied to both blocking and asynchronous calls (see
+ * {@link com.amilesend.tvmaze.client.TvMazeConfig#getRetryPolicy()}). Each attempt acquires its own
+ * {@link RateLimiter} permit, if configured.
+ */
+public class RetryPolicy {
+    /** The default maximum number of attempts, including the first. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+    /** The default delay before the first retry. */
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofSeconds(1L);
+    /** The default maximum delay between attempts. */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(10L);
+
+    private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+    private static final int MIN_SERVER_ERROR_STATUS_CODE = 500;
+
+    /** The maximum number of attempts, including the first. */
+    @Getter
+    private final int maxAttempts;
+    /** The delay before the first retry, which doubles for each subsequent retry. */
+    @Getter
+    private final Duration initialDelay;
+    /** The maximum delay between attempts. */
+    @Getter
+    private final Duration maxDelay;
+
+    /**
+     * Creates a new {@code RetryPolicy}.
+     *
+     * @param maxAttempts the maximum number of attempts, including the first (default: {@link #DEFAULT_MAX_ATTEMPTS})
+     * @param initialDelay the delay before the first retry (default: {@link #DEFAULT_INITIAL_DELAY})
+     * @param maxDelay the maximum delay between attempts (default: {@link #DEFAULT_MAX_DELAY})
+     */
+    @Builder
+    private RetryPolicy(final Integer maxAttempts, final Duration initialDelay, final Duration maxDelay) {
+        this.maxAttempts = Optional.ofNullable(maxAttempts).orElse(DEFAULT_MAX_ATTEMPTS);
+        this.initialDelay = Optional.ofNullable(initialDelay).orElse(DEFAULT_INITIAL_DELAY);
+        this.maxDelay = Optional.ofNullable(maxDelay).orElse(DEFAULT_MAX_DELAY);
+        Validate.isTrue(this.maxAttempts > 0, "maxAttempts must be > 0");
+        Validate.isTrue(!this.initialDelay.isNegative(), "initialDelay must not be negative");
+        Validate.isTrue(this.maxDelay.compareTo(this.initialDelay) >= 0, "maxDelay must be >= initialDelay");
+    }
+
+    /**
+     * Determines if a failed attempt is retried.
+     *
+     * @param attempt the number of the failed attempt, starting at 1
+     * @param statusCode the response status code, or {@link ApiMetrics#UNKNOWN_STATUS_CODE} if no response was
+     *                   received or the status code was not observed
+     * @param failure the failure
+     * @return {@code true} if the request is retried; else, {@code false}
+     */
+    public boolean isRetried(final int attempt, final int statusCode, final Throwable failure) {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        if (statusCode == ApiMetrics.UNKNOWN_STATUS_CODE) {
+            // The request failed before a response was received
+            return failure instanceof IOException
+                    || Objects.nonNull(failure) && failure.getCause() instanceof IOException;
+        }
+
+        return statusCode == TOO_MANY_REQUESTS_STATUS_CODE || statusCode >= MIN_SERVER_ERROR_STATUS_CODE;
+    }
+
+    /**
+     * Gets the delay before retrying a failed attempt.
+     *
+     * @param attempt the number of the failed attempt, starting at 1
+     * @return the delay in nanoseconds
+     */
+    public long getDelayNanos(final int attempt) {
+        final long maxDelayNanos = maxDelay.toNanos();
+        long delayNanos = initialDelay.toNanos();
+        for (int i = 1; i < attempt && delayNanos < maxDelayNanos; ++i) {
+            delayNanos *= 2L;
+        }
+
+        return Math.min(delayNanos, maxDelayNanos);
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.api.ResourceNotFoundException;
+import com.amilesend.tvmaze.client.api.ShowsApi;
+import com.amilesend.tvmaze.client.concurrent.BoundedFanOut;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.model.type.CrewMember;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * Crawls the full TVMaze catalog by walking the {@link ShowsApi#getIndex(int) show index} and retrieving the
+ * episodes, seasons, cast and crew of each show. Each crawled show is written to a {@link ShowRecordSink}.
+ * <p>
+ * Progress is persisted to a {@link CrawlCheckpoint checkpoint file} once each index page completes, and when the
+ * crawling thread is interrupted, so that an interrupted crawl resumes from the index page and show where it left
+ * off. A crawl that crashes mid-page resumes from the start of that page. Shows that fail are recorded in the
+ * checkpoint and retried at the start of the next crawl. Once a crawl reaches the end of the
+ * index, the checkpoint is restarted so that the next crawl makes a fresh pass over the full catalog.
+ * <p>
+ * The per-show requests are issued asynchronously with at most {@code parallelism} shows in flight, and are subject
+ * to the client's {@link TvMazeConfig#getRateLimiter() rate limiter}, if configured. Example:
+ * <pre>
+ * TvMaze client = new TvMaze(TvMazeConfig.builder()
+ *         .rateLimiter(RateLimiter.builder().build())
+ *         .build());
+ * CatalogCrawler crawler = CatalogCrawler.builder()
+ *         .client(client)
+ *         .checkpointFile(Path.of("crawl.checkpoint"))
+ *         .sink(record -&gt; store.write(record))
+ *         .build();
+ * CrawlResult result = crawler.crawl();
+ * </pre>
+ */
+@Slf4j
+public class CatalogCrawler {
+    private final ShowsApi showsApi;
+    @Getter
+    private final Path checkpointFile;
+    private final ShowRecordSink sink;
+    @Getter
+    private final int parallelism;
+    private final Object sinkLock = new Object();
+
+    /**
+     * Creates a new {@code CatalogCrawler}.
+     *
+     * @param client the client used to retrieve the catalog
+     * @param checkpointFile the file that the crawl progress is persisted to
+     * @param sink the sink that crawled shows are written to
+     * @param parallelism the maximum number of shows to retrieve concurrently
+     *                    (default: {@link TvMazeConfig#getBulkParallelism()})
+     */
+    @Builder
+    private CatalogCrawler(
+            @NonNull final TvMaze client,
+            @NonNull final Path checkpointFile,
+            @NonNull final ShowRecordSink sink,
+            final Integer parallelism) {
+        this.showsApi = client.getShowsApi();
+        this.checkpointFile = checkpointFile;
+        this.sink = sink;
+        this.parallelism = Optional.ofNullable(parallelism)
+                .orElseGet(() -> client.getConfig().getBulkParallelism() > 0
+                        ? client.getConfig().getBulkParallelism()
+                        : TvMazeConfig.DEFAULT_BULK_PARALLELISM);
+        Validate.isTrue(this.parallelism > 0, "parallelism must be > 0");
+    }
+
+    /**
+     * Crawls the catalog starting from the persisted checkpoint, if any. Shows that failed during a previous crawl
+     * are retried first. Empty index pages are skipped, and the crawl ends once the index returns a missing (404)
+     * page. The checkpoint is then restarted at the first page, so the next crawl makes a fresh pass that picks up
+     * both new shows and shows added to partially filled pages.
+     *
+     * @return the crawl summary
+     * @throws IOException if the checkpoint could not be read or written
+     * @throws ConnectionException if an index page could not be retrieved for any other reason (e.g., HTTP 429); the
+     *         checkpoint is not advanced past that page, so the next crawl resumes from it
+     */
+    public CrawlResult crawl() throws IOException {
+        final CrawlCheckpoint checkpoint = CrawlCheckpoint.load(checkpointFile);
+        final AtomicInteger showCount = new AtomicInteger();
+
+        final Collection<Integer> retryShowIds = checkpoint.getFailedShowIds();
+        if (!retryShowIds.isEmpty()) {
+            log.info("Retrying {} shows that failed during a previous crawl", retryShowIds.size());
+            crawlShows(retryShowIds, id -> fetchShowRecord(showsApi, id), true, checkpoint, showCount);
+            checkpoint.save(checkpointFile);
+        }
+
+        int pageCount = 0;
+        while (true) {
+            final int pageNum = checkpoint.getNextPageNum();
+            final List<Show> page = fetchIndexPage(pageNum);
+            if (Objects.isNull(page)) {
+                log.info("Finished a pass over the show index; the next crawl restarts at the first page");
+                checkpoint.restart();
+                checkpoint.save(checkpointFile);
+                break;
+            }
+
+            final Map<Integer, Show> pendingShows = new LinkedHashMap<>();
+            page.stream()
+                    .filter(s -> !checkpoint.isCompleted(s.getId()))
+                    .forEach(s -> pendingShows.put(s.getId(), s));
+            log.debug("Crawling {} of {} shows on index page {}", pendingShows.size(), page.size(), pageNum);
+            crawlShows(
+                    pendingShows.keySet(),
+                    id -> fetchShowRecord(showsApi, pendingShows.get(id)),
+                    false,
+                    checkpoint,
+                    showCount);
+
+            checkpoint.advancePage();
+            checkpoint.save(checkpointFile);
+            ++pageCount;
+        }
+
+        return CrawlResult.builder()
+                .pageCount(pageCount)
+                .showCount(showCount.get())
+                .failedShowIds(checkpoint.getFailedShowIds())
+                .build();
+    }
+
+    /** Gets the shows of the given index page, or {@code null} if the page is past the end of the index. */
+    private List<Show> fetchIndexPage(final int pageNum) {
+        try {
+            // The asynchronous call reports a 404 as a ResourceNotFoundException regardless of the connection
+            return Optional.ofNullable(showsApi.getIndexAsync(pageNum).join()).orElse(List.of());
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof ResourceNotFoundException) {
+                // The index responds with a 404 once the page number is past the last page
+                log.debug("Reached the end of the show index at page {}", pageNum, ex);
+                return null;
+            }
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    private void crawlShows(
+            final Collection<Integer> showIds,
+            final IntFunction<CompletableFuture<ShowRecord>> fetcher,
+            final boolean isRetry,
+            final CrawlCheckpoint checkpoint,
+            final AtomicInteger showCount) throws IOException {
+        final BoundedFanOut<Void> fanOut = BoundedFanOut.start(showIds, parallelism, fetcher, (showId, record, ex) -> {
+            complete(showId, record, ex, isRetry, checkpoint, showCount);
+            return null;
+        });
+        if (fanOut.isInterrupted()) {
+            fanOut.cancel();
+            checkpoint.save(checkpointFile);
+            throw new InterruptedIOException("Crawl was interrupted");
+        }
+
+        CompletableFuture.allOf(fanOut.getCompletions().values().toArray(new CompletableFuture[0])).join();
+    }
+
+    private void complete(
+            final int showId,
+            final ShowRecord record,
+            final Throwable error,
+            final boolean isRetry,
+            final CrawlCheckpoint checkpoint,
+            final AtomicInteger showCount) {
+        synchronized (sinkLock) {
+            Throwable failure = error;
+            if (Objects.isNull(failure)) {
+                try {
+                    sink.accept(record);
+                } catch (final Exception ex) {
+                    failure = ex;
+                }
+            }
+
+            if (Objects.isNull(failure)) {
+                // A retried show may belong to an earlier page, so it must not be skipped on the current page
+                if (isRetry) {
+                    checkpoint.markRetried(showId);
+                } else {
+                    checkpoint.markCompleted(showId);
+                }
+                showCount.incrementAndGet();
+            } else {
+                log.warn("Unable to crawl show {}; it will be retried on the next crawl", showId, failure);
+                checkpoint.markFailed(showId);
+            }
+
+        }
+    }
+
+    /**
+     * Retrieves the given show along with its episodes, seasons, cast and crew. Cancelling the returned future
+     * cancels the outstanding requests.
+     *
+     * @param showsApi the API used to retrieve the resources
+     * @param showId the show identifier
+     * @return the future that completes with the show record
+     */
+    static CompletableFuture<ShowRecord> fetchShowRecord(final ShowsApi showsApi, final int showId) {
+        final CompletableFuture<ShowRecord> record = new CompletableFuture<>();
+        final CompletableFuture<Show> show = showsApi.getShowAsync(showId);
+        record.whenComplete((r, ex) -> {
+            if (record.isCancelled()) {
+                show.cancel(true);
+            }
+        });
+        show.whenComplete((s, showEx) -> {
+            if (Objects.nonNull(showEx)) {
+                record.completeExceptionally(showEx);
+                return;
+            }
+
+            final CompletableFuture<ShowRecord> details = fetchShowRecord(showsApi, s);
+            // Runs immediately if the record was cancelled while the show was retrieved
+            record.whenComplete((r, ex) -> {
+                if (record.isCancelled()) {
+                    details.cancel(true);
+                }
+            });
+            details.whenComplete((r, ex) -> {
+                if (Objects.nonNull(ex)) {
+                    record.completeExceptionally(ex);
+                } else {
+                    record.complete(r);
+                }
+            });
+        });
+
+        return record;
+    }
+
+    /**
+     * Retrieves the episodes, seasons, cast and crew of the given show concurrently. Cancelling the returned future
+     * cancels the outstanding requests.
+     *
+     * @param showsApi the API used to retrieve the resources
+     * @param show the show
+     * @return the future that completes with the show record
+     */
+    static CompletableFuture<ShowRecord> fetchShowRecord(final ShowsApi showsApi, final Show show) {
+        final int showId = show.getId();
+        final CompletableFuture<List<Episode>> episodes = showsApi.getEpisodesAsync(showId, true);
+        final CompletableFuture<List<Season>> seasons = showsApi.getSeasonsAsync(showId);
+        final CompletableFuture<List<CastMember>> cast = showsApi.getCastAsync(showId);
+        final CompletableFuture<List<CrewMember>> crew = showsApi.getCrewAsync(showId);
+
+        final CompletableFuture<ShowRecord> record = CompletableFuture.allOf(episodes, seasons, cast, crew)
+                .thenApply(v -> ShowRecord.builder()
+                        .show(show)
+                        .episodes(episodes.join())
+                        .seasons(seasons.join())
+                        .cast(cast.join())
+                        .crew(crew.join())
+                        .build());
+        record.whenComplete((r, ex) -> {
+            if (record.isCancelled()) {
+                List.of(episodes, seasons, cast, crew).forEach(f -> f.cancel(true));
+            }
+        });
+
+        return record;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.client.util.Validate;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * The persisted progress of a {@link CatalogCrawler}. A checkpoint records the index page that is being crawled,
+ * the shows of that page that have already been written to the sink, and the shows that failed and must be retried.
+ * A checkpoint is restarted at the first page once a crawl reaches the end of the index.
+ * <p>
+ * Checkpoints are stored as a properties file. Saving writes to a temporary sibling file that is then moved over the
+ * checkpoint file so that a crash while saving never leaves a truncated checkpoint behind.
+ */
+@ToString
+public class CrawlCheckpoint {
+    static final String NEXT_PAGE_NUM_PROPERTY = "nextPageNum";
+    static final String COMPLETED_SHOW_IDS_PROPERTY = "completedShowIds";
+    static final String FAILED_SHOW_IDS_PROPERTY = "failedShowIds";
+    private static final String ID_DELIMITER = ",";
+
+    private int nextPageNum;
+    private final Set<Integer> completedShowIds;
+    private final Set<Integer> failedShowIds;
+
+    /**
+     * Creates a new {@code CrawlCheckpoint}.
+     *
+     * @param nextPageNum the index page that is being crawled
+     * @param completedShowIds the shows of the page that have been written to the sink
+     * @param failedShowIds the shows that must be retried
+     */
+    CrawlCheckpoint(
+            final int nextPageNum,
+            @NonNull final Set<Integer> completedShowIds,
+            @NonNull final Set<Integer> failedShowIds) {
+        Validate.isTrue(nextPageNum >= 0, "nextPageNum must be >= 0");
+        this.nextPageNum = nextPageNum;
+        this.completedShowIds = new TreeSet<>(completedShowIds);
+        this.failedShowIds = new TreeSet<>(failedShowIds);
+    }
+
+    /**
+     * Loads the checkpoint from the given file. If the file does not exist, then a checkpoint that starts at the
+     * first index page is returned.
+     *
+     * @param file the checkpoint file
+     * @return the checkpoint
+     * @throws IOException if the file could not be read
+     */
+    public static CrawlCheckpoint load(@NonNull final Path file) throws IOException {
+        if (Files.notExists(file)) {
+            return new CrawlCheckpoint(0, Collections.emptySet(), Collections.emptySet());
+        }
+
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        try {
+            return new CrawlCheckpoint(
+                    Integer.parseInt(properties.getProperty(NEXT_PAGE_NUM_PROPERTY, "0").trim()),
+                    parseIds(properties.getProperty(COMPLETED_SHOW_IDS_PROPERTY)),
+                    parseIds(properties.getProperty(FAILED_SHOW_IDS_PROPERTY)));
+        } catch (final IllegalArgumentException ex) {
+            throw new IOException("Invalid crawl checkpoint: " + file, ex);
+        }
+    }
+
+    /**
+     * Atomically writes this checkpoint to the given file.
+     *
+     * @param file the checkpoint file
+     * @throws IOException if the file could not be written
+     */
+    public synchronized void save(@NonNull final Path file) throws IOException {
+        final Properties properties = new Properties();
+        properties.setProperty(NEXT_PAGE_NUM_PROPERTY, String.valueOf(nextPageNum));
+        properties.setProperty(COMPLETED_SHOW_IDS_PROPERTY, formatIds(completedShowIds));
+        properties.setProperty(FAILED_SHOW_IDS_PROPERTY, formatIds(failedShowIds));
+
+        final Path absoluteFile = file.toAbsolutePath();
+        final Path tempFile = absoluteFile.resolveSibling(absoluteFile.getFileName() + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            properties.store(writer, "TVMaze catalog crawl checkpoint");
+        }
+
+        try {
+            Files.move(tempFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException ex) {
+            Files.move(tempFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gets the index page that is being crawled.
+     *
+     * @return the page number
+     */
+    public synchronized int getNextPageNum() {
+        return nextPageNum;
+    }
+
+    /**
+     * Gets the shows of the current index page that have been written to the sink.
+     *
+     * @return the sorted show identifiers
+     */
+    public synchronized Set<Integer> getCompletedShowIds() {
+        return Collections.unmodifiableSet(new TreeSet<>(completedShowIds));
+    }
+
+    /**
+     * Gets the shows that failed and are retried on the next crawl.
+     *
+     * @return the sorted show identifiers
+     */
+    public synchronized Set<Integer> getFailedShowIds() {
+        return Collections.unmodifiableSet(new TreeSet<>(failedShowIds));
+    }
+
+    /**
+     * Determines if the given show of the current index page has been written to the sink.
+     *
+     * @param showId the show identifier
+     * @return {@code true} if completed; else, {@code false}
+     */
+    public synchronized boolean isCompleted(final int showId) {
+        return completedShowIds.contains(showId);
+    }
+
+    synchronized void markCompleted(final int showId) {
+        completedShowIds.add(showId);
+        failedShowIds.remove(showId);
+    }
+
+    /** Clears the failure of a retried show without marking it completed on the current index page. */
+    synchronized void markRetried(final int showId) {
+        failedShowIds.remove(showId);
+    }
+
+    synchronized void markFailed(final int showId) {
+        failedShowIds.add(showId);
+    }
+
+    synchronized void advancePage() {
+        ++nextPageNum;
+        completedShowIds.clear();
+    }
+
+    synchronized void restart() {
+        nextPageNum = 0;
+        completedShowIds.clear();
+    }
+
+    private static Set<Integer> parseIds(final String value) {
+        if (StringUtils.isBlank(value)) {
+            return Collections.emptySet();
+        }
+
+        return Arrays.stream(value.split(ID_DELIMITER))
+                .map(String::trim)
+                .filter(StringUtils::isNotBlank)
+                .map(Integer::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    private static String formatIds(final Set<Integer> ids) {
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(ID_DELIMITER));
+    }
+}
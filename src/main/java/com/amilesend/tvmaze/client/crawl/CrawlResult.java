@@ -0,0 +1,50 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * Summarizes a single {@link CatalogCrawler#crawl()} run.
+ */
+@Builder
+@Getter
+@ToString
+public class CrawlResult {
+    /** The number of index pages that were completed during the run. */
+    private final int pageCount;
+    /** The number of shows that were written to the sink during the run. */
+    private final int showCount;
+    /** The identifiers of the shows that failed and are retried on the next run. */
+    @NonNull
+    private final Set<Integer> failedShowIds;
+
+    /**
+     * Determines if every show was crawled successfully.
+     *
+     * @return {@code true} if there are no failed shows; else, {@code false}
+     */
+    public boolean isSuccessful() {
+        return failedShowIds.isEmpty();
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+
+/**
+ * A local mirror of the TVMaze catalog that is kept current by a {@link MirrorSync}. Updated shows are written
+ * through {@link #accept(ShowRecord)}, so a store that was populated by a {@link CatalogCrawler} can be passed
+ * as the crawler's sink as well. Like a {@link ShowRecordSink}, the store is never invoked concurrently.
+ */
+public interface MirrorStore extends ShowRecordSink {
+    /**
+     * Gets the {@link com.amilesend.tvmaze.client.model.Show#getUpdated() updated} timestamp of each stored show.
+     *
+     * @return the map of show identifiers to updated timestamps
+     */
+    IntLongMap getShowUpdatedTimestamps();
+
+    /**
+     * Gets the {@link Person#getUpdated() updated} timestamp of each stored person. Only stored people are synced;
+     * the default implementation returns an empty map for stores that do not mirror people.
+     *
+     * @return the map of person identifiers to updated timestamps
+     */
+    default IntLongMap getPersonUpdatedTimestamps() {
+        return new IntLongMap();
+    }
+
+    /**
+     * Writes an updated person to the store.
+     *
+     * @param person the person
+     * @throws Exception if the person could not be written
+     */
+    default void putPerson(final Person person) throws Exception {
+        // No-op for stores that do not mirror people
+    }
+}
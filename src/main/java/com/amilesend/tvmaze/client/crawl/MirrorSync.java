@@ -0,0 +1,237 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.api.PeopleApi;
+import com.amilesend.tvmaze.client.api.ShowsApi;
+import com.amilesend.tvmaze.client.api.UpdatesApi;
+import com.amilesend.tvmaze.client.api.UpdatesApi.Since;
+import com.amilesend.tvmaze.client.cache.CacheKey;
+import com.amilesend.tvmaze.client.cache.ResourceCache;
+import com.amilesend.tvmaze.client.concurrent.BoundedFanOut;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.search.ExternalIdIndex;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a {@link MirrorStore} current by re-fetching only the shows and people that changed. Each sync compares the
+ * timestamps reported by the {@link UpdatesApi} against the {@code updated} timestamps of the stored resources:
+ * <ul>
+ *   <li>Shows that are new or whose timestamp differs are re-fetched along with their episodes, seasons, cast and
+ *       crew, and written to the store as a {@link ShowRecord}.</li>
+ *   <li>Stored people whose timestamp differs are re-fetched with {@link PeopleApi#getPeople(java.util.Collection)}.
+ *       People that are not already stored are ignored.</li>
+ * </ul>
+ * An optional {@link ExternalIdIndex} is updated with each show that is written to the store. Entries of the
+ * client's {@link TvMazeConfig#getShowCache() show} and {@link TvMazeConfig#getPersonCache() person} caches that are
+ * older than the reported timestamps are evicted before the changed resources are re-fetched, so that stale cached
+ * resources are not written to the store.
+ * <p>
+ * Example:
+ * <pre>
+ * MirrorSync mirrorSync = MirrorSync.builder()
+ *         .client(client)
+ *         .store(myStore)
+ *         .build();
+ * SyncResult result = mirrorSync.sync(UpdatesApi.Since.DAY);
+ * </pre>
+ */
+@Slf4j
+public class MirrorSync {
+    private final ShowsApi showsApi;
+    private final PeopleApi peopleApi;
+    private final UpdatesApi updatesApi;
+    private final ResourceCache<CacheKey, Show> showCache;
+    private final ResourceCache<CacheKey, Person> personCache;
+    private final MirrorStore store;
+    private final ExternalIdIndex externalIdIndex;
+    @Getter
+    private final int parallelism;
+    private final Object storeLock = new Object();
+
+    /**
+     * Creates a new {@code MirrorSync}.
+     *
+     * @param client the client used to retrieve the updates and changed resources
+     * @param store the local mirror
+     * @param parallelism the maximum number of shows to retrieve concurrently
+     *                    (default: {@link TvMazeConfig#getBulkParallelism()})
+     * @param externalIdIndex the optional external identifier index to keep current with the store
+     */
+    @Builder
+    private MirrorSync(
+            @NonNull final TvMaze client,
+            @NonNull final MirrorStore store,
+            final Integer parallelism,
+            final ExternalIdIndex externalIdIndex) {
+        this.showsApi = client.getShowsApi();
+        this.peopleApi = client.getPeopleApi();
+        this.updatesApi = client.getUpdatesApi();
+        this.showCache = client.getConfig().getShowCache();
+        this.personCache = client.getConfig().getPersonCache();
+        this.store = store;
+        this.externalIdIndex = externalIdIndex;
+        this.parallelism = Optional.ofNullable(parallelism)
+                .orElseGet(() -> client.getConfig().getBulkParallelism() > 0
+                        ? client.getConfig().getBulkParallelism()
+                        : TvMazeConfig.DEFAULT_BULK_PARALLELISM);
+        Validate.isTrue(this.parallelism > 0, "parallelism must be > 0");
+    }
+
+    /**
+     * Syncs the shows and people that changed within the given window. The window should cover the time since the
+     * previous sync; shows updated before the window are not detected.
+     *
+     * @param since the window of updates to consider, or {@code null} to compare against every resource
+     * @return the sync summary
+     */
+    public SyncResult sync(final Since since) {
+        final IntLongMap showUpdates = updatesApi.getShowUpdatesMap(since);
+        final int[] changedShowIds = showUpdates.changedSince(store.getShowUpdatedTimestamps()).keys();
+        log.debug("{} of {} updated shows changed since the last sync", changedShowIds.length, showUpdates.size());
+        evictStaleCachedResources(showCache, showUpdates, Show::getUpdated, "shows");
+        final Set<Integer> failedShowIds = new ConcurrentSkipListSet<>();
+        final int updatedShowCount = syncShows(changedShowIds, failedShowIds);
+
+        final IntLongMap storedPeople = store.getPersonUpdatedTimestamps();
+        final Set<Integer> failedPersonIds = new TreeSet<>();
+        int checkedPersonCount = 0;
+        int updatedPersonCount = 0;
+        if (!storedPeople.isEmpty()) {
+            final IntLongMap personUpdates = updatesApi.getPersonUpdatesMap(since);
+            checkedPersonCount = personUpdates.size();
+            final List<Integer> changedPersonIds = new ArrayList<>();
+            personUpdates.changedSince(storedPeople).forEach((id, updated) -> {
+                if (storedPeople.containsKey(id)) {
+                    changedPersonIds.add(id);
+                }
+            });
+            log.debug("{} stored people changed since the last sync", changedPersonIds.size());
+            evictStaleCachedResources(personCache, personUpdates, Person::getUpdated, "people");
+            updatedPersonCount = syncPeople(changedPersonIds, failedPersonIds);
+        }
+
+        return SyncResult.builder()
+                .checkedShowCount(showUpdates.size())
+                .updatedShowCount(updatedShowCount)
+                .checkedPersonCount(checkedPersonCount)
+                .updatedPersonCount(updatedPersonCount)
+                .failedShowIds(failedShowIds)
+                .failedPersonIds(failedPersonIds)
+                .build();
+    }
+
+    private static <V> void evictStaleCachedResources(
+            final ResourceCache<CacheKey, V> cache,
+            final IntLongMap updates,
+            final ToLongFunction<V> updatedFn,
+            final String resourceType) {
+        if (Objects.isNull(cache) || cache.size() == 0) {
+            return;
+        }
+
+        final List<CacheKey> staleKeys = cache.invalidateStale(updates, CacheKey::getId, updatedFn);
+        log.debug("Evicted {} stale cached {}", staleKeys.size(), resourceType);
+    }
+
+    private int syncShows(final int[] showIds, final Set<Integer> failedShowIds) {
+        final BoundedFanOut<Boolean> fanOut = BoundedFanOut.start(
+                Arrays.stream(showIds).boxed().collect(Collectors.toList()),
+                parallelism,
+                showId -> CatalogCrawler.fetchShowRecord(showsApi, showId),
+                (showId, record, ex) -> store(showId, record, ex, failedShowIds));
+        failedShowIds.addAll(fanOut.getUnstartedIds());
+
+        return (int) fanOut.getCompletions().values().stream()
+                .map(CompletableFuture::join)
+                .filter(Boolean::booleanValue)
+                .count();
+    }
+
+    private boolean store(
+            final int showId,
+            final ShowRecord record,
+            final Throwable error,
+            final Set<Integer> failedShowIds) {
+        synchronized (storeLock) {
+            Throwable failure = error;
+            if (Objects.isNull(failure)) {
+                try {
+                    store.accept(record);
+                    if (Objects.nonNull(externalIdIndex)) {
+                        externalIdIndex.put(record.getShow());
+                    }
+                    return true;
+                } catch (final Exception ex) {
+                    failure = ex;
+                }
+            }
+
+            log.warn("Unable to sync show {}", showId, failure);
+            failedShowIds.add(showId);
+            return false;
+        }
+    }
+
+    private int syncPeople(final List<Integer> personIds, final Set<Integer> failedPersonIds) {
+        if (personIds.isEmpty()) {
+            return 0;
+        }
+
+        final BulkResult<Integer, Person> people = peopleApi.getPeople(personIds);
+        people.getFailures().forEach((id, ex) -> log.warn("Unable to sync person {}", id, ex));
+        failedPersonIds.addAll(people.getFailures().keySet());
+
+        int updatedCount = 0;
+        synchronized (storeLock) {
+            for (final Map.Entry<Integer, Person> entry : people.getResults().entrySet()) {
+                try {
+                    store.putPerson(entry.getValue());
+                    ++updatedCount;
+                } catch (final Exception ex) {
+                    log.warn("Unable to store person {}", entry.getKey(), ex);
+                    failedPersonIds.add(entry.getKey());
+                }
+            }
+        }
+
+        return updatedCount;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.model.type.CrewMember;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * A show and its associated resources as retrieved by the {@link CatalogCrawler}.
+ */
+@Builder
+@Getter
+@ToString
+public class ShowRecord {
+    /** The show. */
+    @NonNull
+    private final Show show;
+    /** The episodes of the show, including specials. */
+    @NonNull
+    private final List<Episode> episodes;
+    /** The seasons of the show. */
+    @NonNull
+    private final List<Season> seasons;
+    /** The main cast of the show. */
+    @NonNull
+    private final List<CastMember> cast;
+    /** The main crew of the show. */
+    @NonNull
+    private final List<CrewMember> crew;
+}
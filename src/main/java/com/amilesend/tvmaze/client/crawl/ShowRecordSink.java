@@ -0,0 +1,34 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+/**
+ * Receives the {@link ShowRecord}s produced by a {@link CatalogCrawler}. Records are delivered one at a time (never
+ * concurrently) but not necessarily on the same thread or in show identifier order.
+ */
+@FunctionalInterface
+public interface ShowRecordSink {
+    /**
+     * Accepts a crawled show. The show is only recorded as completed in the crawl checkpoint after this method
+     * returns normally; if it throws, the show is recorded as failed and retried on the next crawl.
+     *
+     * @param record the crawled show
+     * @throws Exception if the record could not be written
+     */
+    void accept(ShowRecord record) throws Exception;
+}
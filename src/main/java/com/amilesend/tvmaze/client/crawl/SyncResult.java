@@ -0,0 +1,57 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * Summarizes a single {@link MirrorSync#sync(com.amilesend.tvmaze.client.api.UpdatesApi.Since)} run.
+ */
+@Builder
+@Getter
+@ToString
+public class SyncResult {
+    /** The number of shows reported by the updates endpoint. */
+    private final int checkedShowCount;
+    /** The number of shows that were re-fetched and written to the store. */
+    private final int updatedShowCount;
+    /** The number of people reported by the updates endpoint. */
+    private final int checkedPersonCount;
+    /** The number of people that were re-fetched and written to the store. */
+    private final int updatedPersonCount;
+    /** The identifiers of the shows that could not be re-fetched or stored. */
+    @NonNull
+    private final Set<Integer> failedShowIds;
+    /** The identifiers of the people that could not be re-fetched or stored. */
+    @NonNull
+    private final Set<Integer> failedPersonIds;
+
+    /**
+     * Determines if every changed show and person was synced successfully.
+     *
+     * @return {@code true} if there are no failures; else, {@code false}
+     */
+    public boolean isSuccessful() {
+        return failedShowIds.isEmpty() && failedPersonIds.isEmpty();
+    }
+}
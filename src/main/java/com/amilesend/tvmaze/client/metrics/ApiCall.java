@@ -0,0 +1,73 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.metrics;
+
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+import okhttp3.HttpUrl;
+
+/**
+ * Describes a request issued by an API method. An instance is created for each request only when an
+ * {@link ApiCallListener} is configured, and is passed to each of the listener's callbacks for the request.
+ *
+ * @see ApiCallListener
+ */
+@Getter
+@ToString
+public class ApiCall {
+    /** The resource identifier of calls that do not target a single resource (e.g., searches). */
+    public static final int NO_RESOURCE_ID = -1;
+
+    /** The operation name (e.g., {@code ShowsApi.getShow}). */
+    private final String operation;
+    /** The identifier of the targeted show, episode or person, or {@link #NO_RESOURCE_ID}. */
+    private final int resourceId;
+    /** The request URL. */
+    private final HttpUrl url;
+    /** {@code true} if the request was issued by an {@code *Async} method; else, {@code false}. */
+    private final boolean isAsync;
+
+    /**
+     * Creates a new {@code ApiCall}.
+     *
+     * @param operation the operation name
+     * @param resourceId the targeted resource identifier, or {@link #NO_RESOURCE_ID}
+     * @param url the request URL
+     * @param isAsync {@code true} if the request was issued by an {@code *Async} method
+     */
+    public ApiCall(
+            @NonNull final String operation,
+            final int resourceId,
+            @NonNull final HttpUrl url,
+            final boolean isAsync) {
+        this.operation = operation;
+        this.resourceId = resourceId;
+        this.url = url;
+        this.isAsync = isAsync;
+    }
+
+    /**
+     * Indicates if the call targets a single resource.
+     *
+     * @return {@code true} if the call has a resource identifier; else, {@code false}
+     */
+    public boolean hasResourceId() {
+        return resourceId != NO_RESOURCE_ID;
+    }
+}
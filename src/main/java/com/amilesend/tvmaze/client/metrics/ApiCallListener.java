@@ -0,0 +1,108 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.metrics;
+
+/**
+ * Receives a callback at each stage of every request issued by the API objects, e.g., to attribute tail latency in
+ * traces. For a successful request the stages are, in order:
+ * <ol>
+ *   <li>{@link #onUrlBuilt(ApiCall)}: the request URL was built (before any rate limit permit is acquired)</li>
+ *   <li>{@link #onRequestSent(ApiCall)}: the request is handed to the HTTP client</li>
+ *   <li>{@link #onHeadersReceived(ApiCall, int)}: the response headers were received</li>
+ *   <li>{@link #onBodyRead(ApiCall, long)}: the response body was read to its end, or the parser completed</li>
+ *   <li>{@link #onParseCompleted(ApiCall)}: the response body was parsed</li>
+ *   <li>{@link #onResultReturned(ApiCall)}: the result is returned to the caller (or completes the future)</li>
+ * </ol>
+ * A failed request ends with {@link #onFailed(ApiCall, Throwable)} instead. Blocking requests may be retried by the
+ * connection before the response headers are reported, and the connection only reports the headers of successful
+ * responses.
+ * <p>
+ * Callbacks are invoked on the calling thread, an HTTP client thread or the
+ * {@link com.amilesend.tvmaze.client.TvMazeConfig#getAsyncExecutor() async executor}, so implementations must be
+ * thread-safe and fast. Exceptions thrown by a callback are logged and do not fail the request. When no listener is
+ * configured, no {@link ApiCall} is created.
+ *
+ * @see com.amilesend.tvmaze.client.TvMazeConfig#getCallListener()
+ */
+public interface ApiCallListener {
+    /**
+     * Invoked once the request URL was built.
+     *
+     * @param call the call
+     */
+    default void onUrlBuilt(final ApiCall call) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked when the request is handed to the HTTP client.
+     *
+     * @param call the call
+     */
+    default void onRequestSent(final ApiCall call) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked once the response headers were received.
+     *
+     * @param call the call
+     * @param statusCode the response status code
+     */
+    default void onHeadersReceived(final ApiCall call, final int statusCode) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked once the response body was read to its end, or at the latest when the parser completed.
+     *
+     * @param call the call
+     * @param byteCount the number of (decompressed) body bytes read
+     */
+    default void onBodyRead(final ApiCall call, final long byteCount) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked once the response body was parsed.
+     *
+     * @param call the call
+     */
+    default void onParseCompleted(final ApiCall call) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked just before the result is returned to the caller or completes the returned future.
+     *
+     * @param call the call
+     */
+    default void onResultReturned(final ApiCall call) {
+        // No-op by default
+    }
+
+    /**
+     * Invoked when the request failed.
+     *
+     * @param call the call
+     * @param error the failure
+     */
+    default void onFailed(final ApiCall call, final Throwable error) {
+        // No-op by default
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.metrics;
+
+import lombok.NonNull;
+
+import java.util.List;
+
+/**
+ * Records the outcome of each request issued by the API objects. Requests are attributed to a logical operation
+ * named after the API method (e.g., {@code ShowsApi.getShow} or {@code ScheduleApi.getFullSchedule}); the blocking
+ * and {@code *Async} variants of a method share an operation.
+ * <p>
+ * Implementations are invoked on the calling thread (blocking requests) or on the
+ * {@link com.amilesend.tvmaze.client.TvMazeConfig#getAsyncExecutor() async executor}, possibly concurrently, and must
+ * be thread-safe and fast. {@link DefaultApiMetrics} is a dependency-free implementation; to publish to another
+ * metrics library (e.g., a Micrometer {@code MeterRegistry}), implement this interface and combine it with others
+ * via {@link #composite(ApiMetrics...)} if needed.
+ *
+ * @see com.amilesend.tvmaze.client.TvMazeConfig#getMetrics()
+ */
+public interface ApiMetrics {
+    /** The status code recorded for a failure without a known HTTP response status. */
+    int UNKNOWN_STATUS_CODE = 0;
+
+    /**
+     * Records a successful request.
+     *
+     * @param operation the operation name (e.g., {@code ShowsApi.getShow})
+     * @param statusCode the HTTP response status code
+     * @param networkNanos the time from issuing the request until the response headers were received, including any
+     *                     retries performed by the connection, plus the time spent waiting for the streamed response
+     *                     body to be received
+     * @param parseNanos the time spent parsing the response body, excluding the time spent waiting for it to be
+     *                   received
+     * @param responseBytes the number of (decompressed) response body bytes read
+     */
+    void recordSuccess(String operation, int statusCode, long networkNanos, long parseNanos, long responseBytes);
+
+    /**
+     * Records a failed request.
+     *
+     * @param operation the operation name (e.g., {@code ShowsApi.getShow})
+     * @param statusCode the HTTP response status code, or {@link #UNKNOWN_STATUS_CODE} if the request could not be
+     *                   sent, the response could not be read, or the status was not exposed by the connection
+     * @param elapsedNanos the time from issuing the request until the failure
+     */
+    void recordFailure(String operation, int statusCode, long elapsedNanos);
+
+    /**
+     * Creates an {@code ApiMetrics} that records to each of the given metrics in order.
+     *
+     * @param metrics the metrics to record to
+     * @return the composite metrics
+     */
+    static ApiMetrics composite(@NonNull final ApiMetrics... metrics) {
+        final List<ApiMetrics> delegates = List.of(metrics);
+        return new ApiMetrics() {
+            @Override
+            public void recordSuccess(
+                    final String operation,
+                    final int statusCode,
+                    final long networkNanos,
+                    final long parseNanos,
+                    final long responseBytes) {
+                for (final ApiMetrics delegate : delegates) {
+                    delegate.recordSuccess(operation, statusCode, networkNanos, parseNanos, responseBytes);
+                }
+            }
+
+            @Override
+            public void recordFailure(final String operation, final int statusCode, final long elapsedNanos) {
+                for (final ApiMetrics delegate : delegates) {
+                    delegate.recordFailure(operation, statusCode, elapsedNanos);
+                }
+            }
+        };
+    }
+}
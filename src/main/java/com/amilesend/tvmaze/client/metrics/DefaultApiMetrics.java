@@ -0,0 +1,128 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.metrics;
+
+import lombok.NonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A dependency-free, in-memory {@link ApiMetrics} that keeps the request count, error counts by status, network and
+ * parse latency histograms, and response bytes of each operation. Recording is lock-free.
+ * <p>
+ * Example:
+ * <pre>
+ * DefaultApiMetrics metrics = new DefaultApiMetrics();
+ * TvMaze client = new TvMaze(TvMazeConfig.builder()
+ *         .metrics(metrics)
+ *         .build());
+ * ...
+ * OperationStats stats = metrics.getStats("ShowsApi.getShow");
+ * long p99NetworkNanos = stats.getNetworkLatency().getPercentileNanos(99.0);
+ * </pre>
+ */
+public class DefaultApiMetrics implements ApiMetrics {
+    private final ConcurrentMap<String, OperationRecorder> recorders = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordSuccess(
+            @NonNull final String operation,
+            final int statusCode,
+            final long networkNanos,
+            final long parseNanos,
+            final long responseBytes) {
+        getRecorder(operation).recordSuccess(networkNanos, parseNanos, responseBytes);
+    }
+
+    @Override
+    public void recordFailure(@NonNull final String operation, final int statusCode, final long elapsedNanos) {
+        getRecorder(operation).recordFailure(statusCode);
+    }
+
+    /**
+     * Gets a snapshot of the metrics of an operation.
+     *
+     * @param operation the operation name (e.g., {@code ShowsApi.getShow})
+     * @return the operation metrics, or {@code null} if no requests were recorded for the operation
+     */
+    public OperationStats getStats(@NonNull final String operation) {
+        final OperationRecorder recorder = recorders.get(operation);
+        return Objects.isNull(recorder) ? null : recorder.snapshot(operation);
+    }
+
+    /**
+     * Gets a snapshot of the metrics of every operation with recorded requests.
+     *
+     * @return the operation metrics keyed and sorted by operation name
+     */
+    public Map<String, OperationStats> getStats() {
+        final Map<String, OperationStats> stats = new TreeMap<>();
+        recorders.forEach((operation, recorder) -> stats.put(operation, recorder.snapshot(operation)));
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /** Discards all recorded metrics. */
+    public void reset() {
+        recorders.clear();
+    }
+
+    private OperationRecorder getRecorder(final String operation) {
+        final OperationRecorder recorder = recorders.get(operation);
+        return Objects.nonNull(recorder) ? recorder : recorders.computeIfAbsent(operation, o -> new OperationRecorder());
+    }
+
+    /** The mutable metrics of an operation. */
+    private static class OperationRecorder {
+        private final LongAdder requestCount = new LongAdder();
+        private final ConcurrentMap<Integer, LongAdder> errorCounts = new ConcurrentHashMap<>();
+        private final LongAdder responseBytes = new LongAdder();
+        private final LatencyHistogram networkLatency = new LatencyHistogram();
+        private final LatencyHistogram parseLatency = new LatencyHistogram();
+
+        void recordSuccess(final long networkNanos, final long parseNanos, final long bytes) {
+            requestCount.increment();
+            responseBytes.add(bytes);
+            networkLatency.record(networkNanos);
+            parseLatency.record(parseNanos);
+        }
+
+        void recordFailure(final int statusCode) {
+            requestCount.increment();
+            errorCounts.computeIfAbsent(statusCode, c -> new LongAdder()).increment();
+        }
+
+        OperationStats snapshot(final String operation) {
+            final Map<Integer, Long> errorCountSnapshot = new TreeMap<>();
+            errorCounts.forEach((statusCode, count) -> errorCountSnapshot.put(statusCode, count.sum()));
+            return OperationStats.builder()
+                    .operation(operation)
+                    .requestCount(requestCount.sum())
+                    .errorCounts(Collections.unmodifiableMap(errorCountSnapshot))
+                    .responseBytes(responseBytes.sum())
+                    .networkLatency(networkLatency.snapshot())
+                    .parseLatency(parseLatency.snapshot())
+                    .build();
+        }
+    }
+}
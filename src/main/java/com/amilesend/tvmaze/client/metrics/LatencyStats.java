@@ -0,0 +1,102 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.metrics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+
+/** A point-in-time snapshot of a latency histogram. Durations are in nanoseconds. */
+@Getter
+@ToString
+public class LatencyStats {
+    /** The number of recorded durations. */
+    private final long count;
+    /** The sum of the recorded durations. */
+    private final long totalNanos;
+    /** The largest recorded duration. */
+    private final long maxNanos;
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final long[] bucketCounts;
+
+    LatencyStats(final long count, final long totalNanos, final long maxNanos, final long[] bucketCounts) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+        this.bucketCounts = bucketCounts;
+    }
+
+    /**
+     * Gets the mean of the recorded durations.
+     *
+     * @return the mean in nanoseconds, or {@code 0} if none were recorded
+     */
+    public long getMeanNanos() {
+        return count == 0L ? 0L : totalNanos / count;
+    }
+
+    /**
+     * Gets an approximation of a percentile of the recorded durations. The value is the upper bound of the histogram
+     * bucket that contains the percentile and is at most 25% larger than the exact value.
+     *
+     * @param percentile the percentile from {@code 0.0} to {@code 100.0} (e.g., {@code 99.0})
+     * @return the percentile in nanoseconds, or {@code 0} if none were recorded
+     */
+    public long getPercentileNanos(final double percentile) {
+        final long total = sumBucketCounts();
+        if (total == 0L) {
+            return 0L;
+        }
+
+        final double clamped = Math.min(100.0D, Math.max(0.0D, percentile));
+        final long rank = Math.max(1L, (long) Math.ceil(clamped / 100.0D * total));
+        long seen = 0L;
+        for (int i = 0; i < bucketCounts.length; ++i) {
+            seen += bucketCounts[i];
+            if (seen >= rank) {
+                return Math.min(LatencyHistogram.bucketUpperBound(i), maxNanos);
+            }
+        }
+
+        return maxNanos;
+    }
+
+    /**
+     * Gets an approximation of a percentile of the recorded durations.
+     *
+     * @param percentile the percentile from {@code 0.0} to {@code 100.0} (e.g., {@code 99.0})
+     * @return the percentile
+     * @see #getPercentileNanos(double)
+     */
+    public Duration getPercentile(final double percentile) {
+        return Duration.ofNanos(getPercentileNanos(percentile));
+    }
+
+    // The bucket counts are read individually and may differ slightly from the count during concurrent updates
+    private long sumBucketCounts() {
+        long total = 0L;
+        for (final long bucketCount : bucketCounts) {
+            total += bucketCount;
+        }
+
+        return total;
+    }
+}
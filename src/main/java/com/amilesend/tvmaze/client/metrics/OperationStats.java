@@ -0,0 +1,61 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * A point-in-time snapshot of the metrics of an API operation.
+ *
+ * @see DefaultApiMetrics
+ */
+@Builder
+@Getter
+@ToString
+public class OperationStats {
+    /** The operation name (e.g., {@code ShowsApi.getShow}). */
+    @NonNull
+    private final String operation;
+    /** The number of requests, including failed requests. */
+    private final long requestCount;
+    /** The number of failed requests by HTTP status code (or {@link ApiMetrics#UNKNOWN_STATUS_CODE}). */
+    @NonNull
+    private final Map<Integer, Long> errorCounts;
+    /** The total number of response body bytes read by successful requests. */
+    private final long responseBytes;
+    /** The time until the response headers were received for successful requests. */
+    @NonNull
+    private final LatencyStats networkLatency;
+    /** The time spent reading and parsing the response body for successful requests. */
+    @NonNull
+    private final LatencyStats parseLatency;
+
+    /**
+     * Gets the number of failed requests.
+     *
+     * @return the number of failed requests
+     */
+    public long getErrorCount() {
+        return errorCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -19,6 +19,7 @@ package com.amilesend.tvmaze.client.model;
 
 import com.amilesend.tvmaze.client.model.type.CastMember;
 import com.amilesend.tvmaze.client.model.type.Country;
+import com.amilesend.tvmaze.client.model.type.Externals;
 import com.amilesend.tvmaze.client.model.type.ImageUrl;
 import com.amilesend.tvmaze.client.model.type.Network;
 import com.amilesend.tvmaze.client.model.type.Rating;
@@ -33,21 +34,19 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
+import lombok.experimental.Tolerate;
 import lombok.experimental.UtilityClass;
-import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /** Describes a television show. */
 @SuperBuilder
 @Getter
 @ToString(callSuper = true)
-@Slf4j
 public class Show extends Resource<Show, ResourceLink> {
     /** The URL for the show. */
     private final String url;
@@ -83,11 +82,8 @@ public class Show extends Resource<Show, ResourceLink> {
     private final WebChannel webChannel;
     /** The associated country. */
     private final Country dvdCountry;
-    /**
-     * A map of source providers and associated identifiers. The key is the external source id (e.g., tvrage,
-     * thetvdb, imdb, etc.), and the value is the identifier.
-     */
-    private final Map<String, Object> externals;
+    /** The identifiers of the show on external sources. */
+    private final Externals externals;
     /** The images associated with the show. */
     private final ImageUrl image;
     /** A brief show summary. */
@@ -147,39 +143,52 @@ public class Show extends Resource<Show, ResourceLink> {
     }
 
     /**
-     * Gets the map of external show identifiers. he key is the external source id (e.g., tvrage,
+     * Gets the map of external show identifiers. The key is the external source id (e.g., tvrage,
      * thetvdb, imdb, etc.), and the value is the identifier.
      *
-     * @return the map of external identifiers
+     * @return the immutable map of external identifiers, or {@code null} if the show has none
+     * @see #getExternalIds()
      */
     public Map<String, String> getExternals() {
         if (Objects.isNull(externals) || externals.isEmpty()) {
             return null;
         }
 
-        return externals.entrySet().stream()
-                .filter(e -> Objects.nonNull(e.getValue()))
-                .collect(Collectors.toMap(e -> e.getKey(), e -> convertExternalIdToString(e.getValue())));
+        return externals.asMap();
     }
 
-    private static String convertExternalIdToString(final Object val) {
-        if (String.class.isInstance(val)) {
-            return (String) val;
-        }
-
-        if (Double.class.isInstance(val)) {
-            final Double doubleVal = (Double) val;
-            final int castedVal = doubleVal.intValue();
-            return String.valueOf(castedVal);
-        }
+    /**
+     * Gets the typed external show identifiers. Note: Can be {@code null}.
+     *
+     * @return the external identifiers
+     * @see Externals
+     */
+    public Externals getExternalIds() {
+        return externals;
+    }
 
-        if (Integer.class.isInstance(val)) {
-            final Integer integerVal = (Integer) val;
-            return String.valueOf(integerVal);
+    /**
+     * Builds {@link Show} instances.
+     *
+     * @param <C> the show type
+     * @param <B> the builder type
+     */
+    public abstract static class ShowBuilder<C extends Show, B extends ShowBuilder<C, B>>
+            extends Resource.ResourceBuilder<Show, ResourceLink, C, B> {
+        /**
+         * Sets the external identifiers from a map of identifiers keyed by external source (e.g., tvrage, thetvdb,
+         * imdb, etc.). Identifiers of sources that are not modeled are kept as {@link Externals#getOtherIds()}.
+         *
+         * @param externals the identifiers keyed by external source, or {@code null}
+         * @return this builder
+         * @deprecated use {@link #externals(Externals)} instead
+         * @see Externals#fromMap(Map)
+         */
+        @Deprecated
+        @Tolerate
+        public B externals(final Map<String, ?> externals) {
+            return externals(Externals.fromMap(externals));
         }
-
-        log.warn("Unsupported external Id [{}] of type [{}]", val, val.getClass());
-        return null;
     }
 
     /** Describes the supported resource links for a {@link Show}. */
@@ -0,0 +1,217 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.model.type;
+
+import com.google.gson.annotations.SerializedName;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Setter;
+import lombok.Singular;
+import lombok.ToString;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The identifiers of a show on external sources (TVRage, TheTVDB and IMDb). Identifiers of other sources, and
+ * identifiers that are not in the expected form, are kept in string form so that {@link #asMap()} is lossless.
+ */
+@Data
+public class Externals {
+    private static final String TVRAGE = "tvrage";
+    private static final String THETVDB = "thetvdb";
+    private static final String IMDB = "imdb";
+
+    /** The TVRage identifier, or {@code null}. */
+    @SerializedName(TVRAGE)
+    private final Integer tvrageId;
+    /** TheTVDB identifier, or {@code null}. */
+    @SerializedName(THETVDB)
+    private final Integer thetvdbId;
+    /** The IMDb identifier (e.g., "tt0944947"), or {@code null}. */
+    @SerializedName(IMDB)
+    private final String imdbId;
+    /**
+     * The identifiers in string form of the sources that are not modeled, keyed by external source. Note: is
+     * {@code null} for instances created by reflection (e.g., with Gson's reflective adapter).
+     */
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> otherIds;
+    /**
+     * The identifiers in string form keyed by external source. Built once as the identifiers are immutable, and
+     * lazily for instances created by reflection (e.g., with Gson's reflective adapter).
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private transient volatile Map<String, String> map;
+
+    /**
+     * Creates a new {@code Externals}.
+     *
+     * @param tvrageId the TVRage identifier, or {@code null}
+     * @param thetvdbId TheTVDB identifier, or {@code null}
+     * @param imdbId the IMDb identifier, or {@code null}
+     * @param otherIds the identifiers in string form of other sources keyed by external source
+     */
+    @Builder
+    private Externals(
+            final Integer tvrageId,
+            final Integer thetvdbId,
+            final String imdbId,
+            @Singular final Map<String, String> otherIds) {
+        this.tvrageId = tvrageId;
+        this.thetvdbId = thetvdbId;
+        this.imdbId = imdbId;
+        this.otherIds = Map.copyOf(otherIds);
+        this.map = newMap();
+    }
+
+    /**
+     * Creates a new {@code Externals} from a map of identifiers keyed by external source (e.g., as parsed by Gson's
+     * {@code ObjectTypeAdapter}, where numeric identifiers are {@link Double} values). Whole numbers are kept in
+     * integer form, and {@code null} values are ignored.
+     *
+     * @param externals the identifiers keyed by external source
+     * @return the external identifiers, or {@code null} if {@code externals} is {@code null}
+     */
+    public static Externals fromMap(final Map<String, ?> externals) {
+        if (Objects.isNull(externals)) {
+            return null;
+        }
+
+        final ExternalsBuilder builder = builder();
+        externals.forEach((source, value) -> {
+            if (Objects.nonNull(value)) {
+                builder.externalId(source, toIdString(value));
+            }
+        });
+
+        return builder.build();
+    }
+
+    /**
+     * Gets the identifiers in string form of the sources that are not modeled, keyed by external source.
+     *
+     * @return the immutable map of other external identifiers
+     */
+    public Map<String, String> getOtherIds() {
+        return Objects.isNull(otherIds) ? Map.of() : otherIds;
+    }
+
+    /**
+     * Indicates if no external identifiers are defined.
+     *
+     * @return {@code true} if there are no identifiers; else, {@code false}
+     */
+    public boolean isEmpty() {
+        return asMap().isEmpty();
+    }
+
+    /**
+     * Gets the identifiers in string form keyed by external source (e.g., tvrage, thetvdb and imdb), including the
+     * {@link #getOtherIds() other identifiers}.
+     *
+     * @return the immutable map of external identifiers
+     */
+    public Map<String, String> asMap() {
+        Map<String, String> value = map;
+        if (Objects.isNull(value)) {
+            // Benign race: concurrent callers build equal immutable maps
+            value = newMap();
+            map = value;
+        }
+
+        return value;
+    }
+
+    private Map<String, String> newMap() {
+        final Map<String, String> values = new HashMap<>(getOtherIds());
+        if (Objects.nonNull(tvrageId)) {
+            values.put(TVRAGE, String.valueOf(tvrageId));
+        }
+        if (Objects.nonNull(thetvdbId)) {
+            values.put(THETVDB, String.valueOf(thetvdbId));
+        }
+        if (Objects.nonNull(imdbId)) {
+            values.put(IMDB, imdbId);
+        }
+
+        return Map.copyOf(values);
+    }
+
+    private static String toIdString(final Object value) {
+        if (value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            if (number == Math.rint(number) && !Double.isInfinite(number)) {
+                return String.valueOf((long) number);
+            }
+        }
+
+        return String.valueOf(value);
+    }
+
+    /** Builds {@link Externals} instances. */
+    public static class ExternalsBuilder {
+        /**
+         * Sets the identifier in string form for the given external source. Identifiers of the modeled sources that
+         * are not in the expected form are kept as {@link Externals#getOtherIds() other identifiers}, as are the
+         * identifiers of other sources.
+         *
+         * @param source the external source (e.g., tvrage, thetvdb or imdb)
+         * @param value the identifier in string form
+         * @return this builder
+         */
+        public ExternalsBuilder externalId(@NonNull final String source, @NonNull final String value) {
+            switch (source) {
+                case TVRAGE:
+                    final Integer tvrage = parseId(value);
+                    if (Objects.nonNull(tvrage)) {
+                        return tvrageId(tvrage);
+                    }
+                    break;
+                case THETVDB:
+                    final Integer thetvdb = parseId(value);
+                    if (Objects.nonNull(thetvdb)) {
+                        return thetvdbId(thetvdb);
+                    }
+                    break;
+                case IMDB:
+                    return imdbId(value);
+                default:
+                    break;
+            }
+
+            return otherId(source, value);
+        }
+
+        private static Integer parseId(final String value) {
+            try {
+                return Integer.valueOf(value.trim());
+            } catch (final NumberFormatException ex) {
+                return null;
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import com.amilesend.client.parse.GsonFactoryBase;
 import com.amilesend.tvmaze.client.parse.adapters.LocalDateTimeTypeAdapter;
 import com.amilesend.tvmaze.client.parse.adapters.LocalDateTypeAdapter;
 import com.amilesend.tvmaze.client.parse.adapters.LocalTimeTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.ModelTypeAdapterFactory;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import lombok.NoArgsConstructor;
@@ -42,6 +43,7 @@ public class GsonFactory extends GsonFactoryBase<Connection> {
     protected GsonBuilder configure(final GsonBuilder gsonBuilder, final Connection connection) {
         return gsonBuilder.registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
                 .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
-                .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter());
+                .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter())
+                .registerTypeAdapterFactory(new ModelTypeAdapterFactory());
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link GsonParser} that reads a JSON object of integer keys to integral values (e.g., the updates endpoints)
+ * directly from the response stream into an {@link IntLongMap} without boxing each key and value.
+ */
+public class IntLongMapParser implements GsonParser<IntLongMap> {
+    /**
+     * Parses the JSON object from the given stream.
+     *
+     * @param gson the Gson instance
+     * @param jsonStream the response body stream
+     * @return the map
+     */
+    @Override
+    public IntLongMap parse(@NonNull final Gson gson, @NonNull final InputStream jsonStream) {
+        try (final JsonReader reader =
+                     gson.newJsonReader(new InputStreamReader(jsonStream, StandardCharsets.UTF_8))) {
+            final IntLongMap map = new IntLongMap();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                map.put(Integer.parseInt(reader.nextName()), reader.nextLong());
+            }
+            reader.endObject();
+
+            return map;
+        } catch (final NumberFormatException ex) {
+            throw new JsonSyntaxException("Invalid integer key", ex);
+        } catch (final IOException ex) {
+            throw new JsonIOException("Unable to read int to long map", ex);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse;
+
+import com.amilesend.client.parse.parser.GsonParser;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * A {@link GsonParser} that reads a JSON array element-by-element directly from the response stream and hands each
+ * parsed item to a {@link Consumer}. Items are never collected into a list, so the memory footprint is bounded by the
+ * size of a single item rather than the size of the response.
+ *
+ * @param <T> the item type
+ */
+@RequiredArgsConstructor
+public class StreamingListParser<T> implements GsonParser<Integer> {
+    /** The type of each item in the array. */
+    @NonNull
+    private final Class<T> clazz;
+    /** The consumer invoked for each parsed item. */
+    @NonNull
+    private final Consumer<T> consumer;
+
+    /**
+     * Parses the JSON array from the given stream.
+     *
+     * @param gson the Gson instance
+     * @param jsonStream the response body stream
+     * @return the number of items passed to the consumer
+     */
+    @Override
+    public Integer parse(@NonNull final Gson gson, @NonNull final InputStream jsonStream) {
+        final TypeAdapter<T> adapter = gson.getAdapter(clazz);
+        try (final JsonReader reader =
+                     gson.newJsonReader(new InputStreamReader(jsonStream, StandardCharsets.UTF_8))) {
+            int count = 0;
+            reader.beginArray();
+            while (reader.hasNext()) {
+                consumer.accept(adapter.read(reader));
+                ++count;
+            }
+            reader.endArray();
+
+            return count;
+        } catch (final IOException ex) {
+            throw new JsonIOException("Unable to read streamed list of " + clazz.getSimpleName(), ex);
+        }
+    }
+}
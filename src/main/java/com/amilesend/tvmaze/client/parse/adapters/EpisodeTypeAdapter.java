@@ -0,0 +1,113 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.type.ImageUrl;
+import com.amilesend.tvmaze.client.model.type.Rating;
+import com.amilesend.tvmaze.client.model.type.ResourceLink;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Map;
+
+/** Streaming GSON adapter for {@link Episode} objects. */
+class EpisodeTypeAdapter extends ModelTypeAdapter<Episode> {
+    private final TypeAdapter<Map<String, ResourceLink>> linksAdapter;
+    private final TypeAdapter<LocalDate> dateAdapter;
+    private final TypeAdapter<LocalTime> timeAdapter;
+    private final TypeAdapter<LocalDateTime> dateTimeAdapter;
+    private final TypeAdapter<Rating> ratingAdapter;
+    private final TypeAdapter<ImageUrl> imageUrlAdapter;
+    private final TypeAdapter<Episode.EmbeddedResource> embeddedResourceAdapter;
+
+    EpisodeTypeAdapter(final Gson gson, final TypeAdapter<Episode> delegate) {
+        super(delegate);
+        linksAdapter = gson.getAdapter(new TypeToken<Map<String, ResourceLink>>() {});
+        dateAdapter = gson.getAdapter(LocalDate.class);
+        timeAdapter = gson.getAdapter(LocalTime.class);
+        dateTimeAdapter = gson.getAdapter(LocalDateTime.class);
+        ratingAdapter = gson.getAdapter(Rating.class);
+        imageUrlAdapter = gson.getAdapter(ImageUrl.class);
+        embeddedResourceAdapter = gson.getAdapter(Episode.EmbeddedResource.class);
+    }
+
+    @Override
+    protected Episode readObject(final JsonReader in) throws IOException {
+        final Episode.EpisodeBuilder<?, ?> builder = Episode.builder();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    builder.id(nextInt(in));
+                    break;
+                case "_links":
+                    builder.links(linksAdapter.read(in));
+                    break;
+                case "url":
+                    builder.url(nextString(in));
+                    break;
+                case "name":
+                    builder.name(nextString(in));
+                    break;
+                case "season":
+                    builder.season(nextInt(in));
+                    break;
+                case "number":
+                    builder.number(nextInt(in));
+                    break;
+                case "type":
+                    builder.type(nextString(in));
+                    break;
+                case "airdate":
+                    builder.airdate(dateAdapter.read(in));
+                    break;
+                case "airtime":
+                    builder.airtime(timeAdapter.read(in));
+                    break;
+                case "airstamp":
+                    builder.airstamp(dateTimeAdapter.read(in));
+                    break;
+                case "runtime":
+                    builder.runtime(nextInt(in));
+                    break;
+                case "rating":
+                    builder.rating(ratingAdapter.read(in));
+                    break;
+                case "image":
+                    builder.image(imageUrlAdapter.read(in));
+                    break;
+                case "summary":
+                    builder.summary(nextString(in));
+                    break;
+                case "_embedded":
+                    builder.embeddedResource(embeddedResourceAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.model.type.Externals;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Streaming GSON adapter for {@link Externals} objects. Identifiers are read and written as TVMaze's flat object
+ * keyed by external source, so that the {@link Externals#getOtherIds() other identifiers} survive a round trip.
+ */
+class ExternalsTypeAdapter extends TypeAdapter<Externals> {
+    @Override
+    public void write(final JsonWriter out, final Externals value) throws IOException {
+        if (Objects.isNull(value)) {
+            out.nullValue();
+            return;
+        }
+
+        out.beginObject();
+        if (Objects.nonNull(value.getTvrageId())) {
+            out.name("tvrage").value(value.getTvrageId());
+        }
+        if (Objects.nonNull(value.getThetvdbId())) {
+            out.name("thetvdb").value(value.getThetvdbId());
+        }
+        if (Objects.nonNull(value.getImdbId())) {
+            out.name("imdb").value(value.getImdbId());
+        }
+        for (final Map.Entry<String, String> entry : new TreeMap<>(value.getOtherIds()).entrySet()) {
+            out.name(entry.getKey()).value(entry.getValue());
+        }
+        out.endObject();
+    }
+
+    @Override
+    public Externals read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final Externals.ExternalsBuilder builder = Externals.builder();
+        in.beginObject();
+        while (in.hasNext()) {
+            final String source = in.nextName();
+            final JsonToken token = in.peek();
+            if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+                // Numbers are read in their literal form rather than as Gson's boxed Double values
+                builder.externalId(source, in.nextString());
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.model.type.ImageUrl;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+
+/** Streaming GSON adapter for {@link ImageUrl} objects. */
+class ImageUrlTypeAdapter extends ModelTypeAdapter<ImageUrl> {
+    ImageUrlTypeAdapter(final TypeAdapter<ImageUrl> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected ImageUrl readObject(final JsonReader in) throws IOException {
+        final ImageUrl.ImageUrlBuilder builder = ImageUrl.builder();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "medium":
+                    builder.medium(nextString(in));
+                    break;
+                case "original":
+                    builder.original(nextString(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+
+        return builder.build();
+    }
+}
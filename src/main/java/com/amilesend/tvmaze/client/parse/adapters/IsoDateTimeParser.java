@@ -0,0 +1,152 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.chrono.IsoChronology;
+
+/**
+ * Hand-rolled parsers for the fixed-width ISO-8601 date and time formats returned by the TVMaze API
+ * (e.g., {@code 2012-04-15}, {@code 22:00} and {@code 2012-04-15T22:00:00+00:00}). Each parse method returns
+ * {@code null} when the value does not match the expected fixed-width layout so that the caller can fall back to
+ * {@link java.time.format.DateTimeFormatter} parsing.
+ */
+@UtilityClass
+class IsoDateTimeParser {
+    /** The length of a {@code yyyy-MM-dd} date. */
+    static final int DATE_LENGTH = 10;
+    /** The length of a {@code HH:mm} time. */
+    static final int TIME_LENGTH = 5;
+    /** The length of a {@code yyyy-MM-ddTHH:mm:ss} date time. */
+    static final int DATE_TIME_LENGTH = 19;
+
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final LocalTime[] MINUTE_OF_DAY_CACHE = new LocalTime[MINUTES_PER_DAY];
+
+    /**
+     * Parses a {@code yyyy-MM-dd} formatted date starting at the given offset.
+     *
+     * @param value the value
+     * @param offset the start offset
+     * @param cache the cache used to reuse previously created instances
+     * @return the date, or {@code null} if the value is not in the expected format
+     */
+    static LocalDate parseDate(final String value, final int offset, final LocalDateCache cache) {
+        if (value.length() < offset + DATE_LENGTH
+                || value.charAt(offset + 4) != '-'
+                || value.charAt(offset + 7) != '-') {
+            return null;
+        }
+
+        final int year = parseDigits(value, offset, 4);
+        final int month = parseDigits(value, offset + 5, 2);
+        final int day = parseDigits(value, offset + 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1) {
+            return null;
+        }
+
+        // Leave out-of-range days to the formatter so that its resolver style is preserved
+        if (day > 28 && day > Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year))) {
+            return null;
+        }
+
+        return cache.get(year, month, day);
+    }
+
+    /**
+     * Parses a {@code HH:mm[:ss]} formatted time starting at the given offset.
+     *
+     * @param value the value
+     * @param offset the start offset
+     * @param isSecondsIncluded {@code true} if the value includes seconds; else, {@code false}
+     * @return the time, or {@code null} if the value is not in the expected format
+     */
+    static LocalTime parseTime(final String value, final int offset, final boolean isSecondsIncluded) {
+        final int length = isSecondsIncluded ? TIME_LENGTH + 3 : TIME_LENGTH;
+        if (value.length() < offset + length
+                || value.charAt(offset + 2) != ':'
+                || (isSecondsIncluded && value.charAt(offset + 5) != ':')) {
+            return null;
+        }
+
+        final int hour = parseDigits(value, offset, 2);
+        final int minute = parseDigits(value, offset + 3, 2);
+        final int second = isSecondsIncluded ? parseDigits(value, offset + 6, 2) : 0;
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+
+        if (second != 0) {
+            return LocalTime.of(hour, minute, second);
+        }
+
+        // LocalTime is immutable, so a racy initialization of the cache slot is benign
+        final int minuteOfDay = hour * MINUTES_PER_HOUR + minute;
+        LocalTime time = MINUTE_OF_DAY_CACHE[minuteOfDay];
+        if (time == null) {
+            time = LocalTime.of(hour, minute);
+            MINUTE_OF_DAY_CACHE[minuteOfDay] = time;
+        }
+
+        return time;
+    }
+
+    /**
+     * Determines if the remaining characters of a date time value represent a zone offset that is ignored when
+     * parsing a {@link java.time.LocalDateTime} (i.e., empty, {@code Z} or {@code +HH:mm}/{@code -HH:mm}).
+     *
+     * @param value the value
+     * @param offset the offset of the first character after the date time
+     * @return {@code true} if the remainder is an ignorable offset; else, {@code false}
+     */
+    static boolean isIgnorableOffset(final String value, final int offset) {
+        final int remaining = value.length() - offset;
+        if (remaining == 0) {
+            return true;
+        }
+
+        if (remaining == 1) {
+            return value.charAt(offset) == 'Z';
+        }
+
+        final char sign = value.charAt(offset);
+        return remaining == 6
+                && (sign == '+' || sign == '-')
+                && value.charAt(offset + 3) == ':'
+                && parseDigits(value, offset + 1, 2) >= 0
+                && parseDigits(value, offset + 4, 2) >= 0;
+    }
+
+    private static int parseDigits(final String value, final int offset, final int length) {
+        int result = 0;
+        for (int i = offset; i < offset + length; ++i) {
+            final int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import java.time.LocalDate;
+
+/**
+ * A small direct-mapped cache of recently parsed {@link LocalDate} instances. Schedule and episode payloads repeat
+ * the same handful of dates many times, so reusing instances avoids allocating a new object per field.
+ * <p>
+ * {@link LocalDate} is immutable with final fields, so unsynchronized access to the slots is safe: a reader either
+ * observes a fully constructed instance or a stale/empty slot, in which case a new instance is created.
+ */
+class LocalDateCache {
+    private static final int DEFAULT_SIZE = 512;
+
+    private final LocalDate[] slots;
+    private final int mask;
+
+    /** Creates a new {@code LocalDateCache} with the default size. */
+    LocalDateCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Creates a new {@code LocalDateCache}.
+     *
+     * @param size the number of slots, rounded up to the next power of two
+     */
+    LocalDateCache(final int size) {
+        final int capacity = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        slots = new LocalDate[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Gets the cached date for the given fields, or creates and caches a new instance.
+     *
+     * @param year the year
+     * @param month the month of year (1-12)
+     * @param day the day of month (1-31)
+     * @return the date
+     * @throws java.time.DateTimeException if the fields do not represent a valid date
+     */
+    LocalDate get(final int year, final int month, final int day) {
+        final int key = (year << 9) | (month << 5) | day;
+        final int index = (key ^ (key >>> 7)) & mask;
+        final LocalDate cached = slots[index];
+        if (cached != null
+                && cached.getDayOfMonth() == day
+                && cached.getMonthValue() == month
+                && cached.getYear() == year) {
+            return cached;
+        }
+
+        final LocalDate date = LocalDate.of(year, month, day);
+        slots[index] = date;
+        return date;
+    }
+}
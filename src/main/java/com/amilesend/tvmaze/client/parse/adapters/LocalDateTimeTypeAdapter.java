@@ -18,41 +18,69 @@
 package com.amilesend.tvmaze.client.parse.adapters;
 
 import com.amilesend.client.util.StringUtils;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Optional;
 
 /** GSON adapter to format and series {@link java.time.LocalDateTime} objects. */
-public class LocalDateTimeTypeAdapter implements JsonSerializer<LocalDateTime>, JsonDeserializer<LocalDateTime> {
+public class LocalDateTimeTypeAdapter extends TypeAdapter<LocalDateTime> {
+    private final LocalDateCache cache = new LocalDateCache();
+
     @Override
-    public JsonElement serialize(
-            final LocalDateTime dateTime,
-            final Type typeOfSrc,
-            final JsonSerializationContext context) {
-        return Optional.ofNullable(dateTime)
-                .map(dt -> new JsonPrimitive(dt.format(DateTimeFormatter.ISO_DATE_TIME)))
-                .orElse(null);
+    public void write(final JsonWriter out, final LocalDateTime dateTime) throws IOException {
+        if (dateTime == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.value(dateTime.format(DateTimeFormatter.ISO_DATE_TIME));
     }
 
     @Override
-    public LocalDateTime deserialize(
-            final JsonElement jsonElement,
-            final Type typeOfT,
-            final JsonDeserializationContext context) throws JsonParseException {
-        final String dateTimeAsString = jsonElement.getAsString();
+    public LocalDateTime read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final String dateTimeAsString = in.nextString();
         if (StringUtils.isBlank(dateTimeAsString)) {
             return null;
         }
 
+        final LocalDateTime dateTime = parseFixedWidth(dateTimeAsString);
+        if (dateTime != null) {
+            return dateTime;
+        }
+
         return LocalDateTime.parse(dateTimeAsString, DateTimeFormatter.ISO_DATE_TIME);
     }
+
+    // Handles yyyy-MM-ddTHH:mm:ss with an optional (ignored) offset; anything else falls back to the formatter
+    private LocalDateTime parseFixedWidth(final String value) {
+        if (value.length() < IsoDateTimeParser.DATE_TIME_LENGTH
+                || value.charAt(IsoDateTimeParser.DATE_LENGTH) != 'T'
+                || !IsoDateTimeParser.isIgnorableOffset(value, IsoDateTimeParser.DATE_TIME_LENGTH)) {
+            return null;
+        }
+
+        final LocalDate date = IsoDateTimeParser.parseDate(value, 0, cache);
+        if (date == null) {
+            return null;
+        }
+
+        final LocalTime time = IsoDateTimeParser.parseTime(value, IsoDateTimeParser.DATE_LENGTH + 1, true);
+        if (time == null) {
+            return null;
+        }
+
+        return LocalDateTime.of(date, time);
+    }
 }
@@ -18,43 +18,50 @@
 package com.amilesend.tvmaze.client.parse.adapters;
 
 import com.amilesend.client.util.StringUtils;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Optional;
 
 /** GSON adapter to format and series {@link java.time.LocalDate} objects. */
-public class LocalDateTypeAdapter implements JsonSerializer<LocalDate>, JsonDeserializer<LocalDate> {
+public class LocalDateTypeAdapter extends TypeAdapter<LocalDate> {
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    private final LocalDateCache cache = new LocalDateCache();
+
     @Override
-    public JsonElement serialize(
-            final LocalDate date,
-            final Type typeOfSrc,
-            final JsonSerializationContext context) {
-        return Optional.ofNullable(date)
-                .map(d -> new JsonPrimitive(d.format(FORMATTER)))
-                .orElse(null);
+    public void write(final JsonWriter out, final LocalDate date) throws IOException {
+        if (date == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.value(date.format(FORMATTER));
     }
 
     @Override
-    public LocalDate deserialize(
-            final JsonElement jsonElement,
-            final Type typeOfT,
-            final JsonDeserializationContext context) throws JsonParseException {
-        final String timeAsString = jsonElement.getAsString();
-        if (StringUtils.isBlank(timeAsString)) {
+    public LocalDate read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
             return null;
         }
 
-        return LocalDate.parse(timeAsString, FORMATTER);
+        final String dateAsString = in.nextString();
+        if (StringUtils.isBlank(dateAsString)) {
+            return null;
+        }
+
+        if (dateAsString.length() == IsoDateTimeParser.DATE_LENGTH) {
+            final LocalDate date = IsoDateTimeParser.parseDate(dateAsString, 0, cache);
+            if (date != null) {
+                return date;
+            }
+        }
+
+        return LocalDate.parse(dateAsString, FORMATTER);
     }
 }
@@ -18,43 +18,48 @@
 package com.amilesend.tvmaze.client.parse.adapters;
 
 import com.amilesend.client.util.StringUtils;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
-import java.lang.reflect.Type;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Optional;
 
 /** GSON adapter to format and series {@link java.time.LocalTime} objects. */
-public class LocalTimeTypeAdapter implements JsonSerializer<LocalTime>, JsonDeserializer<LocalTime>  {
+public class LocalTimeTypeAdapter extends TypeAdapter<LocalTime> {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
     @Override
-    public JsonElement serialize(
-            final LocalTime time,
-            final Type type,
-            final JsonSerializationContext jsonSerializationContext) {
-        return Optional.ofNullable(time)
-                .map(t -> new JsonPrimitive(t.format(FORMATTER)))
-                .orElse(null);
+    public void write(final JsonWriter out, final LocalTime time) throws IOException {
+        if (time == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.value(time.format(FORMATTER));
     }
 
     @Override
-    public LocalTime deserialize(
-            final JsonElement jsonElement,
-            final Type type,
-            final JsonDeserializationContext jsonDeserializationContext) throws JsonParseException {
-        final String timeAsString = jsonElement.getAsString();
+    public LocalTime read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final String timeAsString = in.nextString();
         if (StringUtils.isBlank(timeAsString)) {
             return null;
         }
 
-        return LocalTime.parse(jsonElement.getAsString(), FORMATTER);
+        if (timeAsString.length() == IsoDateTimeParser.TIME_LENGTH) {
+            final LocalTime time = IsoDateTimeParser.parseTime(timeAsString, 0, false);
+            if (time != null) {
+                return time;
+            }
+        }
+
+        return LocalTime.parse(timeAsString, FORMATTER);
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class for the hand-written streaming model adapters. Deserialization reads fields directly from the
+ * {@link JsonReader} while serialization is delegated to Gson's reflective adapter for the same type.
+ *
+ * @param <T> the model type
+ */
+@RequiredArgsConstructor
+abstract class ModelTypeAdapter<T> extends TypeAdapter<T> {
+    /** The reflective adapter used for serialization. */
+    @NonNull
+    private final TypeAdapter<T> delegate;
+
+    @Override
+    public void write(final JsonWriter out, final T value) throws IOException {
+        delegate.write(out, value);
+    }
+
+    @Override
+    public T read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        in.beginObject();
+        final T value = readObject(in);
+        in.endObject();
+
+        return value;
+    }
+
+    /**
+     * Reads the fields of the current JSON object. Implementations must consume all fields of the object but not
+     * the enclosing braces.
+     *
+     * @param in the reader positioned inside the object
+     * @return the model object
+     * @throws IOException if an error occurred while reading
+     */
+    protected abstract T readObject(JsonReader in) throws IOException;
+
+    /**
+     * Reads a nullable string value.
+     *
+     * @param in the reader
+     * @return the string, or {@code null}
+     * @throws IOException if an error occurred while reading
+     */
+    protected static String nextString(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return in.nextString();
+    }
+
+    /**
+     * Reads an integer value, defaulting to {@code 0} when the value is {@code null}.
+     *
+     * @param in the reader
+     * @return the integer
+     * @throws IOException if an error occurred while reading
+     */
+    protected static int nextInt(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0;
+        }
+
+        return in.nextInt();
+    }
+
+    /**
+     * Reads a long value, defaulting to {@code 0} when the value is {@code null}.
+     *
+     * @param in the reader
+     * @return the long
+     * @throws IOException if an error occurred while reading
+     */
+    protected static long nextLong(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0L;
+        }
+
+        return in.nextLong();
+    }
+
+    /**
+     * Reads a nullable double value.
+     *
+     * @param in the reader
+     * @return the double, or {@code null}
+     * @throws IOException if an error occurred while reading
+     */
+    protected static Double nextDouble(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        return in.nextDouble();
+    }
+
+    /**
+     * Reads a nullable list of strings.
+     *
+     * @param in the reader
+     * @return the list of strings, or {@code null}
+     * @throws IOException if an error occurred while reading
+     */
+    protected static List<String> nextStringList(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final List<String> values = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            values.add(nextString(in));
+        }
+        in.endArray();
+
+        return values;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.Country;
+import com.amilesend.tvmaze.client.model.type.Externals;
+import com.amilesend.tvmaze.client.model.type.ImageUrl;
+import com.amilesend.tvmaze.client.model.type.Network;
+import com.amilesend.tvmaze.client.model.type.Rating;
+import com.amilesend.tvmaze.client.model.type.Schedule;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * GSON adapter factory that vends hand-written streaming adapters for the frequently deserialized model types
+ * ({@link Show}, {@link Episode}, {@link Person} and their nested value types) in place of Gson's reflective
+ * adapters. Serialization is still handled by the reflective adapter of each type, except for {@link Externals},
+ * which is written as TVMaze's flat object of identifiers.
+ */
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> type) {
+        final Class<? super T> rawType = type.getRawType();
+        if (rawType == Show.class) {
+            return (TypeAdapter<T>) new ShowTypeAdapter(gson, delegate(gson, Show.class));
+        } else if (rawType == Episode.class) {
+            return (TypeAdapter<T>) new EpisodeTypeAdapter(gson, delegate(gson, Episode.class));
+        } else if (rawType == Person.class) {
+            return (TypeAdapter<T>) new PersonTypeAdapter(gson, delegate(gson, Person.class));
+        } else if (rawType == Schedule.class) {
+            return (TypeAdapter<T>) new ScheduleTypeAdapter(delegate(gson, Schedule.class));
+        } else if (rawType == Rating.class) {
+            return (TypeAdapter<T>) new RatingTypeAdapter(delegate(gson, Rating.class));
+        } else if (rawType == Network.class) {
+            return (TypeAdapter<T>) new NetworkTypeAdapter(
+                    delegate(gson, Network.class),
+                    gson.getAdapter(Country.class));
+        } else if (rawType == ImageUrl.class) {
+            return (TypeAdapter<T>) new ImageUrlTypeAdapter(delegate(gson, ImageUrl.class));
+        } else if (rawType == Country.class) {
+            return (TypeAdapter<T>) new CountryTypeAdapter(delegate(gson, Country.class));
+        } else if (rawType == Externals.class) {
+            return (TypeAdapter<T>) new ExternalsTypeAdapter();
+        }
+
+        return null;
+    }
+
+    private <T> TypeAdapter<T> delegate(final Gson gson, final Class<T> clazz) {
+        return gson.getDelegateAdapter(this, TypeToken.get(clazz));
+    }
+}
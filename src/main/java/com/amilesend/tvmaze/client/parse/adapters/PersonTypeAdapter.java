@@ -0,0 +1,95 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.type.Country;
+import com.amilesend.tvmaze.client.model.type.ImageUrl;
+import com.amilesend.tvmaze.client.model.type.ResourceLink;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+
+/** Streaming GSON adapter for {@link Person} objects. */
+class PersonTypeAdapter extends ModelTypeAdapter<Person> {
+    private final TypeAdapter<Map<String, ResourceLink>> linksAdapter;
+    private final TypeAdapter<LocalDate> dateAdapter;
+    private final TypeAdapter<Country> countryAdapter;
+    private final TypeAdapter<ImageUrl> imageUrlAdapter;
+    private final TypeAdapter<Person.EmbeddedResource> embeddedResourceAdapter;
+
+    PersonTypeAdapter(final Gson gson, final TypeAdapter<Person> delegate) {
+        super(delegate);
+        linksAdapter = gson.getAdapter(new TypeToken<Map<String, ResourceLink>>() {});
+        dateAdapter = gson.getAdapter(LocalDate.class);
+        countryAdapter = gson.getAdapter(Country.class);
+        imageUrlAdapter = gson.getAdapter(ImageUrl.class);
+        embeddedResourceAdapter = gson.getAdapter(Person.EmbeddedResource.class);
+    }
+
+    @Override
+    protected Person readObject(final JsonReader in) throws IOException {
+        final Person.PersonBuilder<?, ?> builder = Person.builder();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    builder.id(nextInt(in));
+                    break;
+                case "_links":
+                    builder.links(linksAdapter.read(in));
+                    break;
+                case "url":
+                    builder.url(nextString(in));
+                    break;
+                case "name":
+                    builder.name(nextString(in));
+                    break;
+                case "country":
+                    builder.country(countryAdapter.read(in));
+                    break;
+                case "birthday":
+                    builder.birthday(dateAdapter.read(in));
+                    break;
+                case "deathday":
+                    builder.deathday(dateAdapter.read(in));
+                    break;
+                case "gender":
+                    builder.gender(nextString(in));
+                    break;
+                case "image":
+                    builder.image(imageUrlAdapter.read(in));
+                    break;
+                case "updated":
+                    builder.updated(nextLong(in));
+                    break;
+                case "_embedded":
+                    builder.embeddedResource(embeddedResourceAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.model.type.Rating;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+
+/** Streaming GSON adapter for {@link Rating} objects. */
+class RatingTypeAdapter extends ModelTypeAdapter<Rating> {
+    RatingTypeAdapter(final TypeAdapter<Rating> delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected Rating readObject(final JsonReader in) throws IOException {
+        Double average = null;
+        while (in.hasNext()) {
+            if ("average".equals(in.nextName())) {
+                average = nextDouble(in);
+            } else {
+                in.skipValue();
+            }
+        }
+
+        return Rating.builder().average(average).build();
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.Country;
+import com.amilesend.tvmaze.client.model.type.Externals;
+import com.amilesend.tvmaze.client.model.type.ImageUrl;
+import com.amilesend.tvmaze.client.model.type.Network;
+import com.amilesend.tvmaze.client.model.type.Rating;
+import com.amilesend.tvmaze.client.model.type.ResourceLink;
+import com.amilesend.tvmaze.client.model.type.Schedule;
+import com.amilesend.tvmaze.client.model.type.WebChannel;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+
+/** Streaming GSON adapter for {@link Show} objects. */
+class ShowTypeAdapter extends ModelTypeAdapter<Show> {
+    private final TypeAdapter<Map<String, ResourceLink>> linksAdapter;
+    private final TypeAdapter<LocalDate> dateAdapter;
+    private final TypeAdapter<Schedule> scheduleAdapter;
+    private final TypeAdapter<Rating> ratingAdapter;
+    private final TypeAdapter<Network> networkAdapter;
+    private final TypeAdapter<WebChannel> webChannelAdapter;
+    private final TypeAdapter<Country> countryAdapter;
+    private final TypeAdapter<Externals> externalsAdapter;
+    private final TypeAdapter<ImageUrl> imageUrlAdapter;
+    private final TypeAdapter<Show.EmbeddedResource> embeddedResourceAdapter;
+
+    ShowTypeAdapter(final Gson gson, final TypeAdapter<Show> delegate) {
+        super(delegate);
+        linksAdapter = gson.getAdapter(new TypeToken<Map<String, ResourceLink>>() {});
+        dateAdapter = gson.getAdapter(LocalDate.class);
+        scheduleAdapter = gson.getAdapter(Schedule.class);
+        ratingAdapter = gson.getAdapter(Rating.class);
+        networkAdapter = gson.getAdapter(Network.class);
+        webChannelAdapter = gson.getAdapter(WebChannel.class);
+        countryAdapter = gson.getAdapter(Country.class);
+        externalsAdapter = gson.getAdapter(Externals.class);
+        imageUrlAdapter = gson.getAdapter(ImageUrl.class);
+        embeddedResourceAdapter = gson.getAdapter(Show.EmbeddedResource.class);
+    }
+
+    @Override
+    protected Show readObject(final JsonReader in) throws IOException {
+        final Show.ShowBuilder<?, ?> builder = Show.builder();
+        while (in.hasNext()) {
+            switch (in.nextName()) {
+                case "id":
+                    builder.id(nextInt(in));
+                    break;
+                case "_links":
+                    builder.links(linksAdapter.read(in));
+                    break;
+                case "url":
+                    builder.url(nextString(in));
+                    break;
+                case "name":
+                    builder.name(nextString(in));
+                    break;
+                case "type":
+                    builder.type(nextString(in));
+                    break;
+                case "language":
+                    builder.language(nextString(in));
+                    break;
+                case "genres":
+                    builder.genres(nextStringList(in));
+                    break;
+                case "status":
+                    builder.status(nextString(in));
+                    break;
+                case "runtime":
+                    builder.runtime(nextInt(in));
+                    break;
+                case "averageRuntime":
+                    builder.averageRuntime(nextInt(in));
+                    break;
+                case "premiered":
+                    builder.premiered(dateAdapter.read(in));
+                    break;
+                case "ended":
+                    builder.ended(dateAdapter.read(in));
+                    break;
+                case "officialSite":
+                    builder.officialSite(nextString(in));
+                    break;
+                case "schedule":
+                    builder.schedule(scheduleAdapter.read(in));
+                    break;
+                case "rating":
+                    builder.rating(ratingAdapter.read(in));
+                    break;
+                case "weight":
+                    builder.weight(nextInt(in));
+                    break;
+                case "network":
+                    builder.network(networkAdapter.read(in));
+                    break;
+                case "webChannel":
+                    builder.webChannel(webChannelAdapter.read(in));
+                    break;
+                case "dvdCountry":
+                    builder.dvdCountry(countryAdapter.read(in));
+                    break;
+                case "externals":
+                    builder.externals(externalsAdapter.read(in));
+                    break;
+                case "image":
+                    builder.image(imageUrlAdapter.read(in));
+                    break;
+                case "summary":
+                    builder.summary(nextString(in));
+                    break;
+                case "updated":
+                    builder.updated(nextLong(in));
+                    break;
+                case "_embedded":
+                    builder.embeddedResource(embeddedResourceAdapter.read(in));
+                    break;
+                default:
+                    in.skipValue();
+            }
+        }
+
+        return builder.build();
+    }
+}
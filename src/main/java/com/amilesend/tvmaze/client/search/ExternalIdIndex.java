@@ -0,0 +1,291 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.search;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.tvmaze.client.api.ResourceNotFoundException;
+import com.amilesend.tvmaze.client.api.SearchApi;
+import com.amilesend.tvmaze.client.api.SearchApi.ShowLookupIdType;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.Externals;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory, bidirectional index between the external identifiers of shows (IMDb, TheTVDB and TVRage) and
+ * TVMaze show identifiers. The index is built from the {@link Show#getExternalIds() externals} of mirrored shows and
+ * kept current by passing it to a {@link com.amilesend.tvmaze.client.crawl.MirrorSync}.
+ * <p>
+ * When configured with a {@link SearchApi}, {@link #lookupShowId(ShowLookupIdType, String)} falls back to
+ * {@link SearchApi#lookupShow(ShowLookupIdType, String)} on a local miss and indexes the returned show so that
+ * subsequent lookups of its identifiers are answered locally. The index may be read concurrently with updates.
+ * <p>
+ * Example:
+ * <pre>
+ * ExternalIdIndex index = ExternalIdIndex.builder()
+ *         .searchApi(client.getSearchApi()) // Optional network fallback
+ *         .build();
+ * mirroredShows.forEach(index::put);
+ * Integer showId = index.lookupShowId(ShowLookupIdType.IMDB, "tt0944947");
+ * </pre>
+ */
+@Slf4j
+public class ExternalIdIndex {
+    private static final ShowLookupIdType[] ID_TYPES = ShowLookupIdType.values();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<ShowLookupIdType, Map<String, Integer>> showIdsByExternalId =
+            new EnumMap<>(ShowLookupIdType.class);
+    /** The external identifiers of each show, indexed by {@link ShowLookupIdType#ordinal()}. */
+    private final Map<Integer, String[]> externalIdsByShowId = new HashMap<>();
+    private final SearchApi searchApi;
+
+    /**
+     * Creates a new {@code ExternalIdIndex}.
+     *
+     * @param searchApi the API used to look up shows that are not indexed, or {@code null} to only use the index
+     */
+    @Builder
+    private ExternalIdIndex(final SearchApi searchApi) {
+        this.searchApi = searchApi;
+        for (final ShowLookupIdType type : ID_TYPES) {
+            showIdsByExternalId.put(type, new HashMap<>());
+        }
+    }
+
+    ///////////////
+    // updates
+    ///////////////
+
+    /**
+     * Adds or replaces the external identifiers of a show.
+     *
+     * @param show the show
+     */
+    public void put(@NonNull final Show show) {
+        final Externals externals = show.getExternalIds();
+        final String[] externalIds = new String[ID_TYPES.length];
+        boolean hasExternalIds = false;
+        if (Objects.nonNull(externals)) {
+            externalIds[ShowLookupIdType.IMDB.ordinal()] = normalize(externals.getImdbId());
+            externalIds[ShowLookupIdType.TVDB.ordinal()] = toString(externals.getThetvdbId());
+            externalIds[ShowLookupIdType.TV_RAGE.ordinal()] = toString(externals.getTvrageId());
+            for (final String externalId : externalIds) {
+                hasExternalIds |= Objects.nonNull(externalId);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeExternalIds(show.getId());
+            if (hasExternalIds) {
+                externalIdsByShowId.put(show.getId(), externalIds);
+                for (final ShowLookupIdType type : ID_TYPES) {
+                    final String externalId = externalIds[type.ordinal()];
+                    if (Objects.nonNull(externalId)) {
+                        showIdsByExternalId.get(type).put(externalId, show.getId());
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the external identifiers of a show.
+     *
+     * @param showId the show identifier
+     * @return {@code true} if the show was indexed; else, {@code false}
+     */
+    public boolean remove(final int showId) {
+        lock.writeLock().lock();
+        try {
+            return removeExternalIds(showId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed shows.
+     *
+     * @return the number of shows with at least one external identifier
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return externalIdsByShowId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    ///////////////
+    // getShowId
+    ///////////////
+
+    /**
+     * Gets the identifier of the show with the given external identifier from the index only.
+     *
+     * @param type the external identifier type
+     * @param externalId the external identifier (e.g., "tt0944947" for IMDb)
+     * @return the show identifier, or {@code null} if not indexed
+     */
+    public Integer getShowId(@NonNull final ShowLookupIdType type, final String externalId) {
+        final String normalizedId = normalize(externalId);
+        if (Objects.isNull(normalizedId)) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            return showIdsByExternalId.get(type).get(normalizedId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets an external identifier of an indexed show.
+     *
+     * @param showId the show identifier
+     * @param type the external identifier type
+     * @return the external identifier, or {@code null} if the show is not indexed or has no identifier of the type
+     */
+    public String getExternalId(final int showId, @NonNull final ShowLookupIdType type) {
+        lock.readLock().lock();
+        try {
+            final String[] externalIds = externalIdsByShowId.get(showId);
+            return Objects.isNull(externalIds) ? null : externalIds[type.ordinal()];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    //////////////////
+    // lookupShowId
+    //////////////////
+
+    /**
+     * Resolves the identifier of the show with the given external identifier. The index is consulted first and, on a
+     * miss, the show is looked up with the configured {@link SearchApi} and added to the index. Only a
+     * {@link ResourceNotFoundException} (HTTP 404) is treated as an unknown identifier; other failures are thrown.
+     * The lookup is sent asynchronously so that a 404 is recognized even if the connection's HTTP client is not
+     * configured with the {@link com.amilesend.tvmaze.client.api.ExchangeListener}.
+     *
+     * @param type the external identifier type
+     * @param externalId the external identifier (e.g., "tt0944947" for IMDb)
+     * @return the show identifier, or {@code null} if no show has the external identifier
+     * @see SearchApi#lookupShow(ShowLookupIdType, String)
+     */
+    public Integer lookupShowId(@NonNull final ShowLookupIdType type, final String externalId) {
+        try {
+            return lookupShowIdAsync(type, externalId).join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Asynchronous variant of {@link #lookupShowId(ShowLookupIdType, String)}. Indexed identifiers are resolved
+     * without a request. The future completes exceptionally for any failure other than a
+     * {@link ResourceNotFoundException} (HTTP 404).
+     *
+     * @param type the external identifier type
+     * @param externalId the external identifier (e.g., "tt0944947" for IMDb)
+     * @return the future that completes with the show identifier, or {@code null} if no show has the identifier
+     * @see #lookupShowId(ShowLookupIdType, String)
+     */
+    public CompletableFuture<Integer> lookupShowIdAsync(
+            @NonNull final ShowLookupIdType type,
+            final String externalId) {
+        final Integer showId = getShowId(type, externalId);
+        if (Objects.nonNull(showId) || Objects.isNull(searchApi) || StringUtils.isBlank(externalId)) {
+            return CompletableFuture.completedFuture(showId);
+        }
+
+        return searchApi.lookupShowAsync(type, externalId)
+                .handle((show, ex) -> {
+                    if (Objects.isNull(ex)) {
+                        return indexLookupResult(show);
+                    }
+
+                    final Throwable cause = ex instanceof CompletionException && Objects.nonNull(ex.getCause())
+                            ? ex.getCause()
+                            : ex;
+                    if (cause instanceof ResourceNotFoundException) {
+                        // The lookup endpoint responds with a 404 when no show has the external identifier
+                        log.debug("Unable to look up show with {} id {}", type, externalId, cause);
+                        return null;
+                    }
+
+                    throw ex instanceof CompletionException
+                            ? (CompletionException) ex
+                            : new CompletionException(ex);
+                });
+    }
+
+    private Integer indexLookupResult(final Show show) {
+        if (Objects.isNull(show)) {
+            return null;
+        }
+
+        put(show);
+        return show.getId();
+    }
+
+    private boolean removeExternalIds(final int showId) {
+        final String[] externalIds = externalIdsByShowId.remove(showId);
+        if (Objects.isNull(externalIds)) {
+            return false;
+        }
+
+        for (final ShowLookupIdType type : ID_TYPES) {
+            final String externalId = externalIds[type.ordinal()];
+            if (Objects.nonNull(externalId)) {
+                // Only unmap the identifier if another show has not since claimed it
+                showIdsByExternalId.get(type).remove(externalId, showId);
+            }
+        }
+
+        return true;
+    }
+
+    private static String toString(final Integer externalId) {
+        return Objects.isNull(externalId) ? null : String.valueOf(externalId);
+    }
+
+    private static String normalize(final String externalId) {
+        return StringUtils.isBlank(externalId) ? null : externalId.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.search;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.Alias;
+import com.amilesend.tvmaze.client.model.type.PersonResult;
+import com.amilesend.tvmaze.client.model.type.ShowResult;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * An in-memory search index over mirrored shows and people that answers show and people searches locally instead
+ * of with {@link com.amilesend.tvmaze.client.api.SearchApi} round trips. Shows are indexed by name and by their
+ * {@link com.amilesend.tvmaze.client.api.ShowsApi#getAliases(int) aliases}, and people by name.
+ * <p>
+ * Names are matched by trigram similarity, so queries tolerate typos, missing diacritics and partial input. Scores
+ * range from {@code 0.0} to {@code 1.0} like {@link ShowResult#getScore()}: an exact name match scores {@code 1.0}
+ * and a name that starts with the query is ranked above one that only contains it, which suits typeahead.
+ * <p>
+ * The index is updated incrementally (e.g., from a {@link com.amilesend.tvmaze.client.crawl.MirrorStore}) and may
+ * be searched concurrently with updates.
+ * <p>
+ * Example:
+ * <pre>
+ * LocalSearchIndex index = LocalSearchIndex.builder().build();
+ * index.putShow(show, showsApi.getAliases(show.getId()));
+ * List&lt;ShowResult&gt; results = index.searchShows("breaking");
+ * </pre>
+ */
+public class LocalSearchIndex {
+    /** The default maximum number of results, which matches that of the TVMaze search endpoints. */
+    public static final int DEFAULT_MAX_RESULTS = 10;
+    /** The default minimum score of a result. */
+    public static final double DEFAULT_MIN_SCORE = 0.3D;
+
+    private final NGramIndex<Show> showIndex = new NGramIndex<>();
+    private final NGramIndex<Person> personIndex = new NGramIndex<>();
+
+    /** The maximum number of results returned by a search. */
+    @Getter
+    private final int maxResults;
+    /** The minimum score of a result. */
+    @Getter
+    private final double minScore;
+
+    /**
+     * Creates a new {@code LocalSearchIndex}.
+     *
+     * @param maxResults the maximum number of results returned by a search (default: {@code 10})
+     * @param minScore the minimum score of a result from {@code 0.0} to {@code 1.0} (default: {@code 0.3})
+     */
+    @Builder
+    private LocalSearchIndex(final Integer maxResults, final Double minScore) {
+        this.maxResults = Optional.ofNullable(maxResults).orElse(DEFAULT_MAX_RESULTS);
+        this.minScore = Optional.ofNullable(minScore).orElse(DEFAULT_MIN_SCORE);
+        Validate.isTrue(this.maxResults > 0, "maxResults must be > 0");
+        Validate.isTrue(this.minScore >= 0.0D && this.minScore <= 1.0D, "minScore must be between 0.0 and 1.0");
+    }
+
+    ////////////
+    // shows
+    ////////////
+
+    /**
+     * Adds or replaces a show that is indexed by its name only.
+     *
+     * @param show the show
+     * @see #putShow(Show, List)
+     */
+    public void putShow(@NonNull final Show show) {
+        putShow(show, Collections.emptyList());
+    }
+
+    /**
+     * Adds or replaces a show that is indexed by its name and aliases.
+     *
+     * @param show the show
+     * @param aliases the show's aliases
+     */
+    public void putShow(@NonNull final Show show, @NonNull final List<Alias> aliases) {
+        final List<String> names = new ArrayList<>(aliases.size() + 1);
+        names.add(show.getName());
+        for (final Alias alias : aliases) {
+            if (Objects.nonNull(alias)) {
+                names.add(alias.getName());
+            }
+        }
+
+        showIndex.put(show.getId(), show, names);
+    }
+
+    /**
+     * Removes a show from the index.
+     *
+     * @param showId the show identifier
+     * @return {@code true} if the show was indexed; else, {@code false}
+     */
+    public boolean removeShow(final int showId) {
+        return showIndex.remove(showId);
+    }
+
+    /**
+     * Gets the number of indexed shows.
+     *
+     * @return the number of shows
+     */
+    public int getShowCount() {
+        return showIndex.size();
+    }
+
+    /**
+     * Searches the indexed shows by name and alias.
+     *
+     * @param query the search query
+     * @return the list of show results in descending score order
+     * @see com.amilesend.tvmaze.client.api.SearchApi#searchShows(String)
+     */
+    public List<ShowResult> searchShows(final String query) {
+        return showIndex.search(query, maxResults, minScore, (score, show) -> ShowResult.builder()
+                .score(score)
+                .show(show)
+                .build());
+    }
+
+    ////////////
+    // people
+    ////////////
+
+    /**
+     * Adds or replaces a person that is indexed by name.
+     *
+     * @param person the person
+     */
+    public void putPerson(@NonNull final Person person) {
+        personIndex.put(person.getId(), person, Collections.singletonList(person.getName()));
+    }
+
+    /**
+     * Removes a person from the index.
+     *
+     * @param personId the person identifier
+     * @return {@code true} if the person was indexed; else, {@code false}
+     */
+    public boolean removePerson(final int personId) {
+        return personIndex.remove(personId);
+    }
+
+    /**
+     * Gets the number of indexed people.
+     *
+     * @return the number of people
+     */
+    public int getPersonCount() {
+        return personIndex.size();
+    }
+
+    /**
+     * Searches the indexed people by name.
+     *
+     * @param query the search query
+     * @return the list of person results in descending score order
+     * @see com.amilesend.tvmaze.client.api.SearchApi#searchPeople(String)
+     */
+    public List<PersonResult> searchPeople(final String query) {
+        return personIndex.search(query, maxResults, minScore, (score, person) -> PersonResult.builder()
+                .score(score)
+                .person(person)
+                .build());
+    }
+}
@@ -0,0 +1,428 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.search;
+
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import lombok.NonNull;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+/**
+ * An in-memory inverted trigram index of the names of a resource type. Each resource may be indexed under several
+ * names (e.g., a show and its aliases) and is scored by its best matching name.
+ * <p>
+ * Names are normalized (diacritics removed, lower-cased, punctuation collapsed to spaces) and split into the
+ * trigrams of the space-padded name. The score of a name is the Dice coefficient of the query and name trigram
+ * sets, boosted when the name starts with the query (for typeahead) and {@code 1.0} for an exact match.
+ * <p>
+ * Queries of one or two characters have no trigram in common with most names, so they are matched as a prefix of a
+ * word of the name instead. Each entry is also indexed under the initial letter of each word, and a two-character
+ * query is looked up as the word-start trigram of its space-padded form. Names that start with the query rank above
+ * names in which a later word starts with it, and shorter names rank above longer ones.
+ * <p>
+ * Updates append new entries and mark the replaced entries as deleted; the postings are compacted once more than
+ * half of the entries are deleted. Reads and writes are guarded by a read-write lock.
+ *
+ * @param <T> the resource type
+ */
+class NGramIndex<T> {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int MIN_COMPACTION_ENTRY_COUNT = 1024;
+    private static final double PREFIX_BOOST = 0.5D;
+    /** The query length below which queries are matched against word prefixes instead of trigrams. */
+    private static final int MIN_GRAM_QUERY_LENGTH = 3;
+    /** The minimum score of a short query that matches a word other than the first of a name. */
+    private static final double WORD_PREFIX_SCORE = 0.3D;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Integer, int[]> entriesById = new HashMap<>();
+    private final Map<Integer, T> resourcesById = new HashMap<>();
+    private final BitSet deletedEntries = new BitSet();
+    private int[] entryIds = new int[16];
+    private int[] entryGramCounts = new int[16];
+    private String[] entryNames = new String[16];
+    private int entryCount;
+    private int deletedEntryCount;
+
+    /**
+     * Adds or replaces a resource.
+     *
+     * @param id the resource identifier
+     * @param resource the resource
+     * @param names the names to index the resource under; blank and duplicate names are ignored
+     */
+    void put(final int id, @NonNull final T resource, @NonNull final Collection<String> names) {
+        final List<String> normalizedNames = new ArrayList<>(names.size());
+        for (final String name : names) {
+            final String normalizedName = normalize(name);
+            if (!normalizedName.isEmpty() && !normalizedNames.contains(normalizedName)) {
+                normalizedNames.add(normalizedName);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            deleteEntries(id);
+            resourcesById.put(id, resource);
+            final int[] entries = new int[normalizedNames.size()];
+            for (int i = 0; i < entries.length; ++i) {
+                entries[i] = addEntry(id, normalizedNames.get(i));
+            }
+            entriesById.put(id, entries);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a resource.
+     *
+     * @param id the resource identifier
+     * @return {@code true} if the resource was indexed; else, {@code false}
+     */
+    boolean remove(final int id) {
+        lock.writeLock().lock();
+        try {
+            final boolean isRemoved = Objects.nonNull(resourcesById.remove(id));
+            deleteEntries(id);
+            entriesById.remove(id);
+            compactIfNeeded();
+            return isRemoved;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of indexed resources.
+     *
+     * @return the number of resources
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return resourcesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Searches the index.
+     *
+     * @param query the query
+     * @param maxResults the maximum number of results
+     * @param minScore the minimum score of a result
+     * @param resultFactory creates a result from the score and the resource
+     * @param <R> the result type
+     * @return the results in descending score order
+     */
+    <R> List<R> search(
+            final String query,
+            final int maxResults,
+            final double minScore,
+            final BiFunction<Double, T, R> resultFactory) {
+        final String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || maxResults <= 0) {
+            return Collections.emptyList();
+        }
+
+        final boolean isShortQuery = normalizedQuery.length() < MIN_GRAM_QUERY_LENGTH;
+        final long[] queryGrams = isShortQuery
+                ? new long[] {toWordPrefixGram(normalizedQuery)}
+                : toGrams(normalizedQuery);
+        final List<Match<T>> matches;
+        lock.readLock().lock();
+        try {
+            // Counts the trigrams that each live entry shares with the query
+            final IntLongMap sharedGramCounts = new IntLongMap();
+            for (final long gram : queryGrams) {
+                final Postings gramPostings = postings.get(gram);
+                if (Objects.isNull(gramPostings)) {
+                    continue;
+                }
+
+                for (int i = 0; i < gramPostings.size; ++i) {
+                    final int entry = gramPostings.entries[i];
+                    if (!deletedEntries.get(entry)) {
+                        sharedGramCounts.put(entry, sharedGramCounts.getOrDefault(entry, 0L) + 1L);
+                    }
+                }
+            }
+
+            // Keeps the best scoring entry of each resource
+            final IntLongMap bestEntryById = new IntLongMap();
+            final Map<Integer, Double> bestScoreById = new HashMap<>();
+            sharedGramCounts.forEach((entry, sharedGramCount) -> {
+                final double score = isShortQuery
+                        ? scoreWordPrefix(normalizedQuery, entry)
+                        : score(normalizedQuery, queryGrams.length, entry, (int) sharedGramCount);
+                final int id = entryIds[entry];
+                final Double bestScore = bestScoreById.get(id);
+                if (score >= minScore && (Objects.isNull(bestScore) || score > bestScore)) {
+                    bestScoreById.put(id, score);
+                    bestEntryById.put(id, entry);
+                }
+            });
+
+            matches = topMatches(bestScoreById, maxResults);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        final List<R> results = new ArrayList<>(matches.size());
+        for (final Match<T> match : matches) {
+            results.add(resultFactory.apply(match.score, match.resource));
+        }
+
+        return results;
+    }
+
+    /**
+     * Normalizes a name or query for indexing.
+     *
+     * @param value the value
+     * @return the normalized value, or an empty string if the value is {@code null} or has no letters or digits
+     */
+    static String normalize(final String value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+
+        final String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        final String withoutDiacritics = DIACRITICS.matcher(decomposed).replaceAll("");
+        return NON_ALPHANUMERIC.matcher(withoutDiacritics.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Gets the distinct trigrams of the space-padded normalized value. Each trigram is packed into a {@code long}.
+     *
+     * @param normalizedValue the normalized value
+     * @return the sorted trigrams
+     */
+    static long[] toGrams(final String normalizedValue) {
+        final String padded = " " + normalizedValue + " ";
+        final long[] grams = new long[padded.length() - 2];
+        for (int i = 0; i < grams.length; ++i) {
+            grams[i] = ((long) padded.charAt(i) << 32)
+                    | ((long) padded.charAt(i + 1) << 16)
+                    | padded.charAt(i + 2);
+        }
+
+        Arrays.sort(grams);
+        int distinctCount = 0;
+        for (int i = 0; i < grams.length; ++i) {
+            if (i == 0 || grams[i] != grams[i - 1]) {
+                grams[distinctCount++] = grams[i];
+            }
+        }
+
+        return distinctCount == grams.length ? grams : Arrays.copyOf(grams, distinctCount);
+    }
+
+    /**
+     * Gets the gram under which the names with a word that starts with the given one- or two-character query are
+     * indexed: the word-start trigram for two characters, or the word initial for one character.
+     *
+     * @param normalizedQuery the normalized query
+     * @return the packed gram
+     */
+    static long toWordPrefixGram(final String normalizedQuery) {
+        final char second = normalizedQuery.length() > 1 ? normalizedQuery.charAt(1) : 0;
+        return toWordPrefixGram(normalizedQuery.charAt(0), second);
+    }
+
+    // A word initial leaves the third character empty, which never occurs in a normalized name
+    private static long toWordPrefixGram(final char first, final char second) {
+        return ((long) ' ' << 32) | ((long) first << 16) | second;
+    }
+
+    private static long[] toWordInitials(final String normalizedName) {
+        final long[] initials = new long[normalizedName.length()];
+        int initialCount = 0;
+        for (int i = 0; i < normalizedName.length(); ++i) {
+            if (i == 0 || normalizedName.charAt(i - 1) == ' ') {
+                initials[initialCount++] = toWordPrefixGram(normalizedName.charAt(i), (char) 0);
+            }
+        }
+
+        return Arrays.stream(initials, 0, initialCount).distinct().toArray();
+    }
+
+    private double scoreWordPrefix(final String normalizedQuery, final int entry) {
+        final String name = entryNames[entry];
+        if (name.equals(normalizedQuery)) {
+            return 1.0D;
+        }
+
+        final double coverage = (double) normalizedQuery.length() / name.length();
+        if (name.startsWith(normalizedQuery)) {
+            return PREFIX_BOOST + (1.0D - PREFIX_BOOST) * coverage;
+        }
+
+        return WORD_PREFIX_SCORE + (PREFIX_BOOST - WORD_PREFIX_SCORE) * coverage;
+    }
+
+    private double score(
+            final String normalizedQuery,
+            final int queryGramCount,
+            final int entry,
+            final int sharedGramCount) {
+        final String name = entryNames[entry];
+        if (name.equals(normalizedQuery)) {
+            return 1.0D;
+        }
+
+        final double dice = 2.0D * sharedGramCount / (queryGramCount + entryGramCounts[entry]);
+        if (name.startsWith(normalizedQuery)) {
+            return dice + (1.0D - dice) * PREFIX_BOOST;
+        }
+
+        return dice;
+    }
+
+    private List<Match<T>> topMatches(final Map<Integer, Double> scoresById, final int maxResults) {
+        final Comparator<Match<T>> order = Comparator.<Match<T>>comparingDouble(m -> m.score)
+                .thenComparing(m -> -m.id);
+        final PriorityQueue<Match<T>> heap = new PriorityQueue<>(maxResults + 1, order);
+        scoresById.forEach((id, score) -> {
+            heap.add(new Match<>(id, score, resourcesById.get(id)));
+            if (heap.size() > maxResults) {
+                heap.poll();
+            }
+        });
+
+        final List<Match<T>> matches = new ArrayList<>(heap);
+        matches.sort(order.reversed());
+        return matches;
+    }
+
+    private int addEntry(final int id, final String normalizedName) {
+        if (entryCount == entryIds.length) {
+            final int capacity = entryCount * 2;
+            entryIds = Arrays.copyOf(entryIds, capacity);
+            entryGramCounts = Arrays.copyOf(entryGramCounts, capacity);
+            entryNames = Arrays.copyOf(entryNames, capacity);
+        }
+
+        final int entry = entryCount++;
+        final long[] grams = toGrams(normalizedName);
+        entryIds[entry] = id;
+        entryGramCounts[entry] = grams.length;
+        entryNames[entry] = normalizedName;
+        for (final long gram : grams) {
+            postings.computeIfAbsent(gram, g -> new Postings()).add(entry);
+        }
+        // Word initials are only used by short queries and are not counted towards the trigrams of the entry
+        for (final long initial : toWordInitials(normalizedName)) {
+            postings.computeIfAbsent(initial, g -> new Postings()).add(entry);
+        }
+
+        return entry;
+    }
+
+    private void deleteEntries(final int id) {
+        final int[] entries = entriesById.get(id);
+        if (Objects.isNull(entries)) {
+            return;
+        }
+
+        for (final int entry : entries) {
+            deletedEntries.set(entry);
+            entryNames[entry] = null;
+        }
+        deletedEntryCount += entries.length;
+    }
+
+    // Rebuilds the entries and postings without the deleted entries
+    private void compactIfNeeded() {
+        if (entryCount < MIN_COMPACTION_ENTRY_COUNT || deletedEntryCount * 2 <= entryCount) {
+            return;
+        }
+
+        final int[] oldEntryIds = entryIds;
+        final String[] oldEntryNames = entryNames;
+        final int oldEntryCount = entryCount;
+        final int capacity = Math.max(16, (oldEntryCount - deletedEntryCount) * 2);
+        entryIds = new int[capacity];
+        entryGramCounts = new int[capacity];
+        entryNames = new String[capacity];
+        entryCount = 0;
+        postings.clear();
+
+        final Map<Integer, List<Integer>> remappedEntriesById = new HashMap<>();
+        for (int entry = 0; entry < oldEntryCount; ++entry) {
+            if (!deletedEntries.get(entry)) {
+                final int id = oldEntryIds[entry];
+                remappedEntriesById.computeIfAbsent(id, i -> new ArrayList<>())
+                        .add(addEntry(id, oldEntryNames[entry]));
+            }
+        }
+
+        entriesById.clear();
+        remappedEntriesById.forEach((id, entries) ->
+                entriesById.put(id, entries.stream().mapToInt(Integer::intValue).toArray()));
+        deletedEntries.clear();
+        deletedEntryCount = 0;
+    }
+
+    /** The growable, ascending list of entries that contain a trigram. */
+    private static class Postings {
+        private int[] entries = new int[4];
+        private int size;
+
+        void add(final int entry) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            entries[size++] = entry;
+        }
+    }
+
+    /** A scored resource. */
+    private static class Match<T> {
+        private final int id;
+        private final double score;
+        private final T resource;
+
+        Match(final int id, final double score, final T resource) {
+            this.id = id;
+            this.score = score;
+            this.resource = resource;
+        }
+    }
+}
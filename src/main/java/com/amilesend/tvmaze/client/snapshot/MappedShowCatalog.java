@@ -0,0 +1,373 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import com.amilesend.tvmaze.client.crawl.ShowRecord;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A read-only catalog of shows and people backed by a memory-mapped snapshot written by a {@link SnapshotWriter}.
+ * Opening a catalog only reads the snapshot's index and string dictionary; records are decoded from the mapped
+ * file on each access and are not retained. As the file is mapped rather than read, the operating system's page
+ * cache is shared by all processes that open the same snapshot.
+ * <p>
+ * Example:
+ * <pre>
+ * try (MappedShowCatalog catalog = MappedShowCatalog.open(Path.of("catalog.snapshot"))) {
+ *     Show show = catalog.getShow(1);
+ *     List&lt;Episode&gt; episodes = catalog.getEpisodes(1);
+ * }
+ * </pre>
+ * Shows are indexed from both show and {@link ShowRecord} frames; if a snapshot contains more than one frame for an
+ * identifier, then the last one wins. For show records, {@link #getShow(int)}, {@link #getEpisodes(int)} and
+ * {@link #getCast(int)} only decode the part of the record that they return. Snapshots without an index are scanned
+ * once when opened. Instances are thread-safe.
+ */
+@Slf4j
+public class MappedShowCatalog implements Closeable {
+    /** Selects the whole record of a frame rather than one of its show record sections. */
+    private static final int WHOLE_RECORD = -1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final List<String> symbols;
+    private final IntLongMap showFrameOffsets;
+    private final IntLongMap personFrameOffsets;
+    private volatile boolean isClosed;
+
+    private MappedShowCatalog(
+            final FileChannel channel,
+            final MappedByteBuffer buffer,
+            final List<String> symbols,
+            final IntLongMap showFrameOffsets,
+            final IntLongMap personFrameOffsets) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.symbols = Collections.unmodifiableList(symbols);
+        this.showFrameOffsets = showFrameOffsets;
+        this.personFrameOffsets = personFrameOffsets;
+    }
+
+    /**
+     * Memory-maps the given snapshot file and loads its index.
+     *
+     * @param file the snapshot file
+     * @return the catalog
+     * @throws IOException if the file is not a valid snapshot, is larger than 2 GiB, or could not be mapped
+     */
+    public static MappedShowCatalog open(@NonNull final Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large to map: " + size + " bytes");
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            final ByteBuffer header = buffer.duplicate();
+            SnapshotFormat.checkHeader(header.getInt(), Byte.toUnsignedInt(header.get()));
+
+            final List<String> symbols = new ArrayList<>();
+            final IntLongMap showFrameOffsets = new IntLongMap();
+            final IntLongMap personFrameOffsets = new IntLongMap();
+            final long indexOffset = findIndexOffset(buffer);
+            if (indexOffset > 0L) {
+                loadIndex(buffer, (int) indexOffset, symbols, showFrameOffsets, personFrameOffsets);
+            } else {
+                log.debug("Snapshot {} has no index; scanning frames", file);
+                scan(buffer, header.position(), symbols, showFrameOffsets, personFrameOffsets);
+            }
+
+            return new MappedShowCatalog(channel, buffer, symbols, showFrameOffsets, personFrameOffsets);
+        } catch (final IOException | RuntimeException ex) {
+            channel.close();
+            if (ex instanceof BufferUnderflowException) {
+                throw (EOFException) new EOFException("Snapshot is truncated").initCause(ex);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Gets a show.
+     *
+     * @param showId the show identifier
+     * @return the show, or {@code null} if the catalog does not contain the show
+     */
+    public Show getShow(final int showId) {
+        return (Show) readShowFrame(showId, SnapshotFormat.SHOW_SECTION);
+    }
+
+    /**
+     * Gets the episodes of a show. For shows that were written without a {@link ShowRecord}, these are the
+     * {@link Show#getEpisodes() embedded episodes}, if any.
+     *
+     * @param showId the show identifier
+     * @return the episodes, or {@code null} if the catalog does not contain the show or its episodes
+     */
+    @SuppressWarnings("unchecked")
+    public List<Episode> getEpisodes(final int showId) {
+        final Object record = readShowFrame(showId, SnapshotFormat.EPISODES_SECTION);
+        return record instanceof Show ? ((Show) record).getEpisodes() : (List<Episode>) record;
+    }
+
+    /**
+     * Gets the main cast of a show. For shows that were written without a {@link ShowRecord}, this is the
+     * {@link Show#getCast() embedded cast}, if any.
+     *
+     * @param showId the show identifier
+     * @return the cast, or {@code null} if the catalog does not contain the show or its cast
+     */
+    @SuppressWarnings("unchecked")
+    public List<CastMember> getCast(final int showId) {
+        final Object record = readShowFrame(showId, SnapshotFormat.CAST_SECTION);
+        return record instanceof Show ? ((Show) record).getCast() : (List<CastMember>) record;
+    }
+
+    /**
+     * Gets the crawled record of a show.
+     *
+     * @param showId the show identifier
+     * @return the show record, or {@code null} if the catalog does not contain a record for the show
+     */
+    public ShowRecord getShowRecord(final int showId) {
+        final Object record = readShowFrame(showId, WHOLE_RECORD);
+        return record instanceof ShowRecord ? (ShowRecord) record : null;
+    }
+
+    /**
+     * Gets a person.
+     *
+     * @param personId the person identifier
+     * @return the person, or {@code null} if the catalog does not contain the person
+     */
+    public Person getPerson(final int personId) {
+        return (Person) readFrame(personFrameOffsets, personId, WHOLE_RECORD);
+    }
+
+    /**
+     * Determines if the catalog contains the given show.
+     *
+     * @param showId the show identifier
+     * @return {@code true} if the catalog contains the show; else, {@code false}
+     */
+    public boolean containsShow(final int showId) {
+        return showFrameOffsets.containsKey(showId);
+    }
+
+    /**
+     * Gets the identifiers of the shows in the catalog.
+     *
+     * @return the show identifiers, in no particular order
+     */
+    public int[] getShowIds() {
+        return showFrameOffsets.keys();
+    }
+
+    /**
+     * Gets the number of shows in the catalog.
+     *
+     * @return the number of shows
+     */
+    public int getShowCount() {
+        return showFrameOffsets.size();
+    }
+
+    /**
+     * Gets the number of people in the catalog.
+     *
+     * @return the number of people
+     */
+    public int getPersonCount() {
+        return personFrameOffsets.size();
+    }
+
+    /**
+     * Closes the file channel. The mapping itself is released once the catalog is garbage collected as the JDK does
+     * not support unmapping a buffer explicitly.
+     *
+     * @throws IOException if an error occurred while closing the channel
+     */
+    @Override
+    public void close() throws IOException {
+        isClosed = true;
+        channel.close();
+    }
+
+    // Show frames are decoded whole; only the given section of a show record frame is decoded
+    private Object readShowFrame(final int showId, final int showRecordSection) {
+        return readFrame(showFrameOffsets, showId, showRecordSection);
+    }
+
+    private Object readFrame(final IntLongMap frameOffsets, final int id, final int showRecordSection) {
+        if (isClosed) {
+            throw new IllegalStateException("Catalog is closed");
+        }
+
+        final long frameOffset = frameOffsets.getOrDefault(id, IntLongMap.NO_VALUE);
+        if (frameOffset == IntLongMap.NO_VALUE) {
+            return null;
+        }
+
+        // Each read uses its own view of the mapping so that concurrent reads do not share a position
+        final ByteBuffer frame = buffer.duplicate();
+        frame.position((int) frameOffset);
+        try {
+            final int tag = Byte.toUnsignedInt(frame.get());
+            final int length = SnapshotFormat.readFrameLength(frame);
+            frame.limit(frame.position() + length);
+            final SnapshotDecoder decoder = new SnapshotDecoder(frame, symbols);
+            switch (tag) {
+                case SnapshotFormat.SHOW_FRAME:
+                    return decoder.readShow();
+                case SnapshotFormat.SHOW_RECORD_FRAME:
+                    return showRecordSection == WHOLE_RECORD
+                            ? decoder.readShowRecord()
+                            : decoder.readShowRecordSection(showRecordSection);
+                case SnapshotFormat.PERSON_FRAME:
+                    return decoder.readPerson();
+                default:
+                    throw new IOException("Unexpected snapshot frame " + tag + " at offset " + frameOffset);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (final BufferUnderflowException | IllegalArgumentException ex) {
+            throw new UncheckedIOException(new EOFException("Snapshot frame at offset " + frameOffset
+                    + " is truncated"));
+        }
+    }
+
+    // The snapshot ends with an END_FRAME that holds the offset of the index frame
+    private static long findIndexOffset(final ByteBuffer buffer) {
+        final int endFrameOffset = buffer.limit() - SnapshotFormat.END_FRAME_SIZE;
+        if (endFrameOffset < Integer.BYTES + 1
+                || buffer.get(endFrameOffset) != SnapshotFormat.END_FRAME
+                || buffer.get(endFrameOffset + 1) != Long.BYTES) {
+            return -1L;
+        }
+
+        final long indexOffset = buffer.getLong(endFrameOffset + 2);
+        if (indexOffset <= 0L
+                || indexOffset >= endFrameOffset
+                || buffer.get((int) indexOffset) != SnapshotFormat.INDEX_FRAME) {
+            return -1L;
+        }
+
+        return indexOffset;
+    }
+
+    private static void loadIndex(
+            final ByteBuffer buffer,
+            final int indexOffset,
+            final List<String> symbols,
+            final IntLongMap showFrameOffsets,
+            final IntLongMap personFrameOffsets) throws IOException {
+        final ByteBuffer index = buffer.duplicate();
+        index.position(indexOffset + 1);
+        final int length = SnapshotFormat.readFrameLength(index);
+        index.limit(index.position() + length);
+        final SnapshotDecoder decoder = new SnapshotDecoder(index, symbols);
+
+        final int symbolFrameCount = decoder.readCount();
+        long symbolFrameOffset = 0L;
+        for (int i = 0; i < symbolFrameCount; ++i) {
+            symbolFrameOffset += decoder.readUnsignedVarLong();
+            readSymbolFrame(buffer, (int) symbolFrameOffset, symbols);
+        }
+
+        for (final IntLongMap frameOffsets : List.of(showFrameOffsets, personFrameOffsets)) {
+            final int count = decoder.readCount();
+            for (int i = 0; i < count; ++i) {
+                frameOffsets.put(decoder.readInt(), decoder.readUnsignedVarLong());
+            }
+        }
+    }
+
+    private static void readSymbolFrame(final ByteBuffer buffer, final int frameOffset, final List<String> symbols)
+            throws IOException {
+        final ByteBuffer frame = buffer.duplicate();
+        frame.position(frameOffset);
+        if (frame.get() != SnapshotFormat.STRINGS_FRAME) {
+            throw new IOException("Invalid snapshot index: no string frame at offset " + frameOffset);
+        }
+
+        final int length = SnapshotFormat.readFrameLength(frame);
+        frame.limit(frame.position() + length);
+        new SnapshotDecoder(frame, symbols).readSymbols(symbols);
+    }
+
+    // Builds the index of a snapshot without an index frame, reading only the leading identifier of each record
+    private static void scan(
+            final ByteBuffer buffer,
+            final int firstFrameOffset,
+            final List<String> symbols,
+            final IntLongMap showFrameOffsets,
+            final IntLongMap personFrameOffsets) throws IOException {
+        final ByteBuffer frame = buffer.duplicate();
+        int frameOffset = firstFrameOffset;
+        while (frameOffset < buffer.limit()) {
+            frame.limit(buffer.limit());
+            frame.position(frameOffset);
+            final int tag = Byte.toUnsignedInt(frame.get());
+            final int length = SnapshotFormat.readFrameLength(frame);
+            final int nextFrameOffset = frame.position() + length;
+            frame.limit(nextFrameOffset);
+
+            final SnapshotDecoder decoder = new SnapshotDecoder(frame, symbols);
+            switch (tag) {
+                case SnapshotFormat.END_FRAME:
+                    return;
+                case SnapshotFormat.STRINGS_FRAME:
+                    decoder.readSymbols(symbols);
+                    break;
+                case SnapshotFormat.SHOW_FRAME:
+                case SnapshotFormat.SHOW_RECORD_FRAME:
+                    showFrameOffsets.put(decoder.readInt(), frameOffset);
+                    break;
+                case SnapshotFormat.PERSON_FRAME:
+                    personFrameOffsets.put(decoder.readInt(), frameOffset);
+                    break;
+                default:
+                    // Records that are not indexed
+            }
+            frameOffset = nextFrameOffset;
+        }
+
+        throw new EOFException("Snapshot is truncated");
+    }
+}
@@ -0,0 +1,499 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import com.amilesend.tvmaze.client.crawl.ShowRecord;
+import com.amilesend.tvmaze.client.model.CastCredit;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.model.type.Character;
+import com.amilesend.tvmaze.client.model.type.Country;
+import com.amilesend.tvmaze.client.model.type.CrewMember;
+import com.amilesend.tvmaze.client.model.type.Externals;
+import com.amilesend.tvmaze.client.model.type.ImageUrl;
+import com.amilesend.tvmaze.client.model.type.Network;
+import com.amilesend.tvmaze.client.model.type.Rating;
+import com.amilesend.tvmaze.client.model.type.ResourceLink;
+import com.amilesend.tvmaze.client.model.type.Schedule;
+import com.amilesend.tvmaze.client.model.type.WebChannel;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the records of a single snapshot frame. The payload may be a heap buffer (as read by the
+ * {@link SnapshotReader}) or a slice of a memory-mapped file (as used by the {@link MappedShowCatalog}). See
+ * {@link SnapshotFormat} for the encoding.
+ */
+@RequiredArgsConstructor
+class SnapshotDecoder {
+    /** The frame payload, positioned at the next value to decode. */
+    @NonNull
+    private final ByteBuffer payload;
+    /** The string dictionary of the snapshot. */
+    @NonNull
+    private final List<String> symbols;
+
+    /**
+     * Decodes a {@link SnapshotFormat#STRINGS_FRAME} and appends its strings to the given dictionary.
+     *
+     * @param dictionary the dictionary to append to
+     * @throws IOException if the frame is truncated
+     */
+    void readSymbols(final List<String> dictionary) throws IOException {
+        final int count = readCount();
+        for (int i = 0; i < count; ++i) {
+            final int length = readCount();
+            dictionary.add(readUtf8(length));
+        }
+    }
+
+    ////////////
+    // Models
+    ////////////
+
+    /**
+     * Decodes a {@link SnapshotFormat#SHOW_RECORD_FRAME}.
+     *
+     * @return the show record
+     * @throws IOException if the frame is truncated or invalid
+     */
+    ShowRecord readShowRecord() throws IOException {
+        readInt();
+        for (int i = 0; i < SnapshotFormat.CREW_SECTION; ++i) {
+            readCount();
+        }
+
+        return ShowRecord.builder()
+                .show(readShow())
+                .episodes(readList(this::readEpisode))
+                .seasons(readList(this::readSeason))
+                .cast(readList(this::readCastMember))
+                .crew(readList(this::readCrewMember))
+                .build();
+    }
+
+    /**
+     * Decodes a single section of a {@link SnapshotFormat#SHOW_RECORD_FRAME}. The section lengths are used to skip
+     * the preceding sections without decoding them.
+     *
+     * @param section the section (e.g., {@link SnapshotFormat#EPISODES_SECTION})
+     * @return the {@link Show} for the {@link SnapshotFormat#SHOW_SECTION}; else, the list of the section
+     * @throws IOException if the frame is truncated or invalid
+     */
+    Object readShowRecordSection(final int section) throws IOException {
+        readInt();
+        long skipLength = 0L;
+        for (int i = 0; i < SnapshotFormat.CREW_SECTION; ++i) {
+            final int length = readCount();
+            if (i < section) {
+                skipLength += length;
+            }
+        }
+        if (skipLength > payload.remaining()) {
+            throw new EOFException("Snapshot frame is truncated");
+        }
+        payload.position(payload.position() + (int) skipLength);
+
+        return readSection(section);
+    }
+
+    private Object readSection(final int section) throws IOException {
+        switch (section) {
+            case SnapshotFormat.SHOW_SECTION:
+                return readShow();
+            case SnapshotFormat.EPISODES_SECTION:
+                return readList(this::readEpisode);
+            case SnapshotFormat.SEASONS_SECTION:
+                return readList(this::readSeason);
+            case SnapshotFormat.CAST_SECTION:
+                return readList(this::readCastMember);
+            case SnapshotFormat.CREW_SECTION:
+                return readList(this::readCrewMember);
+            default:
+                throw new IllegalArgumentException("Invalid show record section: " + section);
+        }
+    }
+
+    Show readShow() throws IOException {
+        return Show.builder()
+                .id(readInt())
+                .links(readLinks())
+                .url(readString())
+                .name(readString())
+                .type(readSymbol())
+                .language(readSymbol())
+                .genres(readList(this::readSymbol))
+                .status(readSymbol())
+                .runtime(readInt())
+                .averageRuntime(readInt())
+                .premiered(readDate())
+                .ended(readDate())
+                .officialSite(readString())
+                .schedule(readNullable(this::readSchedule))
+                .rating(readNullable(this::readRating))
+                .weight(readInt())
+                .network(readNullable(this::readNetwork))
+                .webChannel(readNullable(this::readWebChannel))
+                .dvdCountry(readNullable(this::readCountry))
+                .externals(readExternals())
+                .image(readNullable(this::readImageUrl))
+                .summary(readString())
+                .updated(readLong())
+                .embeddedResource(readNullable(() -> Show.EmbeddedResource.builder()
+                        .cast(readList(this::readCastMember))
+                        .episodes(readList(this::readEpisode))
+                        .previousEpisode(readNullable(this::readEpisode))
+                        .nextEpisode(readNullable(this::readEpisode))
+                        .build()))
+                .build();
+    }
+
+    Episode readEpisode() throws IOException {
+        return Episode.builder()
+                .id(readInt())
+                .links(readLinks())
+                .url(readString())
+                .name(readString())
+                .season(readInt())
+                .number(readInt())
+                .type(readSymbol())
+                .airdate(readDate())
+                .airtime(readTime())
+                .airstamp(readDateTime())
+                .runtime(readInt())
+                .rating(readNullable(this::readRating))
+                .image(readNullable(this::readImageUrl))
+                .summary(readString())
+                .embeddedResource(readNullable(() -> Episode.EmbeddedResource.builder()
+                        .guestCast(readList(this::readCastMember))
+                        .show(readNullable(this::readShow))
+                        .build()))
+                .build();
+    }
+
+    Person readPerson() throws IOException {
+        return Person.builder()
+                .id(readInt())
+                .links(readLinks())
+                .url(readString())
+                .name(readString())
+                .country(readNullable(this::readCountry))
+                .birthday(readDate())
+                .deathday(readDate())
+                .gender(readSymbol())
+                .image(readNullable(this::readImageUrl))
+                .updated(readLong())
+                .embeddedResource(readNullable(() -> Person.EmbeddedResource.builder()
+                        .castCredits(readList(this::readCastCredit))
+                        .build()))
+                .build();
+    }
+
+    Season readSeason() throws IOException {
+        return Season.builder()
+                .id(readInt())
+                .links(readLinks())
+                .url(readString())
+                .number(readInt())
+                .name(readString())
+                .episodeOrder(readInt())
+                .premiereDate(readDate())
+                .endDate(readDate())
+                .network(readNullable(this::readNetwork))
+                .image(readNullable(this::readImageUrl))
+                .build();
+    }
+
+    private CastMember readCastMember() throws IOException {
+        return CastMember.builder()
+                .person(readNullable(this::readPerson))
+                .character(readNullable(this::readCharacter))
+                .build();
+    }
+
+    private CrewMember readCrewMember() throws IOException {
+        return CrewMember.builder()
+                .type(readSymbol())
+                .guestCrewType(readSymbol())
+                .person(readNullable(this::readPerson))
+                .build();
+    }
+
+    private Character readCharacter() throws IOException {
+        return Character.builder()
+                .id(readInt())
+                .links(readLinks())
+                .url(readString())
+                .name(readString())
+                .image(readNullable(this::readImageUrl))
+                .isSelf(readBoolean())
+                .isVoice(readBoolean())
+                .build();
+    }
+
+    private CastCredit readCastCredit() throws IOException {
+        return CastCredit.builder()
+                .isSelf(readBoolean())
+                .isVoice(readBoolean())
+                .links(readLinks())
+                .embeddedResource(readNullable(() -> CastCredit.EmbeddedResource.builder()
+                        .show(readNullable(this::readShow))
+                        .episode(readNullable(this::readEpisode))
+                        .build()))
+                .build();
+    }
+
+    ////////////
+    // Types
+    ////////////
+
+    private Schedule readSchedule() throws IOException {
+        return Schedule.builder()
+                .time(readSymbol())
+                .days(readList(this::readSymbol))
+                .build();
+    }
+
+    private Rating readRating() throws IOException {
+        return Rating.builder()
+                .average(readNullableDouble())
+                .build();
+    }
+
+    private Network readNetwork() throws IOException {
+        return Network.builder()
+                .id(readInt())
+                .name(readSymbol())
+                .country(readNullable(this::readCountry))
+                .officialSite(readString())
+                .build();
+    }
+
+    private WebChannel readWebChannel() throws IOException {
+        return WebChannel.builder()
+                .id(readInt())
+                .name(readSymbol())
+                .country(readNullable(this::readCountry))
+                .officialSite(readString())
+                .build();
+    }
+
+    private Country readCountry() throws IOException {
+        return Country.builder()
+                .name(readSymbol())
+                .code(readSymbol())
+                .timezone(readSymbol())
+                .build();
+    }
+
+    private ImageUrl readImageUrl() throws IOException {
+        return ImageUrl.builder()
+                .medium(readString())
+                .original(readString())
+                .build();
+    }
+
+    private Map<String, ResourceLink> readLinks() throws IOException {
+        final int size = readNullableCount();
+        if (size < 0) {
+            return null;
+        }
+
+        final Map<String, ResourceLink> links = new LinkedHashMap<>(size * 2);
+        for (int i = 0; i < size; ++i) {
+            links.put(readSymbol(), readNullable(() -> ResourceLink.builder()
+                    .href(readString())
+                    .name(readString())
+                    .build()));
+        }
+
+        return links;
+    }
+
+    private Externals readExternals() throws IOException {
+        final int size = readNullableCount();
+        if (size < 0) {
+            return null;
+        }
+
+        final Externals.ExternalsBuilder builder = Externals.builder();
+        for (int i = 0; i < size; ++i) {
+            final String source = readSymbol();
+            builder.externalId(source, readString());
+        }
+
+        return builder.build();
+    }
+
+    ////////////////
+    // Primitives
+    ////////////////
+
+    private <T> T readNullable(final ValueReader<T> valueReader) throws IOException {
+        return readBoolean() ? valueReader.read() : null;
+    }
+
+    private <T> List<T> readList(final ValueReader<T> elementReader) throws IOException {
+        final int size = readNullableCount();
+        if (size < 0) {
+            return null;
+        }
+
+        final List<T> values = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+            values.add(elementReader.read());
+        }
+
+        return values;
+    }
+
+    private String readSymbol() throws IOException {
+        final int index = readNullableCount();
+        if (index < 0) {
+            return null;
+        }
+        if (index >= symbols.size()) {
+            throw new IOException("Invalid snapshot string reference: " + index);
+        }
+
+        return symbols.get(index);
+    }
+
+    private String readString() throws IOException {
+        final int length = readNullableCount();
+        return length < 0 ? null : readUtf8(length);
+    }
+
+    private String readUtf8(final int length) throws IOException {
+        ensureAvailable(length);
+        if (payload.hasArray()) {
+            final int offset = payload.arrayOffset() + payload.position();
+            payload.position(payload.position() + length);
+            return new String(payload.array(), offset, length, StandardCharsets.UTF_8);
+        }
+
+        final byte[] bytes = new byte[length];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private LocalDate readDate() throws IOException {
+        final long value = readUnsignedVarLong();
+        return value == 0L ? null : LocalDate.ofEpochDay(unZigZag(value - 1L));
+    }
+
+    private LocalTime readTime() throws IOException {
+        final long value = readUnsignedVarLong();
+        if (value == 0L) {
+            return null;
+        }
+
+        return LocalTime.ofSecondOfDay(value - 1L).withNano((int) readUnsignedVarLong());
+    }
+
+    private LocalDateTime readDateTime() throws IOException {
+        final long value = readUnsignedVarLong();
+        if (value == 0L) {
+            return null;
+        }
+
+        return LocalDateTime.ofEpochSecond(unZigZag(value - 1L), (int) readUnsignedVarLong(), ZoneOffset.UTC);
+    }
+
+    private Double readNullableDouble() throws IOException {
+        if (!readBoolean()) {
+            return null;
+        }
+
+        ensureAvailable(Long.BYTES);
+        return Double.longBitsToDouble(payload.getLong());
+    }
+
+    private boolean readBoolean() throws IOException {
+        ensureAvailable(1);
+        return payload.get() != 0;
+    }
+
+    int readInt() throws IOException {
+        return (int) unZigZag(readUnsignedVarLong());
+    }
+
+    private long readLong() throws IOException {
+        return unZigZag(readUnsignedVarLong());
+    }
+
+    // Decodes a "size + 1" encoded count where 0 represents null (returned as -1)
+    private int readNullableCount() throws IOException {
+        return readCount() - 1;
+    }
+
+    int readCount() throws IOException {
+        final long value = readUnsignedVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new IOException("Invalid snapshot count: " + value);
+        }
+
+        return (int) value;
+    }
+
+    long readUnsignedVarLong() throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            ensureAvailable(1);
+            final byte b = payload.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+
+        throw new IOException("Invalid snapshot varint");
+    }
+
+    private void ensureAvailable(final int length) throws IOException {
+        if (length < 0 || payload.remaining() < length) {
+            throw new EOFException("Snapshot frame is truncated");
+        }
+    }
+
+    private static long unZigZag(final long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    /** Reads a single value from the current frame. */
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read() throws IOException;
+    }
+}
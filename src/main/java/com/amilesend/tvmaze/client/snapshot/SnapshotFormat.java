@@ -0,0 +1,137 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import lombok.experimental.UtilityClass;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Constants that describe the binary snapshot format shared by the {@link SnapshotWriter} and
+ * {@link SnapshotReader}.
+ * <p>
+ * A snapshot starts with a header ({@link #MAGIC} followed by the {@link #VERSION} byte) and is followed by a
+ * sequence of frames, each consisting of a tag byte, the payload length as an unsigned varint, and the payload.
+ * The last frames are an {@link #INDEX_FRAME}, which maps show and person identifiers to the file offset of their
+ * frames for random access, followed by an {@link #END_FRAME} whose payload is the offset of the index frame.
+ * Readers skip frames with an unknown tag so that new record types can be added without bumping the version.
+ * <p>
+ * Within a payload:
+ * <ul>
+ *   <li>{@code int} and {@code long} values are zig-zag encoded varints.</li>
+ *   <li>Free-form strings are written inline as {@code length + 1} (0 for {@code null}) followed by UTF-8 bytes.</li>
+ *   <li>Low-cardinality strings (e.g., genres, languages, countries) are written as {@code index + 1} into a
+ *       string dictionary that is built up by {@link #STRINGS_FRAME}s preceding the records that use them.</li>
+ *   <li>Dates and times are written as their epoch day / second of day plus one so that 0 represents
+ *       {@code null}; nullable objects and collections are prefixed with a presence flag or {@code size + 1}.</li>
+ * </ul>
+ * A {@link #SHOW_RECORD_FRAME} starts with the show identifier and the byte lengths of its show,
+ * episodes, seasons and cast sections so that a reader can decode a single section without decoding the ones before
+ * it. The crew section runs to the end of the frame.
+ */
+@UtilityClass
+class SnapshotFormat {
+    /** The header magic ("TVMS"). */
+    static final int MAGIC = 0x54564D53;
+    /** The current format version. */
+    static final int VERSION = 1;
+
+    static final int END_FRAME = 0;
+    static final int STRINGS_FRAME = 1;
+    static final int SHOW_FRAME = 2;
+    static final int EPISODE_FRAME = 3;
+    static final int PERSON_FRAME = 4;
+    static final int SEASON_FRAME = 5;
+    static final int SHOW_RECORD_FRAME = 6;
+    static final int INDEX_FRAME = 7;
+
+    // The sections of a SHOW_RECORD_FRAME in the order they are written
+    static final int SHOW_SECTION = 0;
+    static final int EPISODES_SECTION = 1;
+    static final int SEASONS_SECTION = 2;
+    static final int CAST_SECTION = 3;
+    static final int CREW_SECTION = 4;
+
+    /** The size of the {@link #END_FRAME} which holds the big-endian offset of the {@link #INDEX_FRAME}. */
+    static final int END_FRAME_SIZE = 2 + Long.BYTES;
+
+    /**
+     * Validates the snapshot header.
+     *
+     * @param magic the magic number
+     * @param version the format version
+     * @return the format version
+     * @throws IOException if the header is not a supported snapshot header
+     */
+    static int checkHeader(final int magic, final int version) throws IOException {
+        if (magic != MAGIC) {
+            throw new IOException("Not a TVMaze snapshot");
+        }
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported snapshot version: " + version);
+        }
+
+        return version;
+    }
+
+    /**
+     * Reads the payload length of a frame, which is encoded as an unsigned varint after the frame tag.
+     *
+     * @param in the source of the length bytes (e.g., {@link java.io.DataInputStream#readUnsignedByte()})
+     * @return the payload length
+     * @throws IOException if the length is invalid or could not be read
+     */
+    static int readFrameLength(final UnsignedByteSource in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            final int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+
+        throw new IOException("Invalid snapshot frame length");
+    }
+
+    /**
+     * Reads the payload length of a frame from the given buffer.
+     *
+     * @param frame the buffer, positioned after the frame tag
+     * @return the payload length
+     * @throws IOException if the length is invalid or exceeds the remaining bytes of the buffer
+     */
+    static int readFrameLength(final ByteBuffer frame) throws IOException {
+        final int length = readFrameLength(() -> Byte.toUnsignedInt(frame.get()));
+        if (length > frame.remaining()) {
+            throw new IOException("Invalid snapshot frame length");
+        }
+
+        return length;
+    }
+
+    /** A source of the unsigned bytes of a frame header. */
+    @FunctionalInterface
+    interface UnsignedByteSource {
+        int readUnsignedByte() throws IOException;
+    }
+}
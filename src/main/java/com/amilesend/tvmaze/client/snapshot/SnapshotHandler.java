@@ -0,0 +1,70 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import com.amilesend.tvmaze.client.crawl.ShowRecord;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+
+/**
+ * Receives the records read by {@link SnapshotReader#read(SnapshotHandler)}. Each method defaults to a no-op so
+ * that implementations only override the record types they are interested in.
+ */
+public interface SnapshotHandler {
+    /**
+     * Handles a show record.
+     *
+     * @param show the show
+     */
+    default void onShow(final Show show) {
+    }
+
+    /**
+     * Handles an episode record.
+     *
+     * @param episode the episode
+     */
+    default void onEpisode(final Episode episode) {
+    }
+
+    /**
+     * Handles a person record.
+     *
+     * @param person the person
+     */
+    default void onPerson(final Person person) {
+    }
+
+    /**
+     * Handles a season record.
+     *
+     * @param season the season
+     */
+    default void onSeason(final Season season) {
+    }
+
+    /**
+     * Handles a crawled show record.
+     *
+     * @param record the show record
+     */
+    default void onShowRecord(final ShowRecord record) {
+    }
+}
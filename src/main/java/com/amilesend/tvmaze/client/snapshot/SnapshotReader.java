@@ -0,0 +1,160 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import com.amilesend.tvmaze.client.crawl.ShowRecord;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Streams model objects from a binary snapshot written by a {@link SnapshotWriter}. Records are decoded one at a
+ * time, either by pulling them with {@link #next()} or by pushing them to a {@link SnapshotHandler} with
+ * {@link #read(SnapshotHandler)}.
+ * <p>
+ * Example:
+ * <pre>
+ * try (SnapshotReader reader = new SnapshotReader(Files.newInputStream(path))) {
+ *     reader.read(new SnapshotHandler() {
+ *         &#64;Override
+ *         public void onShow(final Show show) {
+ *             index.add(show);
+ *         }
+ *     });
+ * }
+ * </pre>
+ * Frames with an unknown tag and trailing bytes within a known frame are skipped, which allows newer writers to
+ * add record types and append fields to existing records. Instances are not thread-safe.
+ */
+public class SnapshotReader implements Closeable {
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final DataInputStream in;
+    private final List<String> symbols = new ArrayList<>();
+    /** The format version of the snapshot. */
+    @Getter
+    private final int version;
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private boolean isEnded;
+
+    /**
+     * Creates a new {@code SnapshotReader} and validates the snapshot header.
+     *
+     * @param in the input stream that is closed when this reader is closed
+     * @throws IOException if the header could not be read or the snapshot version is not supported
+     */
+    public SnapshotReader(@NonNull final InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        this.version = SnapshotFormat.checkHeader(this.in.readInt(), this.in.readUnsignedByte());
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the {@link Show}, {@link Episode}, {@link Person}, {@link Season} or {@link ShowRecord}, or
+     *         {@code null} once the end of the snapshot is reached
+     * @throws IOException if an error occurred while reading or the snapshot is truncated
+     */
+    public Object next() throws IOException {
+        while (!isEnded) {
+            final int tag = in.read();
+            if (tag == -1) {
+                throw new EOFException("Snapshot is truncated");
+            }
+
+            final SnapshotDecoder decoder = new SnapshotDecoder(loadFrame(SnapshotFormat.readFrameLength(in::readUnsignedByte)), symbols);
+            switch (tag) {
+                case SnapshotFormat.END_FRAME:
+                    isEnded = true;
+                    break;
+                case SnapshotFormat.STRINGS_FRAME:
+                    decoder.readSymbols(symbols);
+                    break;
+                case SnapshotFormat.SHOW_FRAME:
+                    return decoder.readShow();
+                case SnapshotFormat.EPISODE_FRAME:
+                    return decoder.readEpisode();
+                case SnapshotFormat.PERSON_FRAME:
+                    return decoder.readPerson();
+                case SnapshotFormat.SEASON_FRAME:
+                    return decoder.readSeason();
+                case SnapshotFormat.SHOW_RECORD_FRAME:
+                    return decoder.readShowRecord();
+                default:
+                    // Index frames and unknown record types from a newer writer
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Reads the remaining records and passes each to the given handler.
+     *
+     * @param handler the handler
+     * @return the number of records read
+     * @throws IOException if an error occurred while reading or the snapshot is truncated
+     */
+    public int read(@NonNull final SnapshotHandler handler) throws IOException {
+        int count = 0;
+        for (Object record = next(); Objects.nonNull(record); record = next()) {
+            if (record instanceof Show) {
+                handler.onShow((Show) record);
+            } else if (record instanceof Episode) {
+                handler.onEpisode((Episode) record);
+            } else if (record instanceof Person) {
+                handler.onPerson((Person) record);
+            } else if (record instanceof Season) {
+                handler.onSeason((Season) record);
+            } else if (record instanceof ShowRecord) {
+                handler.onShowRecord((ShowRecord) record);
+            }
+            ++count;
+        }
+
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private ByteBuffer loadFrame(final int length) throws IOException {
+        if (buffer.length < length) {
+            buffer = new byte[Math.max(length, buffer.length * 2)];
+        }
+
+        in.readFully(buffer, 0, length);
+        return ByteBuffer.wrap(buffer, 0, length);
+    }
+}
@@ -0,0 +1,563 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import com.amilesend.tvmaze.client.crawl.ShowRecord;
+import com.amilesend.tvmaze.client.model.CastCredit;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.model.type.Character;
+import com.amilesend.tvmaze.client.model.type.Country;
+import com.amilesend.tvmaze.client.model.type.CrewMember;
+import com.amilesend.tvmaze.client.model.type.Externals;
+import com.amilesend.tvmaze.client.model.type.ImageUrl;
+import com.amilesend.tvmaze.client.model.type.Network;
+import com.amilesend.tvmaze.client.model.type.Rating;
+import com.amilesend.tvmaze.client.model.type.ResourceLink;
+import com.amilesend.tvmaze.client.model.type.Schedule;
+import com.amilesend.tvmaze.client.model.type.WebChannel;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import lombok.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Streams model objects to a compact, versioned binary snapshot that can be read back with a
+ * {@link SnapshotReader}. Records are written as they are passed in, so memory usage is bounded by the largest
+ * record and the string dictionary. See {@link SnapshotFormat} for the layout.
+ * <p>
+ * Example:
+ * <pre>
+ * try (SnapshotWriter writer = new SnapshotWriter(Files.newOutputStream(path))) {
+ *     shows.forEach(writer::writeShow);
+ * }
+ * </pre>
+ * Note: The embedded resources of each model (e.g., a show's embedded episodes) are written along with it.
+ * Instances are not thread-safe.
+ */
+public class SnapshotWriter implements Closeable, Flushable {
+    private final DataOutputStream out;
+    private final Payload payload = new Payload();
+    private final Payload[] showRecordSections =
+            {new Payload(), new Payload(), new Payload(), new Payload(), new Payload()};
+    private final Map<String, Integer> symbols = new HashMap<>();
+    private final List<String> pendingSymbols = new ArrayList<>();
+    private final List<Long> symbolFrameOffsets = new ArrayList<>();
+    private final IntLongMap showFrameOffsets = new IntLongMap();
+    private final IntLongMap personFrameOffsets = new IntLongMap();
+    private long offset;
+    private boolean isClosed;
+
+    /**
+     * Creates a new {@code SnapshotWriter} and writes the snapshot header.
+     *
+     * @param out the output stream that is closed when this writer is closed
+     * @throws IOException if the header could not be written
+     */
+    public SnapshotWriter(@NonNull final OutputStream out) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(SnapshotFormat.MAGIC);
+        this.out.writeByte(SnapshotFormat.VERSION);
+        this.offset = Integer.BYTES + 1;
+    }
+
+    /**
+     * Writes a show record.
+     *
+     * @param show the show
+     * @throws IOException if an error occurred while writing
+     */
+    public void writeShow(@NonNull final Show show) throws IOException {
+        writeShow(payload, show);
+        showFrameOffsets.put(show.getId(), writeFrame(SnapshotFormat.SHOW_FRAME));
+    }
+
+    /**
+     * Writes an episode record.
+     *
+     * @param episode the episode
+     * @throws IOException if an error occurred while writing
+     */
+    public void writeEpisode(@NonNull final Episode episode) throws IOException {
+        writeEpisode(payload, episode);
+        writeFrame(SnapshotFormat.EPISODE_FRAME);
+    }
+
+    /**
+     * Writes a person record.
+     *
+     * @param person the person
+     * @throws IOException if an error occurred while writing
+     */
+    public void writePerson(@NonNull final Person person) throws IOException {
+        writePerson(payload, person);
+        personFrameOffsets.put(person.getId(), writeFrame(SnapshotFormat.PERSON_FRAME));
+    }
+
+    /**
+     * Writes a season record.
+     *
+     * @param season the season
+     * @throws IOException if an error occurred while writing
+     */
+    public void writeSeason(@NonNull final Season season) throws IOException {
+        writeSeason(payload, season);
+        writeFrame(SnapshotFormat.SEASON_FRAME);
+    }
+
+    /**
+     * Writes a crawled show record along with its episodes, seasons, cast and crew. Each is written as a separate
+     * section of the frame so that a {@link MappedShowCatalog} can decode one without the others.
+     *
+     * @param record the show record
+     * @throws IOException if an error occurred while writing
+     */
+    public void writeShowRecord(@NonNull final ShowRecord record) throws IOException {
+        final Payload[] sections = showRecordSections;
+        try {
+            writeShow(sections[SnapshotFormat.SHOW_SECTION], record.getShow());
+            final Payload episodes = sections[SnapshotFormat.EPISODES_SECTION];
+            writeList(episodes, record.getEpisodes(), e -> writeEpisode(episodes, e));
+            final Payload seasons = sections[SnapshotFormat.SEASONS_SECTION];
+            writeList(seasons, record.getSeasons(), s -> writeSeason(seasons, s));
+            final Payload cast = sections[SnapshotFormat.CAST_SECTION];
+            writeList(cast, record.getCast(), c -> writeCastMember(cast, c));
+            final Payload crew = sections[SnapshotFormat.CREW_SECTION];
+            writeList(crew, record.getCrew(), c -> writeCrewMember(crew, c));
+
+            // The section lengths let readers skip to a single section; the last one runs to the end of the frame
+            payload.writeInt(record.getShow().getId());
+            for (int i = 0; i < SnapshotFormat.CREW_SECTION; ++i) {
+                payload.writeUnsignedVarLong(sections[i].size());
+            }
+            for (final Payload section : sections) {
+                section.writeTo(payload);
+            }
+        } finally {
+            for (final Payload section : sections) {
+                section.reset();
+            }
+        }
+        showFrameOffsets.put(record.getShow().getId(), writeFrame(SnapshotFormat.SHOW_RECORD_FRAME));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Writes the index and end-of-snapshot frames and closes the underlying stream.
+     *
+     * @throws IOException if an error occurred while writing
+     */
+    @Override
+    public void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+
+        try {
+            final long indexOffset = writeFrame(SnapshotFormat.INDEX_FRAME, newIndexPayload());
+            out.writeByte(SnapshotFormat.END_FRAME);
+            writeUnsignedVarInt(Long.BYTES);
+            out.writeLong(indexOffset);
+        } finally {
+            isClosed = true;
+            out.close();
+        }
+    }
+
+    private Payload newIndexPayload() {
+        final Payload index = new Payload();
+        index.writeUnsignedVarLong(symbolFrameOffsets.size());
+        long previousOffset = 0L;
+        for (final long frameOffset : symbolFrameOffsets) {
+            index.writeUnsignedVarLong(frameOffset - previousOffset);
+            previousOffset = frameOffset;
+        }
+
+        for (final IntLongMap frameOffsets : List.of(showFrameOffsets, personFrameOffsets)) {
+            index.writeUnsignedVarLong(frameOffsets.size());
+            frameOffsets.forEach((id, frameOffset) -> {
+                index.writeInt(id);
+                index.writeUnsignedVarLong(frameOffset);
+            });
+        }
+
+        return index;
+    }
+
+    // The dictionary strings referenced by the record are written in a preceding frame so that readers can decode
+    // the record without lookahead and still skip records of an unknown type
+    private long writeFrame(final int tag) throws IOException {
+        if (isClosed) {
+            payload.reset();
+            throw new IOException("Snapshot writer is closed");
+        }
+
+        if (!pendingSymbols.isEmpty()) {
+            final Payload strings = new Payload();
+            strings.writeUnsignedVarLong(pendingSymbols.size());
+            pendingSymbols.forEach(strings::writeUtf8);
+            pendingSymbols.clear();
+            symbolFrameOffsets.add(writeFrame(SnapshotFormat.STRINGS_FRAME, strings));
+        }
+
+        return writeFrame(tag, payload);
+    }
+
+    // Returns the offset of the frame within the snapshot
+    private long writeFrame(final int tag, final Payload framePayload) throws IOException {
+        final long frameOffset = offset;
+        try {
+            out.writeByte(tag);
+            final int lengthSize = writeUnsignedVarInt(framePayload.size());
+            framePayload.writeTo(out);
+            offset += 1 + lengthSize + framePayload.size();
+        } finally {
+            framePayload.reset();
+        }
+
+        return frameOffset;
+    }
+
+    // Returns the number of bytes written
+    private int writeUnsignedVarInt(final int value) throws IOException {
+        int remaining = value;
+        int size = 1;
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+            ++size;
+        }
+        out.writeByte(remaining);
+
+        return size;
+    }
+
+    ////////////
+    // Models
+    ////////////
+
+    private void writeShow(final Payload p, final Show show) {
+        p.writeInt(show.getId());
+        writeLinks(p, show.getLinks());
+        p.writeString(show.getUrl());
+        p.writeString(show.getName());
+        writeSymbol(p, show.getType());
+        writeSymbol(p, show.getLanguage());
+        writeList(p, show.getGenres(), g -> writeSymbol(p, g));
+        writeSymbol(p, show.getStatus());
+        p.writeInt(show.getRuntime());
+        p.writeInt(show.getAverageRuntime());
+        p.writeDate(show.getPremiered());
+        p.writeDate(show.getEnded());
+        p.writeString(show.getOfficialSite());
+        writeNullable(p, show.getSchedule(), s -> writeSchedule(p, s));
+        writeNullable(p, show.getRating(), r -> writeRating(p, r));
+        p.writeInt(show.getWeight());
+        writeNullable(p, show.getNetwork(), n -> writeNetwork(p, n));
+        writeNullable(p, show.getWebChannel(), w -> writeWebChannel(p, w));
+        writeNullable(p, show.getDvdCountry(), c -> writeCountry(p, c));
+        writeExternals(p, show.getExternalIds());
+        writeNullable(p, show.getImage(), i -> writeImageUrl(p, i));
+        p.writeString(show.getSummary());
+        p.writeLong(show.getUpdated());
+        writeNullable(p, show.getEmbeddedResource(), e -> {
+            writeList(p, e.getCast(), c -> writeCastMember(p, c));
+            writeList(p, e.getEpisodes(), ep -> writeEpisode(p, ep));
+            writeNullable(p, e.getPreviousEpisode(), ep -> writeEpisode(p, ep));
+            writeNullable(p, e.getNextEpisode(), ep -> writeEpisode(p, ep));
+        });
+    }
+
+    private void writeEpisode(final Payload p, final Episode episode) {
+        p.writeInt(episode.getId());
+        writeLinks(p, episode.getLinks());
+        p.writeString(episode.getUrl());
+        p.writeString(episode.getName());
+        p.writeInt(episode.getSeason());
+        p.writeInt(episode.getNumber());
+        writeSymbol(p, episode.getType());
+        p.writeDate(episode.getAirdate());
+        p.writeTime(episode.getAirtime());
+        p.writeDateTime(episode.getAirstamp());
+        p.writeInt(episode.getRuntime());
+        writeNullable(p, episode.getRating(), r -> writeRating(p, r));
+        writeNullable(p, episode.getImage(), i -> writeImageUrl(p, i));
+        p.writeString(episode.getSummary());
+        writeNullable(p, episode.getEmbeddedResource(), e -> {
+            writeList(p, e.getGuestCast(), c -> writeCastMember(p, c));
+            writeNullable(p, e.getShow(), s -> writeShow(p, s));
+        });
+    }
+
+    private void writePerson(final Payload p, final Person person) {
+        p.writeInt(person.getId());
+        writeLinks(p, person.getLinks());
+        p.writeString(person.getUrl());
+        p.writeString(person.getName());
+        writeNullable(p, person.getCountry(), c -> writeCountry(p, c));
+        p.writeDate(person.getBirthday());
+        p.writeDate(person.getDeathday());
+        writeSymbol(p, person.getGender());
+        writeNullable(p, person.getImage(), i -> writeImageUrl(p, i));
+        p.writeLong(person.getUpdated());
+        writeNullable(p, person.getEmbeddedResource(),
+                e -> writeList(p, e.getCastCredits(), c -> writeCastCredit(p, c)));
+    }
+
+    private void writeSeason(final Payload p, final Season season) {
+        p.writeInt(season.getId());
+        writeLinks(p, season.getLinks());
+        p.writeString(season.getUrl());
+        p.writeInt(season.getNumber());
+        p.writeString(season.getName());
+        p.writeInt(season.getEpisodeOrder());
+        p.writeDate(season.getPremiereDate());
+        p.writeDate(season.getEndDate());
+        writeNullable(p, season.getNetwork(), n -> writeNetwork(p, n));
+        writeNullable(p, season.getImage(), i -> writeImageUrl(p, i));
+    }
+
+    private void writeCastMember(final Payload p, final CastMember castMember) {
+        writeNullable(p, castMember.getPerson(), person -> writePerson(p, person));
+        writeNullable(p, castMember.getCharacter(), c -> writeCharacter(p, c));
+    }
+
+    private void writeCrewMember(final Payload p, final CrewMember crewMember) {
+        writeSymbol(p, crewMember.getType());
+        writeSymbol(p, crewMember.getGuestCrewType());
+        writeNullable(p, crewMember.getPerson(), person -> writePerson(p, person));
+    }
+
+    private void writeCharacter(final Payload p, final Character character) {
+        p.writeInt(character.getId());
+        writeLinks(p, character.getLinks());
+        p.writeString(character.getUrl());
+        p.writeString(character.getName());
+        writeNullable(p, character.getImage(), i -> writeImageUrl(p, i));
+        p.writeBoolean(character.isSelf());
+        p.writeBoolean(character.isVoice());
+    }
+
+    private void writeCastCredit(final Payload p, final CastCredit castCredit) {
+        p.writeBoolean(castCredit.isSelf());
+        p.writeBoolean(castCredit.isVoice());
+        writeLinks(p, castCredit.getLinks());
+        writeNullable(p, castCredit.getEmbeddedResource(), e -> {
+            writeNullable(p, e.getShow(), s -> writeShow(p, s));
+            writeNullable(p, e.getEpisode(), ep -> writeEpisode(p, ep));
+        });
+    }
+
+    ////////////
+    // Types
+    ////////////
+
+    private void writeSchedule(final Payload p, final Schedule schedule) {
+        writeSymbol(p, schedule.getTime());
+        writeList(p, schedule.getDays(), d -> writeSymbol(p, d));
+    }
+
+    private void writeRating(final Payload p, final Rating rating) {
+        p.writeNullableDouble(rating.getAverage());
+    }
+
+    private void writeNetwork(final Payload p, final Network network) {
+        p.writeInt(network.getId());
+        writeSymbol(p, network.getName());
+        writeNullable(p, network.getCountry(), c -> writeCountry(p, c));
+        p.writeString(network.getOfficialSite());
+    }
+
+    private void writeWebChannel(final Payload p, final WebChannel webChannel) {
+        p.writeInt(webChannel.getId());
+        writeSymbol(p, webChannel.getName());
+        writeNullable(p, webChannel.getCountry(), c -> writeCountry(p, c));
+        p.writeString(webChannel.getOfficialSite());
+    }
+
+    private void writeCountry(final Payload p, final Country country) {
+        writeSymbol(p, country.getName());
+        writeSymbol(p, country.getCode());
+        writeSymbol(p, country.getTimezone());
+    }
+
+    private void writeImageUrl(final Payload p, final ImageUrl imageUrl) {
+        p.writeString(imageUrl.getMedium());
+        p.writeString(imageUrl.getOriginal());
+    }
+
+    private void writeLinks(final Payload p, final Map<String, ResourceLink> links) {
+        if (Objects.isNull(links)) {
+            p.writeUnsignedVarLong(0L);
+            return;
+        }
+
+        p.writeUnsignedVarLong(links.size() + 1L);
+        links.forEach((name, link) -> {
+            writeSymbol(p, name);
+            writeNullable(p, link, l -> {
+                p.writeString(l.getHref());
+                p.writeString(l.getName());
+            });
+        });
+    }
+
+    // Externals are written in their string form; see Externals#asMap()
+    private void writeExternals(final Payload p, final Externals externalIds) {
+        if (Objects.isNull(externalIds)) {
+            p.writeUnsignedVarLong(0L);
+            return;
+        }
+
+        final Map<String, String> externals = externalIds.asMap();
+        p.writeUnsignedVarLong(externals.size() + 1L);
+        externals.forEach((name, value) -> {
+            writeSymbol(p, name);
+            p.writeString(value);
+        });
+    }
+
+    private void writeSymbol(final Payload p, final String value) {
+        if (Objects.isNull(value)) {
+            p.writeUnsignedVarLong(0L);
+            return;
+        }
+
+        Integer index = symbols.get(value);
+        if (Objects.isNull(index)) {
+            index = symbols.size();
+            symbols.put(value, index);
+            pendingSymbols.add(value);
+        }
+        p.writeUnsignedVarLong(index + 1L);
+    }
+
+    private static <T> void writeList(final Payload p, final List<T> values, final Consumer<T> elementWriter) {
+        if (Objects.isNull(values)) {
+            p.writeUnsignedVarLong(0L);
+            return;
+        }
+
+        p.writeUnsignedVarLong(values.size() + 1L);
+        values.forEach(elementWriter);
+    }
+
+    private static <T> void writeNullable(final Payload p, final T value, final Consumer<T> valueWriter) {
+        p.writeBoolean(Objects.nonNull(value));
+        if (Objects.nonNull(value)) {
+            valueWriter.accept(value);
+        }
+    }
+
+    /** The in-memory buffer for a single frame. */
+    private static class Payload extends ByteArrayOutputStream {
+        void writeBoolean(final boolean value) {
+            write(value ? 1 : 0);
+        }
+
+        void writeInt(final int value) {
+            writeUnsignedVarLong(((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL);
+        }
+
+        void writeLong(final long value) {
+            writeUnsignedVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeUnsignedVarLong(final long value) {
+            long remaining = value;
+            while ((remaining & ~0x7FL) != 0L) {
+                write((int) ((remaining & 0x7F) | 0x80));
+                remaining >>>= 7;
+            }
+            write((int) remaining);
+        }
+
+        void writeNullableDouble(final Double value) {
+            writeBoolean(Objects.nonNull(value));
+            if (Objects.nonNull(value)) {
+                final long bits = Double.doubleToLongBits(value);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    write((int) (bits >>> shift));
+                }
+            }
+        }
+
+        void writeString(final String value) {
+            if (Objects.isNull(value)) {
+                writeUnsignedVarLong(0L);
+                return;
+            }
+
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsignedVarLong(bytes.length + 1L);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeUtf8(final String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsignedVarLong(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeDate(final LocalDate value) {
+            writeUnsignedVarLong(Objects.isNull(value) ? 0L : zigZag(value.toEpochDay()) + 1L);
+        }
+
+        void writeTime(final LocalTime value) {
+            writeUnsignedVarLong(Objects.isNull(value) ? 0L : value.toSecondOfDay() + 1L);
+            if (Objects.nonNull(value)) {
+                writeUnsignedVarLong(value.getNano());
+            }
+        }
+
+        void writeDateTime(final LocalDateTime value) {
+            writeUnsignedVarLong(Objects.isNull(value) ? 0L : zigZag(value.toEpochSecond(ZoneOffset.UTC)) + 1L);
+            if (Objects.nonNull(value)) {
+                writeUnsignedVarLong(value.getNano());
+            }
+        }
+
+        private static long zigZag(final long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.util;
+
+import com.amilesend.client.util.Validate;
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A map of primitive {@code int} keys to primitive {@code long} values that uses open addressing with linear probing.
+ * Unlike a {@code Map<Integer, Long>}, keys and values are stored in flat arrays without boxing, which reduces the
+ * memory footprint of large maps (e.g., the complete TVMaze updates index) severalfold.
+ * <p>
+ * This class is not thread-safe.
+ */
+public class IntLongMap {
+    /** The value returned by {@link #get(int)} when the key is absent. */
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+    private static final float LOAD_FACTOR = 0.6F;
+    /** Marks an unused slot. The {@code 0} key is stored separately. */
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private long[] values;
+    private int mask;
+    private int resizeThreshold;
+    private int size;
+    private boolean hasFreeKey;
+    private long freeKeyValue;
+
+    /** Creates a new, empty {@code IntLongMap}. */
+    public IntLongMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * Creates a new, empty {@code IntLongMap} sized to hold the expected number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public IntLongMap(final int expectedSize) {
+        Validate.isTrue(expectedSize >= 0, "expectedSize must be >= 0");
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Gets the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if this map has no entries.
+     *
+     * @return {@code true} if empty; else, {@code false}
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Determines if this map contains an entry for the given key.
+     *
+     * @param key the key
+     * @return {@code true} if present; else, {@code false}
+     */
+    public boolean containsKey(final int key) {
+        if (key == FREE_KEY) {
+            return hasFreeKey;
+        }
+
+        return keys[indexOf(key)] == key;
+    }
+
+    /**
+     * Gets the value for the given key.
+     *
+     * @param key the key
+     * @return the value, or {@link #NO_VALUE} if absent
+     */
+    public long get(final int key) {
+        return getOrDefault(key, NO_VALUE);
+    }
+
+    /**
+     * Gets the value for the given key.
+     *
+     * @param key the key
+     * @param defaultValue the value to return if absent
+     * @return the value, or {@code defaultValue} if absent
+     */
+    public long getOrDefault(final int key, final long defaultValue) {
+        if (key == FREE_KEY) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+
+        final int index = indexOf(key);
+        return keys[index] == key ? values[index] : defaultValue;
+    }
+
+    /**
+     * Associates the value with the given key, replacing any existing value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the previous value, or {@link #NO_VALUE} if absent
+     */
+    public long put(final int key, final long value) {
+        if (key == FREE_KEY) {
+            final long previous = hasFreeKey ? freeKeyValue : NO_VALUE;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                ++size;
+            }
+            freeKeyValue = value;
+            return previous;
+        }
+
+        final int index = indexOf(key);
+        if (keys[index] == key) {
+            final long previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+
+        return NO_VALUE;
+    }
+
+    /**
+     * Invokes the consumer for each entry in an unspecified order.
+     *
+     * @param consumer the entry consumer
+     */
+    public void forEach(@NonNull final IntLongConsumer consumer) {
+        if (hasFreeKey) {
+            consumer.accept(FREE_KEY, freeKeyValue);
+        }
+
+        for (int i = 0; i < keys.length; ++i) {
+            if (keys[i] != FREE_KEY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Gets the keys in an unspecified order.
+     *
+     * @return the array of keys
+     */
+    public int[] keys() {
+        final int[] result = new int[size];
+        int i = 0;
+        if (hasFreeKey) {
+            result[i++] = FREE_KEY;
+        }
+        for (final int key : keys) {
+            if (key != FREE_KEY) {
+                result[i++] = key;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the entries of this map that are absent from, or have a different value than, the given previous
+     * snapshot. For update timestamp maps, this is the set of resources that were added or updated since the
+     * previous snapshot was taken.
+     *
+     * @param previous the previous snapshot
+     * @return a new map of the added or changed entries
+     */
+    public IntLongMap changedSince(@NonNull final IntLongMap previous) {
+        final IntLongMap changed = new IntLongMap();
+        forEach((key, value) -> {
+            if (!previous.containsKey(key) || previous.get(key) != value) {
+                changed.put(key, value);
+            }
+        });
+
+        return changed;
+    }
+
+    /**
+     * Gets the keys of the given previous snapshot that are absent from this map.
+     *
+     * @param previous the previous snapshot
+     * @return the array of removed keys
+     */
+    public int[] removedSince(@NonNull final IntLongMap previous) {
+        final IntLongMap removed = new IntLongMap();
+        previous.forEach((key, value) -> {
+            if (!containsKey(key)) {
+                removed.put(key, value);
+            }
+        });
+
+        return removed.keys();
+    }
+
+    /**
+     * Copies the entries into a new boxed {@link Map}.
+     *
+     * @return the map
+     */
+    public Map<Integer, Long> toMap() {
+        final Map<Integer, Long> map = new HashMap<>(Math.max(DEFAULT_EXPECTED_SIZE, (int) (size / 0.75F) + 1));
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof IntLongMap)) {
+            return false;
+        }
+
+        final IntLongMap that = (IntLongMap) obj;
+        return size == that.size && changedSince(that).isEmpty();
+    }
+
+    @Override
+    public int hashCode() {
+        final int[] hash = new int[1];
+        forEach((key, value) -> hash[0] += key ^ Long.hashCode(value));
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        return "IntLongMap(size=" + size + ")";
+    }
+
+    private int indexOf(final int key) {
+        int index = mix(key) & mask;
+        while (keys[index] != FREE_KEY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+
+        return index;
+    }
+
+    private void rehash(final int newCapacity) {
+        Validate.isTrue(newCapacity <= MAX_CAPACITY, "IntLongMap capacity exceeded");
+        final int[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; ++i) {
+            if (oldKeys[i] != FREE_KEY) {
+                final int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final long minCapacity = Math.max(2L, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1L);
+        Validate.isTrue(minCapacity <= MAX_CAPACITY, "expectedSize is too large");
+        return Integer.highestOneBit((int) minCapacity - 1) << 1;
+    }
+
+    /** Spreads sequential identifiers across the table (Fibonacci hashing). */
+    private static int mix(final int key) {
+        final int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /** Consumes an {@code int} key and {@code long} value pair. */
+    @FunctionalInterface
+    public interface IntLongConsumer {
+        /**
+         * Consumes the entry.
+         *
+         * @param key the key
+         * @param value the value
+         */
+        void accept(int key, long value);
+    }
+}
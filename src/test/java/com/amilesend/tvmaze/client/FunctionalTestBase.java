@@ -21,10 +21,12 @@ import com.amilesend.client.connection.Connection;
 import com.amilesend.client.connection.DefaultConnectionBuilder;
 import com.amilesend.client.connection.auth.NoOpAuthManager;
 import com.amilesend.client.connection.http.OkHttpClientBuilder;
+import com.amilesend.tvmaze.client.api.ExchangeListener;
 import com.amilesend.tvmaze.client.data.SerializedResource;
 import com.amilesend.tvmaze.client.parse.GsonFactory;
 import lombok.Getter;
 import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
 import mockwebserver3.MockResponse;
 import mockwebserver3.MockWebServer;
 import okhttp3.OkHttpClient;
@@ -49,7 +51,8 @@ public class FunctionalTestBase {
     @SneakyThrows
     @BeforeEach
     public void setUp() {
-        httpClient = new OkHttpClientBuilder().isForTest(true).build();
+        httpClient = ExchangeListener.configure(new OkHttpClientBuilder().isForTest(true).build().newBuilder())
+                .build();
         mockWebServer = new MockWebServer();
         mockWebServer.start();
         setUpTvMaze();
@@ -65,36 +68,61 @@ public class FunctionalTestBase {
         setUpMockResponse(responseCode, (SerializedResource) null);
     }
 
-    @SneakyThrows
     protected void setUpMockResponse(final int responseCode, final SerializedResource responseBodyResource) {
+        mockWebServer.enqueue(newMockResponse(responseCode, responseBodyResource));
+    }
+
+    protected void setUpMockResponse(final MockResponse response) {
+        mockWebServer.enqueue(response);
+    }
+
+    protected void setUpDispatcher(final Dispatcher dispatcher) {
+        mockWebServer.setDispatcher(dispatcher);
+    }
+
+    @SneakyThrows
+    protected static MockResponse newMockResponse(
+            final int responseCode,
+            final SerializedResource responseBodyResource) {
         if (responseBodyResource == null) {
-            mockWebServer.enqueue(new MockResponse.Builder()
+            return new MockResponse.Builder()
                     .code(responseCode)
-                    .build());
-            return;
+                    .build();
         }
 
-        mockWebServer.enqueue(new MockResponse.Builder()
+        return new MockResponse.Builder()
                 .code(responseCode)
                 .addHeader(CONTENT_TYPE, "application/json; charset=utf-8")
                 .addHeader(CONTENT_ENCODING, "gzip")
                 .body(new Buffer().write(responseBodyResource.toGzipCompressedBytes()))
-                .build());
+                .build();
+    }
+
+    protected int getRequestCount() {
+        return mockWebServer.getRequestCount();
     }
 
     protected String getMockWebServerUrl() {
         return String.format("http://%s:%d", mockWebServer.getHostName(), mockWebServer.getPort());
     }
 
+    protected TvMaze newClientWithoutExchangeListener() {
+        return new TvMaze(newConnection(new OkHttpClientBuilder().isForTest(true).build()));
+    }
+
     private void setUpTvMaze() {
-        connection = new DefaultConnectionBuilder()
+        connection = newConnection(httpClient);
+        client = new TvMaze(connection);
+    }
+
+    private Connection newConnection(final OkHttpClient connectionHttpClient) {
+        return new DefaultConnectionBuilder()
                 .userAgent(USER_AGENT)
-                .httpClient(httpClient)
+                .httpClient(connectionHttpClient)
                 .gsonFactory(new GsonFactory())
                 .baseUrl(getMockWebServerUrl())
                 .authManager(new NoOpAuthManager())
                 .isGzipContentEncodingEnabled(true)
                 .build();
-        client = new TvMaze(connection);
     }
 }
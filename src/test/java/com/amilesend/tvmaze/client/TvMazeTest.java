@@ -0,0 +1,43 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client;
+
+import com.amilesend.tvmaze.client.concurrent.RateLimiter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TvMazeTest extends FunctionalTestBase {
+    @Test
+    public void close_withVirtualThreadsPreferred_shouldRejectOwnerAndDerivedClients() {
+        final TvMaze client = new TvMaze(getConnection(), TvMazeConfig.builder()
+                .isVirtualThreadsPreferred(true)
+                .build());
+        final TvMaze derivedClient = client.withPriority(RateLimiter.Priority.BACKGROUND);
+        client.getShowsApi();
+
+        client.close();
+
+        assertAll(
+                () -> assertThrows(IllegalStateException.class, client::getShowsApi),
+                () -> assertThrows(IllegalStateException.class, client::getBulkExecutor),
+                () -> assertThrows(IllegalStateException.class, derivedClient::getShowsApi),
+                () -> assertThrows(IllegalStateException.class, derivedClient::getBulkExecutor));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.metrics.ApiCall;
+import com.amilesend.tvmaze.client.metrics.ApiCallListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiCallListenerFunctionalTest extends FunctionalTestBase {
+    private static final List<String> SUCCESS_STAGES = List.of(
+            "urlBuilt",
+            "requestSent",
+            "headersReceived:200",
+            "bodyRead",
+            "parseCompleted",
+            "resultReturned");
+
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    public void getShow_withSuccessfulResponse_shouldNotifyEachStageInOrder() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+
+        getListenedClient().getShowsApi().getShow(1);
+
+        final ApiCall actual = listener.calls.get(0);
+        assertAll(
+                () -> assertEquals(SUCCESS_STAGES, listener.stages),
+                () -> assertEquals("ShowsApi.getShow", actual.getOperation()),
+                () -> assertEquals(1, actual.getResourceId()),
+                () -> assertTrue(actual.getUrl().encodedPath().endsWith("/shows/1")),
+                () -> assertFalse(actual.isAsync()),
+                () -> assertTrue(listener.byteCount > 0L),
+                () -> assertTrue(listener.calls.stream().allMatch(call -> call == actual)));
+    }
+
+    @Test
+    public void getShowAsync_withSuccessfulResponse_shouldNotifyEachStageInOrder() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+
+        getListenedClient().getShowsApi().getShowAsync(1).join();
+
+        final ApiCall actual = listener.calls.get(0);
+        assertAll(
+                () -> assertEquals(SUCCESS_STAGES, listener.stages),
+                () -> assertEquals(1, actual.getResourceId()),
+                () -> assertTrue(actual.isAsync()));
+    }
+
+    @Test
+    public void getShowAsync_withNotFoundResponse_shouldNotifyFailure() {
+        setUpMockResponse(404);
+
+        assertThrows(CompletionException.class, () -> getListenedClient().getShowsApi().getShowAsync(1).join());
+
+        assertEquals(List.of("urlBuilt", "requestSent", "headersReceived:404", "failed"), listener.stages);
+    }
+
+    @Test
+    public void getShow_withNotFoundResponse_shouldNotifyFailure() {
+        setUpMockResponse(404);
+
+        assertThrows(ConnectionException.class, () -> getListenedClient().getShowsApi().getShow(1));
+
+        assertAll(
+                () -> assertEquals("failed", listener.stages.get(listener.stages.size() - 1)),
+                () -> assertFalse(listener.stages.contains("resultReturned")));
+    }
+
+    @Test
+    public void getIndex_withSuccessfulResponse_shouldNotHaveResourceId() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.LIST);
+
+        getListenedClient().getShowsApi().getIndex(0);
+
+        final ApiCall actual = listener.calls.get(0);
+        assertAll(
+                () -> assertEquals("ShowsApi.getIndex", actual.getOperation()),
+                () -> assertFalse(actual.hasResourceId()));
+    }
+
+    @Test
+    public void getShow_withThrowingListener_shouldStillReturnResult() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+        final TvMaze client = getClient().withCallListener(new ApiCallListener() {
+            @Override
+            public void onRequestSent(final ApiCall call) {
+                throw new IllegalStateException("Exception from test");
+            }
+        });
+
+        assertEquals(1, client.getShowsApi().getShow(1).getId());
+    }
+
+    private TvMaze getListenedClient() {
+        return getClient().withCallListener(listener);
+    }
+
+    private static class RecordingListener implements ApiCallListener {
+        private final List<String> stages = new CopyOnWriteArrayList<>();
+        private final List<ApiCall> calls = new CopyOnWriteArrayList<>();
+        private volatile long byteCount;
+
+        @Override
+        public void onUrlBuilt(final ApiCall call) {
+            record("urlBuilt", call);
+        }
+
+        @Override
+        public void onRequestSent(final ApiCall call) {
+            record("requestSent", call);
+        }
+
+        @Override
+        public void onHeadersReceived(final ApiCall call, final int statusCode) {
+            record("headersReceived:" + statusCode, call);
+        }
+
+        @Override
+        public void onBodyRead(final ApiCall call, final long byteCount) {
+            this.byteCount = byteCount;
+            record("bodyRead", call);
+        }
+
+        @Override
+        public void onParseCompleted(final ApiCall call) {
+            record("parseCompleted", call);
+        }
+
+        @Override
+        public void onResultReturned(final ApiCall call) {
+            record("resultReturned", call);
+        }
+
+        @Override
+        public void onFailed(final ApiCall call, final Throwable error) {
+            record("failed", call);
+        }
+
+        private void record(final String stage, final ApiCall call) {
+            stages.add(stage);
+            calls.add(call);
+        }
+    }
+}
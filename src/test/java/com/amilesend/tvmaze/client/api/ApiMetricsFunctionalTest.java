@@ -0,0 +1,118 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.metrics.DefaultApiMetrics;
+import com.amilesend.tvmaze.client.metrics.OperationStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ApiMetricsFunctionalTest extends FunctionalTestBase {
+    private static final long THROTTLE_BYTES_PER_PERIOD = 128L;
+    private static final long THROTTLE_PERIOD_MILLIS = 50L;
+    private static final long MIN_BODY_DOWNLOAD_NANOS = TimeUnit.MILLISECONDS.toNanos(150L);
+
+    private final DefaultApiMetrics metrics = new DefaultApiMetrics();
+    private TvMaze meteredClient;
+
+    @BeforeEach
+    public void setUpMeteredClient() {
+        meteredClient = new TvMaze(getConnection(), TvMazeConfig.builder()
+                .metrics(metrics)
+                .build());
+    }
+
+    @Test
+    public void getShow_withSuccessfulResponses_shouldRecordSyncAndAsyncRequests() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+
+        meteredClient.getShowsApi().getShow(1);
+        meteredClient.getShowsApi().getShowAsync(1).join();
+
+        final OperationStats actual = metrics.getStats("ShowsApi.getShow");
+        assertAll(
+                () -> assertEquals(2L, actual.getRequestCount()),
+                () -> assertEquals(0L, actual.getErrorCount()),
+                () -> assertTrue(actual.getResponseBytes() > 0L),
+                () -> assertEquals(2L, actual.getNetworkLatency().getCount()),
+                () -> assertEquals(2L, actual.getParseLatency().getCount()),
+                () -> assertTrue(actual.getNetworkLatency().getMaxNanos() > 0L));
+    }
+
+    @Test
+    public void getShowAsync_withNotFoundResponse_shouldRecordErrorStatus() {
+        setUpMockResponse(404);
+
+        assertThrows(CompletionException.class, () -> meteredClient.getShowsApi().getShowAsync(1).join());
+
+        final OperationStats actual = metrics.getStats("ShowsApi.getShow");
+        assertAll(
+                () -> assertEquals(1L, actual.getRequestCount()),
+                () -> assertEquals(Map.of(404, 1L), actual.getErrorCounts()),
+                () -> assertEquals(0L, actual.getNetworkLatency().getCount()));
+    }
+
+    @Test
+    public void getShow_withNotFoundResponse_shouldRecordError() {
+        setUpMockResponse(404);
+
+        assertThrows(ConnectionException.class, () -> meteredClient.getShowsApi().getShow(1));
+
+        assertEquals(Map.of(404, 1L), metrics.getStats("ShowsApi.getShow").getErrorCounts());
+    }
+
+    @Test
+    public void getShow_withThrottledResponseBody_shouldRecordBodyDownloadAsNetworkTime() {
+        setUpMockResponse(newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW).newBuilder()
+                .throttleBody(THROTTLE_BYTES_PER_PERIOD, THROTTLE_PERIOD_MILLIS, TimeUnit.MILLISECONDS)
+                .build());
+
+        meteredClient.getShowsApi().getShow(1);
+
+        final OperationStats actual = metrics.getStats("ShowsApi.getShow");
+        assertAll(
+                () -> assertTrue(actual.getNetworkLatency().getMaxNanos() >= MIN_BODY_DOWNLOAD_NANOS),
+                () -> assertTrue(actual.getParseLatency().getMaxNanos() < MIN_BODY_DOWNLOAD_NANOS));
+    }
+
+    @Test
+    public void getFullSchedule_withSuccessfulResponse_shouldRecordOperation() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Episode.LIST);
+
+        meteredClient.getScheduleApi().getFullSchedule();
+
+        assertAll(
+                () -> assertEquals(1L, metrics.getStats("ScheduleApi.getFullSchedule").getRequestCount()),
+                () -> assertEquals(1, metrics.getStats().size()));
+    }
+}
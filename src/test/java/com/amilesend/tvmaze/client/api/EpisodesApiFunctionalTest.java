@@ -17,7 +17,11 @@
  */
 package com.amilesend.tvmaze.client.api;
 
+import com.amilesend.client.connection.RequestException;
 import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
 import com.amilesend.tvmaze.client.data.PersonTestDataHelper;
 import com.amilesend.tvmaze.client.data.SerializedResource;
 import com.amilesend.tvmaze.client.model.Episode;
@@ -31,6 +35,9 @@ import static com.amilesend.tvmaze.client.data.EpisodeTestDataHelper.newEpisode;
 import static com.amilesend.tvmaze.client.data.EpisodeTestDataValidator.verifyEpisode;
 import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyCastMembers;
 import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyCrewMembers;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 public class EpisodesApiFunctionalTest extends FunctionalTestBase {
     ///////////////
@@ -47,6 +54,27 @@ public class EpisodesApiFunctionalTest extends FunctionalTestBase {
         verifyEpisode(expected, actual);
     }
 
+    ////////////////
+    // getEpisodes
+    ////////////////
+
+    @Test
+    public void getEpisodes_withPartialFailure_shouldReturnResultsAndFailuresById() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Episode.EPISODE);
+        setUpMockResponse(404);
+        final EpisodesApi episodesApi = new TvMaze(getConnection(), TvMazeConfig.builder().bulkParallelism(1).build())
+                .getEpisodesApi();
+
+        final BulkResult<Integer, Episode> actual = episodesApi.getEpisodes(List.of(1, 2, 1));
+
+        assertAll(
+                () -> assertEquals(2, getRequestCount()),
+                () -> assertEquals(List.of(1), List.copyOf(actual.getResults().keySet())),
+                () -> assertEquals(1, actual.getResults().get(1).getId()),
+                () -> assertEquals(List.of(2), List.copyOf(actual.getFailures().keySet())),
+                () -> assertInstanceOf(RequestException.class, actual.getFailures().get(2)));
+    }
+
     /////////////////
     // getGuestCast
     /////////////////
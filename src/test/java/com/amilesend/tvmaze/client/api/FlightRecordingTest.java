@@ -0,0 +1,146 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.parse.parser.GsonParser;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.metrics.ApiCall;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class FlightRecordingTest {
+    private static final String BODY = "a,b,c";
+    private static final HttpUrl URL = HttpUrl.get("https://api.tvmaze.com/shows?page=1");
+    private static final GsonParser<List<String>> PARSER = (gson, jsonStream) -> {
+        try {
+            return Arrays.asList(new String(jsonStream.readAllBytes(), StandardCharsets.UTF_8).split(","));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    };
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    public void assumeFlightRecorderAvailable() {
+        assumeTrue(FlightRecording.isAvailable());
+    }
+
+    @Test
+    public void succeeded_withEnabledRecording_shouldCommitCallAndParseEvents() throws IOException {
+        final List<RecordedEvent> events = record(() -> {
+            final InstrumentedCall<List<String>> call = newInstrumentedCall();
+            call.requestSent();
+            call.parse(null, new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)));
+            call.succeeded(200);
+        });
+
+        final RecordedEvent callEvent = findEvent(events, ApiCallEvent.NAME);
+        final RecordedEvent parseEvent = findEvent(events, ParseEvent.NAME);
+        assertAll(
+                () -> assertEquals("ShowsApi.getIndex", callEvent.getString("operation")),
+                () -> assertEquals("/shows", callEvent.getString("endpoint")),
+                () -> assertEquals(200, callEvent.getInt("statusCode")),
+                () -> assertEquals(BODY.length(), callEvent.getLong("responseBytes")),
+                () -> assertEquals(3, callEvent.getInt("objectCount")),
+                () -> assertTrue(callEvent.getLong("parseDuration") >= 0L),
+                () -> assertNull(callEvent.getString("failure")),
+                () -> assertEquals("ShowsApi.getIndex", parseEvent.getString("operation")),
+                () -> assertEquals(BODY.length(), parseEvent.getLong("responseBytes")),
+                () -> assertEquals(3, parseEvent.getInt("objectCount")),
+                () -> assertNotNull(parseEvent.getString("parser")));
+    }
+
+    @Test
+    public void failed_withEnabledRecording_shouldCommitCallEventWithFailure() throws IOException {
+        final List<RecordedEvent> events = record(() -> {
+            final InstrumentedCall<List<String>> call = newInstrumentedCall();
+            call.requestSent();
+            call.failed(404, new RequestException("Exception from test"));
+        });
+
+        final RecordedEvent callEvent = findEvent(events, ApiCallEvent.NAME);
+        assertAll(
+                () -> assertEquals(404, callEvent.getInt("statusCode")),
+                () -> assertEquals(RequestException.class.getName(), callEvent.getString("failure")),
+                () -> assertTrue(events.stream().noneMatch(e -> ParseEvent.NAME.equals(e.getEventType().getName()))));
+    }
+
+    @Test
+    public void of_withoutRecordingOrOtherInstrumentation_shouldReturnNull() {
+        assertAll(
+                () -> assertNull(FlightRecording.of("ShowsApi.getIndex", URL, false)),
+                () -> assertNull(newInstrumentedCall()));
+    }
+
+    private List<RecordedEvent> record(final Runnable action) throws IOException {
+        final Path dump = tempDir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ApiCallEvent.NAME);
+            recording.enable(ParseEvent.NAME);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        return RecordingFile.readAllEvents(dump);
+    }
+
+    private static RecordedEvent findEvent(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> matches = events.stream()
+                .filter(e -> name.equals(e.getEventType().getName()))
+                .collect(Collectors.toList());
+        assertEquals(1, matches.size());
+        return matches.get(0);
+    }
+
+    private static InstrumentedCall<List<String>> newInstrumentedCall() {
+        return InstrumentedCall.of(
+                TvMazeConfig.builder().build(),
+                "ShowsApi.getIndex",
+                ApiCall.NO_RESOURCE_ID,
+                URL,
+                PARSER,
+                new Exchange(),
+                false);
+    }
+}
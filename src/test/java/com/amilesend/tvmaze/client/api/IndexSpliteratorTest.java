@@ -0,0 +1,184 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndexSpliteratorTest {
+    private static final int PAGE_COUNT = 10;
+    private static final int ITEMS_PER_PAGE = 3;
+
+    private final Set<Integer> fetchedPages = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void stream_withSequentialConsumption_shouldReturnAllItemsInOrder() {
+        final List<Integer> actual = StreamSupport.stream(new IndexSpliterator<>(this::fetchPage, 0), false)
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(expectedItems(0), actual),
+                () -> assertTrue(fetchedPages.contains(PAGE_COUNT)),
+                () -> assertTrue(fetchedPages.stream().allMatch(p -> p <= PAGE_COUNT)));
+    }
+
+    @Test
+    public void stream_withStartPage_shouldSkipEarlierPages() {
+        final List<Integer> actual = StreamSupport.stream(new IndexSpliterator<>(this::fetchPage, 8), false)
+                .collect(Collectors.toList());
+
+        assertEquals(expectedItems(8), actual);
+    }
+
+    @Test
+    public void stream_withParallelConsumption_shouldReturnAllItemsInOrder() {
+        final List<Integer> actual = StreamSupport.stream(new IndexSpliterator<>(this::fetchPage, 0), true)
+                .map(item -> item)
+                .collect(Collectors.toList());
+
+        assertEquals(expectedItems(0), actual);
+    }
+
+    @Test
+    public void trySplit_withUnboundedIndex_shouldSplitOffPageRange() {
+        final IndexSpliterator<Integer> suffix = new IndexSpliterator<>(this::fetchPage, 0);
+
+        final List<Integer> prefixItems = StreamSupport.stream(suffix.trySplit(), false).collect(Collectors.toList());
+        final List<Integer> suffixItems = StreamSupport.stream(suffix, false).collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(IndexSpliterator.SPLIT_PAGE_COUNT * ITEMS_PER_PAGE, prefixItems.size()),
+                () -> assertEquals(expectedItems(IndexSpliterator.SPLIT_PAGE_COUNT), suffixItems));
+    }
+
+    @Test
+    public void trySplit_withPendingProbes_shouldNotWaitAndBoundUnconfirmedSplits() {
+        final List<CompletableFuture<List<Integer>>> pendingPages = new CopyOnWriteArrayList<>();
+        final IndexSpliterator<Integer> suffix = new IndexSpliterator<>(pageNum -> {
+            final CompletableFuture<List<Integer>> page = new CompletableFuture<>();
+            pendingPages.add(page);
+            return page;
+        }, 0);
+
+        int splitCount = 0;
+        while (Objects.nonNull(suffix.trySplit())) {
+            ++splitCount;
+        }
+
+        final int actualSplitCount = splitCount;
+        assertAll(
+                () -> assertEquals(IndexSpliterator.MAX_UNCONFIRMED_SPLIT_COUNT, actualSplitCount),
+                () -> assertEquals(IndexSpliterator.MAX_UNCONFIRMED_SPLIT_COUNT, pendingPages.size()));
+    }
+
+    @Test
+    public void trySplit_withProbePastEndOfIndex_shouldStopSplitting() {
+        final IndexSpliterator<Integer> suffix = new IndexSpliterator<>(
+                pageNum -> pageNum < IndexSpliterator.SPLIT_PAGE_COUNT
+                        ? fetchPage(pageNum)
+                        : CompletableFuture.failedFuture(new ResourceNotFoundException("Not found")),
+                0);
+
+        final Spliterator<Integer> prefix = suffix.trySplit();
+
+        assertAll(
+                () -> assertNull(suffix.trySplit()),
+                () -> assertEquals(expectedItems(0).subList(0, IndexSpliterator.SPLIT_PAGE_COUNT * ITEMS_PER_PAGE),
+                        StreamSupport.stream(prefix, false).collect(Collectors.toList())),
+                () -> assertTrue(StreamSupport.stream(suffix, false).collect(Collectors.toList()).isEmpty()));
+    }
+
+    @Test
+    public void cancel_withPrefetchedPages_shouldCancelPagesOfAllSplits() {
+        final List<CompletableFuture<List<Integer>>> pendingPages = new CopyOnWriteArrayList<>();
+        final IndexSpliterator<Integer> suffix = new IndexSpliterator<>(pageNum -> {
+            final CompletableFuture<List<Integer>> page = new CompletableFuture<>();
+            pendingPages.add(page);
+            return page;
+        }, 0);
+        final Spliterator<Integer> prefix = suffix.trySplit();
+        suffix.trySplit();
+
+        suffix.cancel();
+
+        assertAll(
+                () -> assertEquals(2, pendingPages.size()),
+                () -> assertTrue(pendingPages.stream().allMatch(CompletableFuture::isCancelled)),
+                () -> assertFalse(prefix.tryAdvance(item -> { })),
+                () -> assertFalse(suffix.tryAdvance(item -> { })));
+    }
+
+    @Test
+    public void stream_withServerError_shouldThrowException() {
+        final IndexSpliterator<Integer> spliterator = new IndexSpliterator<>(
+                pageNum -> CompletableFuture.failedFuture(new ResponseException("Server error")),
+                0);
+
+        assertThrows(ResponseException.class,
+                () -> StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void stream_withClientErrorOtherThanNotFound_shouldThrowException() {
+        final IndexSpliterator<Integer> spliterator = new IndexSpliterator<>(
+                pageNum -> pageNum < 2
+                        ? fetchPage(pageNum)
+                        : CompletableFuture.failedFuture(new RequestException("Too many requests")),
+                0);
+
+        final RequestException thrown = assertThrows(RequestException.class,
+                () -> StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+        assertEquals("Too many requests", thrown.getMessage());
+    }
+
+    private CompletableFuture<List<Integer>> fetchPage(final int pageNum) {
+        fetchedPages.add(pageNum);
+        if (pageNum >= PAGE_COUNT) {
+            return CompletableFuture.failedFuture(new ResourceNotFoundException("Not found"));
+        }
+
+        return CompletableFuture.supplyAsync(() -> IntStream.range(0, ITEMS_PER_PAGE)
+                .mapToObj(i -> pageNum * ITEMS_PER_PAGE + i)
+                .collect(Collectors.toList()));
+    }
+
+    private static List<Integer> expectedItems(final int startPageNum) {
+        return IntStream.range(startPageNum * ITEMS_PER_PAGE, PAGE_COUNT * ITEMS_PER_PAGE)
+                .boxed()
+                .collect(Collectors.toList());
+    }
+}
@@ -17,7 +17,11 @@
  */
 package com.amilesend.tvmaze.client.api;
 
+import com.amilesend.client.connection.RequestException;
 import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
 import com.amilesend.tvmaze.client.data.PersonTestDataHelper;
 import com.amilesend.tvmaze.client.data.SerializedResource;
 import com.amilesend.tvmaze.client.data.ShowTestDataValidator;
@@ -34,6 +38,7 @@ import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyPer
 import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyPersonList;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 public class PeopleApiFunctionalTest extends FunctionalTestBase {
     //////////////
@@ -50,6 +55,27 @@ public class PeopleApiFunctionalTest extends FunctionalTestBase {
         verifyPerson(expected, actual);
     }
 
+    //////////////
+    // getPeople
+    //////////////
+
+    @Test
+    public void getPeople_withPartialFailure_shouldReturnResultsAndFailuresById() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.PERSON_EMBEDDED_CAST_CREDITS);
+        setUpMockResponse(404);
+        final PeopleApi peopleApi = new TvMaze(getConnection(), TvMazeConfig.builder().bulkParallelism(1).build())
+                .getPeopleApi();
+
+        final BulkResult<Integer, Person> actual = peopleApi.getPeople(List.of(1, 2, 1));
+
+        assertAll(
+                () -> assertEquals(2, getRequestCount()),
+                () -> assertEquals(List.of(1), List.copyOf(actual.getResults().keySet())),
+                () -> assertEquals(1, actual.getResults().get(1).getId()),
+                () -> assertEquals(List.of(2), List.copyOf(actual.getFailures().keySet())),
+                () -> assertInstanceOf(RequestException.class, actual.getFailures().get(2)));
+    }
+
     ///////////////////
     // getCastCredits
     ///////////////////
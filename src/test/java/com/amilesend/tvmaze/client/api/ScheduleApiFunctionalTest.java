@@ -23,10 +23,12 @@ import com.amilesend.tvmaze.client.model.Episode;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.amilesend.tvmaze.client.data.EpisodeTestDataHelper.newListOfEpisodes;
 import static com.amilesend.tvmaze.client.data.EpisodeTestDataValidator.verifyListOfEpisodes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class ScheduleApiFunctionalTest extends FunctionalTestBase {
     ////////////////
@@ -74,4 +76,20 @@ public class ScheduleApiFunctionalTest extends FunctionalTestBase {
 
         verifyListOfEpisodes(expected, actual);
     }
+
+    ///////////////////////
+    // streamFullSchedule
+    ///////////////////////
+
+    @Test
+    public void streamFullSchedule_shouldPassEachEpisodeToConsumer() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Episode.LIST);
+        final List<Episode> expected = newListOfEpisodes(Episode.EmbeddedType.SHOW);
+        final List<Episode> actual = new ArrayList<>();
+
+        final int count = getClient().getScheduleApi().streamFullSchedule(actual::add);
+
+        assertEquals(expected.size(), count);
+        verifyListOfEpisodes(expected, actual);
+    }
 }
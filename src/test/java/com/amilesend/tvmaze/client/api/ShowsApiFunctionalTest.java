@@ -17,9 +17,17 @@
  */
 package com.amilesend.tvmaze.client.api;
 
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
 import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.concurrent.BulkResult;
+import com.amilesend.tvmaze.client.concurrent.RetryPolicy;
 import com.amilesend.tvmaze.client.data.SerializedResource;
 import com.amilesend.tvmaze.client.data.ShowTestDataValidator;
+import com.amilesend.tvmaze.client.metrics.ApiCall;
+import com.amilesend.tvmaze.client.metrics.ApiCallListener;
 import com.amilesend.tvmaze.client.model.AlternateEpisode;
 import com.amilesend.tvmaze.client.model.AlternateList;
 import com.amilesend.tvmaze.client.model.Episode;
@@ -31,8 +39,14 @@ import com.amilesend.tvmaze.client.model.type.CastMember;
 import com.amilesend.tvmaze.client.model.type.CrewMember;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 import static com.amilesend.tvmaze.client.data.AlternateListTestDataHelper.newAlternateEpisodeList;
 import static com.amilesend.tvmaze.client.data.AlternateListTestDataHelper.newAlternateList;
@@ -53,7 +67,11 @@ import static com.amilesend.tvmaze.client.data.ShowTestDataHelper.newImageList;
 import static com.amilesend.tvmaze.client.data.ShowTestDataHelper.newListOfSeasons;
 import static com.amilesend.tvmaze.client.data.ShowTestDataHelper.newShow;
 import static com.amilesend.tvmaze.client.data.ShowTestDataHelper.newShowList;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ShowsApiFunctionalTest extends FunctionalTestBase {
     ////////////
@@ -80,6 +98,165 @@ public class ShowsApiFunctionalTest extends FunctionalTestBase {
         ShowTestDataValidator.verifyShow(expected, actual);
     }
 
+    @Test
+    public void getShowAsync_withValidShowAndTypes_shouldReturnShow() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        final Show expected = newShow(
+                1,
+                Show.EmbeddedType.EPISODES,
+                Show.EmbeddedType.PREVIOUS_EPISODE,
+                Show.EmbeddedType.NEXT_EPISODE,
+                Show.EmbeddedType.CAST);
+
+        final Show actual = getClient().getShowsApi().getShowAsync(
+                1,
+                Show.EmbeddedType.EPISODES,
+                Show.EmbeddedType.PREVIOUS_EPISODE,
+                Show.EmbeddedType.NEXT_EPISODE,
+                Show.EmbeddedType.CAST).join();
+
+        ShowTestDataValidator.verifyShow(expected, actual);
+    }
+
+    @Test
+    public void getShowAsync_withNotFoundResponse_shouldCompleteWithResourceNotFoundException() {
+        setUpMockResponse(404);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> getClient().getShowsApi().getShowAsync(1).join());
+
+        assertInstanceOf(ResourceNotFoundException.class, thrown.getCause());
+    }
+
+    @Test
+    public void getShowAsync_withTooManyRequestsResponse_shouldCompleteWithRequestException() {
+        setUpMockResponse(429);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> getClient().getShowsApi().getShowAsync(1).join());
+
+        assertAll(
+                () -> assertInstanceOf(RequestException.class, thrown.getCause()),
+                () -> assertFalse(thrown.getCause() instanceof ResourceNotFoundException));
+    }
+
+    @Test
+    public void getShow_withNotFoundResponse_shouldThrowResourceNotFoundException() {
+        setUpMockResponse(404);
+
+        assertThrows(ResourceNotFoundException.class, () -> getClient().getShowsApi().getShow(1));
+    }
+
+    @Test
+    public void getShowAsync_withServerErrorResponse_shouldCompleteWithResponseException() {
+        setUpMockResponse(503);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> getClient().getShowsApi().getShowAsync(1).join());
+
+        assertInstanceOf(ResponseException.class, thrown.getCause());
+    }
+
+    @Test
+    public void getShowAsync_withRetryPolicyAndServerErrorResponse_shouldRetryRequest() {
+        setUpMockResponse(503);
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+
+        final Show actual = newRetryingShowsApi().getShowAsync(1).join();
+
+        assertAll(
+                () -> assertEquals(1, actual.getId()),
+                () -> assertEquals(2, getRequestCount()));
+    }
+
+    @Test
+    public void getShow_withRetryPolicyAndServerErrorResponse_shouldRetryRequest() {
+        setUpMockResponse(503);
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+
+        final Show actual = newRetryingShowsApi().getShow(1);
+
+        assertAll(
+                () -> assertEquals(1, actual.getId()),
+                () -> assertEquals(2, getRequestCount()));
+    }
+
+    @Test
+    public void getShowAsync_withRetryPolicyAndNotFoundResponse_shouldNotRetryRequest() {
+        setUpMockResponse(404);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> newRetryingShowsApi().getShowAsync(1).join());
+
+        assertAll(
+                () -> assertInstanceOf(ResourceNotFoundException.class, thrown.getCause()),
+                () -> assertEquals(1, getRequestCount()));
+    }
+
+    @Test
+    public void getShow_withRetryPolicyAndPersistentServerError_shouldThrowAfterMaxAttempts() {
+        setUpMockResponse(503);
+        setUpMockResponse(503);
+
+        assertAll(
+                () -> assertThrows(ResponseException.class, () -> newRetryingShowsApi().getShow(1)),
+                () -> assertEquals(2, getRequestCount()));
+    }
+
+    private ShowsApi newRetryingShowsApi() {
+        final RetryPolicy retryPolicy = RetryPolicy.builder()
+                .maxAttempts(2)
+                .initialDelay(Duration.ofMillis(10L))
+                .build();
+        return new TvMaze(getConnection(), TvMazeConfig.builder().retryPolicy(retryPolicy).build()).getShowsApi();
+    }
+
+    @Test
+    public void getShowAsync_withVirtualThreadsPreferred_shouldParseOnCallExecutor() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        final ExecutorService callExecutor =
+                Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "call"));
+        final List<String> parseThreadNames = new CopyOnWriteArrayList<>();
+        final ApiCallListener listener = new ApiCallListener() {
+            @Override
+            public void onParseCompleted(final ApiCall call) {
+                parseThreadNames.add(Thread.currentThread().getName());
+            }
+        };
+        try (TvMaze client = new TvMaze(getConnection(), TvMazeConfig.builder()
+                .callExecutor(callExecutor)
+                .isVirtualThreadsPreferred(true)
+                .callListener(listener)
+                .build())) {
+            client.getShowsApi().getShowAsync(1).join();
+
+            assertEquals(List.of("call"), parseThreadNames);
+        } finally {
+            callExecutor.shutdownNow();
+        }
+    }
+
+    /////////////
+    // getShows
+    /////////////
+
+    @Test
+    public void getShows_withPartialFailure_shouldReturnResultsAndFailuresById() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        setUpMockResponse(404);
+        final ShowsApi showsApi = new TvMaze(getConnection(), TvMazeConfig.builder().bulkParallelism(1).build())
+                .getShowsApi();
+
+        final BulkResult<Integer, Show> actual = showsApi.getShows(List.of(1, 2, 1));
+
+        assertAll(
+                () -> assertEquals(2, getRequestCount()),
+                () -> assertEquals(List.of(1), List.copyOf(actual.getResults().keySet())),
+                () -> assertEquals(1, actual.getResults().get(1).getId()),
+                () -> assertEquals(List.of(2), List.copyOf(actual.getFailures().keySet())),
+                () -> assertInstanceOf(RequestException.class, actual.getFailures().get(2)));
+    }
+
     ////////////////
     // getEpisodes
     ////////////////
@@ -262,4 +439,20 @@ public class ShowsApiFunctionalTest extends FunctionalTestBase {
 
         ShowTestDataValidator.verifyShowList(expected, actual);
     }
+
+    ////////////////
+    // streamIndex
+    ////////////////
+
+    @Test
+    public void streamIndex_withLastPageReached_shouldReturnShowsOfAllPages() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.LIST);
+        setUpMockResponse(404);
+        final List<Show> expected = newShowList();
+
+        final List<Show> actual = getClient().getShowsApi().streamIndex().collect(Collectors.toList());
+
+        assertEquals(2, getRequestCount());
+        ShowTestDataValidator.verifyShowList(expected, actual);
+    }
 }
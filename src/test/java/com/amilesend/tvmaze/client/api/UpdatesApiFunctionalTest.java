@@ -19,6 +19,7 @@ package com.amilesend.tvmaze.client.api;
 
 import com.amilesend.tvmaze.client.FunctionalTestBase;
 import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.util.IntLongMap;
 import org.junit.jupiter.api.Test;
 
 import java.util.Map;
@@ -41,6 +42,28 @@ public class UpdatesApiFunctionalTest extends FunctionalTestBase {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void getShowUpdatesAsync_sinceThePastDay_shouldReturnUpdates() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.UPDATES);
+
+        final Map<Integer, Long> actual = getClient().getUpdatesApi().getShowUpdatesAsync(UpdatesApi.Since.DAY).join();
+
+        assertEquals(newUpdatesTestData(), actual);
+    }
+
+    //////////////////////
+    // getShowUpdatesMap
+    //////////////////////
+
+    @Test
+    public void getShowUpdatesMap_withAllShows_shouldReturnUpdates() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.UPDATES);
+
+        final IntLongMap actual = getClient().getUpdatesApi().getShowUpdatesMap(null);
+
+        assertEquals(newUpdatesTestData(), actual.toMap());
+    }
+
     /////////////////////
     // getPersonUpdates
     /////////////////////
@@ -55,6 +78,19 @@ public class UpdatesApiFunctionalTest extends FunctionalTestBase {
         assertEquals(expected, actual);
     }
 
+    ////////////////////////
+    // getPersonUpdatesMap
+    ////////////////////////
+
+    @Test
+    public void getPersonUpdatesMap_sinceThePastWeek_shouldReturnUpdates() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.UPDATES);
+
+        final IntLongMap actual = getClient().getUpdatesApi().getPersonUpdatesMap(UpdatesApi.Since.WEEK);
+
+        assertEquals(newUpdatesTestData(), actual.toMap());
+    }
+
     private static Map<Integer, Long> newUpdatesTestData() {
         return Map.of(1, 100L, 2, 101L, 3, 103L);
     }
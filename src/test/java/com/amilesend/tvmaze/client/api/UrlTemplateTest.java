@@ -0,0 +1,94 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.api;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class UrlTemplateTest {
+    private static final String BASE_URL = "https://api.tvmaze.com";
+
+    @Test
+    public void newBuilder_withResourceTemplate_shouldMatchParsedUrl() {
+        final UrlTemplate template = UrlTemplate.parse(HttpUrl.get(BASE_URL), "/shows/{}/episodes");
+
+        assertAll(
+                () -> assertEquals(
+                        HttpUrl.get(BASE_URL + "/shows/82/episodes"),
+                        template.newBuilder("82").build()),
+                () -> assertEquals(
+                        HttpUrl.get(BASE_URL + "/shows/1/episodes?specials=1"),
+                        template.newBuilder("1").addQueryParameter("specials", "1").build()));
+    }
+
+    @Test
+    public void newBuilder_withTrailingPlaceholder_shouldMatchParsedUrl() {
+        final UrlTemplate template = UrlTemplate.parse(HttpUrl.get(BASE_URL), "/shows/{}");
+
+        assertEquals(
+                HttpUrl.get(BASE_URL + "/shows/82?embed=cast"),
+                template.newBuilder("82").addQueryParameter("embed", "cast").build());
+    }
+
+    @Test
+    public void newBuilder_withLiteralTemplate_shouldMatchParsedUrl() {
+        final UrlTemplate template = UrlTemplate.parse(HttpUrl.get(BASE_URL), "/schedule/full");
+
+        assertAll(
+                () -> assertEquals(HttpUrl.get(BASE_URL + "/schedule/full"), template.newBuilder().build()),
+                () -> assertEquals(
+                        HttpUrl.get(BASE_URL + "/schedule/full?page=2"),
+                        template.newBuilder().addQueryParameter("page", "2").build()));
+    }
+
+    @Test
+    public void newBuilder_withBaseUrlPathAndPort_shouldAppendSegments() {
+        final UrlTemplate template =
+                UrlTemplate.parse(HttpUrl.get("http://localhost:8080/api/"), "/people/{}/castcredits");
+
+        assertEquals(
+                HttpUrl.get("http://localhost:8080/api/people/5/castcredits"),
+                template.newBuilder("5").build());
+    }
+
+    @Test
+    public void newBuilder_withReservedCharactersInValue_shouldEncodeSingleSegment() {
+        final UrlTemplate template = UrlTemplate.parse(HttpUrl.get(BASE_URL), "/shows/{}");
+
+        assertEquals("/shows/a%2Fb", template.newBuilder("a/b").build().encodedPath());
+    }
+
+    @Test
+    public void newBuilder_withMismatchedPlaceholderValues_shouldThrowException() {
+        final HttpUrl baseUrl = HttpUrl.get(BASE_URL);
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> UrlTemplate.parse(baseUrl, "/shows/{}").newBuilder()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> UrlTemplate.parse(baseUrl, "/shows").newBuilder("1")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> UrlTemplate.parse(baseUrl, "/shows/{}/seasons/{}")),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> UrlTemplate.parse(baseUrl, "shows")));
+    }
+}
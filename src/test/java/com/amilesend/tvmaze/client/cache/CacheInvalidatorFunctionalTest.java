@@ -0,0 +1,182 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CacheInvalidatorFunctionalTest extends FunctionalTestBase {
+    private ResourceCache<CacheKey, Show> showCache;
+    private ResourceCache<CacheKey, Person> personCache;
+    private TvMaze cachingClient;
+
+    @BeforeEach
+    public void setUpCaches() {
+        showCache = ResourceCache.<CacheKey, Show>builder().ttl(Duration.ofDays(7L)).build();
+        personCache = ResourceCache.<CacheKey, Person>builder().ttl(Duration.ofDays(7L)).build();
+        cachingClient = new TvMaze(getConnection(), TvMazeConfig.builder()
+                .showCache(showCache)
+                .personCache(personCache)
+                .build());
+    }
+
+    @Test
+    public void poll_withEvictStrategy_shouldOnlyEvictChangedEntries() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.UPDATES);
+        showCache.put(CacheKey.of(1), Show.builder().id(1).updated(99L).build());
+        showCache.put(CacheKey.of(2), Show.builder().id(2).updated(101L).build());
+        showCache.put(CacheKey.of(5), Show.builder().id(5).updated(1L).build());
+
+        final int actual = newInvalidator(CacheInvalidator.Strategy.EVICT).poll();
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertNull(showCache.get(CacheKey.of(1))),
+                () -> assertNotNull(showCache.get(CacheKey.of(2))),
+                () -> assertNotNull(showCache.get(CacheKey.of(5))));
+    }
+
+    @Test
+    public void poll_withRefreshStrategy_shouldFetchChangedEntries() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.UPDATES);
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.PERSON_EMBEDDED_CAST_CREDITS);
+        final CacheKey key = CacheKey.of(3, Person.EmbeddedType.CAST_CREDITS);
+        personCache.put(key, Person.builder().id(3).updated(100L).build());
+
+        final int actual = newInvalidator(CacheInvalidator.Strategy.REFRESH).poll();
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertEquals(2, getRequestCount()),
+                () -> assertEquals(123456789L, personCache.get(key).getUpdated()));
+    }
+
+    @Test
+    public void poll_withRefreshStrategyAndFailedRefresh_shouldInvalidateAllChangedEntries() {
+        setUpDispatcher(new UpdatesDispatcher(new CopyOnWriteArrayList<>()));
+        // Updates fixture: {1: 100, 2: 101, 3: 103}; show 1 was deleted upstream
+        showCache.put(CacheKey.of(1), Show.builder().id(1).updated(1L).build());
+        showCache.put(CacheKey.of(2), Show.builder().id(2).updated(1L).build());
+        final CacheKey personKey = CacheKey.of(3, Person.EmbeddedType.CAST_CREDITS);
+        personCache.put(personKey, Person.builder().id(3).updated(1L).build());
+
+        final int actual = newInvalidator(CacheInvalidator.Strategy.REFRESH).poll();
+
+        assertAll(
+                () -> assertEquals(3, actual),
+                () -> assertNull(showCache.get(CacheKey.of(1))),
+                () -> assertNotNull(showCache.get(CacheKey.of(2))),
+                () -> assertEquals(123456789L, personCache.get(personKey).getUpdated()));
+    }
+
+    @Test
+    public void poll_afterMissedPolls_shouldWidenUpdatesWindow() {
+        final List<String> sinceParameters = new CopyOnWriteArrayList<>();
+        setUpDispatcher(new UpdatesDispatcher(sinceParameters));
+        showCache.put(CacheKey.of(5), Show.builder().id(5).updated(1L).build());
+        final AtomicLong nanos = new AtomicLong();
+        final CacheInvalidator invalidator = CacheInvalidator.builder()
+                .client(cachingClient)
+                .pollInterval(Duration.ofMinutes(30L))
+                .ticker(nanos::get)
+                .build();
+
+        nanos.addAndGet(Duration.ofMinutes(30L).toNanos());
+        invalidator.poll();
+        nanos.addAndGet(Duration.ofDays(2L).toNanos());
+        invalidator.poll();
+        nanos.addAndGet(Duration.ofDays(60L).toNanos());
+        invalidator.poll();
+        nanos.addAndGet(Duration.ofMinutes(30L).toNanos());
+        invalidator.poll();
+
+        // The first poll requests all updates since entries may predate the invalidator
+        assertEquals(List.of("", "week", "", "day"), sinceParameters);
+    }
+
+    @Test
+    public void poll_withEmptyCaches_shouldNotQueryUpdates() {
+        assertAll(
+                () -> assertEquals(0, newInvalidator(CacheInvalidator.Strategy.EVICT).poll()),
+                () -> assertEquals(0, getRequestCount()));
+    }
+
+    @Test
+    public void builder_withPollIntervalOfOneDay_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> CacheInvalidator.builder()
+                .client(cachingClient)
+                .pollInterval(Duration.ofDays(1L))
+                .build());
+    }
+
+    private CacheInvalidator newInvalidator(final CacheInvalidator.Strategy strategy) {
+        return CacheInvalidator.builder()
+                .client(cachingClient)
+                .strategy(strategy)
+                .pollInterval(Duration.ofMinutes(30L))
+                .build();
+    }
+
+    /** Serves the update fixture and records its {@code since} parameter; show 1 no longer exists. */
+    private static class UpdatesDispatcher extends Dispatcher {
+        private static final int NOT_FOUND_STATUS_CODE = 404;
+
+        private final List<String> sinceParameters;
+
+        UpdatesDispatcher(final List<String> sinceParameters) {
+            this.sinceParameters = sinceParameters;
+        }
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            final String path = request.getUrl().encodedPath();
+            if (path.startsWith("/updates/")) {
+                final String since = request.getUrl().queryParameter("since");
+                sinceParameters.add(since == null ? "" : since);
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.UPDATES);
+            } else if (path.equals("/shows/2")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+            } else if (path.startsWith("/people/")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.PERSON_EMBEDDED_CAST_CREDITS);
+            }
+
+            return newMockResponse(NOT_FOUND_STATUS_CODE, null);
+        }
+    }
+}
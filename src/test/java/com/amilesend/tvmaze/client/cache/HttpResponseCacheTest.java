@@ -0,0 +1,185 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import lombok.SneakyThrows;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HttpResponseCacheTest {
+    private static final String BODY = "[{\"id\":1}]";
+    private static final String ETAG = "\"abc123\"";
+    private static final String LAST_MODIFIED = "Mon, 01 Jan 2024 00:00:00 GMT";
+
+    @TempDir
+    private Path cacheDir;
+
+    private final MockWebServer mockWebServer = new MockWebServer();
+    private HttpResponseCache httpCache;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        mockWebServer.start();
+        httpCache = newHttpCache();
+    }
+
+    @SneakyThrows
+    @AfterEach
+    public void cleanUp() {
+        httpCache.close();
+        mockWebServer.close();
+    }
+
+    @Test
+    public void execute_withFreshResponse_shouldServeFromCacheWithoutNetworkRequest() throws IOException {
+        mockWebServer.enqueue(newResponse("Cache-Control", "public, max-age=3600"));
+
+        final String first = execute(httpCache);
+        final String second = execute(httpCache);
+
+        final HttpCacheStats actual = httpCache.getStats();
+        assertAll(
+                () -> assertEquals(BODY, first),
+                () -> assertEquals(BODY, second),
+                () -> assertEquals(1, mockWebServer.getRequestCount()),
+                () -> assertEquals(2L, actual.getRequestCount()),
+                () -> assertEquals(1L, actual.getNetworkCount()),
+                () -> assertEquals(1L, actual.getHitCount()),
+                () -> assertEquals(1L, actual.getOfflineHitCount()),
+                () -> assertEquals(0L, actual.getRevalidatedHitCount()),
+                () -> assertTrue(actual.getSizeBytes() > 0L));
+    }
+
+    @Test
+    public void execute_withUnchangedETag_shouldRevalidateWithConditionalRequest() throws Exception {
+        mockWebServer.enqueue(newResponse("Cache-Control", "no-cache", "ETag", ETAG));
+        mockWebServer.enqueue(new MockResponse.Builder().code(304).build());
+
+        execute(httpCache);
+        final String actualBody = execute(httpCache);
+
+        final RecordedRequest firstRequest = mockWebServer.takeRequest();
+        final RecordedRequest secondRequest = mockWebServer.takeRequest();
+        final HttpCacheStats actual = httpCache.getStats();
+        assertAll(
+                () -> assertEquals(BODY, actualBody),
+                () -> assertNull(firstRequest.getHeaders().get("If-None-Match")),
+                () -> assertEquals(ETAG, secondRequest.getHeaders().get("If-None-Match")),
+                () -> assertEquals(2L, actual.getNetworkCount()),
+                () -> assertEquals(1L, actual.getRevalidatedHitCount()),
+                () -> assertEquals(0L, actual.getOfflineHitCount()));
+    }
+
+    @Test
+    public void execute_withLastModified_shouldRevalidateWithIfModifiedSince() throws Exception {
+        mockWebServer.enqueue(newResponse("Cache-Control", "max-age=0", "Last-Modified", LAST_MODIFIED));
+        mockWebServer.enqueue(new MockResponse.Builder().code(304).build());
+
+        execute(httpCache);
+        execute(httpCache);
+
+        mockWebServer.takeRequest();
+        assertAll(
+                () -> assertEquals(LAST_MODIFIED, mockWebServer.takeRequest().getHeaders().get("If-Modified-Since")),
+                () -> assertEquals(1L, httpCache.getStats().getRevalidatedHitCount()));
+    }
+
+    @Test
+    public void execute_withNewInstanceForSameDirectory_shouldServePersistedResponse() throws IOException {
+        mockWebServer.enqueue(newResponse("Cache-Control", "public, max-age=3600"));
+        execute(httpCache);
+        httpCache.close();
+
+        httpCache = newHttpCache();
+        final String actual = execute(httpCache);
+
+        assertAll(
+                () -> assertEquals(BODY, actual),
+                () -> assertEquals(1, mockWebServer.getRequestCount()),
+                () -> assertEquals(1L, httpCache.getStats().getHitCount()));
+    }
+
+    @Test
+    public void evictAll_withCachedResponse_shouldRequireNetworkRequest() throws IOException {
+        mockWebServer.enqueue(newResponse("Cache-Control", "public, max-age=3600"));
+        mockWebServer.enqueue(newResponse("Cache-Control", "public, max-age=3600"));
+        execute(httpCache);
+
+        httpCache.evictAll();
+        execute(httpCache);
+
+        assertEquals(2, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    public void builder_withInvalidMaxSize_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> HttpResponseCache.builder()
+                        .directory(cacheDir)
+                        .maxSizeBytes(0L)
+                        .build()),
+                () -> assertThrows(NullPointerException.class, () -> HttpResponseCache.builder().build()),
+                () -> assertEquals(HttpResponseCache.DEFAULT_MAX_SIZE_BYTES, httpCache.getMaxSizeBytes()));
+    }
+
+    private HttpResponseCache newHttpCache() {
+        return HttpResponseCache.builder()
+                .directory(cacheDir)
+                .build();
+    }
+
+    private String execute(final HttpResponseCache cache) throws IOException {
+        final OkHttpClient httpClient = cache.configure(new OkHttpClient.Builder()).build();
+        final Request request = new Request.Builder()
+                .url(mockWebServer.url("/shows"))
+                .build();
+        try (Response response = httpClient.newCall(request).execute()) {
+            return response.body().string();
+        }
+    }
+
+    private static MockResponse newResponse(final String... headers) {
+        final MockResponse.Builder builder = new MockResponse.Builder()
+                .code(200)
+                .addHeader("Content-Type", "application/json; charset=utf-8")
+                .body(BODY);
+        for (int i = 0; i < headers.length; i += 2) {
+            builder.addHeader(headers[i], headers[i + 1]);
+        }
+
+        return builder.build();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.api.ShowsApi;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.model.Show;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ResourceCacheFunctionalTest extends FunctionalTestBase {
+    @Test
+    public void getShow_withShowCache_shouldServeRepeatedRequestFromCache() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        final ResourceCache<CacheKey, Show> showCache = ResourceCache.<CacheKey, Show>builder().build();
+        final ShowsApi showsApi = new TvMaze(getConnection(), TvMazeConfig.builder().showCache(showCache).build())
+                .getShowsApi();
+
+        final Show first = showsApi.getShow(1, Show.EmbeddedType.CAST, Show.EmbeddedType.EPISODES);
+        final Show second = showsApi.getShow(1, Show.EmbeddedType.EPISODES, Show.EmbeddedType.CAST);
+
+        final CacheStats stats = showCache.getStats();
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertEquals(1L, stats.getHitCount()),
+                () -> assertEquals(1L, stats.getMissCount()));
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.cache;
+
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResourceCacheTest {
+    private final AtomicLong ticker = new AtomicLong();
+    private ResourceCache<String, String> cacheUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        cacheUnderTest = ResourceCache.<String, String>builder()
+                .maxSize(2)
+                .ttl(Duration.ofSeconds(10L))
+                .concurrencyLevel(1)
+                .ticker(ticker::get)
+                .build();
+    }
+
+    @Test
+    public void get_withCachedValue_shouldReturnValueAndRecordHit() {
+        cacheUnderTest.put("a", "A");
+
+        assertAll(
+                () -> assertEquals("A", cacheUnderTest.get("a")),
+                () -> assertNull(cacheUnderTest.get("b")),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getHitCount()),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getMissCount()));
+    }
+
+    @Test
+    public void get_withExpiredValue_shouldReturnNullAndRemoveEntry() {
+        cacheUnderTest.put("a", "A");
+        ticker.addAndGet(Duration.ofSeconds(10L).toNanos());
+
+        assertAll(
+                () -> assertNull(cacheUnderTest.get("a")),
+                () -> assertEquals(0, cacheUnderTest.size()),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getExpirationCount()));
+    }
+
+    @Test
+    public void put_withMaxSizeExceeded_shouldEvictLeastRecentlyUsed() {
+        cacheUnderTest.put("a", "A");
+        cacheUnderTest.put("b", "B");
+        cacheUnderTest.get("a");
+        cacheUnderTest.put("c", "C");
+
+        assertAll(
+                () -> assertEquals(2, cacheUnderTest.size()),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getEvictionCount()),
+                () -> assertEquals("A", cacheUnderTest.get("a")),
+                () -> assertNull(cacheUnderTest.get("b")),
+                () -> assertEquals("C", cacheUnderTest.get("c")));
+    }
+
+    @Test
+    public void put_withRemovedEntries_shouldNotEvict() {
+        cacheUnderTest.put("a", "A");
+        cacheUnderTest.put("b", "B");
+        cacheUnderTest.invalidate("a");
+        cacheUnderTest.put("c", "C");
+        ticker.addAndGet(Duration.ofSeconds(10L).toNanos());
+        cacheUnderTest.get("b");
+        cacheUnderTest.put("d", "D");
+
+        assertAll(
+                () -> assertEquals(0L, cacheUnderTest.getStats().getEvictionCount()),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getExpirationCount()),
+                () -> assertEquals(2, cacheUnderTest.size()));
+    }
+
+    @Test
+    public void put_withLargeSegment_shouldEvictLeastRecentlyUsed() {
+        final ResourceCache<Integer, String> cache = ResourceCache.<Integer, String>builder()
+                .maxSize(10000)
+                .concurrencyLevel(1)
+                .build();
+        for (int i = 0; i < 10000; ++i) {
+            cache.put(i, "value");
+        }
+        cache.get(0);
+
+        cache.put(10000, "value");
+
+        assertAll(
+                () -> assertEquals(10000, cache.size()),
+                () -> assertEquals(1L, cache.getStats().getEvictionCount()),
+                () -> assertEquals("value", cache.get(0)),
+                () -> assertNull(cache.get(1)));
+    }
+
+    @Test
+    public void put_withMaxSizeNotMultipleOfSegments_shouldHoldAtLeastMaxSize() {
+        final ResourceCache<Integer, String> cache = ResourceCache.<Integer, String>builder()
+                .maxSize(20)
+                .concurrencyLevel(16)
+                .build();
+
+        for (int i = 0; i < 20; ++i) {
+            cache.put(i, "value");
+        }
+
+        assertAll(
+                () -> assertEquals(20, cache.size()),
+                () -> assertEquals(0L, cache.getStats().getEvictionCount()));
+    }
+
+    @Test
+    public void get_withConcurrentReaders_shouldReturnCachedValues() throws InterruptedException {
+        cacheUnderTest.put("a", "A");
+        final AtomicInteger hitCount = new AtomicInteger();
+        final Thread[] readers = new Thread[4];
+        for (int i = 0; i < readers.length; ++i) {
+            readers[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; ++j) {
+                    if ("A".equals(cacheUnderTest.get("a"))) {
+                        hitCount.incrementAndGet();
+                    }
+                }
+            });
+            readers[i].start();
+        }
+        for (final Thread reader : readers) {
+            reader.join();
+        }
+
+        assertAll(
+                () -> assertEquals(4000, hitCount.get()),
+                () -> assertEquals(4000L, cacheUnderTest.getStats().getHitCount()));
+    }
+
+    @Test
+    public void get_withLoader_shouldOnlyLoadOnMiss() {
+        final AtomicInteger loadCount = new AtomicInteger();
+
+        cacheUnderTest.get("a", k -> "A" + loadCount.incrementAndGet());
+        final String actual = cacheUnderTest.get("a", k -> "A" + loadCount.incrementAndGet());
+
+        assertAll(
+                () -> assertEquals("A1", actual),
+                () -> assertEquals(1, loadCount.get()));
+    }
+
+    @Test
+    public void get_withLoaderAndInvalidateDuringLoad_shouldNotCacheLoadedValue() {
+        final String actual = cacheUnderTest.get("a", key -> {
+            cacheUnderTest.invalidate(key);
+            return "stale";
+        });
+
+        assertAll(
+                () -> assertEquals("stale", actual),
+                () -> assertNull(cacheUnderTest.get("a")));
+    }
+
+    @Test
+    public void getAsync_withInvalidateBeforeLoadCompletes_shouldNotCacheLoadedValue() {
+        final CompletableFuture<String> stale = new CompletableFuture<>();
+        final CompletableFuture<String> actual = cacheUnderTest.getAsync("a", key -> stale);
+
+        cacheUnderTest.invalidate("a");
+        stale.complete("stale");
+        final String fresh = cacheUnderTest.getAsync("a", key -> CompletableFuture.completedFuture("fresh")).join();
+
+        assertAll(
+                () -> assertEquals("stale", actual.join()),
+                () -> assertEquals("fresh", fresh),
+                () -> assertEquals("fresh", cacheUnderTest.get("a")));
+    }
+
+    @Test
+    public void invalidate_withCachedValue_shouldRemoveEntry() {
+        cacheUnderTest.put("a", "A");
+        cacheUnderTest.put("b", "B");
+
+        cacheUnderTest.invalidate("a");
+        assertNull(cacheUnderTest.get("a"));
+
+        cacheUnderTest.invalidateAll();
+        assertEquals(0, cacheUnderTest.size());
+    }
+
+    @Test
+    public void invalidateStale_withUpdatedTimestamps_shouldRemoveOnlyOlderEntries() {
+        cacheUnderTest.put("1", "100");
+        cacheUnderTest.put("2", "200");
+        final IntLongMap updatedTimestamps = new IntLongMap();
+        updatedTimestamps.put(1, 150L);
+        updatedTimestamps.put(2, 200L);
+
+        final List<String> actual =
+                cacheUnderTest.invalidateStale(updatedTimestamps, Integer::parseInt, Long::parseLong);
+
+        assertAll(
+                () -> assertEquals(List.of("1"), actual),
+                () -> assertNull(cacheUnderTest.get("1")),
+                () -> assertEquals("200", cacheUnderTest.get("2")));
+    }
+
+    @Test
+    public void builder_withInvalidMaxSize_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ResourceCache.builder().maxSize(0).build());
+    }
+
+    @Test
+    public void cacheKey_withEmbeddedTypesInDifferentOrder_shouldBeEqual() {
+        assertAll(
+                () -> assertEquals(
+                        CacheKey.of(1, Show.EmbeddedType.CAST, Show.EmbeddedType.EPISODES),
+                        CacheKey.of(1, Show.EmbeddedType.EPISODES, Show.EmbeddedType.CAST)),
+                () -> assertEquals(CacheKey.of(1), CacheKey.of(1, (Show.EmbeddedType) null)),
+                () -> assertNotEquals(CacheKey.of(1), CacheKey.of(1, Show.EmbeddedType.CAST)));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedFanOutTest {
+    @Test
+    public void start_withParallelism_shouldBoundCallsInFlight() {
+        final List<CompletableFuture<Integer>> calls = List.of(
+                new CompletableFuture<>(), new CompletableFuture<>(), new CompletableFuture<>());
+        final AtomicInteger startedCount = new AtomicInteger();
+
+        final CompletableFuture<BoundedFanOut<Integer>> fanOut = CompletableFuture.supplyAsync(() ->
+                BoundedFanOut.start(List.of(0, 1, 2), 2, id -> {
+                    startedCount.incrementAndGet();
+                    return calls.get(id);
+                }));
+        calls.get(1).complete(10);
+        final BoundedFanOut<Integer> actual = fanOut.join();
+        calls.get(0).complete(0);
+        calls.get(2).complete(20);
+
+        assertAll(
+                () -> assertEquals(3, startedCount.get()),
+                () -> assertEquals(List.of(0, 1, 2), List.copyOf(actual.getCompletions().keySet())),
+                () -> assertEquals(20, actual.getCompletions().get(2).join()),
+                () -> assertFalse(actual.isInterrupted()));
+    }
+
+    @Test
+    public void start_withFailedCall_shouldPassFailureToHandler() {
+        final BoundedFanOut<String> actual = BoundedFanOut.start(List.of(1, 2), 1, id -> {
+            if (id == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return CompletableFuture.completedFuture(id);
+        }, (id, result, error) -> id + ":" + (error == null ? result : error.getClass().getSimpleName()));
+
+        assertAll(
+                () -> assertEquals("1:1", actual.getCompletions().get(1).join()),
+                () -> assertEquals("2:IllegalStateException", actual.getCompletions().get(2).join()));
+    }
+
+    @Test
+    public void start_withInterruptedThread_shouldNotStartRemainingCalls() {
+        final AtomicInteger startedCount = new AtomicInteger();
+
+        Thread.currentThread().interrupt();
+        final BoundedFanOut<Integer> actual;
+        try {
+            actual = BoundedFanOut.start(List.of(1, 2), 1, id -> {
+                startedCount.incrementAndGet();
+                return CompletableFuture.completedFuture(id);
+            });
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+
+        assertAll(
+                () -> assertEquals(0, startedCount.get()),
+                () -> assertTrue(actual.isInterrupted()),
+                () -> assertEquals(List.of(1, 2), actual.getUnstartedIds()));
+    }
+
+    @Test
+    public void cancel_withPendingCall_shouldCancelUnderlyingCall() {
+        final CompletableFuture<Integer> call = new CompletableFuture<>();
+        final BoundedFanOut<Integer> actual = BoundedFanOut.start(List.of(1), 1, id -> call);
+
+        actual.cancel();
+
+        assertAll(
+                () -> assertTrue(call.isCancelled()),
+                () -> assertTrue(actual.getCompletions().get(1).isCancelled()));
+    }
+}
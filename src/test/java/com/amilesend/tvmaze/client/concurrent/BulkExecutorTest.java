@@ -0,0 +1,88 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkExecutorTest {
+    private ExecutorService executor;
+    private BulkExecutor executorUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        executor = CallExecutors.newVirtualThreadOrBoundedExecutor(4);
+        executorUnderTest = new BulkExecutor(executor);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void execute_withSuccessfulOperations_shouldReturnAllResultsInOrder() {
+        final BulkResult<Integer, String> actual = executorUnderTest.execute(List.of(3, 1, 2, 1), String::valueOf);
+
+        assertAll(
+                () -> assertTrue(actual.isSuccessful()),
+                () -> assertEquals(List.of(3, 1, 2), List.copyOf(actual.getResults().keySet())),
+                () -> assertEquals(Map.of(1, "1", 2, "2", 3, "3"), actual.getResults()));
+    }
+
+    @Test
+    public void execute_withFailedOperation_shouldRecordFailureAndContinue() {
+        final AtomicInteger invocationCount = new AtomicInteger();
+
+        final BulkResult<Integer, Integer> actual = executorUnderTest.execute(List.of(1, 2, 3), key -> {
+            invocationCount.incrementAndGet();
+            if (key == 2) {
+                throw new IllegalStateException("failed");
+            }
+            return key * 10;
+        });
+
+        assertAll(
+                () -> assertFalse(actual.isSuccessful()),
+                () -> assertEquals(3, invocationCount.get()),
+                () -> assertEquals(Map.of(1, 10, 3, 30), actual.getResults()),
+                () -> assertInstanceOf(IllegalStateException.class, actual.getFailures().get(2)));
+    }
+
+    @Test
+    public void newBoundedExecutor_withTasks_shouldRunOnDaemonThreads() throws Exception {
+        final ExecutorService boundedExecutor = CallExecutors.newBoundedExecutor(2);
+        try {
+            assertTrue(boundedExecutor.submit(() -> Thread.currentThread().isDaemon()).get());
+        } finally {
+            boundedExecutor.shutdownNow();
+        }
+    }
+}
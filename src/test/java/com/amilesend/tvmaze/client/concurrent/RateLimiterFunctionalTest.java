@@ -0,0 +1,84 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.api.ShowsApi;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.model.Show;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateLimiterFunctionalTest extends FunctionalTestBase {
+    @Test
+    public void getShow_withSharedRateLimiter_shouldConsumePermitForEachRequest() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        final RateLimiter rateLimiter = RateLimiter.builder()
+                .permits(3)
+                .ticker(() -> 0L)
+                .build();
+        final TvMaze client = new TvMaze(getConnection(), TvMazeConfig.builder().rateLimiter(rateLimiter).build());
+
+        client.getShowsApi().getShow(1);
+        client.withPriority(RateLimiter.Priority.BACKGROUND).getShowsApi().getShow(1);
+
+        assertEquals(1, rateLimiter.getAvailablePermits());
+    }
+
+    @Test
+    public void getShowAsync_withExhaustedRateLimiter_shouldNotBlockExecutorWhileWaiting() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.ALL_EMBEDDED_TYPES);
+        final ExecutorService asyncExecutor = Executors.newSingleThreadExecutor();
+        try {
+            final RateLimiter rateLimiter = RateLimiter.builder()
+                    .permits(1)
+                    .period(Duration.ofSeconds(1L))
+                    .build();
+            final ShowsApi showsApi = new TvMaze(getConnection(), TvMazeConfig.builder()
+                    .rateLimiter(rateLimiter)
+                    .asyncExecutor(asyncExecutor)
+                    .build())
+                    .getShowsApi();
+            showsApi.getShowAsync(1).join();
+
+            final CompletableFuture<Show> waiting = showsApi.getShowAsync(1);
+            final CompletableFuture<Boolean> otherTask = CompletableFuture.supplyAsync(() -> true, asyncExecutor);
+
+            assertAll(
+                    () -> assertTrue(otherTask.get(500L, TimeUnit.MILLISECONDS)),
+                    () -> assertFalse(waiting.isDone()),
+                    () -> assertEquals(1, waiting.get(5L, TimeUnit.SECONDS).getId()));
+        } finally {
+            asyncExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateLimiterTest {
+    private final AtomicLong ticker = new AtomicLong();
+    private RateLimiter limiterUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        limiterUnderTest = RateLimiter.builder()
+                .permits(20)
+                .period(Duration.ofSeconds(10L))
+                .ticker(ticker::get)
+                .build();
+    }
+
+    @Test
+    public void tryAcquire_withAllPermitsAvailable_shouldAllowBurstUpToPermits() {
+        for (int i = 0; i < 20; ++i) {
+            assertTrue(limiterUnderTest.tryAcquire(RateLimiter.Priority.INTERACTIVE));
+        }
+
+        assertAll(
+                () -> assertFalse(limiterUnderTest.tryAcquire(RateLimiter.Priority.INTERACTIVE)),
+                () -> assertEquals(0, limiterUnderTest.getAvailablePermits()));
+    }
+
+    @Test
+    public void tryAcquire_withinFirstPeriod_shouldGrantAtMostPermits() {
+        int grantCount = 0;
+        for (long elapsedMillis = 0L; elapsedMillis < 10_000L; elapsedMillis += 100L) {
+            ticker.set(TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+            while (limiterUnderTest.tryAcquire(RateLimiter.Priority.INTERACTIVE)) {
+                ++grantCount;
+            }
+        }
+
+        assertEquals(20, grantCount);
+    }
+
+    @Test
+    public void tryAcquire_withContinuousDemand_shouldGrantAtMostPermitsInAnyPeriod() {
+        final List<Long> grantMillis = new ArrayList<>();
+        for (long elapsedMillis = 0L; elapsedMillis < 60_000L; elapsedMillis += 100L) {
+            ticker.set(TimeUnit.MILLISECONDS.toNanos(elapsedMillis));
+            while (limiterUnderTest.tryAcquire(RateLimiter.Priority.INTERACTIVE)) {
+                grantMillis.add(elapsedMillis);
+            }
+        }
+
+        for (int i = 20; i < grantMillis.size(); ++i) {
+            assertTrue(grantMillis.get(i) - grantMillis.get(i - 20) >= 10_000L);
+        }
+        assertEquals(120, grantMillis.size());
+    }
+
+    @Test
+    public void tryAcquire_withElapsedPeriod_shouldReplenishPermits() {
+        drain();
+
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(9_999L));
+        assertFalse(limiterUnderTest.tryAcquire(RateLimiter.Priority.BACKGROUND));
+
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(1L));
+        assertTrue(limiterUnderTest.tryAcquire(RateLimiter.Priority.BACKGROUND));
+
+        ticker.addAndGet(TimeUnit.MINUTES.toNanos(1L));
+        assertEquals(20, limiterUnderTest.getAvailablePermits());
+    }
+
+    @Test
+    public void acquireAsync_withAvailablePermit_shouldCompleteImmediately() {
+        final CompletableFuture<Void> actual =
+                limiterUnderTest.acquireAsync(RateLimiter.Priority.INTERACTIVE, ForkJoinPool.commonPool());
+
+        assertAll(
+                () -> assertTrue(actual.isDone()),
+                () -> assertEquals(19, limiterUnderTest.getAvailablePermits()));
+    }
+
+    @Test
+    public void acquireAsync_withoutAvailablePermit_shouldCompleteOncePeriodElapsed() throws Exception {
+        final RateLimiter limiter = RateLimiter.builder()
+                .permits(1)
+                .period(Duration.ofMillis(100L))
+                .build();
+        assertTrue(limiter.tryAcquire(RateLimiter.Priority.INTERACTIVE));
+        final long startNanos = System.nanoTime();
+
+        final CompletableFuture<Void> actual =
+                limiter.acquireAsync(RateLimiter.Priority.INTERACTIVE, ForkJoinPool.commonPool());
+
+        assertFalse(actual.isDone());
+        actual.get(5L, TimeUnit.SECONDS);
+        assertAll(
+                () -> assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(50L)),
+                () -> assertEquals(0, limiter.getAvailablePermits()));
+    }
+
+    @Test
+    public void acquireAsync_withCancelledWait_shouldNotConsumePermit() throws Exception {
+        final RateLimiter limiter = RateLimiter.builder()
+                .permits(1)
+                .period(Duration.ofMillis(100L))
+                .build();
+        assertTrue(limiter.tryAcquire(RateLimiter.Priority.INTERACTIVE));
+
+        limiter.acquireAsync(RateLimiter.Priority.INTERACTIVE, ForkJoinPool.commonPool()).cancel(false);
+
+        assertTrue(limiter.tryAcquire(RateLimiter.Priority.BACKGROUND, Duration.ofSeconds(5L)));
+    }
+
+    @Test
+    public void tryAcquire_withTimeoutElapsed_shouldReturnFalse() throws InterruptedException {
+        drain();
+
+        assertFalse(limiterUnderTest.tryAcquire(RateLimiter.Priority.INTERACTIVE, Duration.ofMillis(10L)));
+    }
+
+    @Test
+    public void tryAcquire_withWaitingInteractiveCaller_shouldYieldBackgroundCaller() throws InterruptedException {
+        drain();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        final Thread interactiveCaller = new Thread(() -> {
+            try {
+                limiterUnderTest.acquire(RateLimiter.Priority.INTERACTIVE);
+                acquired.countDown();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        interactiveCaller.start();
+        waitForWaitingInteractiveCaller(interactiveCaller);
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(10L));
+        assertFalse(limiterUnderTest.tryAcquire(RateLimiter.Priority.BACKGROUND));
+        assertTrue(acquired.await(5L, TimeUnit.SECONDS));
+        assertTrue(limiterUnderTest.tryAcquire(RateLimiter.Priority.BACKGROUND));
+    }
+
+    @Test
+    public void builder_withInvalidPermits_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder().permits(0).build());
+    }
+
+    private void drain() {
+        while (limiterUnderTest.tryAcquire(RateLimiter.Priority.INTERACTIVE)) {
+            // Consume all permits
+        }
+    }
+
+    private static void waitForWaitingInteractiveCaller(final Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1L);
+        }
+    }
+}
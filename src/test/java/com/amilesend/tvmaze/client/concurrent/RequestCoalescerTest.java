@@ -0,0 +1,203 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestCoalescerTest {
+    private static final HttpUrl URL = HttpUrl.parse("https://api.tvmaze.com/shows/1");
+    private static final int CALLER_COUNT = 8;
+
+    private final RequestCoalescer coalescerUnderTest = new RequestCoalescer();
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLER_COUNT);
+
+    @AfterEach
+    public void cleanUp() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void execute_withConcurrentIdenticalRequests_shouldShareSingleCall() throws Exception {
+        final AtomicInteger callCount = new AtomicInteger();
+        final CountDownLatch release = new CountDownLatch(1);
+        final Object expected = new Object();
+
+        final Future<Object> leader = executor.submit(() -> coalescerUnderTest.execute(URL, Object.class, () -> {
+            callCount.incrementAndGet();
+            await(release);
+            return expected;
+        }));
+        waitForInFlightCall();
+        final List<Future<Object>> followers = new ArrayList<>();
+        for (int i = 1; i < CALLER_COUNT; ++i) {
+            followers.add(executor.submit(() -> coalescerUnderTest.execute(URL, Object.class, () -> {
+                callCount.incrementAndGet();
+                return new Object();
+            })));
+        }
+        waitForCollapsedCount(CALLER_COUNT - 1);
+        release.countDown();
+
+        assertSame(expected, leader.get(5L, TimeUnit.SECONDS));
+        for (final Future<Object> follower : followers) {
+            assertSame(expected, follower.get(5L, TimeUnit.SECONDS));
+        }
+        assertAll(
+                () -> assertEquals(1, callCount.get()),
+                () -> assertEquals(1L, coalescerUnderTest.getExecutedCount()),
+                () -> assertEquals(CALLER_COUNT - 1, coalescerUnderTest.getCollapsedCount()),
+                () -> assertEquals(0, coalescerUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void execute_withFailedSharedCall_shouldThrowForAllCallers() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Future<Object> leader = executor.submit(() -> coalescerUnderTest.execute(URL, Object.class, () -> {
+            await(release);
+            throw new IllegalStateException("failed");
+        }));
+        waitForInFlightCall();
+        final Future<Object> follower =
+                executor.submit(() -> coalescerUnderTest.execute(URL, Object.class, Object::new));
+        waitForCollapsedCount(1);
+        release.countDown();
+
+        final Exception leaderEx = assertThrows(Exception.class, () -> leader.get(5L, TimeUnit.SECONDS));
+        final Exception followerEx = assertThrows(Exception.class, () -> follower.get(5L, TimeUnit.SECONDS));
+        assertAll(
+                () -> assertInstanceOf(IllegalStateException.class, leaderEx.getCause()),
+                () -> assertInstanceOf(IllegalStateException.class, followerEx.getCause()));
+    }
+
+    @Test
+    public void execute_withSequentialRequests_shouldNotCollapse() {
+        coalescerUnderTest.execute(URL, Object.class, Object::new);
+        coalescerUnderTest.execute(URL, Object.class, Object::new);
+
+        assertAll(
+                () -> assertEquals(2L, coalescerUnderTest.getExecutedCount()),
+                () -> assertEquals(0L, coalescerUnderTest.getCollapsedCount()));
+    }
+
+    @Test
+    public void executeAsync_withIdenticalInFlightRequest_shouldShareResult() {
+        final CompletableFuture<String> call = new CompletableFuture<>();
+
+        final CompletableFuture<String> first = coalescerUnderTest.executeAsync(URL, String.class, () -> call);
+        final CompletableFuture<String> second =
+                coalescerUnderTest.executeAsync(URL, String.class, () -> CompletableFuture.completedFuture("other"));
+        final CompletableFuture<Integer> differentType =
+                coalescerUnderTest.executeAsync(URL, Integer.class, () -> CompletableFuture.completedFuture(1));
+        second.cancel(false);
+        call.complete("show");
+
+        assertAll(
+                () -> assertEquals("show", first.join()),
+                () -> assertTrue(second.isCancelled()),
+                () -> assertEquals(1, differentType.join()),
+                () -> assertEquals(1L, coalescerUnderTest.getCollapsedCount()),
+                () -> assertEquals(2L, coalescerUnderTest.getExecutedCount()));
+    }
+
+    @Test
+    public void executeAsync_withAllCallersCancelled_shouldCancelSharedCall() {
+        final CompletableFuture<String> call = new CompletableFuture<>();
+        final CompletableFuture<String> first = coalescerUnderTest.executeAsync(URL, String.class, () -> call);
+        final CompletableFuture<String> second =
+                coalescerUnderTest.executeAsync(URL, String.class, () -> CompletableFuture.completedFuture("other"));
+
+        first.cancel(false);
+        final boolean isCancelledAfterFirst = call.isCancelled();
+        second.cancel(false);
+
+        assertAll(
+                () -> assertFalse(isCancelledAfterFirst),
+                () -> assertTrue(call.isCancelled()),
+                () -> assertEquals(0, coalescerUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void executeAsync_afterAbandonedCall_shouldExecuteNewCall() {
+        final CompletableFuture<String> abandonedCall = new CompletableFuture<>();
+        coalescerUnderTest.executeAsync(URL, String.class, () -> abandonedCall).cancel(false);
+
+        final CompletableFuture<String> actual =
+                coalescerUnderTest.executeAsync(URL, String.class, () -> CompletableFuture.completedFuture("show"));
+
+        assertAll(
+                () -> assertTrue(abandonedCall.isCancelled()),
+                () -> assertEquals("show", actual.join()),
+                () -> assertEquals(2L, coalescerUnderTest.getExecutedCount()));
+    }
+
+    @Test
+    public void executeAsync_withCollapsedListResult_shouldReturnCopyForEachCaller() {
+        final CompletableFuture<List<String>> call = new CompletableFuture<>();
+        final CompletableFuture<List<String>> first = coalescerUnderTest.executeAsync(URL, List.class, () -> call);
+        final CompletableFuture<List<String>> second = coalescerUnderTest.executeAsync(URL, List.class, () -> call);
+        call.complete(new ArrayList<>(List.of("a", "b")));
+
+        first.join().add("c");
+
+        assertAll(
+                () -> assertNotSame(first.join(), second.join()),
+                () -> assertEquals(List.of("a", "b"), second.join()));
+    }
+
+    private void waitForInFlightCall() throws InterruptedException {
+        while (coalescerUnderTest.getInFlightCount() == 0) {
+            Thread.sleep(1L);
+        }
+    }
+
+    private void waitForCollapsedCount(final long expected) throws InterruptedException {
+        while (coalescerUnderTest.getCollapsedCount() < expected) {
+            Thread.sleep(1L);
+        }
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5L, TimeUnit.SECONDS));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
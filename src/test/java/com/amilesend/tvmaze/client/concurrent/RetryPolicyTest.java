@@ -0,0 +1,97 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.concurrent;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.tvmaze.client.metrics.ApiMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetryPolicyTest {
+    private final RetryPolicy policyUnderTest = RetryPolicy.builder()
+            .maxAttempts(3)
+            .initialDelay(Duration.ofMillis(100L))
+            .maxDelay(Duration.ofMillis(300L))
+            .build();
+
+    @Test
+    public void isRetried_withTransientStatusCode_shouldReturnTrue() {
+        assertAll(
+                () -> assertTrue(policyUnderTest.isRetried(1, 429, null)),
+                () -> assertTrue(policyUnderTest.isRetried(1, 500, null)),
+                () -> assertTrue(policyUnderTest.isRetried(2, 503, null)));
+    }
+
+    @Test
+    public void isRetried_withClientErrorStatusCode_shouldReturnFalse() {
+        assertAll(
+                () -> assertFalse(policyUnderTest.isRetried(1, 400, null)),
+                () -> assertFalse(policyUnderTest.isRetried(1, 404, null)));
+    }
+
+    @Test
+    public void isRetried_withMaxAttemptsReached_shouldReturnFalse() {
+        assertFalse(policyUnderTest.isRetried(3, 503, null));
+    }
+
+    @Test
+    public void isRetried_withUnknownStatusCode_shouldOnlyRetryIOExceptions() {
+        final int unknown = ApiMetrics.UNKNOWN_STATUS_CODE;
+        assertAll(
+                () -> assertTrue(policyUnderTest.isRetried(1, unknown, new IOException("reset"))),
+                () -> assertTrue(policyUnderTest.isRetried(
+                        1,
+                        unknown,
+                        new RequestException("Unable to execute request", new IOException("reset")))),
+                () -> assertFalse(policyUnderTest.isRetried(1, unknown, new ResponseException("Bad body"))),
+                () -> assertFalse(policyUnderTest.isRetried(1, unknown, null)));
+    }
+
+    @Test
+    public void getDelayNanos_withSubsequentAttempts_shouldDoubleUpToMaxDelay() {
+        assertAll(
+                () -> assertEquals(TimeUnit.MILLISECONDS.toNanos(100L), policyUnderTest.getDelayNanos(1)),
+                () -> assertEquals(TimeUnit.MILLISECONDS.toNanos(200L), policyUnderTest.getDelayNanos(2)),
+                () -> assertEquals(TimeUnit.MILLISECONDS.toNanos(300L), policyUnderTest.getDelayNanos(3)),
+                () -> assertEquals(TimeUnit.MILLISECONDS.toNanos(300L), policyUnderTest.getDelayNanos(10)));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RetryPolicy.builder().maxAttempts(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RetryPolicy.builder().initialDelay(Duration.ofMillis(-1L)).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> RetryPolicy.builder()
+                                .initialDelay(Duration.ofSeconds(2L))
+                                .maxDelay(Duration.ofSeconds(1L))
+                                .build()));
+    }
+}
@@ -0,0 +1,363 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import com.amilesend.client.connection.Connection;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.api.ShowsApi;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.model.type.CrewMember;
+import lombok.SneakyThrows;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static com.amilesend.client.connection.Connection.Headers.CONTENT_TYPE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CatalogCrawlerFunctionalTest extends FunctionalTestBase {
+    private static final Set<Integer> ALL_SHOW_IDS = Set.of(1, 2, 3, 4, 5);
+
+    @TempDir
+    private Path tempDir;
+
+    private final List<ShowRecord> records = new CopyOnWriteArrayList<>();
+
+    @Test
+    @SneakyThrows
+    public void crawl_withNoCheckpoint_shouldCrawlAllShowsAndSaveCheckpoint() {
+        setUpDispatcher(new CatalogDispatcher(-1));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+
+        final CrawlResult actual = newCrawler(checkpointFile).crawl();
+
+        final CrawlCheckpoint checkpoint = CrawlCheckpoint.load(checkpointFile);
+        assertAll(
+                () -> assertEquals(1, actual.getPageCount()),
+                () -> assertEquals(5, actual.getShowCount()),
+                () -> assertTrue(actual.isSuccessful()),
+                () -> assertEquals(ALL_SHOW_IDS, getCrawledShowIds()),
+                () -> assertTrue(records.stream().noneMatch(r -> r.getEpisodes().isEmpty())),
+                () -> assertTrue(records.stream().noneMatch(r -> r.getSeasons().isEmpty())),
+                () -> assertTrue(records.stream().noneMatch(r -> r.getCast().isEmpty())),
+                () -> assertTrue(records.stream().noneMatch(r -> r.getCrew().isEmpty())),
+                () -> assertEquals(0, checkpoint.getNextPageNum()),
+                () -> assertTrue(checkpoint.getCompletedShowIds().isEmpty()),
+                () -> assertTrue(checkpoint.getFailedShowIds().isEmpty()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withPartialCheckpoint_shouldResumeWithRemainingShows() {
+        setUpDispatcher(new CatalogDispatcher(-1));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+        new CrawlCheckpoint(0, Set.of(1, 2), Collections.emptySet()).save(checkpointFile);
+
+        final CrawlResult actual = newCrawler(checkpointFile).crawl();
+
+        assertAll(
+                () -> assertEquals(1, actual.getPageCount()),
+                () -> assertEquals(3, actual.getShowCount()),
+                () -> assertEquals(Set.of(3, 4, 5), getCrawledShowIds()),
+                () -> assertEquals(0, CrawlCheckpoint.load(checkpointFile).getNextPageNum()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withCheckpointAtEndOfIndex_shouldOnlyRequestNextPageAndRestartCheckpoint() {
+        setUpDispatcher(new CatalogDispatcher(-1));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+        new CrawlCheckpoint(1, Collections.emptySet(), Collections.emptySet()).save(checkpointFile);
+
+        final CrawlResult actual = newCrawler(checkpointFile).crawl();
+
+        assertAll(
+                () -> assertEquals(0, actual.getPageCount()),
+                () -> assertEquals(0, actual.getShowCount()),
+                () -> assertTrue(records.isEmpty()),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertEquals(0, CrawlCheckpoint.load(checkpointFile).getNextPageNum()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_afterEndOfIndex_shouldStartFreshPass() {
+        setUpDispatcher(new CatalogDispatcher(-1));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+        newCrawler(checkpointFile).crawl();
+        records.clear();
+
+        final CrawlResult actual = newCrawler(checkpointFile).crawl();
+
+        assertAll(
+                () -> assertEquals(1, actual.getPageCount()),
+                () -> assertEquals(5, actual.getShowCount()),
+                () -> assertEquals(ALL_SHOW_IDS, getCrawledShowIds()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withEmptyIndexPages_shouldContinueUntilNotFound() {
+        setUpDispatcher(new CatalogDispatcher(-1, 0, 2));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+
+        final CrawlResult actual = newCrawler(checkpointFile).crawl();
+
+        assertAll(
+                () -> assertEquals(3, actual.getPageCount()),
+                () -> assertEquals(5, actual.getShowCount()),
+                () -> assertEquals(ALL_SHOW_IDS, getCrawledShowIds()),
+                () -> assertEquals(0, CrawlCheckpoint.load(checkpointFile).getNextPageNum()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withFailedShow_shouldRetryOnNextCrawl() {
+        setUpDispatcher(new CatalogDispatcher(3));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+
+        final CrawlResult firstActual = newCrawler(checkpointFile).crawl();
+
+        assertAll(
+                () -> assertEquals(4, firstActual.getShowCount()),
+                () -> assertEquals(Set.of(3), firstActual.getFailedShowIds()),
+                () -> assertEquals(Set.of(3), CrawlCheckpoint.load(checkpointFile).getFailedShowIds()),
+                () -> assertEquals(0, CrawlCheckpoint.load(checkpointFile).getNextPageNum()));
+
+        records.clear();
+        setUpDispatcher(new CatalogDispatcher(-1));
+
+        final CrawlResult secondActual = newCrawler(checkpointFile).crawl();
+
+        // The failed show is retried first, followed by a fresh pass over the index
+        assertAll(
+                () -> assertEquals(1, secondActual.getPageCount()),
+                () -> assertEquals(6, secondActual.getShowCount()),
+                () -> assertTrue(secondActual.isSuccessful()),
+                () -> assertEquals(6, records.size()),
+                () -> assertTrue(CrawlCheckpoint.load(checkpointFile).getFailedShowIds().isEmpty()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withTooManyRequestsForIndexPage_shouldFailWithoutAdvancingCheckpoint() {
+        setUpDispatcher(new CatalogDispatcher(-1, 1));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+
+        assertThrows(RequestException.class, () -> newCrawler(checkpointFile).crawl());
+
+        assertAll(
+                () -> assertTrue(records.isEmpty()),
+                () -> assertEquals(0, CrawlCheckpoint.load(checkpointFile).getNextPageNum()));
+
+        final CrawlResult actual = newCrawler(checkpointFile).crawl();
+
+        assertAll(
+                () -> assertEquals(1, actual.getPageCount()),
+                () -> assertEquals(5, actual.getShowCount()),
+                () -> assertEquals(ALL_SHOW_IDS, getCrawledShowIds()),
+                () -> assertEquals(0, CrawlCheckpoint.load(checkpointFile).getNextPageNum()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void crawl_withFailingSink_shouldRecordFailedShows() {
+        setUpDispatcher(new CatalogDispatcher(-1));
+        final Path checkpointFile = tempDir.resolve("crawl.checkpoint");
+        final CatalogCrawler crawler = CatalogCrawler.builder()
+                .client(getClient())
+                .checkpointFile(checkpointFile)
+                .sink(record -> {
+                    throw new IllegalStateException("Exception from test");
+                })
+                .build();
+
+        final CrawlResult actual = crawler.crawl();
+
+        assertAll(
+                () -> assertEquals(0, actual.getShowCount()),
+                () -> assertEquals(ALL_SHOW_IDS, actual.getFailedShowIds()),
+                () -> assertEquals(ALL_SHOW_IDS, CrawlCheckpoint.load(checkpointFile).getFailedShowIds()));
+    }
+
+    @Test
+    public void fetchShowRecord_withCancelledRecord_shouldCancelOutstandingRequests() {
+        final PendingShowsApi showsApi = new PendingShowsApi(getConnection());
+
+        final CompletableFuture<ShowRecord> actual = CatalogCrawler.fetchShowRecord(showsApi, 1);
+        showsApi.show.complete(Show.builder().id(1).build());
+        actual.cancel(true);
+
+        assertAll(
+                () -> assertEquals(4, showsApi.details.size()),
+                () -> assertTrue(showsApi.details.stream().allMatch(CompletableFuture::isCancelled)));
+    }
+
+    @Test
+    public void fetchShowRecord_withCancelledRecordBeforeShow_shouldCancelShowRequest() {
+        final PendingShowsApi showsApi = new PendingShowsApi(getConnection());
+
+        CatalogCrawler.fetchShowRecord(showsApi, 1).cancel(true);
+
+        assertAll(
+                () -> assertTrue(showsApi.show.isCancelled()),
+                () -> assertTrue(showsApi.details.isEmpty()));
+    }
+
+    private CatalogCrawler newCrawler(final Path checkpointFile) {
+        return CatalogCrawler.builder()
+                .client(getClient())
+                .checkpointFile(checkpointFile)
+                .sink(records::add)
+                .parallelism(2)
+                .build();
+    }
+
+    private Set<Integer> getCrawledShowIds() {
+        return records.stream()
+                .map(r -> r.getShow().getId())
+                .collect(Collectors.toSet());
+    }
+
+    /** Returns pending futures so that the test controls when, and whether, each request completes. */
+    private static class PendingShowsApi extends ShowsApi {
+        private final CompletableFuture<Show> show = new CompletableFuture<>();
+        private final List<CompletableFuture<?>> details = new CopyOnWriteArrayList<>();
+
+        PendingShowsApi(final Connection connection) {
+            super(connection);
+        }
+
+        @Override
+        public CompletableFuture<Show> getShowAsync(final int showId, final Show.EmbeddedType... includeEmbeddedTypes) {
+            return show;
+        }
+
+        @Override
+        public CompletableFuture<List<Episode>> getEpisodesAsync(final int showId, final boolean isSpecialsIncluded) {
+            return newDetail();
+        }
+
+        @Override
+        public CompletableFuture<List<Season>> getSeasonsAsync(final int showId) {
+            return newDetail();
+        }
+
+        @Override
+        public CompletableFuture<List<CastMember>> getCastAsync(final int showId) {
+            return newDetail();
+        }
+
+        @Override
+        public CompletableFuture<List<CrewMember>> getCrewAsync(final int showId) {
+            return newDetail();
+        }
+
+        private <T> CompletableFuture<T> newDetail() {
+            final CompletableFuture<T> detail = new CompletableFuture<>();
+            details.add(detail);
+            return detail;
+        }
+    }
+
+    /**
+     * Serves the first index page, followed by a number of empty index pages, and the per-show resources, failing
+     * the cast request for one show and throttling the first index requests.
+     */
+    private static class CatalogDispatcher extends Dispatcher {
+        private static final int NOT_FOUND_STATUS_CODE = 404;
+        private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+        private static final int SERVICE_UNAVAILABLE_STATUS_CODE = 503;
+
+        private final String failingCastPath;
+        private final AtomicInteger throttledIndexRequestCount;
+        private final int emptyPageCount;
+
+        CatalogDispatcher(final int failingShowId) {
+            this(failingShowId, 0);
+        }
+
+        CatalogDispatcher(final int failingShowId, final int throttledIndexRequestCount) {
+            this(failingShowId, throttledIndexRequestCount, 0);
+        }
+
+        CatalogDispatcher(final int failingShowId, final int throttledIndexRequestCount, final int emptyPageCount) {
+            this.failingCastPath = "/shows/" + failingShowId + "/cast";
+            this.throttledIndexRequestCount = new AtomicInteger(throttledIndexRequestCount);
+            this.emptyPageCount = emptyPageCount;
+        }
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            final HttpUrl url = request.getUrl();
+            final String path = url.encodedPath();
+            if (path.equals("/shows")) {
+                if (throttledIndexRequestCount.getAndDecrement() > 0) {
+                    return newMockResponse(TOO_MANY_REQUESTS_STATUS_CODE, null);
+                }
+
+                final int pageNum = Integer.parseInt(url.queryParameter("page"));
+                if (pageNum == 0) {
+                    return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.LIST);
+                } else if (pageNum <= emptyPageCount) {
+                    return new MockResponse.Builder()
+                            .code(SUCCESS_STATUS_CODE)
+                            .addHeader(CONTENT_TYPE, "application/json; charset=utf-8")
+                            .body("[]")
+                            .build();
+                }
+
+                return newMockResponse(NOT_FOUND_STATUS_CODE, null);
+            } else if (path.equals(failingCastPath)) {
+                return newMockResponse(SERVICE_UNAVAILABLE_STATUS_CODE, null);
+            } else if (path.endsWith("/episodes")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Episode.LIST);
+            } else if (path.endsWith("/seasons")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SEASON_LIST);
+            } else if (path.endsWith("/cast")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.CAST_MEMBER_LIST);
+            } else if (path.endsWith("/crew")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.CREW_MEMBER_LIST);
+            } else if (path.startsWith("/shows/")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+            }
+
+            return newMockResponse(NOT_FOUND_STATUS_CODE, null);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CrawlCheckpointTest {
+    private Path tempDir;
+    private Path checkpointFile;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        tempDir = Files.createTempDirectory("crawl-checkpoint");
+        checkpointFile = tempDir.resolve("crawl.checkpoint");
+    }
+
+    @SneakyThrows
+    @AfterEach
+    public void cleanUp() {
+        Files.deleteIfExists(checkpointFile);
+        Files.deleteIfExists(tempDir);
+    }
+
+    @Test
+    @SneakyThrows
+    public void load_withMissingFile_shouldReturnInitialCheckpoint() {
+        final CrawlCheckpoint actual = CrawlCheckpoint.load(checkpointFile);
+
+        assertAll(
+                () -> assertEquals(0, actual.getNextPageNum()),
+                () -> assertTrue(actual.getCompletedShowIds().isEmpty()),
+                () -> assertTrue(actual.getFailedShowIds().isEmpty()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void save_withProgress_shouldRoundTrip() {
+        final CrawlCheckpoint expected = new CrawlCheckpoint(7, Set.of(1750, 1751), Set.of(12));
+
+        expected.save(checkpointFile);
+        final CrawlCheckpoint actual = CrawlCheckpoint.load(checkpointFile);
+
+        assertAll(
+                () -> assertEquals(7, actual.getNextPageNum()),
+                () -> assertEquals(Set.of(1750, 1751), actual.getCompletedShowIds()),
+                () -> assertEquals(Set.of(12), actual.getFailedShowIds()),
+                () -> assertTrue(actual.isCompleted(1750)),
+                () -> assertFalse(Files.exists(tempDir.resolve("crawl.checkpoint.tmp"))));
+    }
+
+    @Test
+    public void markCompleted_withFailedShow_shouldClearFailure() {
+        final CrawlCheckpoint checkpoint = new CrawlCheckpoint(0, Collections.emptySet(), Set.of(3));
+
+        checkpoint.markCompleted(3);
+
+        assertAll(
+                () -> assertTrue(checkpoint.isCompleted(3)),
+                () -> assertTrue(checkpoint.getFailedShowIds().isEmpty()));
+    }
+
+    @Test
+    public void markRetried_withFailedShow_shouldClearFailureWithoutCompleting() {
+        final CrawlCheckpoint checkpoint = new CrawlCheckpoint(0, Collections.emptySet(), Set.of(3));
+
+        checkpoint.markRetried(3);
+
+        assertAll(
+                () -> assertFalse(checkpoint.isCompleted(3)),
+                () -> assertTrue(checkpoint.getFailedShowIds().isEmpty()));
+    }
+
+    @Test
+    public void advancePage_shouldIncrementPageAndClearCompletedShows() {
+        final CrawlCheckpoint checkpoint = new CrawlCheckpoint(2, Set.of(500, 501), Set.of(3));
+
+        checkpoint.advancePage();
+
+        assertAll(
+                () -> assertEquals(3, checkpoint.getNextPageNum()),
+                () -> assertTrue(checkpoint.getCompletedShowIds().isEmpty()),
+                () -> assertEquals(Set.of(3), checkpoint.getFailedShowIds()));
+    }
+
+    @Test
+    public void restart_shouldResetPageAndKeepFailedShows() {
+        final CrawlCheckpoint checkpoint = new CrawlCheckpoint(2, Set.of(500, 501), Set.of(3));
+
+        checkpoint.restart();
+
+        assertAll(
+                () -> assertEquals(0, checkpoint.getNextPageNum()),
+                () -> assertTrue(checkpoint.getCompletedShowIds().isEmpty()),
+                () -> assertEquals(Set.of(3), checkpoint.getFailedShowIds()));
+    }
+
+    @Test
+    @SneakyThrows
+    public void load_withInvalidFile_shouldThrowException() {
+        Files.writeString(checkpointFile, "nextPageNum=abc\n", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> CrawlCheckpoint.load(checkpointFile));
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.crawl;
+
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.TvMaze;
+import com.amilesend.tvmaze.client.TvMazeConfig;
+import com.amilesend.tvmaze.client.api.SearchApi.ShowLookupIdType;
+import com.amilesend.tvmaze.client.api.UpdatesApi.Since;
+import com.amilesend.tvmaze.client.cache.CacheKey;
+import com.amilesend.tvmaze.client.cache.ResourceCache;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.search.ExternalIdIndex;
+import com.amilesend.tvmaze.client.util.IntLongMap;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MirrorSyncFunctionalTest extends FunctionalTestBase {
+    private final List<ShowRecord> records = new CopyOnWriteArrayList<>();
+    private final List<Person> people = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void sync_withChangedShowsAndPeople_shouldOnlyFetchChangedResources() {
+        setUpDispatcher(new UpdatesDispatcher(-1));
+        // Updates fixture: {1: 100, 2: 101, 3: 103}
+        final MirrorSync mirrorSync = newMirrorSync(newIntLongMap(1, 100L, 2, 50L), newIntLongMap(1, 100L, 3, 1L));
+
+        final SyncResult actual = mirrorSync.sync(Since.DAY);
+
+        assertAll(
+                () -> assertEquals(3, actual.getCheckedShowCount()),
+                () -> assertEquals(2, actual.getUpdatedShowCount()),
+                () -> assertEquals(3, actual.getCheckedPersonCount()),
+                () -> assertEquals(1, actual.getUpdatedPersonCount()),
+                () -> assertTrue(actual.isSuccessful()),
+                () -> assertEquals(2, records.size()),
+                () -> assertEquals(1, people.size()),
+                // 2 update requests, 5 requests per changed show and 1 person request
+                () -> assertEquals(13, getRequestCount()));
+    }
+
+    @Test
+    public void sync_withStoreWithoutPeople_shouldSkipPersonUpdates() {
+        setUpDispatcher(new UpdatesDispatcher(-1));
+        final MirrorSync mirrorSync = newMirrorSync(newIntLongMap(1, 100L, 2, 101L, 3, 103L), new IntLongMap());
+
+        final SyncResult actual = mirrorSync.sync(Since.DAY);
+
+        assertAll(
+                () -> assertEquals(0, actual.getUpdatedShowCount()),
+                () -> assertEquals(0, actual.getCheckedPersonCount()),
+                () -> assertTrue(records.isEmpty()),
+                () -> assertEquals(1, getRequestCount()));
+    }
+
+    @Test
+    public void sync_withFailedShow_shouldReportFailure() {
+        setUpDispatcher(new UpdatesDispatcher(3));
+        final MirrorSync mirrorSync = newMirrorSync(new IntLongMap(), new IntLongMap());
+
+        final SyncResult actual = mirrorSync.sync(null);
+
+        assertAll(
+                () -> assertEquals(2, actual.getUpdatedShowCount()),
+                () -> assertFalse(actual.isSuccessful()),
+                () -> assertEquals(Set.of(3), actual.getFailedShowIds()),
+                () -> assertEquals(2, records.size()));
+    }
+
+    @Test
+    public void sync_withExternalIdIndex_shouldIndexStoredShows() {
+        setUpDispatcher(new UpdatesDispatcher(-1));
+        final ExternalIdIndex externalIdIndex = ExternalIdIndex.builder().build();
+        final MirrorSync mirrorSync = newMirrorSync(new IntLongMap(), new IntLongMap(), externalIdIndex);
+
+        mirrorSync.sync(Since.DAY);
+
+        // Each show request is served the same fixture (show id 1)
+        assertAll(
+                () -> assertEquals(3, records.size()),
+                () -> assertEquals(1, externalIdIndex.size()),
+                () -> assertEquals(1, externalIdIndex.getShowId(ShowLookupIdType.IMDB, "tt1723816")),
+                () -> assertEquals("220411", externalIdIndex.getExternalId(1, ShowLookupIdType.TVDB)));
+    }
+
+    @Test
+    public void sync_withStaleCachedShow_shouldRefetchShow() {
+        setUpDispatcher(new UpdatesDispatcher(-1));
+        final ResourceCache<CacheKey, Show> showCache = ResourceCache.<CacheKey, Show>builder().build();
+        // Updates fixture: {1: 100, 2: 101, 3: 103}
+        final Show staleShow = Show.builder().id(1).updated(1L).build();
+        showCache.put(CacheKey.of(1), staleShow);
+        final TvMaze client = new TvMaze(getConnection(), TvMazeConfig.builder().showCache(showCache).build());
+        final MirrorSync mirrorSync = newMirrorSync(client, newIntLongMap(2, 101L, 3, 103L), new IntLongMap(), null);
+
+        final SyncResult actual = mirrorSync.sync(Since.DAY);
+
+        assertAll(
+                () -> assertEquals(1, actual.getUpdatedShowCount()),
+                () -> assertNotSame(staleShow, records.get(0).getShow()),
+                // 1 update request and 5 requests for the changed show
+                () -> assertEquals(6, getRequestCount()));
+    }
+
+    @Test
+    public void sync_withStaleCachedPerson_shouldRefetchPerson() {
+        setUpDispatcher(new UpdatesDispatcher(-1));
+        final ResourceCache<CacheKey, Person> personCache = ResourceCache.<CacheKey, Person>builder().build();
+        // Updates fixture: {1: 100, 2: 101, 3: 103}
+        final Person stalePerson = Person.builder().id(3).updated(1L).build();
+        personCache.put(CacheKey.of(3), stalePerson);
+        final TvMaze client = new TvMaze(getConnection(), TvMazeConfig.builder().personCache(personCache).build());
+        final MirrorSync mirrorSync = newMirrorSync(
+                client,
+                newIntLongMap(1, 100L, 2, 101L, 3, 103L),
+                newIntLongMap(3, 1L),
+                null);
+
+        final SyncResult actual = mirrorSync.sync(Since.DAY);
+
+        assertAll(
+                () -> assertEquals(1, actual.getUpdatedPersonCount()),
+                () -> assertEquals(1, people.size()),
+                () -> assertNotSame(stalePerson, people.get(0)),
+                // 2 update requests and 1 person request
+                () -> assertEquals(3, getRequestCount()));
+    }
+
+    private MirrorSync newMirrorSync(final IntLongMap storedShows, final IntLongMap storedPeople) {
+        return newMirrorSync(storedShows, storedPeople, null);
+    }
+
+    private MirrorSync newMirrorSync(
+            final IntLongMap storedShows,
+            final IntLongMap storedPeople,
+            final ExternalIdIndex externalIdIndex) {
+        return newMirrorSync(getClient(), storedShows, storedPeople, externalIdIndex);
+    }
+
+    private MirrorSync newMirrorSync(
+            final TvMaze client,
+            final IntLongMap storedShows,
+            final IntLongMap storedPeople,
+            final ExternalIdIndex externalIdIndex) {
+        return MirrorSync.builder()
+                .client(client)
+                .externalIdIndex(externalIdIndex)
+                .store(new MirrorStore() {
+                    @Override
+                    public IntLongMap getShowUpdatedTimestamps() {
+                        return storedShows;
+                    }
+
+                    @Override
+                    public IntLongMap getPersonUpdatedTimestamps() {
+                        return storedPeople;
+                    }
+
+                    @Override
+                    public void putPerson(final Person person) {
+                        people.add(person);
+                    }
+
+                    @Override
+                    public void accept(final ShowRecord record) {
+                        records.add(record);
+                    }
+                })
+                .parallelism(2)
+                .build();
+    }
+
+    private static IntLongMap newIntLongMap(final Object... keysAndValues) {
+        final IntLongMap map = new IntLongMap();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put((Integer) keysAndValues[i], (Long) keysAndValues[i + 1]);
+        }
+
+        return map;
+    }
+
+    /** Serves the update fixtures and the per-show resources, failing the show request for one show. */
+    private static class UpdatesDispatcher extends Dispatcher {
+        private static final int NOT_FOUND_STATUS_CODE = 404;
+        private static final int SERVICE_UNAVAILABLE_STATUS_CODE = 503;
+
+        private final String failingShowPath;
+
+        UpdatesDispatcher(final int failingShowId) {
+            this.failingShowPath = "/shows/" + failingShowId;
+        }
+
+        @Override
+        public MockResponse dispatch(final RecordedRequest request) {
+            final String path = request.getUrl().encodedPath();
+            if (path.startsWith("/updates/")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.UPDATES);
+            } else if (path.equals(failingShowPath)) {
+                return newMockResponse(SERVICE_UNAVAILABLE_STATUS_CODE, null);
+            } else if (path.startsWith("/people/")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.PERSON_EMBEDDED_CAST_CREDITS);
+            } else if (path.endsWith("/episodes")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Episode.LIST);
+            } else if (path.endsWith("/seasons")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SEASON_LIST);
+            } else if (path.endsWith("/cast")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.CAST_MEMBER_LIST);
+            } else if (path.endsWith("/crew")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.People.CREW_MEMBER_LIST);
+            } else if (path.startsWith("/shows/")) {
+                return newMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+            }
+
+            return newMockResponse(NOT_FOUND_STATUS_CODE, null);
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.amilesend.tvmaze.client.model.Season;
 import com.amilesend.tvmaze.client.model.Show;
 import com.amilesend.tvmaze.client.model.type.Alias;
 import com.amilesend.tvmaze.client.model.type.Country;
+import com.amilesend.tvmaze.client.model.type.Externals;
 import com.amilesend.tvmaze.client.model.type.ImageResolution;
 import com.amilesend.tvmaze.client.model.type.ImageResolutions;
 import com.amilesend.tvmaze.client.model.type.ImageUrl;
@@ -249,9 +250,11 @@ public class ShowTestDataHelper {
                 .build();
     }
 
-    private static Map<String, Object> newExternals() {
-        return Map.of("tvrage", 30124,
-                "thetvdb", 220411,
-                "imdb", "tt1723816");
+    private static Externals newExternals() {
+        return Externals.builder()
+                .tvrageId(30124)
+                .thetvdbId(220411)
+                .imdbId("tt1723816")
+                .build();
     }
 }
@@ -123,6 +123,7 @@ public class ShowTestDataValidator {
                 () -> assertEquals(expected.getWebChannel(), actual.getWebChannel()),
                 () -> assertEquals(expected.getDvdCountry(), actual.getDvdCountry()),
                 () -> assertEquals(expected.getExternals(), actual.getExternals()),
+                () -> assertEquals(expected.getExternalIds(), actual.getExternalIds()),
                 () -> assertEquals(expected.getImage(), actual.getImage()),
                 () -> assertEquals(expected.getSummary(), actual.getSummary()),
                 () -> assertEquals(expected.getUpdated(), actual.getUpdated()),
@@ -0,0 +1,123 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultApiMetricsTest {
+    private final DefaultApiMetrics metricsUnderTest = new DefaultApiMetrics();
+
+    @Test
+    public void recordSuccess_withRequests_shouldAggregateByOperation() {
+        for (int i = 1; i <= 100; ++i) {
+            metricsUnderTest.recordSuccess("ShowsApi.getShow", 200, i * 1_000_000L, i * 1_000L, 10L);
+        }
+        metricsUnderTest.recordSuccess("ShowsApi.getCast", 200, 5L, 5L, 1L);
+
+        final OperationStats actual = metricsUnderTest.getStats("ShowsApi.getShow");
+
+        assertAll(
+                () -> assertEquals("ShowsApi.getShow", actual.getOperation()),
+                () -> assertEquals(100L, actual.getRequestCount()),
+                () -> assertEquals(0L, actual.getErrorCount()),
+                () -> assertEquals(1000L, actual.getResponseBytes()),
+                () -> assertEquals(100L, actual.getNetworkLatency().getCount()),
+                () -> assertEquals(100_000_000L, actual.getNetworkLatency().getMaxNanos()),
+                () -> assertEquals(50_500_000L, actual.getNetworkLatency().getMeanNanos()),
+                () -> assertWithinBucketError(50_000_000L, actual.getNetworkLatency().getPercentileNanos(50.0D)),
+                () -> assertWithinBucketError(99_000_000L, actual.getNetworkLatency().getPercentileNanos(99.0D)),
+                () -> assertEquals(100_000_000L, actual.getNetworkLatency().getPercentileNanos(100.0D)),
+                () -> assertWithinBucketError(50_000L, actual.getParseLatency().getPercentileNanos(50.0D)),
+                () -> assertEquals(List.of("ShowsApi.getCast", "ShowsApi.getShow"),
+                        new ArrayList<>(metricsUnderTest.getStats().keySet())));
+    }
+
+    @Test
+    public void recordFailure_withStatusCodes_shouldCountErrorsByStatus() {
+        metricsUnderTest.recordSuccess("SearchApi.lookupShow", 200, 1L, 1L, 1L);
+        metricsUnderTest.recordFailure("SearchApi.lookupShow", 404, 1L);
+        metricsUnderTest.recordFailure("SearchApi.lookupShow", 404, 1L);
+        metricsUnderTest.recordFailure("SearchApi.lookupShow", ApiMetrics.UNKNOWN_STATUS_CODE, 1L);
+
+        final OperationStats actual = metricsUnderTest.getStats("SearchApi.lookupShow");
+
+        assertAll(
+                () -> assertEquals(4L, actual.getRequestCount()),
+                () -> assertEquals(3L, actual.getErrorCount()),
+                () -> assertEquals(Map.of(404, 2L, ApiMetrics.UNKNOWN_STATUS_CODE, 1L), actual.getErrorCounts()),
+                () -> assertEquals(1L, actual.getNetworkLatency().getCount()));
+    }
+
+    @Test
+    public void getStats_withUnknownOperationOrAfterReset_shouldReturnNoStats() {
+        metricsUnderTest.recordSuccess("ShowsApi.getShow", 200, 1L, 1L, 1L);
+        metricsUnderTest.reset();
+
+        assertAll(
+                () -> assertNull(metricsUnderTest.getStats("ShowsApi.getShow")),
+                () -> assertTrue(metricsUnderTest.getStats().isEmpty()));
+    }
+
+    @Test
+    public void getPercentileNanos_withoutRecordedValues_shouldReturnZero() {
+        final LatencyStats actual = new LatencyHistogram().snapshot();
+
+        assertAll(
+                () -> assertEquals(0L, actual.getPercentileNanos(50.0D)),
+                () -> assertEquals(0L, actual.getMeanNanos()));
+    }
+
+    @Test
+    public void bucketIndex_withValues_shouldBeWithinBucketBounds() {
+        final long[] values = {0L, 1L, 3L, 4L, 5L, 7L, 8L, 1_000L, 123_456_789L, Long.MAX_VALUE};
+        for (final long value : values) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            final long lowerBound = index == 0 ? 0L : LatencyHistogram.bucketUpperBound(index - 1) + 1L;
+            assertAll(
+                    () -> assertTrue(index < LatencyHistogram.BUCKET_COUNT),
+                    () -> assertTrue(value >= lowerBound, "value " + value + " below bucket " + index),
+                    () -> assertTrue(value <= LatencyHistogram.bucketUpperBound(index), "value " + value));
+        }
+    }
+
+    @Test
+    public void composite_withMultipleMetrics_shouldRecordToEach() {
+        final DefaultApiMetrics other = new DefaultApiMetrics();
+        final ApiMetrics composite = ApiMetrics.composite(metricsUnderTest, other);
+
+        composite.recordSuccess("ShowsApi.getShow", 200, 1L, 1L, 1L);
+        composite.recordFailure("ShowsApi.getShow", 500, 1L);
+
+        assertAll(
+                () -> assertEquals(2L, metricsUnderTest.getStats("ShowsApi.getShow").getRequestCount()),
+                () -> assertEquals(2L, other.getStats("ShowsApi.getShow").getRequestCount()));
+    }
+
+    private static void assertWithinBucketError(final long expected, final long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.25D, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DateTimeTypeAdaptersTest {
+    private final LocalDateTypeAdapter dateAdapter = new LocalDateTypeAdapter();
+    private final LocalTimeTypeAdapter timeAdapter = new LocalTimeTypeAdapter();
+    private final LocalDateTimeTypeAdapter dateTimeAdapter = new LocalDateTimeTypeAdapter();
+
+    ////////////////
+    // LocalDate
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void readLocalDate_withValidValue_shouldReturnCachedDate() {
+        final LocalDate first = dateAdapter.fromJson("\"2012-04-15\"");
+        final LocalDate second = dateAdapter.fromJson("\"2012-04-15\"");
+
+        assertAll(
+                () -> assertEquals(LocalDate.of(2012, 4, 15), first),
+                () -> assertSame(first, second));
+    }
+
+    @SneakyThrows
+    @Test
+    public void readLocalDate_withNullOrBlankValue_shouldReturnNull() {
+        assertAll(
+                () -> assertNull(dateAdapter.fromJson("null")),
+                () -> assertNull(dateAdapter.fromJson("\"\"")));
+    }
+
+    @SneakyThrows
+    @Test
+    public void readLocalDate_withOutOfRangeDay_shouldResolveToLastDayOfMonth() {
+        assertEquals(LocalDate.of(2012, 2, 29), dateAdapter.fromJson("\"2012-02-30\""));
+    }
+
+    @Test
+    public void readLocalDate_withInvalidValue_shouldThrowException() {
+        assertThrows(DateTimeParseException.class, () -> dateAdapter.fromJson("\"2012/04/15\""));
+    }
+
+    @SneakyThrows
+    @Test
+    public void writeLocalDate_shouldFormatValue() {
+        assertAll(
+                () -> assertEquals("\"2012-04-15\"", dateAdapter.toJson(LocalDate.of(2012, 4, 15))),
+                () -> assertEquals("null", dateAdapter.toJson(null)));
+    }
+
+    ////////////////
+    // LocalTime
+    ////////////////
+
+    @SneakyThrows
+    @Test
+    public void readLocalTime_withValidValue_shouldReturnTime() {
+        assertAll(
+                () -> assertEquals(LocalTime.of(22, 0), timeAdapter.fromJson("\"22:00\"")),
+                () -> assertEquals(LocalTime.of(9, 35), timeAdapter.fromJson("\"09:35\"")),
+                () -> assertNull(timeAdapter.fromJson("\"\"")));
+    }
+
+    @Test
+    public void readLocalTime_withInvalidValue_shouldThrowException() {
+        assertThrows(DateTimeParseException.class, () -> timeAdapter.fromJson("\"25:00\""));
+    }
+
+    ////////////////////
+    // LocalDateTime
+    ////////////////////
+
+    @SneakyThrows
+    @Test
+    public void readLocalDateTime_withValidValues_shouldReturnDateTime() {
+        final LocalDateTime expected = LocalDateTime.of(2012, 4, 15, 22, 0, 30);
+
+        assertAll(
+                () -> assertEquals(expected, dateTimeAdapter.fromJson("\"2012-04-15T22:00:30\"")),
+                () -> assertEquals(expected, dateTimeAdapter.fromJson("\"2012-04-15T22:00:30Z\"")),
+                () -> assertEquals(expected, dateTimeAdapter.fromJson("\"2012-04-15T22:00:30+00:00\"")),
+                () -> assertEquals(expected, dateTimeAdapter.fromJson("\"2012-04-15T22:00:30-05:00\"")),
+                () -> assertEquals(
+                        expected.withNano(500_000_000),
+                        dateTimeAdapter.fromJson("\"2012-04-15T22:00:30.5+00:00\"")),
+                () -> assertNull(dateTimeAdapter.fromJson("null")));
+    }
+
+    @Test
+    public void readLocalDateTime_withInvalidValue_shouldThrowException() {
+        assertThrows(DateTimeParseException.class, () -> dateTimeAdapter.fromJson("\"2012-04-15 22:00:30\""));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.parse.adapters;
+
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.reflect.TypeToken;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.amilesend.tvmaze.client.data.EpisodeTestDataValidator.verifyEpisode;
+import static com.amilesend.tvmaze.client.data.EpisodeTestDataValidator.verifyListOfEpisodes;
+import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyPersonList;
+import static com.amilesend.tvmaze.client.data.ShowTestDataValidator.verifyShow;
+import static com.amilesend.tvmaze.client.data.ShowTestDataValidator.verifyShowList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ModelTypeAdapterFactoryTest {
+    private static final Gson REFLECTIVE_GSON = newGsonBuilder().create();
+    private static final Gson STREAMING_GSON = newGsonBuilder()
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .create();
+
+    @Test
+    public void read_withShow_shouldMatchReflectiveAdapter() {
+        verifyShow(
+                parse(REFLECTIVE_GSON, SerializedResource.Show.SHOW, Show.class),
+                parse(STREAMING_GSON, SerializedResource.Show.SHOW, Show.class));
+    }
+
+    @Test
+    public void read_withShowAndAllEmbeddedTypes_shouldMatchReflectiveAdapter() {
+        verifyShow(
+                parse(REFLECTIVE_GSON, SerializedResource.Show.ALL_EMBEDDED_TYPES, Show.class),
+                parse(STREAMING_GSON, SerializedResource.Show.ALL_EMBEDDED_TYPES, Show.class));
+    }
+
+    @Test
+    public void read_withShowList_shouldMatchReflectiveAdapter() {
+        final Type type = TypeToken.getParameterized(List.class, Show.class).getType();
+
+        verifyShowList(
+                parse(REFLECTIVE_GSON, SerializedResource.Show.LIST, type),
+                parse(STREAMING_GSON, SerializedResource.Show.LIST, type));
+    }
+
+    @Test
+    public void read_withEpisode_shouldMatchReflectiveAdapter() {
+        verifyEpisode(
+                parse(REFLECTIVE_GSON, SerializedResource.Episode.EMBEDDED_SHOW, Episode.class),
+                parse(STREAMING_GSON, SerializedResource.Episode.EMBEDDED_SHOW, Episode.class));
+    }
+
+    @Test
+    public void read_withEpisodeList_shouldMatchReflectiveAdapter() {
+        final Type type = TypeToken.getParameterized(List.class, Episode.class).getType();
+
+        verifyListOfEpisodes(
+                parse(REFLECTIVE_GSON, SerializedResource.Episode.LIST, type),
+                parse(STREAMING_GSON, SerializedResource.Episode.LIST, type));
+    }
+
+    @Test
+    public void read_withPersonList_shouldMatchReflectiveAdapter() {
+        final Type type = TypeToken.getParameterized(List.class, Person.class).getType();
+
+        verifyPersonList(
+                parse(REFLECTIVE_GSON, SerializedResource.People.PERSON_LIST, type),
+                parse(STREAMING_GSON, SerializedResource.People.PERSON_LIST, type));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void read_withUnmodeledExternals_shouldRetainAllIds() {
+        final String json = "{\"id\":1,\"externals\":"
+                + "{\"tvrage\":30124,\"thetvdb\":null,\"imdb\":\"tt1723816\",\"tmdb\":12345}}";
+
+        final Show actual = STREAMING_GSON.fromJson(json, Show.class);
+
+        final Show expected = Show.builder()
+                .id(1)
+                .externals(Map.of("tvrage", 30124.0D, "imdb", "tt1723816", "tmdb", 12345.0D))
+                .build();
+        assertAll(
+                () -> assertEquals(Map.of("tvrage", "30124", "imdb", "tt1723816", "tmdb", "12345"),
+                        actual.getExternals()),
+                () -> assertEquals(Map.of("tmdb", "12345"), actual.getExternalIds().getOtherIds()),
+                () -> assertEquals(expected.getExternalIds(), actual.getExternalIds()));
+    }
+
+    @Test
+    public void write_withUnmodeledExternals_shouldRoundTripFlatObject() {
+        final Show expected = STREAMING_GSON.fromJson(
+                "{\"id\":1,\"externals\":{\"tvrage\":30124,\"imdb\":\"tt1723816\",\"tmdb\":12345}}",
+                Show.class);
+
+        final String json = STREAMING_GSON.toJson(expected);
+        final Show actual = STREAMING_GSON.fromJson(json, Show.class);
+
+        final JsonObject externals = JsonParser.parseString(json).getAsJsonObject().getAsJsonObject("externals");
+        assertAll(
+                () -> assertEquals(Set.of("tvrage", "imdb", "tmdb"), externals.keySet()),
+                () -> assertEquals(30124, externals.get("tvrage").getAsInt()),
+                () -> assertEquals(expected.getExternalIds(), actual.getExternalIds()),
+                () -> assertEquals(Map.of("tmdb", "12345"), actual.getExternalIds().getOtherIds()));
+    }
+
+    @SneakyThrows
+    private static <T> T parse(final Gson gson, final SerializedResource resource, final Type type) {
+        try (final Reader reader = new InputStreamReader(resource.getResource(), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, type);
+        }
+    }
+
+    private static GsonBuilder newGsonBuilder() {
+        return new GsonBuilder()
+                .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+                .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
+                .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.search;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.tvmaze.client.FunctionalTestBase;
+import com.amilesend.tvmaze.client.api.SearchApi.ShowLookupIdType;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.data.ShowTestDataHelper;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.Externals;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExternalIdIndexFunctionalTest extends FunctionalTestBase {
+    @Test
+    public void getShowId_withIndexedShow_shouldResolveBothDirections() {
+        final ExternalIdIndex indexUnderTest = ExternalIdIndex.builder().build();
+        indexUnderTest.put(ShowTestDataHelper.newShow(7));
+
+        assertAll(
+                () -> assertEquals(1, indexUnderTest.size()),
+                () -> assertEquals(7, indexUnderTest.getShowId(ShowLookupIdType.IMDB, "tt1723816")),
+                () -> assertEquals(7, indexUnderTest.getShowId(ShowLookupIdType.IMDB, " TT1723816 ")),
+                () -> assertEquals(7, indexUnderTest.getShowId(ShowLookupIdType.TVDB, "220411")),
+                () -> assertEquals(7, indexUnderTest.getShowId(ShowLookupIdType.TV_RAGE, "30124")),
+                () -> assertNull(indexUnderTest.getShowId(ShowLookupIdType.IMDB, "tt0000000")),
+                () -> assertNull(indexUnderTest.getShowId(ShowLookupIdType.IMDB, " ")),
+                () -> assertEquals("tt1723816", indexUnderTest.getExternalId(7, ShowLookupIdType.IMDB)),
+                () -> assertNull(indexUnderTest.getExternalId(8, ShowLookupIdType.IMDB)));
+    }
+
+    @Test
+    public void put_withChangedExternals_shouldReplacePreviousIds() {
+        final ExternalIdIndex indexUnderTest = ExternalIdIndex.builder().build();
+        indexUnderTest.put(ShowTestDataHelper.newShow(7));
+        indexUnderTest.put(Show.builder()
+                .id(7)
+                .externals(Externals.builder().imdbId("tt7654321").build())
+                .build());
+
+        assertAll(
+                () -> assertEquals(1, indexUnderTest.size()),
+                () -> assertEquals(7, indexUnderTest.getShowId(ShowLookupIdType.IMDB, "tt7654321")),
+                () -> assertNull(indexUnderTest.getShowId(ShowLookupIdType.IMDB, "tt1723816")),
+                () -> assertNull(indexUnderTest.getShowId(ShowLookupIdType.TVDB, "220411")),
+                () -> assertNull(indexUnderTest.getExternalId(7, ShowLookupIdType.TVDB)));
+    }
+
+    @Test
+    public void remove_withIndexedShow_shouldRemoveIds() {
+        final ExternalIdIndex indexUnderTest = ExternalIdIndex.builder().build();
+        indexUnderTest.put(ShowTestDataHelper.newShow(7));
+
+        assertAll(
+                () -> assertTrue(indexUnderTest.remove(7)),
+                () -> assertFalse(indexUnderTest.remove(7)),
+                () -> assertEquals(0, indexUnderTest.size()),
+                () -> assertNull(indexUnderTest.getShowId(ShowLookupIdType.IMDB, "tt1723816")));
+    }
+
+    @Test
+    public void lookupShowId_withIndexedShow_shouldNotSendRequest() {
+        final ExternalIdIndex indexUnderTest = newIndexWithFallback();
+        indexUnderTest.put(ShowTestDataHelper.newShow(7));
+
+        assertAll(
+                () -> assertEquals(7, indexUnderTest.lookupShowId(ShowLookupIdType.IMDB, "tt1723816")),
+                () -> assertEquals(7, indexUnderTest.lookupShowIdAsync(ShowLookupIdType.TVDB, "220411").join()),
+                () -> assertEquals(0, getRequestCount()));
+    }
+
+    @Test
+    public void lookupShowId_withMiss_shouldLookUpAndIndexShow() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+        final ExternalIdIndex indexUnderTest = newIndexWithFallback();
+
+        final Integer actual = indexUnderTest.lookupShowId(ShowLookupIdType.IMDB, "tt1723816");
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertEquals(1, indexUnderTest.lookupShowId(ShowLookupIdType.TV_RAGE, "30124")),
+                () -> assertEquals(1, getRequestCount()));
+    }
+
+    @Test
+    public void lookupShowIdAsync_withMiss_shouldLookUpAndIndexShow() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SerializedResource.Show.SHOW);
+        final ExternalIdIndex indexUnderTest = newIndexWithFallback();
+
+        final Integer actual = indexUnderTest.lookupShowIdAsync(ShowLookupIdType.IMDB, "tt1723816").join();
+
+        assertAll(
+                () -> assertEquals(1, actual),
+                () -> assertEquals(1, indexUnderTest.getShowId(ShowLookupIdType.TVDB, "220411")));
+    }
+
+    @Test
+    public void lookupShowId_withUnknownId_shouldReturnNull() {
+        setUpMockResponse(404);
+        setUpMockResponse(404);
+        final ExternalIdIndex indexUnderTest = newIndexWithFallback();
+
+        assertAll(
+                () -> assertNull(indexUnderTest.lookupShowId(ShowLookupIdType.IMDB, "tt0000000")),
+                () -> assertNull(indexUnderTest.lookupShowIdAsync(ShowLookupIdType.IMDB, "tt0000000").join()),
+                () -> assertEquals(0, indexUnderTest.size()));
+    }
+
+    @Test
+    public void lookupShowId_withUnknownIdAndNoExchangeListener_shouldReturnNull() {
+        setUpMockResponse(404);
+        final ExternalIdIndex indexUnderTest = ExternalIdIndex.builder()
+                .searchApi(newClientWithoutExchangeListener().getSearchApi())
+                .build();
+
+        assertAll(
+                () -> assertNull(indexUnderTest.lookupShowId(ShowLookupIdType.IMDB, "tt0000000")),
+                () -> assertEquals(1, getRequestCount()));
+    }
+
+    @Test
+    public void lookupShowId_withTooManyRequests_shouldThrowException() {
+        setUpMockResponse(429);
+        setUpMockResponse(429);
+        final ExternalIdIndex indexUnderTest = newIndexWithFallback();
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> indexUnderTest.lookupShowIdAsync(ShowLookupIdType.IMDB, "tt1723816").join());
+
+        assertAll(
+                () -> assertThrows(ConnectionException.class,
+                        () -> indexUnderTest.lookupShowId(ShowLookupIdType.IMDB, "tt1723816")),
+                () -> assertInstanceOf(ConnectionException.class, thrown.getCause()),
+                () -> assertEquals(0, indexUnderTest.size()));
+    }
+
+    @Test
+    public void lookupShowId_withoutSearchApi_shouldOnlyUseIndex() {
+        final ExternalIdIndex indexUnderTest = ExternalIdIndex.builder().build();
+
+        assertAll(
+                () -> assertNull(indexUnderTest.lookupShowId(ShowLookupIdType.IMDB, "tt1723816")),
+                () -> assertNull(indexUnderTest.lookupShowIdAsync(ShowLookupIdType.IMDB, "tt1723816").join()),
+                () -> assertEquals(0, getRequestCount()));
+    }
+
+    private ExternalIdIndex newIndexWithFallback() {
+        return ExternalIdIndex.builder()
+                .searchApi(getClient().getSearchApi())
+                .build();
+    }
+}
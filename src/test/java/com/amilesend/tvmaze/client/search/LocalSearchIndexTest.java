@@ -0,0 +1,233 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.search;
+
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.Alias;
+import com.amilesend.tvmaze.client.model.type.PersonResult;
+import com.amilesend.tvmaze.client.model.type.ShowResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LocalSearchIndexTest {
+    private LocalSearchIndex indexUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        indexUnderTest = LocalSearchIndex.builder().build();
+        indexUnderTest.putShow(newShow(1, "Breaking Bad"));
+        indexUnderTest.putShow(newShow(2, "Better Call Saul"));
+        indexUnderTest.putShow(newShow(3, "Bad Sisters"));
+        indexUnderTest.putShow(newShow(4, "Pokémon"));
+        indexUnderTest.putShow(
+                newShow(5, "La Casa de Papel"),
+                List.of(Alias.builder().name("Money Heist").build()));
+    }
+
+    @Test
+    public void searchShows_withExactName_shouldRankExactMatchFirst() {
+        final List<ShowResult> actual = indexUnderTest.searchShows("Breaking Bad");
+
+        assertAll(
+                () -> assertFalse(actual.isEmpty()),
+                () -> assertEquals(1, actual.get(0).getShow().getId()),
+                () -> assertEquals(1.0D, actual.get(0).getScore()),
+                () -> assertDescendingScores(actual));
+    }
+
+    @Test
+    public void searchShows_withPrefix_shouldRankPrefixMatchFirst() {
+        final List<ShowResult> actual = indexUnderTest.searchShows("bre");
+
+        assertAll(
+                () -> assertFalse(actual.isEmpty()),
+                () -> assertEquals(1, actual.get(0).getShow().getId()),
+                () -> assertTrue(actual.get(0).getScore() < 1.0D));
+    }
+
+    @Test
+    public void searchShows_withOneCharacterQuery_shouldMatchNamePrefixes() {
+        final List<ShowResult> actual = indexUnderTest.searchShows("b");
+
+        assertAll(
+                () -> assertEquals(List.of(3, 1, 2), toShowIds(actual)),
+                () -> assertDescendingScores(actual));
+    }
+
+    @Test
+    public void searchShows_withTwoCharacterQuery_shouldRankNamePrefixAboveWordPrefix() {
+        final List<ShowResult> actual = indexUnderTest.searchShows("ba");
+
+        assertAll(
+                () -> assertEquals(List.of(3, 1), toShowIds(actual)),
+                () -> assertTrue(actual.get(0).getScore() < 1.0D),
+                () -> assertDescendingScores(actual));
+    }
+
+    @Test
+    public void searchShows_withTypo_shouldReturnClosestMatch() {
+        final List<ShowResult> actual = indexUnderTest.searchShows("braking bad");
+
+        assertEquals(1, actual.get(0).getShow().getId());
+    }
+
+    @Test
+    public void searchShows_withoutDiacritics_shouldMatch() {
+        final List<ShowResult> actual = indexUnderTest.searchShows("pokemon");
+
+        assertAll(
+                () -> assertEquals(4, actual.get(0).getShow().getId()),
+                () -> assertEquals(1.0D, actual.get(0).getScore()));
+    }
+
+    @Test
+    public void searchShows_withAlias_shouldReturnShow() {
+        final List<ShowResult> actual = indexUnderTest.searchShows("money heist");
+
+        assertAll(
+                () -> assertEquals(1, actual.size()),
+                () -> assertEquals(5, actual.get(0).getShow().getId()),
+                () -> assertEquals("La Casa de Papel", actual.get(0).getShow().getName()));
+    }
+
+    @Test
+    public void searchShows_withUnmatchedOrBlankQuery_shouldReturnEmptyList() {
+        assertAll(
+                () -> assertTrue(indexUnderTest.searchShows("zzzzzz").isEmpty()),
+                () -> assertTrue(indexUnderTest.searchShows(" - ").isEmpty()),
+                () -> assertTrue(indexUnderTest.searchShows(null).isEmpty()));
+    }
+
+    @Test
+    public void putShow_withRenamedShow_shouldReplacePreviousName() {
+        indexUnderTest.putShow(newShow(3, "Good Sisters"));
+
+        assertAll(
+                () -> assertEquals(5, indexUnderTest.getShowCount()),
+                () -> assertEquals(3, indexUnderTest.searchShows("good sisters").get(0).getShow().getId()),
+                () -> assertTrue(indexUnderTest.searchShows("bad sisters").stream()
+                        .noneMatch(r -> r.getScore() == 1.0D)));
+    }
+
+    @Test
+    public void removeShow_withIndexedShow_shouldNoLongerMatch() {
+        assertAll(
+                () -> assertTrue(indexUnderTest.removeShow(1)),
+                () -> assertFalse(indexUnderTest.removeShow(1)),
+                () -> assertEquals(4, indexUnderTest.getShowCount()),
+                () -> assertTrue(indexUnderTest.searchShows("breaking bad").stream()
+                        .noneMatch(r -> r.getShow().getId() == 1)));
+    }
+
+    @Test
+    public void putShow_withManyUpdates_shouldCompactAndKeepLatestNames() {
+        for (int i = 0; i < 3000; ++i) {
+            indexUnderTest.putShow(newShow(100 + i % 10, "Show Number " + i));
+        }
+
+        final List<Integer> actual = indexUnderTest.searchShows("show number 2999").stream()
+                .map(r -> r.getShow().getId())
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(15, indexUnderTest.getShowCount()),
+                () -> assertEquals(109, actual.get(0)),
+                () -> assertEquals(1.0D, indexUnderTest.searchShows("show number 2999").get(0).getScore()),
+                () -> assertTrue(indexUnderTest.searchShows("show number 5").stream()
+                        .noneMatch(r -> r.getScore() == 1.0D)),
+                () -> assertEquals(1, indexUnderTest.searchShows("Breaking Bad").get(0).getShow().getId()));
+    }
+
+    @Test
+    public void searchShows_withMaxResults_shouldLimitResults() {
+        final LocalSearchIndex index = LocalSearchIndex.builder()
+                .maxResults(2)
+                .minScore(0.0D)
+                .build();
+        for (int i = 1; i <= 5; ++i) {
+            index.putShow(newShow(i, "Doctor Who " + i));
+        }
+
+        final List<ShowResult> actual = index.searchShows("doctor who");
+
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertDescendingScores(actual));
+    }
+
+    @Test
+    public void searchPeople_withName_shouldReturnMatchingPeople() {
+        indexUnderTest.putPerson(newPerson(1, "Bryan Cranston"));
+        indexUnderTest.putPerson(newPerson(2, "Aaron Paul"));
+        indexUnderTest.putPerson(newPerson(3, "Bob Odenkirk"));
+
+        final List<PersonResult> actual = indexUnderTest.searchPeople("cranston");
+
+        assertAll(
+                () -> assertEquals(3, indexUnderTest.getPersonCount()),
+                () -> assertEquals(1, actual.size()),
+                () -> assertEquals(1, actual.get(0).getPerson().getId()),
+                () -> assertTrue(indexUnderTest.removePerson(1)),
+                () -> assertTrue(indexUnderTest.searchPeople("cranston").isEmpty()));
+    }
+
+    @Test
+    public void builder_withInvalidParameters_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> LocalSearchIndex.builder().maxResults(0).build()),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> LocalSearchIndex.builder().minScore(1.5D).build()));
+    }
+
+    private static Show newShow(final int id, final String name) {
+        return Show.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+
+    private static Person newPerson(final int id, final String name) {
+        return Person.builder()
+                .id(id)
+                .name(name)
+                .build();
+    }
+
+    private static List<Integer> toShowIds(final List<ShowResult> results) {
+        return results.stream()
+                .map(r -> r.getShow().getId())
+                .collect(Collectors.toList());
+    }
+
+    private static void assertDescendingScores(final List<ShowResult> results) {
+        for (int i = 1; i < results.size(); ++i) {
+            assertTrue(results.get(i - 1).getScore() >= results.get(i).getScore());
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import com.amilesend.tvmaze.client.crawl.ShowRecord;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Show;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static com.amilesend.tvmaze.client.data.EpisodeTestDataHelper.newListOfEpisodes;
+import static com.amilesend.tvmaze.client.data.EpisodeTestDataValidator.verifyListOfEpisodes;
+import static com.amilesend.tvmaze.client.data.PersonTestDataHelper.newCastMembers;
+import static com.amilesend.tvmaze.client.data.PersonTestDataHelper.newCrewMembers;
+import static com.amilesend.tvmaze.client.data.PersonTestDataHelper.newPerson;
+import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyCastMembers;
+import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyPerson;
+import static com.amilesend.tvmaze.client.data.ShowTestDataHelper.newListOfSeasons;
+import static com.amilesend.tvmaze.client.data.ShowTestDataHelper.newShow;
+import static com.amilesend.tvmaze.client.data.ShowTestDataValidator.verifyShow;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MappedShowCatalogTest {
+    private Path snapshotFile;
+
+    @SneakyThrows
+    @BeforeEach
+    public void setUp() {
+        snapshotFile = Files.createTempFile("catalog", ".snapshot");
+    }
+
+    @SneakyThrows
+    @AfterEach
+    public void cleanUp() {
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withShowRecords_shouldLookUpByShowId() {
+        final ShowRecord expected = newShowRecord(2);
+        try (SnapshotWriter writer = new SnapshotWriter(Files.newOutputStream(snapshotFile))) {
+            writer.writeShowRecord(newShowRecord(1));
+            writer.writeShowRecord(expected);
+            writer.writeShowRecord(newShowRecord(3));
+        }
+
+        try (MappedShowCatalog catalog = MappedShowCatalog.open(snapshotFile)) {
+            assertAll(
+                    () -> assertEquals(3, catalog.getShowCount()),
+                    () -> verifyShow(expected.getShow(), catalog.getShow(2)),
+                    () -> verifyListOfEpisodes(expected.getEpisodes(), catalog.getEpisodes(2)),
+                    () -> verifyCastMembers(expected.getCast(), catalog.getCast(2)),
+                    () -> assertEquals(2, catalog.getShowRecord(2).getShow().getId()),
+                    () -> assertTrue(catalog.containsShow(3)),
+                    () -> assertFalse(catalog.containsShow(4)),
+                    () -> assertNull(catalog.getShow(4)),
+                    () -> assertNull(catalog.getEpisodes(4)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withShowsAndPeople_shouldLookUpById() {
+        final Show expectedShow = newShow(7, Show.EmbeddedType.EPISODES, Show.EmbeddedType.CAST);
+        final Person expectedPerson = newPerson(42);
+        try (SnapshotWriter writer = new SnapshotWriter(Files.newOutputStream(snapshotFile))) {
+            writer.writeShow(expectedShow);
+            writer.writePerson(newPerson(41));
+            writer.writePerson(expectedPerson);
+        }
+
+        try (MappedShowCatalog catalog = MappedShowCatalog.open(snapshotFile)) {
+            assertAll(
+                    () -> verifyShow(expectedShow, catalog.getShow(7)),
+                    () -> verifyListOfEpisodes(expectedShow.getEpisodes(), catalog.getEpisodes(7)),
+                    () -> verifyCastMembers(expectedShow.getCast(), catalog.getCast(7)),
+                    () -> assertNull(catalog.getShowRecord(7)),
+                    () -> verifyPerson(expectedPerson, catalog.getPerson(42)),
+                    () -> assertEquals(2, catalog.getPersonCount()),
+                    () -> assertNull(catalog.getPerson(7)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withoutIndex_shouldScanFrames() {
+        try (SnapshotWriter writer = new SnapshotWriter(Files.newOutputStream(snapshotFile))) {
+            writer.writeShowRecord(newShowRecord(1));
+            writer.writeShowRecord(newShowRecord(2));
+        }
+        final byte[] snapshot = Files.readAllBytes(snapshotFile);
+        try (OutputStream out = Files.newOutputStream(snapshotFile)) {
+            // Replaces the end frame that references the index with an empty end frame
+            out.write(Arrays.copyOf(snapshot, snapshot.length - SnapshotFormat.END_FRAME_SIZE));
+            out.write(new byte[] {SnapshotFormat.END_FRAME, 0});
+        }
+
+        try (MappedShowCatalog catalog = MappedShowCatalog.open(snapshotFile)) {
+            assertAll(
+                    () -> assertArrayEquals(new int[] {1, 2}, catalog.getShowIds()),
+                    () -> verifyShow(newShow(2), catalog.getShow(2)));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void getShow_withClosedCatalog_shouldThrowException() {
+        try (SnapshotWriter writer = new SnapshotWriter(Files.newOutputStream(snapshotFile))) {
+            writer.writeShow(newShow(1));
+        }
+        final MappedShowCatalog catalog = MappedShowCatalog.open(snapshotFile);
+
+        catalog.close();
+
+        assertThrows(IllegalStateException.class, () -> catalog.getShow(1));
+    }
+
+    @Test
+    @SneakyThrows
+    public void open_withInvalidFile_shouldThrowException() {
+        Files.write(snapshotFile, "[{\"id\":1}]".getBytes());
+
+        assertThrows(IOException.class, () -> MappedShowCatalog.open(snapshotFile));
+    }
+
+    @Test
+    @SneakyThrows
+    public void getShow_withCorruptFrame_shouldThrowException() {
+        try (SnapshotWriter writer = new SnapshotWriter(Files.newOutputStream(snapshotFile))) {
+            writer.writeShowRecord(newShowRecord(1));
+        }
+        final byte[] snapshot = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, corruptRecordPayload(snapshot));
+
+        try (MappedShowCatalog catalog = MappedShowCatalog.open(snapshotFile)) {
+            assertThrows(UncheckedIOException.class, () -> catalog.getShow(1));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void getCast_withCorruptEpisodesSection_shouldOnlyDecodeCastSection() {
+        final ShowRecord expected = newShowRecord(1);
+        try (SnapshotWriter writer = new SnapshotWriter(Files.newOutputStream(snapshotFile))) {
+            writer.writeShowRecord(expected);
+        }
+        final byte[] snapshot = Files.readAllBytes(snapshotFile);
+        // Skips the frame length and the show identifier
+        final int[] offset = {findRecordFrameOffset(snapshot) + 1};
+        readVarInt(snapshot, offset);
+        readVarInt(snapshot, offset);
+        final int showLength = readVarInt(snapshot, offset);
+        final int episodesLength = readVarInt(snapshot, offset);
+        readVarInt(snapshot, offset);
+        readVarInt(snapshot, offset);
+        final int episodesOffset = offset[0] + showLength;
+        // Overwrites the episodes section with unterminated varints
+        Arrays.fill(snapshot, episodesOffset, episodesOffset + episodesLength, (byte) 0xFF);
+        Files.write(snapshotFile, snapshot);
+
+        try (MappedShowCatalog catalog = MappedShowCatalog.open(snapshotFile)) {
+            assertAll(
+                    () -> verifyShow(expected.getShow(), catalog.getShow(1)),
+                    () -> verifyCastMembers(expected.getCast(), catalog.getCast(1)),
+                    () -> assertThrows(UncheckedIOException.class, () -> catalog.getEpisodes(1)));
+        }
+    }
+
+
+    // The snapshot starts with the header, the string frame and then the record frame
+    private static int findRecordFrameOffset(final byte[] snapshot) {
+        final int[] offset = {Integer.BYTES + 1};
+        assertEquals(SnapshotFormat.STRINGS_FRAME, snapshot[offset[0]++]);
+        final int length = readVarInt(snapshot, offset);
+        offset[0] += length;
+        assertEquals(SnapshotFormat.SHOW_RECORD_FRAME, snapshot[offset[0]]);
+        return offset[0];
+    }
+
+    // Decodes an unsigned varint and advances the offset past it
+    private static int readVarInt(final byte[] bytes, final int[] offset) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = bytes[offset[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static byte[] corruptRecordPayload(final byte[] snapshot) {
+        final int offset = findRecordFrameOffset(snapshot);
+
+        // Overwrites the start of the payload with unterminated varints
+        final byte[] corrupted = snapshot.clone();
+        Arrays.fill(corrupted, offset + 3, offset + 64, (byte) 0xFF);
+        return corrupted;
+    }
+
+    private static ShowRecord newShowRecord(final int showId) {
+        return ShowRecord.builder()
+                .show(newShow(showId))
+                .episodes(newListOfEpisodes())
+                .seasons(newListOfSeasons())
+                .cast(newCastMembers())
+                .crew(newCrewMembers())
+                .build();
+    }
+}
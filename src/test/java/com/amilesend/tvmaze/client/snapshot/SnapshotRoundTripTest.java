@@ -0,0 +1,285 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.snapshot;
+
+import com.amilesend.tvmaze.client.crawl.ShowRecord;
+import com.amilesend.tvmaze.client.data.SerializedResource;
+import com.amilesend.tvmaze.client.model.Episode;
+import com.amilesend.tvmaze.client.model.Person;
+import com.amilesend.tvmaze.client.model.Season;
+import com.amilesend.tvmaze.client.model.Show;
+import com.amilesend.tvmaze.client.model.type.CastMember;
+import com.amilesend.tvmaze.client.model.type.CrewMember;
+import com.amilesend.tvmaze.client.parse.adapters.LocalDateTimeTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.LocalDateTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.LocalTimeTypeAdapter;
+import com.amilesend.tvmaze.client.parse.adapters.ModelTypeAdapterFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.amilesend.tvmaze.client.data.EpisodeTestDataValidator.verifyListOfEpisodes;
+import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyCastMembers;
+import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyCrewMembers;
+import static com.amilesend.tvmaze.client.data.PersonTestDataValidator.verifyPersonList;
+import static com.amilesend.tvmaze.client.data.ShowTestDataValidator.verifyListOfSeasons;
+import static com.amilesend.tvmaze.client.data.ShowTestDataValidator.verifyShow;
+import static com.amilesend.tvmaze.client.data.ShowTestDataValidator.verifyShowList;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SnapshotRoundTripTest {
+    private static final Gson GSON = new GsonBuilder()
+            .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+            .registerTypeAdapter(LocalDateTime.class, new LocalDateTimeTypeAdapter())
+            .registerTypeAdapter(LocalTime.class, new LocalTimeTypeAdapter())
+            .registerTypeAdapterFactory(new ModelTypeAdapterFactory())
+            .serializeNulls()
+            .create();
+
+    @Test
+    public void roundTrip_withShows_shouldMatchJsonParsedObjects() {
+        final List<Show> expected = new ArrayList<>(parseList(SerializedResource.Show.LIST, Show.class));
+        expected.add(parse(SerializedResource.Show.ALL_EMBEDDED_TYPES, Show.class));
+
+        final List<Object> actual = roundTrip(expected.toArray());
+
+        assertAll(
+                () -> verifyShowList(expected, castList(actual)),
+                () -> verifyShow(expected.get(expected.size() - 1), (Show) actual.get(actual.size() - 1)),
+                () -> assertSameJson(expected, actual));
+    }
+
+    @Test
+    public void roundTrip_withEpisodes_shouldMatchJsonParsedObjects() {
+        final List<Episode> expected = new ArrayList<>(parseList(SerializedResource.Episode.LIST, Episode.class));
+        expected.addAll(parseList(SerializedResource.Episode.LIST_EMBEDDED_GUEST_CAST, Episode.class));
+        expected.add(parse(SerializedResource.Episode.EMBEDDED_SHOW, Episode.class));
+
+        final List<Object> actual = roundTrip(expected.toArray());
+
+        assertAll(
+                () -> verifyListOfEpisodes(expected, castList(actual)),
+                () -> assertSameJson(expected, actual));
+    }
+
+    @Test
+    public void roundTrip_withPeople_shouldMatchJsonParsedObjects() {
+        final List<Person> expected = new ArrayList<>(parseList(SerializedResource.People.PERSON_LIST, Person.class));
+        expected.add(parse(SerializedResource.People.PERSON_EMBEDDED_CAST_CREDITS, Person.class));
+
+        final List<Object> actual = roundTrip(expected.toArray());
+
+        assertAll(
+                () -> verifyPersonList(expected, castList(actual)),
+                () -> assertSameJson(expected, actual));
+    }
+
+    @Test
+    public void roundTrip_withShowRecord_shouldMatchJsonParsedObjects() {
+        final ShowRecord expected = ShowRecord.builder()
+                .show(parse(SerializedResource.Show.SHOW, Show.class))
+                .episodes(parseList(SerializedResource.Episode.LIST, Episode.class))
+                .seasons(parseList(SerializedResource.Show.SEASON_LIST, Season.class))
+                .cast(parseList(SerializedResource.People.CAST_MEMBER_LIST, CastMember.class))
+                .crew(parseList(SerializedResource.People.CREW_MEMBER_LIST, CrewMember.class))
+                .build();
+
+        final ShowRecord actual = (ShowRecord) roundTrip(expected).get(0);
+
+        assertAll(
+                () -> verifyShow(expected.getShow(), actual.getShow()),
+                () -> verifyListOfEpisodes(expected.getEpisodes(), actual.getEpisodes()),
+                () -> verifyListOfSeasons(expected.getSeasons(), actual.getSeasons()),
+                () -> verifyCastMembers(expected.getCast(), actual.getCast()),
+                () -> verifyCrewMembers(expected.getCrew(), actual.getCrew()),
+                () -> assertSameJson(List.of(expected), List.of(actual)));
+    }
+
+    @Test
+    @SneakyThrows
+    public void read_withHandler_shouldDispatchEachRecordType() {
+        final byte[] snapshot = write(
+                parse(SerializedResource.Show.SHOW, Show.class),
+                parse(SerializedResource.Episode.EPISODE, Episode.class),
+                parse(SerializedResource.People.PERSON_EMBEDDED_CAST_CREDITS, Person.class),
+                parseList(SerializedResource.Show.SEASON_LIST, Season.class).get(0));
+        final List<Class<?>> handled = new ArrayList<>();
+
+        final int actual;
+        try (SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(snapshot))) {
+            actual = reader.read(new SnapshotHandler() {
+                @Override
+                public void onShow(final Show show) {
+                    handled.add(Show.class);
+                }
+
+                @Override
+                public void onEpisode(final Episode episode) {
+                    handled.add(Episode.class);
+                }
+
+                @Override
+                public void onPerson(final Person person) {
+                    handled.add(Person.class);
+                }
+
+                @Override
+                public void onSeason(final Season season) {
+                    handled.add(Season.class);
+                }
+            });
+        }
+
+        assertAll(
+                () -> assertEquals(4, actual),
+                () -> assertEquals(List.of(Show.class, Episode.class, Person.class, Season.class), handled));
+    }
+
+    @Test
+    @SneakyThrows
+    public void write_withShowList_shouldBeSmallerThanJson() {
+        final byte[] json = SerializedResource.Show.LIST.getResource().readAllBytes();
+        final List<Show> shows = parseList(SerializedResource.Show.LIST, Show.class);
+
+        final byte[] actual = write(shows.toArray());
+
+        assertTrue(actual.length < json.length / 2,
+                "Expected snapshot (" + actual.length + " bytes) to be less than half of the JSON ("
+                        + json.length + " bytes)");
+    }
+
+    @Test
+    @SneakyThrows
+    public void next_withUnknownFrame_shouldSkipFrame() {
+        final Show expected = parse(SerializedResource.Show.SHOW, Show.class);
+        final byte[] snapshot = write(expected);
+        final ByteArrayOutputStream withUnknownFrame = new ByteArrayOutputStream();
+        withUnknownFrame.write(snapshot, 0, 5);
+        withUnknownFrame.write(new byte[] {(byte) 0x7F, 3, 1, 2, 3});
+        withUnknownFrame.write(snapshot, 5, snapshot.length - 5);
+
+        try (SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(withUnknownFrame.toByteArray()))) {
+            final Object actual = reader.next();
+
+            assertAll(
+                    () -> verifyShow(expected, (Show) actual),
+                    () -> assertNull(reader.next()),
+                    () -> assertNull(reader.next()));
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    public void next_withTruncatedSnapshot_shouldThrowException() {
+        final Show show = parse(SerializedResource.Show.SHOW, Show.class);
+        final byte[] snapshot = write(show);
+        // Cuts into the show frame rather than only the trailing index and end frames
+        final byte[] truncated = Arrays.copyOf(snapshot, snapshot.length / 2);
+
+        try (SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(truncated))) {
+            assertThrows(EOFException.class, reader::next);
+        }
+    }
+
+    @Test
+    public void newSnapshotReader_withInvalidHeader_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IOException.class,
+                        () -> new SnapshotReader(new ByteArrayInputStream("{\"id\":1}".getBytes()))),
+                () -> assertThrows(IOException.class,
+                        () -> new SnapshotReader(new ByteArrayInputStream(new byte[] {
+                                0x54, 0x56, 0x4D, 0x53, SnapshotFormat.VERSION + 1, 0, 0}))));
+    }
+
+    @SneakyThrows
+    private static byte[] write(final Object... records) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SnapshotWriter writer = new SnapshotWriter(out)) {
+            for (final Object record : records) {
+                if (record instanceof Show) {
+                    writer.writeShow((Show) record);
+                } else if (record instanceof Episode) {
+                    writer.writeEpisode((Episode) record);
+                } else if (record instanceof Person) {
+                    writer.writePerson((Person) record);
+                } else if (record instanceof Season) {
+                    writer.writeSeason((Season) record);
+                } else {
+                    writer.writeShowRecord((ShowRecord) record);
+                }
+            }
+        }
+
+        return out.toByteArray();
+    }
+
+    @SneakyThrows
+    private static List<Object> roundTrip(final Object... records) {
+        final List<Object> actual = new ArrayList<>();
+        try (SnapshotReader reader = new SnapshotReader(new ByteArrayInputStream(write(records)))) {
+            for (Object record = reader.next(); record != null; record = reader.next()) {
+                actual.add(record);
+            }
+        }
+
+        assertEquals(records.length, actual.size());
+        return actual;
+    }
+
+    // Compares every serialized field
+    private static void assertSameJson(final List<?> expected, final List<?> actual) {
+        assertEquals(GSON.toJsonTree(expected), GSON.toJsonTree(actual));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> castList(final List<Object> values) {
+        return (List<T>) values;
+    }
+
+    @SneakyThrows
+    private static <T> T parse(final SerializedResource resource, final Type type) {
+        try (Reader reader = new InputStreamReader(resource.getResource(), StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, type);
+        }
+    }
+
+    private static <T> List<T> parseList(final SerializedResource resource, final Class<T> elementType) {
+        return parse(resource, TypeToken.getParameterized(List.class, elementType).getType());
+    }
+}
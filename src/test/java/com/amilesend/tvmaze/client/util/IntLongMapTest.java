@@ -0,0 +1,116 @@
+/*
+ * tvmaze-java-client - A client to access the TVMaze API
+ * Copyright © 2024-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.tvmaze.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntLongMapTest {
+    @Test
+    public void put_withManyEntries_shouldMatchBoxedMap() {
+        final Random random = new Random(42L);
+        final Map<Integer, Long> expected = new HashMap<>();
+        final IntLongMap actual = new IntLongMap();
+        for (int i = 0; i < 100_000; ++i) {
+            final int key = random.nextInt(250_000) - 1000;
+            final long value = random.nextLong();
+            final Long expectedPrevious = expected.put(key, value);
+            final long actualPrevious = actual.put(key, value);
+            assertEquals(expectedPrevious == null ? IntLongMap.NO_VALUE : expectedPrevious, actualPrevious);
+        }
+
+        assertAll(
+                () -> assertEquals(expected.size(), actual.size()),
+                () -> assertEquals(expected, actual.toMap()));
+    }
+
+    @Test
+    public void get_withZeroKey_shouldReturnValue() {
+        final IntLongMap map = new IntLongMap(0);
+        map.put(0, 10L);
+
+        assertAll(
+                () -> assertTrue(map.containsKey(0)),
+                () -> assertEquals(10L, map.get(0)),
+                () -> assertEquals(1, map.size()),
+                () -> assertArrayEquals(new int[] {0}, map.keys()));
+    }
+
+    @Test
+    public void get_withAbsentKey_shouldReturnDefault() {
+        final IntLongMap map = new IntLongMap();
+        map.put(1, 100L);
+
+        assertAll(
+                () -> assertFalse(map.containsKey(2)),
+                () -> assertEquals(IntLongMap.NO_VALUE, map.get(2)),
+                () -> assertEquals(-1L, map.getOrDefault(2, -1L)));
+    }
+
+    @Test
+    public void changedSince_withPreviousSnapshot_shouldReturnAddedAndChangedEntries() {
+        final IntLongMap previous = newMap(1, 100L, 2, 200L, 3, 300L);
+        final IntLongMap current = newMap(1, 100L, 2, 201L, 4, 400L);
+
+        final IntLongMap changed = current.changedSince(previous);
+        final int[] removed = current.removedSince(previous);
+
+        assertAll(
+                () -> assertEquals(Map.of(2, 201L, 4, 400L), changed.toMap()),
+                () -> assertArrayEquals(new int[] {3}, removed));
+    }
+
+    @Test
+    public void equals_withSameEntries_shouldBeEqual() {
+        final IntLongMap first = newMap(1, 100L, 2, 200L);
+        final IntLongMap second = new IntLongMap(1000);
+        second.put(2, 200L);
+        second.put(1, 100L);
+
+        assertAll(
+                () -> assertEquals(first, second),
+                () -> assertEquals(first.hashCode(), second.hashCode()));
+    }
+
+    @Test
+    public void keys_withEntries_shouldReturnAllKeys() {
+        final int[] actual = newMap(5, 1L, 0, 2L, 7, 3L).keys();
+        Arrays.sort(actual);
+
+        assertArrayEquals(new int[] {0, 5, 7}, actual);
+    }
+
+    private static IntLongMap newMap(final long... keyValues) {
+        final IntLongMap map = new IntLongMap();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put((int) keyValues[i], keyValues[i + 1]);
+        }
+
+        return map;
+    }
+}